@@ -38,9 +38,11 @@ public class JsonSchemaMojo extends AbstractMojo {
   private String rootClass;
   @Parameter private boolean generateMarkdown;
   @Parameter private boolean includeAdditionalProperties;
-  @SuppressWarnings("FieldCanBeLocal")
-  @Parameter
-  private final boolean supportObjectReferences = true;
+  @Parameter(defaultValue = "true")
+  private boolean supportObjectReferences = true;
+  @Parameter(defaultValue = "true")
+  private boolean includeSchemaReference = true;
+  @Parameter private final List<String> suppressDescriptionForPackages = Collections.emptyList();
   @Parameter(defaultValue = "${basedir}")
   private String baseDir;
   @Parameter private String outputFile;
@@ -50,6 +52,8 @@ public class JsonSchemaMojo extends AbstractMojo {
     main.defineClasspath(toUrls(compileClasspathElements));
     main.setIncludeAdditionalProperties(includeAdditionalProperties);
     main.setSupportObjectReferences(supportObjectReferences);
+    main.setIncludeSchemaReference(includeSchemaReference);
+    suppressDescriptionForPackages.forEach(main::suppressDescriptionForPackage);
     addExternalSchemas();
 
     if (rootClass == null) {
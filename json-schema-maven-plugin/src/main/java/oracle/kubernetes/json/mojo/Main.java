@@ -48,7 +48,22 @@ public interface Main {
   void setSupportObjectReferences(boolean supportObjectReferences);
 
   /**
-   * Specify the classpath for the class whose schema is to be built.
+   * Specifies that the generated schema will include a "$schema" property identifying the JSON schema draft.
+   *
+   * @param includeSchemaReference true if the schema reference should be included
+   */
+  void setIncludeSchemaReference(boolean includeSchemaReference);
+
+  /**
+   * Specifies a package whose classes and fields will be generated without descriptions.
+   *
+   * @param packageName the name of the package
+   */
+  void suppressDescriptionForPackage(String packageName);
+
+  /**
+   * Specify the classpath for the class whose schema is to be built. This starts a new schema generation,
+   * discarding any settings made for a previous one.
    *
    * @param classpathElements a list of elements of a classpath
    */
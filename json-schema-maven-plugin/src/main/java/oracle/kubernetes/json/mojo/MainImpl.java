@@ -15,7 +15,7 @@ import oracle.kubernetes.json.YamlDocGenerator;
 import org.apache.maven.plugin.MojoExecutionException;
 
 public class MainImpl implements Main {
-  private final SchemaGenerator generator = new SchemaGenerator();
+  private SchemaGenerator generator = new SchemaGenerator();
   private ClassLoader classLoader;
   private String kubernetesVersion;
 
@@ -29,8 +29,21 @@ public class MainImpl implements Main {
     generator.setSupportObjectReferences(supportObjectReferences);
   }
 
+  @Override
+  public void setIncludeSchemaReference(boolean includeSchemaReference) {
+    generator.setIncludeSchemaReference(includeSchemaReference);
+  }
+
+  @Override
+  public void suppressDescriptionForPackage(String packageName) {
+    generator.addPackageToSuppressDescriptions(packageName);
+  }
+
+  // The plugin shares a single instance across executions, so each one starts with a fresh generator.
   @Override
   public void defineClasspath(URL... classpathElements) {
+    generator = new SchemaGenerator();
+    kubernetesVersion = null;
     classLoader = new URLClassLoader(classpathElements, getClass().getClassLoader());
   }
 
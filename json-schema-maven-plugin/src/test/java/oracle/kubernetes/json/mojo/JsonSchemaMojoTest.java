@@ -38,6 +38,7 @@ import static java.util.Collections.singletonList;
 import static org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_CLASSES;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.instanceOf;
@@ -392,6 +393,40 @@ public class JsonSchemaMojoTest {
     assertThat(main.isSupportObjectReferences(), is(true));
   }
 
+  @Test
+  public void whenSupportObjectReferencesCleared_setOnMain() throws Exception {
+    setMojoParameter("supportObjectReferences", false);
+
+    mojo.execute();
+
+    assertThat(main.isSupportObjectReferences(), is(false));
+  }
+
+  @Test
+  public void whenIncludeSchemaReferenceNotSpecified_setOnMain() throws Exception {
+    mojo.execute();
+
+    assertThat(main.isIncludeSchemaReference(), is(true));
+  }
+
+  @Test
+  public void whenIncludeSchemaReferenceCleared_setOnMain() throws Exception {
+    setMojoParameter("includeSchemaReference", false);
+
+    mojo.execute();
+
+    assertThat(main.isIncludeSchemaReference(), is(false));
+  }
+
+  @Test
+  public void whenSuppressDescriptionForPackagesSpecified_passToMain() throws Exception {
+    setMojoParameter("suppressDescriptionForPackages", Arrays.asList("a.b", "c.d"));
+
+    mojo.execute();
+
+    assertThat(main.getSuppressedDescriptionPackages(), contains("a.b", "c.d"));
+  }
+
   @SuppressWarnings("SameParameterValue")
   private AnnotationInfo getClassAnnotation(Class<? extends Annotation> annotationClass) {
     return classAnnotations.get(toDescription(annotationClass));
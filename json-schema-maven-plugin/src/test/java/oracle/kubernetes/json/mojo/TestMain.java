@@ -6,7 +6,9 @@ package oracle.kubernetes.json.mojo;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class TestMain implements Main {
@@ -19,6 +21,8 @@ public class TestMain implements Main {
   private String kubernetesVersion;
   private boolean includeAdditionalProperties;
   private boolean supportObjectReferences;
+  private boolean includeSchemaReference;
+  private List<String> suppressedDescriptionPackages = new ArrayList<>();
   private File markdownFile;
   private Map<String, Object> schema;
   private Map<String, Object> markdownSchema;
@@ -90,6 +94,24 @@ public class TestMain implements Main {
     this.supportObjectReferences = supportObjectReferences;
   }
 
+  boolean isIncludeSchemaReference() {
+    return includeSchemaReference;
+  }
+
+  @Override
+  public void setIncludeSchemaReference(boolean includeSchemaReference) {
+    this.includeSchemaReference = includeSchemaReference;
+  }
+
+  List<String> getSuppressedDescriptionPackages() {
+    return suppressedDescriptionPackages;
+  }
+
+  @Override
+  public void suppressDescriptionForPackage(String packageName) {
+    suppressedDescriptionPackages.add(packageName);
+  }
+
   @Override
   public void defineSchemaUrlAndContents(URL schemaUrl, URL cacheUrl) {
     schemas.put(schemaUrl, cacheUrl);
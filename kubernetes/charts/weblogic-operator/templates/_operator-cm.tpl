@@ -18,6 +18,33 @@ data:
   {{- if .dns1123Fields }}
   dns1123Fields: {{ .dns1123Fields | quote }}
   {{- end }}
+  {{- if .domainPresenceSnapshotIntervalSeconds }}
+  domainPresenceSnapshotIntervalSeconds: {{ .domainPresenceSnapshotIntervalSeconds | quote }}
+  {{- end }}
+  {{- if .watchMultiplexing }}
+  watchMultiplexing: {{ .watchMultiplexing | quote }}
+  {{- end }}
+  {{- if .forkJoinScheduling }}
+  forkJoinScheduling: {{ .forkJoinScheduling | quote }}
+  {{- end }}
+  {{- if .namespaceStartupConcurrency }}
+  namespaceStartupConcurrency: {{ .namespaceStartupConcurrency | quote }}
+  {{- end }}
+  {{- if .criticalNamespaces }}
+  criticalNamespaces: {{ .criticalNamespaces | uniq | sortAlpha | join "," | quote }}
+  {{- end }}
+  {{- if .maxConcurrentIntrospections }}
+  maxConcurrentIntrospections: {{ .maxConcurrentIntrospections | quote }}
+  {{- end }}
+  {{- if .maxConcurrentIntrospectionsPerNamespace }}
+  maxConcurrentIntrospectionsPerNamespace: {{ .maxConcurrentIntrospectionsPerNamespace | quote }}
+  {{- end }}
+  {{- if .headlessClusterServices }}
+  headlessClusterServices: {{ .headlessClusterServices | quote }}
+  {{- end }}
+  {{- if .serverSideApply }}
+  serverSideApply: {{ .serverSideApply | quote }}
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
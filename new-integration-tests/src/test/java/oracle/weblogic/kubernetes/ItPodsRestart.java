@@ -26,6 +26,7 @@ import oracle.weblogic.domain.ServerPod;
 import oracle.weblogic.kubernetes.annotations.IntegrationTest;
 import oracle.weblogic.kubernetes.annotations.Namespaces;
 import oracle.weblogic.kubernetes.logging.LoggingFacade;
+import org.awaitility.core.ConditionFactory;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -38,9 +39,13 @@ import static oracle.weblogic.kubernetes.TestConstants.MII_BASIC_IMAGE_NAME;
 import static oracle.weblogic.kubernetes.TestConstants.MII_BASIC_IMAGE_TAG;
 import static oracle.weblogic.kubernetes.TestConstants.REPO_SECRET_NAME;
 import static oracle.weblogic.kubernetes.TestConstants.WLS_DOMAIN_TYPE;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static oracle.weblogic.kubernetes.actions.TestActions.deletePod;
 import static oracle.weblogic.kubernetes.actions.TestActions.getDomainCustomResource;
 import static oracle.weblogic.kubernetes.actions.TestActions.getPodCreationTimestamp;
 import static oracle.weblogic.kubernetes.actions.TestActions.patchDomainCustomResource;
+import static oracle.weblogic.kubernetes.assertions.TestAssertions.podDoesNotExist;
 import static oracle.weblogic.kubernetes.assertions.TestAssertions.verifyRollingRestartOccurred;
 import static oracle.weblogic.kubernetes.utils.CommonTestUtils.checkPodExists;
 import static oracle.weblogic.kubernetes.utils.CommonTestUtils.checkPodReady;
@@ -51,6 +56,7 @@ import static oracle.weblogic.kubernetes.utils.CommonTestUtils.createSecretWithU
 import static oracle.weblogic.kubernetes.utils.CommonTestUtils.dockerLoginAndPushImageToRegistry;
 import static oracle.weblogic.kubernetes.utils.CommonTestUtils.installAndVerifyOperator;
 import static oracle.weblogic.kubernetes.utils.ThreadSafeLogger.getLogger;
+import static org.awaitility.Awaitility.with;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -74,6 +80,12 @@ class ItPodsRestart {
   private static final String managedServerPrefix = domainUid + "-" + MANAGED_SERVER_NAME_BASE;
   private static LoggingFacade logger = null;
 
+  // polls often enough to time a pod's termination to within a second
+  private static final ConditionFactory withTerminationTimingPolicy =
+      with().pollDelay(0, SECONDS)
+          .and().with().pollInterval(1, SECONDS)
+          .atMost(5, MINUTES).await();
+
   /**
    * Get namespaces for operator and WebLogic domain.
    *
@@ -138,19 +150,7 @@ class ItPodsRestart {
     requests.forEach((key, value) -> logger.info(key + ": " + value.toString()));
 
     // create the map with server pods and their original creation timestamps
-    Map<String, DateTime> podsWithTimeStamps = new LinkedHashMap<>();
-    podsWithTimeStamps.put(adminServerPodName,
-        assertDoesNotThrow(() -> getPodCreationTimestamp(domainNamespace, "", adminServerPodName),
-        String.format("getPodCreationTimestamp failed with ApiException for pod %s in namespace %s",
-            adminServerPodName, domainNamespace)));
-
-    for (int i = 1; i <= replicaCount; i++) {
-      String managedServerPodName = managedServerPrefix + i;
-      podsWithTimeStamps.put(managedServerPodName,
-          assertDoesNotThrow(() -> getPodCreationTimestamp(domainNamespace, "", managedServerPodName),
-              String.format("getPodCreationTimestamp failed with ApiException for pod %s in namespace %s",
-                  managedServerPodName, domainNamespace)));
-    }
+    Map<String, DateTime> podsWithTimeStamps = getPodsWithTimeStamps();
 
     // add the new server pod compute resources limits: cpu: 1, requests: cpu: 0.5
     BigDecimal cpuLimit = new BigDecimal(1);
@@ -224,6 +224,65 @@ class ItPodsRestart {
             cpuRequest, requests.get("cpu").getNumber()));
   }
 
+  /**
+   * Measure how long a managed server pod takes to terminate with each shutdown method. Each method is applied by
+   * patching the domain custom resource, which rolls the server pods, before a managed server pod is deleted.
+   * Test fails if the pod takes longer to terminate when its server is shut down with a REST request than when it is
+   * shut down with WLST, which must first start a JVM.
+   */
+  @Test
+  @DisplayName("Verify server pods terminate sooner when shut down with a REST request than with WLST")
+  public void testServerPodTerminationTimeByShutdownMethod() {
+    long wlstMillis = measurePodTerminationMillis("Wlst");
+    long restMillis = measurePodTerminationMillis("Rest");
+
+    logger.info("Managed server pod terminated in {0}ms with WLST and {1}ms with REST", wlstMillis, restMillis);
+    assertTrue(restMillis < wlstMillis,
+        String.format("Pod termination took %dms with REST, not less than the %dms with WLST", restMillis, wlstMillis));
+  }
+
+  private long measurePodTerminationMillis(String shutdownMethod) {
+    Map<String, DateTime> podsWithTimeStamps = getPodsWithTimeStamps();
+    assertTrue(setShutdownMethod(shutdownMethod),
+        String.format("Failed to set shutdown method %s for domain %s in namespace %s",
+            shutdownMethod, domainUid, domainNamespace));
+    assertTrue(assertDoesNotThrow(
+        () -> verifyRollingRestartOccurred(podsWithTimeStamps, 1, domainNamespace),
+        "More than one pod was restarted at same time"),
+        String.format("Rolling restart failed for domain %s in namespace %s", domainUid, domainNamespace));
+
+    String podName = managedServerPrefix + 1;
+    long start = System.currentTimeMillis();
+    assertDoesNotThrow(() -> deletePod(podName, domainNamespace),
+        String.format("deletePod failed with ApiException for pod %s in namespace %s", podName, domainNamespace));
+    withTerminationTimingPolicy
+        .until(assertDoesNotThrow(() -> podDoesNotExist(podName, domainUid, domainNamespace),
+            String.format("podDoesNotExist failed with ApiException for pod %s in namespace %s",
+                podName, domainNamespace)));
+    long terminationMillis = System.currentTimeMillis() - start;
+
+    // the operator replaces the deleted pod
+    checkPodReady(podName, domainUid, domainNamespace);
+    return terminationMillis;
+  }
+
+  private Map<String, DateTime> getPodsWithTimeStamps() {
+    Map<String, DateTime> podsWithTimeStamps = new LinkedHashMap<>();
+    podsWithTimeStamps.put(adminServerPodName,
+        assertDoesNotThrow(() -> getPodCreationTimestamp(domainNamespace, "", adminServerPodName),
+            String.format("getPodCreationTimestamp failed with ApiException for pod %s in namespace %s",
+                adminServerPodName, domainNamespace)));
+
+    for (int i = 1; i <= replicaCount; i++) {
+      String managedServerPodName = managedServerPrefix + i;
+      podsWithTimeStamps.put(managedServerPodName,
+          assertDoesNotThrow(() -> getPodCreationTimestamp(domainNamespace, "", managedServerPodName),
+              String.format("getPodCreationTimestamp failed with ApiException for pod %s in namespace %s",
+                  managedServerPodName, domainNamespace)));
+    }
+    return podsWithTimeStamps;
+  }
+
   /**
    * Create a model in image domain and verify the server pods are ready.
    */
@@ -357,4 +416,21 @@ class ItPodsRestart {
 
     return patchDomainCustomResource(domainUid, domainNamespace, patch, V1Patch.PATCH_FORMAT_JSON_PATCH);
   }
+
+  /**
+   * Set the method used to shut down the servers.
+   *
+   * @param shutdownMethod the shutdown method, Wlst or Rest
+   * @return true if patching domain custom resource is successful, false otherwise
+   */
+  private boolean setShutdownMethod(String shutdownMethod) {
+    String patchStr = "[{\"op\": \"add\", \"path\": \"/spec/serverPod/shutdown\", "
+        + "\"value\": {\"shutdownMethod\": \"" + shutdownMethod + "\"}}]";
+
+    logger.info("Setting shutdown method for domain {0} in namespace {1} using patch string: {2}",
+        domainUid, domainNamespace, patchStr);
+
+    return patchDomainCustomResource(domainUid, domainNamespace, new V1Patch(patchStr),
+        V1Patch.PATCH_FORMAT_JSON_PATCH);
+  }
 }
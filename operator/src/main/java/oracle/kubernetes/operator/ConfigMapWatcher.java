@@ -8,6 +8,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
@@ -64,4 +65,9 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
   public String getNamespace() {
     return ns;
   }
+
+  @Override
+  public V1ObjectMeta getMetadata(V1ConfigMap configMap) {
+    return configMap.getMetadata();
+  }
 }
@@ -0,0 +1,242 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.wlsconfig.TopologyDiff;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+
+/**
+ * Records which parts of a domain were affected by the events that triggered a make-right, so that the make-right
+ * can plan steps only for those servers and clusters. A change that cannot be attributed to a particular server
+ * or cluster, such as one to a resource shared by the whole domain, marks everything as dirty, which requires
+ * a full plan.
+ */
+public class DirtySet {
+  private static final DirtySet EVERYTHING = new DirtySet(true);
+
+  private final boolean everything;
+  private boolean topologyChanges;
+  private boolean adminServer;
+  private final Set<String> servers = new TreeSet<>();
+  private final Set<String> clusters = new TreeSet<>();
+  private final Set<String> memberClusters = new TreeSet<>();
+
+  private DirtySet(boolean everything) {
+    this.everything = everything;
+  }
+
+  /**
+   * Returns a dirty set which requires a full plan.
+   * @return the dirty set
+   */
+  public static DirtySet everything() {
+    return EVERYTHING;
+  }
+
+  /**
+   * Returns a dirty set containing the servers and clusters whose configuration the next introspection of the
+   * domain changes. The make-right introspects the domain, then resolves the set with {@link #forTopologyDiff}.
+   * @return the dirty set
+   */
+  public static DirtySet forTopologyChanges() {
+    DirtySet dirtySet = new DirtySet(false);
+    dirtySet.topologyChanges = true;
+    return dirtySet;
+  }
+
+  /**
+   * Returns the dirty set affected by changes to the domain's topology. Clustered servers mark their cluster, and
+   * other servers mark themselves. If the domain itself changed, or servers were removed, a full plan is required.
+   * @param diff the differences between the previous and the new topology
+   * @param config the new topology
+   * @return the dirty set
+   */
+  public static DirtySet forTopologyDiff(TopologyDiff diff, WlsDomainConfig config) {
+    if (diff.isDomainChanged() || !diff.getRemovedServers().isEmpty()) {
+      return everything();
+    }
+
+    DirtySet dirtySet = new DirtySet(false);
+    diff.getChangedClusters().forEach(dirtySet::addCluster);
+    for (String serverName : diff.getAddedServers()) {
+      dirtySet.addServer(serverName, config.getClusterName(serverName));
+    }
+    for (String serverName : diff.getChangedServers()) {
+      dirtySet.addServer(serverName, config.getClusterName(serverName));
+    }
+    return dirtySet;
+  }
+
+  private void addServer(String serverName, String clusterName) {
+    if (clusterName == null) {
+      servers.add(serverName);
+    } else {
+      addCluster(clusterName);
+    }
+  }
+
+  private void addCluster(String clusterName) {
+    clusters.add(clusterName);
+    memberClusters.add(clusterName);
+  }
+
+  /**
+   * Returns a dirty set containing only the specified server.
+   * @param serverName the name of the affected server
+   * @return the dirty set
+   */
+  public static DirtySet forServer(String serverName) {
+    DirtySet dirtySet = new DirtySet(false);
+    dirtySet.servers.add(serverName);
+    return dirtySet;
+  }
+
+  /**
+   * Returns a dirty set containing only the admin server.
+   * @return the dirty set
+   */
+  public static DirtySet forAdminServer() {
+    DirtySet dirtySet = new DirtySet(false);
+    dirtySet.adminServer = true;
+    return dirtySet;
+  }
+
+  /**
+   * Returns a dirty set containing the servers of the specified cluster, whose number or pods may need to change.
+   * @param clusterName the name of the affected cluster
+   * @return the dirty set
+   */
+  public static DirtySet forClusterMembers(String clusterName) {
+    DirtySet dirtySet = new DirtySet(false);
+    dirtySet.memberClusters.add(clusterName);
+    return dirtySet;
+  }
+
+  /**
+   * Returns a dirty set containing only the specified cluster.
+   * @param clusterName the name of the affected cluster
+   * @return the dirty set
+   */
+  public static DirtySet forCluster(String clusterName) {
+    DirtySet dirtySet = new DirtySet(false);
+    dirtySet.clusters.add(clusterName);
+    return dirtySet;
+  }
+
+  /**
+   * Returns the dirty set affected by a change to an operator-created service. Server services, including the
+   * external service for the admin server, mark their server; cluster services mark their cluster; anything else
+   * requires a full plan.
+   * @param service the changed service
+   * @return the dirty set
+   */
+  public static DirtySet forService(V1Service service) {
+    String serverName = ServiceHelper.getServerName(service);
+    String clusterName = ServiceHelper.getClusterName(service);
+    if (serverName != null) {
+      return forServer(serverName);
+    } else if (clusterName != null) {
+      return forCluster(clusterName);
+    } else {
+      return everything();
+    }
+  }
+
+  /**
+   * Returns a dirty set which contains everything in this set and the specified one.
+   * @param other another dirty set, or null
+   * @return the combined dirty set
+   */
+  public DirtySet merge(DirtySet other) {
+    if (other == null || other == this) {
+      return this;
+    } else if (everything || other.everything) {
+      return everything();
+    }
+
+    DirtySet result = new DirtySet(false);
+    result.topologyChanges = topologyChanges || other.topologyChanges;
+    result.adminServer = adminServer || other.adminServer;
+    result.servers.addAll(servers);
+    result.servers.addAll(other.servers);
+    result.clusters.addAll(clusters);
+    result.clusters.addAll(other.clusters);
+    result.memberClusters.addAll(memberClusters);
+    result.memberClusters.addAll(other.memberClusters);
+    return result;
+  }
+
+  public boolean isEverything() {
+    return everything;
+  }
+
+  public boolean isTopologyChanges() {
+    return topologyChanges;
+  }
+
+  public Set<String> getServers() {
+    return Collections.unmodifiableSet(servers);
+  }
+
+  public Set<String> getClusters() {
+    return Collections.unmodifiableSet(clusters);
+  }
+
+  public Set<String> getMemberClusters() {
+    return Collections.unmodifiableSet(memberClusters);
+  }
+
+  public boolean includesServer(String serverName) {
+    return everything || servers.contains(serverName);
+  }
+
+  /**
+   * Returns true if this set includes the specified managed server, either by name or as a member of a cluster.
+   * @param serverName the name of the server
+   * @param clusterName the name of the cluster to which the server belongs, or null
+   * @return true if the server must be processed
+   */
+  public boolean includesServer(String serverName, String clusterName) {
+    return includesServer(serverName) || includesClusterMembers(clusterName);
+  }
+
+  public boolean includesAdminServer(String adminServerName) {
+    return adminServer || includesServer(adminServerName);
+  }
+
+  public boolean includesCluster(String clusterName) {
+    return everything || clusters.contains(clusterName);
+  }
+
+  public boolean includesClusterMembers(String clusterName) {
+    return everything || (clusterName != null && memberClusters.contains(clusterName));
+  }
+
+  /**
+   * Returns true if this set includes a server other than the specified admin server, or any cluster.
+   * @param adminServerName the name of the admin server
+   * @return true if managed servers or clusters must be processed
+   */
+  public boolean includesManagedServersOrClusters(String adminServerName) {
+    return everything
+        || !clusters.isEmpty()
+        || !memberClusters.isEmpty()
+        || servers.stream().anyMatch(name -> !name.equals(adminServerName));
+  }
+
+  @Override
+  public String toString() {
+    return everything
+        ? "DirtySet{everything}"
+        : "DirtySet{topologyChanges=" + topologyChanges + ", adminServer=" + adminServer
+            + ", servers=" + servers + ", clusters=" + clusters
+            + ", memberClusters=" + memberClusters + "}";
+  }
+}
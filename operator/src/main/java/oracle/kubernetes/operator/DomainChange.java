@@ -0,0 +1,282 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+
+/**
+ * Classifies an update to a domain resource by the work that it requires of the operator, so that the make-right
+ * can run the smallest plan that applies it. Changes to the metadata alone, such as to annotations or labels,
+ * require no work; changes to the replica count or restart version of particular clusters or servers only require
+ * those servers to be processed; a change to the introspect version only requires the servers and clusters whose
+ * configuration the new introspection changes to be processed; anything else requires a full plan.
+ */
+public class DomainChange {
+
+  private static final Gson GSON = new JSON().getGson();
+
+  private static final String CLUSTERS = "clusters";
+  private static final String CLUSTER_NAME = "clusterName";
+  private static final String MANAGED_SERVERS = "managedServers";
+  private static final String SERVER_NAME = "serverName";
+  private static final String ADMIN_SERVER = "adminServer";
+  private static final String REPLICAS = "replicas";
+  private static final String RESTART_VERSION = "restartVersion";
+  private static final String INTROSPECT_VERSION = "introspectVersion";
+
+  public enum Type {
+    /** Nothing which the operator uses has changed. */
+    NONE,
+    /** Only the labels or annotations of the domain resource have changed. */
+    METADATA,
+    /** Only the replica counts of particular clusters have changed. */
+    SCALING,
+    /** Only the restart versions of particular servers or clusters have changed. */
+    RESTART,
+    /** Only the introspect version has changed. */
+    INTROSPECTION,
+    /** Anything else. */
+    SPEC
+  }
+
+  private final Type type;
+  private final DirtySet dirtySet;
+
+  private DomainChange(Type type, DirtySet dirtySet) {
+    this.type = type;
+    this.dirtySet = dirtySet;
+  }
+
+  /**
+   * Classifies the change from a cached domain to an updated one.
+   * @param cached the domain last processed by the operator
+   * @param updated the domain reported by Kubernetes
+   * @return the classified change
+   */
+  public static DomainChange classify(Domain cached, Domain updated) {
+    DomainSpec cachedSpec = Optional.ofNullable(cached).map(Domain::getSpec).orElse(null);
+    DomainSpec updatedSpec = Optional.ofNullable(updated).map(Domain::getSpec).orElse(null);
+    if (cachedSpec == null || updatedSpec == null) {
+      return new DomainChange(Type.SPEC, DirtySet.everything());
+    } else if (isSameGeneration(cached, updated) || updatedSpec.equals(cachedSpec)) {
+      return new DomainChange(isMetadataChanged(cached, updated) ? Type.METADATA : Type.NONE, null);
+    }
+
+    return new Classifier(toJson(cachedSpec), toJson(updatedSpec)).classify();
+  }
+
+  // Kubernetes only increments the generation of a domain when its spec changes.
+  private static boolean isSameGeneration(Domain cached, Domain updated) {
+    Long cachedGeneration = getGeneration(cached);
+    return cachedGeneration != null && cachedGeneration.equals(getGeneration(updated));
+  }
+
+  // Kubernetes does not change the generation when only the labels or annotations change.
+  private static boolean isMetadataChanged(Domain cached, Domain updated) {
+    return !Objects.equals(getLabels(cached), getLabels(updated))
+        || !Objects.equals(getAnnotations(cached), getAnnotations(updated));
+  }
+
+  private static Map<String, String> getLabels(Domain domain) {
+    return Optional.ofNullable(domain.getMetadata()).map(V1ObjectMeta::getLabels).orElse(Collections.emptyMap());
+  }
+
+  private static Map<String, String> getAnnotations(Domain domain) {
+    return Optional.ofNullable(domain.getMetadata()).map(V1ObjectMeta::getAnnotations).orElse(Collections.emptyMap());
+  }
+
+  private static Long getGeneration(Domain domain) {
+    return Optional.ofNullable(domain.getMetadata()).map(V1ObjectMeta::getGeneration).orElse(null);
+  }
+
+  private static JsonObject toJson(DomainSpec spec) {
+    return GSON.toJsonTree(spec).getAsJsonObject();
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Returns true if the change requires no make-right.
+   * @return true if only the metadata, or nothing, has changed
+   */
+  public boolean isNoOp() {
+    return dirtySet == null;
+  }
+
+  /**
+   * Returns the parts of the domain that must be processed to apply this change.
+   * @return a dirty set, or null if no processing is required
+   */
+  public DirtySet getDirtySet() {
+    return dirtySet;
+  }
+
+  @Override
+  public String toString() {
+    return type + (dirtySet == null ? "" : " " + dirtySet);
+  }
+
+  private static class Classifier {
+    private final JsonObject cached;
+    private final JsonObject updated;
+    private boolean specChanged;
+    private boolean introspectVersionChanged;
+    private DirtySet scaled;
+    private DirtySet restarted;
+
+    Classifier(JsonObject cached, JsonObject updated) {
+      this.cached = cached;
+      this.updated = updated;
+    }
+
+    DomainChange classify() {
+      for (String key : getKeys(cached, updated)) {
+        if (!Objects.equals(cached.get(key), updated.get(key))) {
+          recordDomainChange(key);
+        }
+      }
+
+      if (specChanged || countCategories() > 1) {
+        return new DomainChange(Type.SPEC, DirtySet.everything());
+      } else if (introspectVersionChanged) {
+        return new DomainChange(Type.INTROSPECTION, DirtySet.forTopologyChanges());
+      } else if (scaled != null) {
+        return new DomainChange(Type.SCALING, scaled);
+      } else if (restarted != null) {
+        return new DomainChange(Type.RESTART, restarted);
+      } else {
+        return new DomainChange(Type.NONE, null);
+      }
+    }
+
+    private int countCategories() {
+      return (introspectVersionChanged ? 1 : 0) + (scaled != null ? 1 : 0) + (restarted != null ? 1 : 0);
+    }
+
+    private void recordDomainChange(String key) {
+      switch (key) {
+        case INTROSPECT_VERSION:
+          introspectVersionChanged = true;
+          break;
+        case RESTART_VERSION:
+          restarted = DirtySet.everything();
+          break;
+        case ADMIN_SERVER:
+          recordAdminServerChange(getObject(cached, key), getObject(updated, key));
+          break;
+        case CLUSTERS:
+          recordMemberChanges(key, CLUSTER_NAME, this::recordClusterChange);
+          break;
+        case MANAGED_SERVERS:
+          recordMemberChanges(key, SERVER_NAME, this::recordServerChange);
+          break;
+        default:
+          specChanged = true;
+      }
+    }
+
+    private void recordAdminServerChange(JsonObject before, JsonObject after) {
+      if (isOnlyChanged(before, after, RESTART_VERSION)) {
+        restarted = DirtySet.forAdminServer().merge(restarted);
+      } else {
+        specChanged = true;
+      }
+    }
+
+    private void recordClusterChange(String clusterName, JsonObject before, JsonObject after) {
+      if (isOnlyChanged(before, after, REPLICAS)) {
+        scaled = DirtySet.forClusterMembers(clusterName).merge(scaled);
+      } else if (isOnlyChanged(before, after, RESTART_VERSION)) {
+        restarted = DirtySet.forClusterMembers(clusterName).merge(restarted);
+      } else {
+        specChanged = true;
+      }
+    }
+
+    private void recordServerChange(String serverName, JsonObject before, JsonObject after) {
+      if (isOnlyChanged(before, after, RESTART_VERSION)) {
+        restarted = DirtySet.forServer(serverName).merge(restarted);
+      } else {
+        specChanged = true;
+      }
+    }
+
+    // Members of the clusters and managed servers lists are matched by name. Adding or removing one is a spec change.
+    private void recordMemberChanges(String key, String nameField, MemberChangeRecorder recorder) {
+      Map<String, JsonObject> before = getMembers(cached, key, nameField);
+      Map<String, JsonObject> after = getMembers(updated, key, nameField);
+      if (before == null || after == null || !before.keySet().equals(after.keySet())) {
+        specChanged = true;
+        return;
+      }
+
+      for (Map.Entry<String, JsonObject> entry : before.entrySet()) {
+        JsonObject updatedMember = after.get(entry.getKey());
+        if (!entry.getValue().equals(updatedMember)) {
+          recorder.record(entry.getKey(), entry.getValue(), updatedMember);
+        }
+      }
+    }
+
+    private Map<String, JsonObject> getMembers(JsonObject spec, String key, String nameField) {
+      Map<String, JsonObject> members = new HashMap<>();
+      JsonArray array = Optional.ofNullable(spec.get(key))
+          .filter(JsonElement::isJsonArray)
+          .map(JsonElement::getAsJsonArray)
+          .orElse(new JsonArray());
+      for (JsonElement element : array) {
+        JsonObject member = element.getAsJsonObject();
+        JsonElement name = member.get(nameField);
+        if (name == null || members.put(name.getAsString(), member) != null) {
+          return null;
+        }
+      }
+      return members;
+    }
+
+    private JsonObject getObject(JsonObject spec, String key) {
+      return Optional.ofNullable(spec.get(key))
+          .filter(JsonElement::isJsonObject)
+          .map(JsonElement::getAsJsonObject)
+          .orElse(new JsonObject());
+    }
+
+    private boolean isOnlyChanged(JsonObject before, JsonObject after, String field) {
+      for (String key : getKeys(before, after)) {
+        if (!key.equals(field) && !Objects.equals(before.get(key), after.get(key))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private Set<String> getKeys(JsonObject first, JsonObject second) {
+      Set<String> keys = new HashSet<>();
+      first.entrySet().forEach(entry -> keys.add(entry.getKey()));
+      second.entrySet().forEach(entry -> keys.add(entry.getKey()));
+      return keys;
+    }
+  }
+
+  private interface MemberChangeRecorder {
+    void record(String name, JsonObject before, JsonObject after);
+  }
+}
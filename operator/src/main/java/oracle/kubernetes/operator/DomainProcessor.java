@@ -9,7 +9,9 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.MakeRightPlan;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
 public interface DomainProcessor {
 
@@ -17,6 +19,22 @@ public interface DomainProcessor {
 
   MakeRightDomainOperation createMakeRightOperation(Domain liveDomain);
 
+  /**
+   * Registers a domain restored from a snapshot, whose spec has not changed since the snapshot was saved,
+   * without running a make-right. The domain is reconciled by later events or by the next periodic recheck.
+   * @param info the restored domain presence info
+   */
+  void resumeDomainPresence(DomainPresenceInfo info);
+
+  /**
+   * Computes the work which a make-right would do to apply a proposed spec to a domain, by running the make-right
+   * as a dry run. Neither the presence info nor any Kubernetes resource is changed.
+   * @param info the presence info of the domain
+   * @param proposedSpec the proposed spec
+   * @return a summary of the work which the make-right would do
+   */
+  MakeRightPlan previewMakeRight(DomainPresenceInfo info, DomainSpec proposedSpec);
+
   public void dispatchDomainWatch(Watch.Response<Domain> item);
 
   public void dispatchPodWatch(Watch.Response<V1Pod> item);
@@ -5,6 +5,7 @@ package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -33,11 +34,13 @@ import oracle.kubernetes.operator.TuningParameters.MainTuning;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSourceException;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.CallRecorder;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainValidationSteps;
 import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.MakeRightPlan;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
@@ -52,6 +55,8 @@ import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
+import oracle.kubernetes.operator.wlsconfig.TopologyDiff;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
@@ -64,6 +69,7 @@ import oracle.kubernetes.weblogic.domain.model.AdminServer;
 import oracle.kubernetes.weblogic.domain.model.AdminService;
 import oracle.kubernetes.weblogic.domain.model.Channel;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
@@ -71,7 +77,10 @@ import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 import static oracle.kubernetes.operator.DomainStatusUpdater.ADMIN_SERVER_STARTING_PROGRESS_REASON;
 import static oracle.kubernetes.operator.DomainStatusUpdater.MANAGED_SERVERS_STARTING_PROGRESS_REASON;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.DIRTY_SET;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECT_REQUESTED;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_DIFF;
 import static oracle.kubernetes.operator.ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
@@ -81,6 +90,8 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  private static final int DEFAULT_FULL_PLAN_INTERVAL_SECONDS = 120;
+
   private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
 
@@ -97,12 +108,27 @@ public class DomainProcessorImpl implements DomainProcessor {
     return DOMAINS.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).get(domainUid);
   }
 
+  /**
+   * Returns the presence info which the operator has cached for the specified domain, without creating any.
+   *
+   * @param ns the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @return the cached presence info, if any
+   */
+  public static Optional<DomainPresenceInfo> findDomainPresenceInfo(String ns, String domainUid) {
+    return Optional.ofNullable(DOMAINS.get(ns)).map(infos -> infos.get(domainUid));
+  }
+
   static void registerDomainPresenceInfo(DomainPresenceInfo info) {
     DOMAINS
           .computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>())
           .put(info.getDomainUid(), info);
   }
 
+  static Collection<DomainPresenceInfo> getDomainPresenceInfos(String ns) {
+    return Optional.ofNullable(DOMAINS.get(ns)).map(Map::values).orElse(Collections.emptyList());
+  }
+
   private static void unregisterPresenceInfo(String ns, String domainUid) {
     Map<String, DomainPresenceInfo> map = DOMAINS.get(ns);
     if (map != null) {
@@ -249,6 +275,12 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  @Override
+  public void resumeDomainPresence(DomainPresenceInfo info) {
+    registerDomainPresenceInfo(info);
+    scheduleDomainStatusUpdating(info);
+  }
+
   /**
    * Report on currently suspended fibers. This is the first step toward diagnosing if we need special handling
    * to kill or kick these fibers.
@@ -314,7 +346,8 @@ public class DomainProcessorImpl implements DomainProcessor {
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
         if (removed && info.isNotDeleting() && !info.isServerPodBeingDeleted(serverName)) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getNamespace(pod), serverName);
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          createMakeRightOperation(info)
+                .interrupt().withExplicitRecheck().withDirtySet(DirtySet.forServer(serverName)).execute();
         }
         break;
 
@@ -386,7 +419,8 @@ public class DomainProcessorImpl implements DomainProcessor {
       case "DELETED":
         boolean removed = ServiceHelper.deleteFromEvent(info, item.object);
         if (removed && info.isNotDeleting()) {
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          createMakeRightOperation(info)
+                .interrupt().withExplicitRecheck().withDirtySet(DirtySet.forService(item.object)).execute();
         }
         break;
       default:
@@ -553,6 +587,11 @@ public class DomainProcessorImpl implements DomainProcessor {
     return createMakeRightOperation(new DomainPresenceInfo(liveDomain));
   }
 
+  @Override
+  public MakeRightPlan previewMakeRight(DomainPresenceInfo info, DomainSpec proposedSpec) {
+    return new MakeRightPreview(delegate).preview(info, proposedSpec);
+  }
+
   public Step createPopulatePacketServerMapsStep(oracle.kubernetes.operator.work.Step next) {
     return new PopulatePacketServerMapsStep(next);
   }
@@ -601,11 +640,12 @@ public class DomainProcessorImpl implements DomainProcessor {
    */
   class MakeRightDomainOperationImpl implements MakeRightDomainOperation {
 
-    private final DomainPresenceInfo liveInfo;
+    private DomainPresenceInfo liveInfo;
     private boolean explicitRecheck;
     private boolean deleting;
     private boolean willInterrupt;
     private boolean inspectionRun;
+    private DirtySet dirtySet;
 
     /**
      * Create the operation.
@@ -656,6 +696,18 @@ public class DomainProcessorImpl implements DomainProcessor {
       return this;
     }
 
+    /**
+     * Modifies the factory to process only the servers and clusters affected by the triggering events. The factory
+     * will still create a full plan if the domain state does not permit limiting it.
+     * @param dirtySet the parts of the domain affected
+     * @return the updated factory
+     */
+    @Override
+    public MakeRightDomainOperation withDirtySet(DirtySet dirtySet) {
+      this.dirtySet = dirtySet;
+      return this;
+    }
+
     @Override
     public void execute() {
       if (!delegate.isNamespaceRunning(getNamespace())) {
@@ -684,16 +736,44 @@ public class DomainProcessorImpl implements DomainProcessor {
         return true;
       } else if (isCachedInfoNewer(liveInfo, cachedInfo)) {
         return false;  // we have already cached this
-      } else if (explicitRecheck || isSpecChanged(liveInfo, cachedInfo)) {
+      } else if (explicitRecheck) {
         return true;
       }
+
+      DomainChange change = DomainChange.classify(cachedInfo.getDomain(), getDomain());
+      if (change.isNoOp()) {
+        cachedInfo.setDomain(getDomain());
+        return false;
+      }
+
+      LOGGER.fine("Domain " + getDomainUid() + " change classified as " + change);
+      if (!change.getDirtySet().isEverything()) {
+        planWithCachedInfo(cachedInfo, change.getDirtySet());
+      }
+      return true;
+    }
+
+    // A change limited to some servers is applied to the cached info, which already knows the domain's pods and
+    // services, rather than to a new info which would have to list them again.
+    private void planWithCachedInfo(DomainPresenceInfo cachedInfo, DirtySet dirtySet) {
       cachedInfo.setDomain(getDomain());
-      return false;
+      liveInfo = cachedInfo;
+      this.dirtySet = dirtySet;
     }
 
     private void internalMakeRightDomainPresence() {
       LOGGER.fine(MessageKeys.PROCESSING_DOMAIN, getDomainUid());
 
+      runDomainPlan(
+            getDomain(),
+            getDomainUid(),
+            getNamespace(),
+            createDomainPlanSteps(createPacket()),
+            deleting,
+            willInterrupt);
+    }
+
+    Packet createPacket() {
       Packet packet = new Packet();
       packet.put(MAKE_RIGHT_DOMAIN_OPERATION, this);
       packet
@@ -703,16 +783,10 @@ public class DomainProcessorImpl implements DomainProcessor {
               Component.createFor(liveInfo, delegate.getVersion(),
                   PodAwaiterStepFactory.class, delegate.getPodAwaiterStepFactory(getNamespace()),
                   V1SubjectRulesReviewStatus.class, delegate.getSubjectRulesReviewStatus(getNamespace())));
-      runDomainPlan(
-            getDomain(),
-            getDomainUid(),
-            getNamespace(),
-            createDomainPlanSteps(packet),
-            deleting,
-            willInterrupt);
+      return packet;
     }
 
-    private StepAndPacket createDomainPlanSteps(Packet packet) {
+    StepAndPacket createDomainPlanSteps(Packet packet) {
       return new StepAndPacket(
           createPopulatePacketServerMapsStep(createSteps()),
           packet);
@@ -732,6 +806,11 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     @Override
     public Step createSteps() {
+      if (isDirtySetPlanPermitted()) {
+        LOGGER.fine("Limiting make-right for domain " + getDomainUid() + " to " + dirtySet);
+        return new StartPlanStep(liveInfo, createDirtySetPlan(liveInfo, dirtySet, this));
+      }
+
       Step strategy =
             new StartPlanStep(liveInfo, deleting ? createDomainDownPlan(liveInfo) : createDomainUpPlan(liveInfo));
       if (deleting || getDomain() == null) {
@@ -740,17 +819,27 @@ public class DomainProcessorImpl implements DomainProcessor {
         return DomainValidationSteps.createDomainValidationSteps(getNamespace(), strategy);
       }
     }
+
+    // A plan limited to the dirty set skips validation, introspection and scaling, so it is only safe when the spec
+    // has not changed since the last full plan, and that plan completed recently enough to act as a safety net.
+    // It must also not interrupt a plan already in progress, which may be covering more of the domain.
+    private boolean isDirtySetPlanPermitted() {
+      return dirtySet != null
+          && !dirtySet.isEverything()
+          && !deleting
+          && getDomain() != null
+          && !getDomain().isShuttingDown()
+          && liveInfo.isPopulated()
+          && liveInfo.isFullPlanCompletedWithin(getFullPlanIntervalSeconds())
+          && !getMakeRightFiberGate(getNamespace()).hasCurrentFiber(getDomainUid());
+    }
   }
 
-  private static boolean isSpecChanged(DomainPresenceInfo liveInfo, DomainPresenceInfo cachedInfo) {
-    // TODO, RJE: now that we are switching to updating domain status using the separate
-    // status-specific endpoint, Kubernetes guarantees that changes to the main endpoint
-    // will only be for metadata and spec, so we can know that we have an important
-    // change just by looking at metadata.generation.
-    return Optional.ofNullable(liveInfo.getDomain())
-          .map(Domain::getSpec)
-          .map(spec -> !spec.equals(cachedInfo.getDomain().getSpec()))
-          .orElse(true);
+  private static int getFullPlanIntervalSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(mainTuning -> mainTuning.domainPresenceRecheckIntervalSeconds)
+          .orElse(DEFAULT_FULL_PLAN_INTERVAL_SECONDS);
   }
 
   private static boolean isCachedInfoNewer(DomainPresenceInfo liveInfo, DomainPresenceInfo cachedInfo) {
@@ -844,7 +933,8 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   Step createDomainUpPlan(DomainPresenceInfo info) {
-    Step managedServerStrategy = bringManagedServersUp(DomainStatusUpdater.createEndProgressingStep(new TailStep()));
+    Step managedServerStrategy =
+          bringManagedServersUp(DomainStatusUpdater.createEndProgressingStep(new TailStep(true)));
 
     Step domainUpStrategy =
         Step.chain(
@@ -860,6 +950,21 @@ public class DomainProcessorImpl implements DomainProcessor {
           DomainPresenceStep.createDomainPresenceStep(info.getDomain(), domainUpStrategy, managedServerStrategy));
   }
 
+  /**
+   * Creates a plan which brings up only the servers and clusters in the specified dirty set, using the topology
+   * recorded by the last introspection. If no topology is available, a full plan is run instead.
+   * @param info the domain presence info
+   * @param dirtySet the parts of the domain to process
+   * @param operation the make-right operation which created the plan
+   * @return the first step of the plan
+   */
+  Step createDirtySetPlan(DomainPresenceInfo info, DirtySet dirtySet, MakeRightDomainOperation operation) {
+    return Step.chain(
+          createDomainUpInitialStep(info),
+          ConfigMapHelper.readExistingIntrospectorConfigMap(info.getNamespace(), info.getDomainUid()),
+          new DirtySetPlanStep(info, dirtySet, operation));
+  }
+
   Step createDomainUpInitialStep(DomainPresenceInfo info) {
     return new UpHeadStep(info);
   }
@@ -922,14 +1027,89 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private static class TailStep extends Step {
+    private final boolean fullPlan;
+
+    TailStep(boolean fullPlan) {
+      this.fullPlan = fullPlan;
+    }
 
     @Override
     public NextAction apply(Packet packet) {
-      packet.getSpi(DomainPresenceInfo.class).complete();
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      info.complete();
+      if (fullPlan) {
+        info.recordFullPlanCompleted();
+      }
       return doNext(packet);
     }
   }
 
+  private class DirtySetPlanStep extends Step {
+    private final DomainPresenceInfo info;
+    private final DirtySet dirtySet;
+    private final MakeRightDomainOperation operation;
+
+    DirtySetPlanStep(DomainPresenceInfo info, DirtySet dirtySet, MakeRightDomainOperation operation) {
+      this.info = info;
+      this.dirtySet = dirtySet;
+      this.operation = operation;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      WlsDomainConfig config = (WlsDomainConfig) packet.get(DOMAIN_TOPOLOGY);
+      if (config == null) {
+        return doNext(operation.withDirtySet(DirtySet.everything()).createSteps(), packet);
+      } else if (dirtySet.isTopologyChanges()) {
+        return doNext(Step.chain(domainIntrospectionSteps(info), new TopologyChangesStep(info, operation)), packet);
+      }
+
+      packet.put(DIRTY_SET, dirtySet);
+      return doNext(createDirtySetSteps(config.getAdminServerName()), packet);
+    }
+
+    private Step createDirtySetSteps(String adminServerName) {
+      List<Step> steps = new ArrayList<>();
+      boolean adminServerDirty = dirtySet.includesAdminServer(adminServerName);
+      if (adminServerDirty) {
+        steps.add(DomainStatusUpdater.createProgressingStep(ADMIN_SERVER_STARTING_PROGRESS_REASON, true, null));
+        steps.add(bringAdminServerUp(info, delegate.getPodAwaiterStepFactory(info.getNamespace())));
+      }
+
+      if (dirtySet.includesManagedServersOrClusters(adminServerName)) {
+        steps.add(bringManagedServersUp(DomainStatusUpdater.createEndProgressingStep(new TailStep(false))));
+      } else if (adminServerDirty) {
+        steps.add(DomainStatusUpdater.createEndProgressingStep(new TailStep(false)));
+      } else {
+        steps.add(new TailStep(false));
+      }
+      return Step.chain(steps.toArray(new Step[0]));
+    }
+  }
+
+  // Once the domain has been introspected, limits the plan to the servers and clusters whose configuration changed.
+  private class TopologyChangesStep extends Step {
+    private final DomainPresenceInfo info;
+    private final MakeRightDomainOperation operation;
+
+    TopologyChangesStep(DomainPresenceInfo info, MakeRightDomainOperation operation) {
+      this.info = info;
+      this.operation = operation;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DirtySet dirtySet = Optional.ofNullable((TopologyDiff) packet.get(DOMAIN_TOPOLOGY_DIFF))
+            .map(diff -> DirtySet.forTopologyDiff(diff, (WlsDomainConfig) packet.get(DOMAIN_TOPOLOGY)))
+            .orElse(DirtySet.everything());
+      LOGGER.fine("Introspection of domain " + info.getDomainUid() + " affected " + dirtySet);
+      if (dirtySet.isEverything()) {
+        return doNext(operation.withDirtySet(dirtySet).createSteps(), packet);
+      }
+      return doNext(new DirtySetPlanStep(info, dirtySet, operation), packet);
+    }
+  }
+
   private static class StartPlanStep extends Step {
     private final DomainPresenceInfo info;
 
@@ -940,7 +1120,9 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     @Override
     public NextAction apply(Packet packet) {
-      registerDomainPresenceInfo(info);
+      if (!CallRecorder.isRecording(packet)) {
+        registerDomainPresenceInfo(info);
+      }
       Step strategy = getNext();
       if (!info.isPopulated() && info.isNotDeleting()) {
         strategy = Step.chain(readExistingPods(info), readExistingServices(info), strategy);
@@ -1006,7 +1188,9 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     @Override
     public NextAction apply(Packet packet) {
-      scheduleDomainStatusUpdating(info);
+      if (!CallRecorder.isRecording(packet)) {
+        scheduleDomainStatusUpdating(info);
+      }
       return doNext(packet);
     }
   }
@@ -66,6 +66,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Progre
 @SuppressWarnings("WeakerAccess")
 public class DomainStatusUpdater {
   public static final String INSPECTING_DOMAIN_PROGRESS_REASON = "InspectingDomainPresence";
+  public static final String INTROSPECTION_QUEUED_PROGRESS_REASON = "IntrospectionQueued";
   public static final String ADMIN_SERVER_STARTING_PROGRESS_REASON = "AdminServerStarting";
   public static final String MANAGED_SERVERS_STARTING_PROGRESS_REASON = "ManagedServersStarting";
   public static final String SERVERS_READY_REASON = "ServersReady";
@@ -444,14 +445,6 @@ public class DomainStatusUpdater {
         return getInfo().getServerPods().anyMatch(PodHelper::isFailed);
       }
 
-      private boolean hasServerPod(String serverName) {
-        return Optional.ofNullable(getInfo().getServerPod(serverName)).isPresent();
-      }
-
-      private boolean hasReadyServerPod(String serverName) {
-        return Optional.ofNullable(getInfo().getServerPod(serverName)).filter(PodHelper::getReadyStatus).isPresent();
-      }
-
       Map<String, ServerStatus> getServerStatuses(final String adminServerName) {
         return getServerNames().stream()
             .collect(Collectors.toMap(Function.identity(),
@@ -487,41 +480,39 @@ public class DomainStatusUpdater {
       }
 
       Integer getReplicaSetting() {
-        Collection<Long> values = getClusterCounts().values();
+        Collection<String> serverNames = getServerNames();
+        Collection<Integer> values = new ArrayList<>();
+        for (String clusterName : getInfo().getPodClusterNames()) {
+          Optional.ofNullable(getClusterCount(clusterName, false, serverNames)).ifPresent(values::add);
+        }
         if (values.size() == 1) {
-          return values.iterator().next().intValue();
+          return values.iterator().next();
         } else {
           return null;
         }
       }
 
-      private Stream<String> getServers(boolean isReadyOnly) {
-        return getServerNames().stream()
-            .filter(isReadyOnly ? this::hasReadyServerPod : this::hasServerPod);
-      }
-
-      private Map<String, Long> getClusterCounts() {
-        return getClusterCounts(false);
-      }
-
-      private Map<String, Long> getClusterCounts(boolean isReadyOnly) {
-        return getServers(isReadyOnly)
-            .map(this::getClusterNameFromPod)
-            .filter(Objects::nonNull)
-            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+      // Counts the configured servers with pods in the specified cluster, using the domain presence indexes
+      // rather than examining every pod. Returns null if there are none.
+      private Integer getClusterCount(String clusterName, boolean isReadyOnly, Collection<String> serverNames) {
+        Set<String> servers = isReadyOnly
+            ? getInfo().getServerNamesWithReadyPods(clusterName)
+            : getInfo().getServerNamesWithPods(clusterName);
+        int count = (int) servers.stream().filter(serverNames::contains).count();
+        return count > 0 ? count : null;
       }
 
       Map<String, ClusterStatus> getClusterStatuses() {
+        Collection<String> serverNames = getServerNames();
         return getClusterNames().stream()
-            .collect(Collectors.toMap(Function.identity(), this::createClusterStatus));
+            .collect(Collectors.toMap(Function.identity(), c -> createClusterStatus(c, serverNames)));
       }
 
-      private ClusterStatus createClusterStatus(String clusterName) {
+      private ClusterStatus createClusterStatus(String clusterName, Collection<String> serverNames) {
         return new ClusterStatus()
             .withClusterName(clusterName)
-            .withReplicas(Optional.ofNullable(getClusterCounts().get(clusterName)).map(Long::intValue).orElse(null))
-            .withReadyReplicas(
-                Optional.ofNullable(getClusterCounts(true).get(clusterName)).map(Long::intValue).orElse(null))
+            .withReplicas(getClusterCount(clusterName, false, serverNames))
+            .withReadyReplicas(getClusterCount(clusterName, true, serverNames))
             .withMaximumReplicas(getClusterMaximumSize(clusterName))
             .withMinimumReplicas(getClusterMinimumSize(clusterName))
             .withReplicasGoal(getClusterSizeGoal(clusterName));
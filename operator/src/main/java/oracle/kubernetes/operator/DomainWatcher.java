@@ -7,11 +7,13 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
 /**
  * This class handles Domain watching. It receives domain events and sends them into the operator
@@ -62,4 +64,17 @@ public class DomainWatcher extends Watcher<Domain> {
   public String getNamespace() {
     return ns;
   }
+
+  @Override
+  public V1ObjectMeta getMetadata(Domain domain) {
+    return domain.getMetadata();
+  }
+
+  // The domain UID is retained, as it may differ from the domain name
+  @Override
+  Domain createTombstone(Domain domain) {
+    return new Domain()
+        .withMetadata(copyIdentifyingMetadata(domain))
+        .withSpec(new DomainSpec().withDomainUid(domain.getSpec().getDomainUid()));
+  }
 }
@@ -23,6 +23,12 @@ public interface IntrospectorConfigMapKeys {
   /** A hash of the Model-in-Image inputs. */
   String DOMAIN_INPUTS_HASH = "weblogic.domainInputsHash";
 
+  /** A digest of the inputs to the introspection which produced the contents of the map. */
+  String INTROSPECTION_INPUTS_DIGEST = "weblogic.introspectionInputsDigest";
+
+  /** "true" if the introspection addressed clustered servers through headless cluster services. */
+  String HEADLESS_CLUSTER_SERVICES = "weblogic.headlessClusterServices";
+
   /**
    * The prefix for a number of keys which may appear in the introspector config map.
    * They are not preserved from one update to another.
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,6 +24,7 @@ import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.IntrospectionScheduler;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -32,6 +34,8 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+
 /** Watches for Jobs to become Ready or leave Ready state. */
 public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
@@ -88,6 +92,11 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     return namespace;
   }
 
+  @Override
+  public V1ObjectMeta getMetadata(V1Job job) {
+    return job.getMetadata();
+  }
+
   /**
    * Creates a new JobWatcher and caches it by namespace.
    *
@@ -192,8 +201,13 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
       case "ADDED":
       case "MODIFIED":
         dispatchCallback(getJobName(item), item.object);
+        if (isFinished(item.object)) {
+          releaseIntrospection(item.object);
+        }
         break;
       case "DELETED":
+        releaseIntrospection(item.object);
+        break;
       case "ERROR":
       default:
     }
@@ -201,6 +215,27 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     LOGGER.exiting();
   }
 
+  // Unlike isComplete and isFailed, this does not log, since it is checked for every job event.
+  private static boolean isFinished(V1Job job) {
+    return Optional.ofNullable(job.getStatus())
+          .map(V1JobStatus::getConditions)
+          .orElse(Collections.emptyList()).stream()
+          .anyMatch(condition -> isFinishedType(condition.getType()) && "True".equals(condition.getStatus()));
+  }
+
+  private static boolean isFinishedType(String conditionType) {
+    return "Complete".equals(conditionType) || "Failed".equals(conditionType);
+  }
+
+  // Once an introspector job has finished, another domain may run its introspector.
+  private void releaseIntrospection(V1Job job) {
+    Optional.ofNullable(job.getMetadata())
+          .filter(metadata -> metadata.getLabels() != null)
+          .filter(metadata -> metadata.getLabels().containsKey(DOMAINUID_LABEL))
+          .ifPresent(metadata -> IntrospectionScheduler.getInstance().releaseForJob(namespace,
+                metadata.getLabels().get(DOMAINUID_LABEL), metadata.getUid(), metadata.getCreationTimestamp()));
+  }
+
   private String getJobName(Watch.Response<V1Job> item) {
     return item.object.getMetadata().getName();
   }
@@ -37,4 +37,5 @@ public interface KubernetesConstants {
   String INTROSPECTOR_CONFIG_MAP_NAME_SUFFIX = "-weblogic-domain-introspect-cm";
 
   String GRACEFUL_SHUTDOWNTYPE = ShutdownType.Graceful.name();
+  String WLST_SHUTDOWNMETHOD = ShutdownMethod.Wlst.name();
 }
@@ -8,9 +8,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.security.GeneralSecurityException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,9 +30,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1EventList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -39,6 +45,8 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.MultiplexedWatchFactory;
+import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSourceException;
 import oracle.kubernetes.operator.helpers.CallBuilder;
@@ -47,6 +55,7 @@ import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.CrdHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceSnapshot;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -81,6 +90,8 @@ public class Main {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private static final String DPI_MAP = "DPI_MAP";
+  static final String WATCH_MULTIPLEXING_PARAM = "watchMultiplexing";
+  static final String FORK_JOIN_SCHEDULING_PARAM = "forkJoinScheduling";
 
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
@@ -105,6 +116,7 @@ public class Main {
   private static final String READINESS_PROBE_FAILURE_EVENT_FILTER =
       "reason=Unhealthy,type=Warning,involvedObject.fieldPath=spec.containers{weblogic-server}";
   private static final Semaphore shutdownSignal = new Semaphore(0);
+  private static final AtomicBoolean beginCompleted = new AtomicBoolean();
   private static final Engine engine = new Engine(wrappedExecutorService);
   private static String principal;
   private static KubernetesVersion version = null;
@@ -187,6 +199,13 @@ public class Main {
     principal = "system:serviceaccount:" + operatorNamespace + ":" + serviceAccountName;
 
     LOGGER.info(MessageKeys.OP_CONFIG_NAMESPACE, operatorNamespace);
+    if (isWatchMultiplexingEnabled()) {
+      enableWatchMultiplexing();
+    }
+    if (isForkJoinSchedulingEnabled()) {
+      engine.enableForkJoinScheduling("operator", container);
+      LOGGER.info(MessageKeys.FORK_JOIN_SCHEDULING_ENABLED, Engine.DEFAULT_THREAD_COUNT);
+    }
     JobWatcher.defineFactory(
         threadFactory, tuningAndConfig.getWatchTuning(), Main::isNamespaceStopping);
 
@@ -205,7 +224,7 @@ public class Main {
       } else {
         strategy = Step.chain(strategy, CrdHelper.createDomainCrdStep(
                 version, productVersion,
-                new StartNamespacesStep(targetNamespaces, false)));
+                new StartNamespacesStep(targetNamespaces, false).asInitialStartup(Main::completeBegin)));
       }
       runSteps(
           strategy,
@@ -215,7 +234,12 @@ public class Main {
     }
   }
 
+  // Called once the critical namespaces have started, and again once all have; only the first call has an effect.
   private static void completeBegin() {
+    if (beginCompleted.getAndSet(true)) {
+      return;
+    }
+
     try {
       // start the REST server
       startRestServer(principal, namespaceStoppingMap.keySet());
@@ -227,6 +251,14 @@ public class Main {
           .scheduleWithFixedDelay(
               recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
 
+      // start periodic saving of domain presence snapshots, if enabled
+      int snapshotInterval = DomainPresenceSnapshot.getSnapshotIntervalSeconds();
+      if (snapshotInterval > 0) {
+        engine
+            .getExecutor()
+            .scheduleWithFixedDelay(Main::saveSnapshots, snapshotInterval, snapshotInterval, TimeUnit.SECONDS);
+      }
+
       // Wait until all other initialization is done before marking ready and
       // starting liveness thread
 
@@ -347,6 +379,53 @@ public class Main {
         readExistingDomains(ns));
   }
 
+  /**
+   * Creates steps to start processing a namespace from its saved domain presence snapshot, rather than by listing
+   * its pods and services. If there is no usable snapshot, reads the existing resources instead.
+   *
+   * @param operatorNamespace the namespace of the operator
+   * @param ns the namespace to start
+   * @return the created steps
+   */
+  static Step warmStartResources(String operatorNamespace, String ns) {
+    return Step.chain(
+        new ReadExistingResourcesBeforeStep(),
+        ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns),
+        createConfigMapStep(ns),
+        DomainPresenceSnapshot.readSnapshotStep(ns),
+        new RestoreSnapshotStep(ns));
+  }
+
+  // If a watch resumed from a snapshot has expired, events were missed; fall back to listing the namespace.
+  private static void relistNamespace(String ns) {
+    LOGGER.info(MessageKeys.SNAPSHOT_EXPIRED, ns);
+    runSteps(new StartNamespacesStep(Collections.singleton(ns), true));
+  }
+
+  private static void saveSnapshots() {
+    for (String ns : namespaceStatuses.keySet()) {
+      if (delegate.isNamespaceRunning(ns)) {
+        saveSnapshot(ns);
+      }
+    }
+  }
+
+  private static void saveSnapshot(String ns) {
+    PodWatcher podWatcher = podWatchers.get(ns);
+    ServiceWatcher serviceWatcher = serviceWatchers.get(ns);
+    if (podWatcher == null || serviceWatcher == null) {
+      return;
+    }
+
+    // read the resource versions before the domains, so that a resumed watch replays any event not yet recorded
+    String podResourceVersion = podWatcher.getResourceVersion();
+    String serviceResourceVersion = serviceWatcher.getResourceVersion();
+    DomainPresenceSnapshot snapshot = DomainPresenceSnapshot.capture(
+        ns, DomainProcessorImpl.getDomainPresenceInfos(ns), podResourceVersion, serviceResourceVersion);
+    Optional.ofNullable(snapshot.createSaveStep(operatorNamespace))
+        .ifPresent(step -> runSteps(step, createPacketWithLoggingContext(ns)));
+  }
+
   private static Step readExistingDomains(String ns) {
     LOGGER.fine(MessageKeys.LISTING_DOMAINS);
     return callBuilderFactory.create().listDomainAsync(ns, new DomainListStep(ns));
@@ -421,7 +500,7 @@ public class Main {
 
   private static void startRestServer(String principal, Collection<String> targetNamespaces)
       throws Exception {
-    RestServer.create(new RestConfigImpl(principal, targetNamespaces));
+    RestServer.create(new RestConfigImpl(principal, targetNamespaces, processor));
     RestServer.getInstance().start(container);
   }
 
@@ -461,6 +540,32 @@ public class Main {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
   }
 
+  private static boolean isWatchMultiplexingEnabled() {
+    return "true".equalsIgnoreCase(Optional.ofNullable(tuningAndConfig.get(WATCH_MULTIPLEXING_PARAM))
+        .map(String::trim).orElse(null));
+  }
+
+  private static boolean isForkJoinSchedulingEnabled() {
+    return "true".equalsIgnoreCase(Optional.ofNullable(tuningAndConfig.get(FORK_JOIN_SCHEDULING_PARAM))
+        .map(String::trim).orElse(null));
+  }
+
+  // Runs all watches as streams on shared HTTP/2 connections, processing their events on the engine's executor
+  // rather than on a thread per watcher. If the client's TLS settings cannot be reused, each watcher keeps its thread.
+  private static void enableWatchMultiplexing() {
+    ClientPool pool = ClientPool.getInstance();
+    ApiClient client = pool.take();
+    try {
+      WatchBuilder.setWatchFactory(MultiplexedWatchFactory.create(client, engine.getExecutor()));
+      Watcher.setEventExecutor(engine.getExecutor());
+      LOGGER.info(MessageKeys.WATCH_MULTIPLEXING_ENABLED);
+    } catch (GeneralSecurityException | IOException e) {
+      LOGGER.warning(MessageKeys.WATCH_MULTIPLEXING_UNAVAILABLE, e.getMessage());
+    } finally {
+      pool.recycle(client);
+    }
+  }
+
   private static EventWatcher createEventWatcher(String ns, String initialResourceVersion) {
     return EventWatcher.create(
         threadFactory,
@@ -473,33 +578,62 @@ public class Main {
   }
 
   private static PodWatcher createPodWatcher(String ns, String initialResourceVersion) {
-    return PodWatcher.create(
+    PodWatcher watcher = PodWatcher.create(
         threadFactory,
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
         processor::dispatchPodWatch,
         isNamespaceStopping(ns));
+    watcher.setResourceLister(() -> listPods(ns));
+    return watcher;
   }
 
   private static ServiceWatcher createServiceWatcher(String ns, String initialResourceVersion) {
-    return ServiceWatcher.create(
+    ServiceWatcher watcher = ServiceWatcher.create(
         threadFactory,
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
         processor::dispatchServiceWatch,
         isNamespaceStopping(ns));
+    watcher.setResourceLister(() -> listServices(ns));
+    return watcher;
   }
 
   private static DomainWatcher createDomainWatcher(String ns, String initialResourceVersion) {
-    return DomainWatcher.create(
+    DomainWatcher watcher = DomainWatcher.create(
         threadFactory,
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
         processor::dispatchDomainWatch,
         isNamespaceStopping(ns));
+    watcher.setResourceLister(() -> listDomains(ns));
+    return watcher;
+  }
+
+  // The relist methods request every resource in a single response, so that the watcher can tell which were deleted.
+
+  private static Watcher.ResourceList<V1Pod> listPods(String ns) throws ApiException {
+    V1PodList list = new CallBuilder()
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .withLimit(null)
+        .listPod(ns);
+    return new Watcher.ResourceList<>(list.getItems(), list.getMetadata().getResourceVersion());
+  }
+
+  private static Watcher.ResourceList<V1Service> listServices(String ns) throws ApiException {
+    V1ServiceList list = new CallBuilder()
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .withLimit(null)
+        .listService(ns);
+    return new Watcher.ResourceList<>(list.getItems(), list.getMetadata().getResourceVersion());
+  }
+
+  private static Watcher.ResourceList<Domain> listDomains(String ns) throws ApiException {
+    DomainList list = callBuilderFactory.create().withLimit(null).listDomain(ns);
+    return new Watcher.ResourceList<>(list.getItems(), list.getMetadata().getResourceVersion());
   }
 
   private static NamespaceWatcher createNamespaceWatcher(String initialResourceVersion) {
@@ -584,10 +718,14 @@ public class Main {
   }
 
   private abstract static class ForEachNamespaceStep extends Step {
-    private final Collection<String> targetNamespaces;
+    private final List<String> targetNamespaces;
 
     ForEachNamespaceStep(Collection<String> targetNamespaces) {
-      this.targetNamespaces = targetNamespaces;
+      this.targetNamespaces = new ArrayList<>(targetNamespaces);
+    }
+
+    List<String> getTargetNamespaces() {
+      return targetNamespaces;
     }
 
     @Override
@@ -597,35 +735,115 @@ public class Main {
 
     protected abstract Step action(String ns);
 
+    // check for any existing resources and add the watches on them
+    // this would happen when the Domain was running BEFORE the Operator starts up
+    NamespaceStartupStep createStartupStep(List<String> namespaces) {
+      return new NamespaceStartupStep(
+          namespaces, this::action, NamespaceStartupStep.getMaxConcurrentStartups(), getNext());
+    }
+
     @Override
     public NextAction apply(Packet packet) {
-      // check for any existing resources and add the watches on them
-      // this would happen when the Domain was running BEFORE the Operator starts up
-      Collection<StepAndPacket> startDetails = new ArrayList<>();
-
-      for (String ns : targetNamespaces) {
-        try (LoggingContext stack = LoggingContext.setThreadContext().namespace(ns)) {
-          startDetails.add(new StepAndPacket(action(ns), packet.clone()));
-        }
-      }
-      return doForkJoin(getNext(), packet, startDetails);
+      return doNext(createStartupStep(targetNamespaces), packet);
     }
   }
 
-  private static class StartNamespacesStep extends ForEachNamespaceStep {
+  static class StartNamespacesStep extends ForEachNamespaceStep {
     private final boolean isFullRecheck;
+    private boolean isInitialStartup;
+    private Runnable criticalStartedAction;
 
     StartNamespacesStep(Collection<String> targetNamespaces, boolean isFullRecheck) {
       super(targetNamespaces);
       this.isFullRecheck = isFullRecheck;
     }
 
+    // Only the operator's initial startup orders namespaces by domain count, reports startup times,
+    // and runs an action once the critical namespaces have started.
+    StartNamespacesStep asInitialStartup(Runnable criticalStartedAction) {
+      this.isInitialStartup = true;
+      this.criticalStartedAction = criticalStartedAction;
+      return this;
+    }
+
     @Override
     protected Step action(String ns) {
       return Step.chain(
           new NamespaceRulesReviewStep(ns),
           new StartNamespaceBeforeStep(ns, isFullRecheck),
-          readExistingResources(operatorNamespace, ns));
+          isFullRecheck || !DomainPresenceSnapshot.isEnabled()
+              ? readExistingResources(operatorNamespace, ns)
+              : warmStartResources(operatorNamespace, ns));
+    }
+
+    @Override
+    NamespaceStartupStep createStartupStep(List<String> namespaces) {
+      NamespaceStartupStep step = super.createStartupStep(namespaces);
+      if (isInitialStartup) {
+        step.withTimesReported()
+            .withCriticalNamespaces(NamespaceStartupStep.getCriticalNamespaces(namespaces), criticalStartedAction);
+      }
+      return step;
+    }
+
+    // When the namespaces cannot all be started at once on initial startup, those with the most domains
+    // are started first.
+    @Override
+    public NextAction apply(Packet packet) {
+      if (!isInitialStartup || getTargetNamespaces().size() <= NamespaceStartupStep.getMaxConcurrentStartups()) {
+        return super.apply(packet);
+      }
+
+      Map<String, Long> domainCounts = new ConcurrentHashMap<>();
+      return doNext(
+          new NamespaceStartupStep(
+              getTargetNamespaces(),
+              ns -> callBuilderFactory.create().withLimit(1).listDomainAsync(ns, new DomainCountStep(ns, domainCounts)),
+              NamespaceStartupStep.getMaxConcurrentStartups(),
+              new PrioritizedStartStep(domainCounts)),
+          packet);
+    }
+
+    private class PrioritizedStartStep extends Step {
+      private final Map<String, Long> domainCounts;
+
+      PrioritizedStartStep(Map<String, Long> domainCounts) {
+        this.domainCounts = domainCounts;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        List<String> namespaces = new ArrayList<>(getTargetNamespaces());
+        namespaces.sort(Comparator.comparing((String ns) -> domainCounts.getOrDefault(ns, 0L)).reversed());
+        return doNext(createStartupStep(namespaces), packet);
+      }
+    }
+  }
+
+  // Records the number of domains in a namespace, which is used only to order the startup of namespaces.
+  private static class DomainCountStep extends ResponseStep<DomainList> {
+    private final String ns;
+    private final Map<String, Long> domainCounts;
+
+    DomainCountStep(String ns, Map<String, Long> domainCounts) {
+      this.ns = ns;
+      this.domainCounts = domainCounts;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<DomainList> callResponse) {
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<DomainList> callResponse) {
+      Optional.ofNullable(callResponse.getResult()).ifPresent(list -> domainCounts.put(ns, countDomains(list)));
+      return doNext(packet);
+    }
+
+    private long countDomains(DomainList list) {
+      return list.getItems().size()
+          + Optional.ofNullable(list.getMetadata()).map(V1ListMeta::getRemainingItemCount).orElse(0L);
     }
   }
 
@@ -714,6 +932,48 @@ public class Main {
     }
   }
 
+  private static class RestoreSnapshotStep extends Step {
+    private final String ns;
+
+    RestoreSnapshotStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceSnapshot snapshot =
+          (DomainPresenceSnapshot) packet.get(ProcessingConstants.DOMAIN_PRESENCE_SNAPSHOT);
+      if (snapshot == null) {
+        return doNext(
+            Step.chain(readExistingPods(ns), readExistingEvents(ns), readExistingServices(ns), readExistingDomains(ns)),
+            packet);
+      }
+
+      @SuppressWarnings("unchecked")
+      Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
+      snapshot.restore(dpis);
+      LOGGER.info(MessageKeys.SNAPSHOT_RESTORED, snapshot.getDomainUids().size(), ns);
+
+      AtomicBoolean relisted = new AtomicBoolean(false);
+      Runnable relist = () -> {
+        if (!relisted.getAndSet(true)) {
+          relistNamespace(ns);
+        }
+      };
+      if (!podWatchers.containsKey(ns)) {
+        PodWatcher watcher = createPodWatcher(ns, snapshot.getPodResourceVersion());
+        watcher.setResourceVersionExpiredAction(relist);
+        podWatchers.put(ns, watcher);
+      }
+      if (!serviceWatchers.containsKey(ns)) {
+        ServiceWatcher watcher = createServiceWatcher(ns, snapshot.getServiceResourceVersion());
+        watcher.setResourceVersionExpiredAction(relist);
+        serviceWatchers.put(ns, watcher);
+      }
+      return doNext(Step.chain(readExistingEvents(ns), readExistingDomains(ns)), packet);
+    }
+  }
+
   private static class DomainListStep extends ResponseStep<DomainList> {
     private final String ns;
 
@@ -730,15 +990,59 @@ public class Main {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<DomainList> callResponse) {
+      DomainList result = callResponse.getResult();
+      Step processDomains = new ListedDomainsStep(ns, result, getNext());
+      List<String> missedDomainUids = getDomainUidsNotCurrentInSnapshot(packet, result);
+      if (missedDomainUids.isEmpty()) {
+        return doNext(processDomains, packet);
+      }
+
+      // The pods and services of a domain which must be made right are listed, rather than taken from the snapshot,
+      // as those which existed before the snapshot's resource versions would not be replayed by the resumed watches.
+      @SuppressWarnings("unchecked")
+      Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
+      missedDomainUids.forEach(dpis::remove);
+      return doNext(Step.chain(readExistingPods(ns), readExistingServices(ns), processDomains), packet);
+    }
+
+    // Returns the UIDs of the listed domains which will not be resumed from the snapshot, if one was restored.
+    private List<String> getDomainUidsNotCurrentInSnapshot(Packet packet, DomainList result) {
+      DomainPresenceSnapshot snapshot =
+          (DomainPresenceSnapshot) packet.get(ProcessingConstants.DOMAIN_PRESENCE_SNAPSHOT);
+      if (snapshot == null || result == null) {
+        return Collections.emptyList();
+      }
+
+      return result.getItems().stream()
+          .filter(domain -> !snapshot.isCurrent(domain))
+          .map(Domain::getDomainUid)
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static class ListedDomainsStep extends Step {
+    private final String ns;
+    private final DomainList result;
+
+    ListedDomainsStep(String ns, DomainList result, Step next) {
+      super(next);
+      this.ns = ns;
+      this.result = result;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
 
       DomainProcessor x = packet.getSpi(DomainProcessor.class);
       DomainProcessor dp = x != null ? x : processor;
+      DomainPresenceSnapshot snapshot =
+          (DomainPresenceSnapshot) packet.get(ProcessingConstants.DOMAIN_PRESENCE_SNAPSHOT);
 
       Set<String> domainUids = new HashSet<>();
-      if (callResponse.getResult() != null) {
-        for (Domain dom : callResponse.getResult().getItems()) {
+      if (result != null) {
+        for (Domain dom : result.getItems()) {
           String domainUid = dom.getDomainUid();
           domainUids.add(domainUid);
           DomainPresenceInfo info =
@@ -753,7 +1057,11 @@ public class Main {
                   });
           info.setPopulated(true);
           try (LoggingContext stack = LoggingContext.setThreadContext().namespace(ns).domainUid(domainUid)) {
-            dp.createMakeRightOperation(info).withExplicitRecheck().execute();
+            if (snapshot != null && snapshot.isCurrent(dom)) {
+              dp.resumeDomainPresence(info);
+            } else {
+              dp.createMakeRightOperation(info).withExplicitRecheck().execute();
+            }
           }
         }
       }
@@ -769,8 +1077,11 @@ public class Main {
           });
 
       if (!domainWatchers.containsKey(ns)) {
-        domainWatchers.put(
-            ns, createDomainWatcher(ns, getResourceVersion(callResponse.getResult())));
+        domainWatchers.put(ns, createDomainWatcher(ns, getResourceVersion(result)));
+      }
+      DomainWatcher watcher = domainWatchers.get(ns);
+      if (watcher != null && result != null) {
+        watcher.recordListedResources(result.getItems());
       }
       return doNext(packet);
     }
@@ -815,6 +1126,10 @@ public class Main {
       if (!serviceWatchers.containsKey(ns)) {
         serviceWatchers.put(ns, createServiceWatcher(ns, getInitialResourceVersion(result)));
       }
+      ServiceWatcher watcher = serviceWatchers.get(ns);
+      if (watcher != null && result != null) {
+        watcher.recordListedResources(result.getItems());
+      }
       return doNext(packet);
     }
 
@@ -889,6 +1204,10 @@ public class Main {
       if (!podWatchers.containsKey(ns)) {
         podWatchers.put(ns, createPodWatcher(ns, getInitialResourceVersion(result)));
       }
+      PodWatcher watcher = podWatchers.get(ns);
+      if (watcher != null && result != null) {
+        watcher.recordListedResources(result.getItems());
+      }
       return doNext(packet);
     }
 
@@ -947,7 +1266,7 @@ public class Main {
     private Step createDomainCrdAndStartNamespaces(Collection<String> namespacesToStart) {
       return CrdHelper.createDomainCrdStep(
           version, productVersion,
-            new StartNamespacesStep(namespacesToStart, false));
+            new StartNamespacesStep(namespacesToStart, false).asInitialStartup(Main::completeBegin));
     }
 
     private String getInitialResourceVersion(V1NamespaceList result) {
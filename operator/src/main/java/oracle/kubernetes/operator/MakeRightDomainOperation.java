@@ -29,6 +29,13 @@ public interface MakeRightDomainOperation {
 
   MakeRightDomainOperation interrupt();
 
+  /**
+   * Limits the operation to the servers and clusters in the specified dirty set, if the domain state permits.
+   * @param dirtySet the parts of the domain affected by the triggering events
+   * @return The make right domain operation
+   */
+  MakeRightDomainOperation withDirtySet(DirtySet dirtySet);
+
   void execute();
 
   Step createSteps();
@@ -61,9 +68,18 @@ public interface MakeRightDomainOperation {
           .orElse(false);
   }
 
+  /**
+   * Returns the steps of a full make-right plan which will run the introspector before updating any servers.
+   * @param packet the packet of the current make-right
+   * @return the first step of the plan
+   */
   static Step createStepsToRerunWithIntrospection(Packet packet) {
     packet.put(ProcessingConstants.DOMAIN_INTROSPECT_REQUESTED, "MII");
-    return fromPacket(packet).map(MakeRightDomainOperation::createSteps).orElse(null);
+    packet.remove(ProcessingConstants.DIRTY_SET);
+    return fromPacket(packet)
+          .map(operation -> operation.withDirtySet(DirtySet.everything()))
+          .map(MakeRightDomainOperation::createSteps)
+          .orElse(null);
   }
 
   private static Optional<MakeRightDomainOperation> fromPacket(Packet packet) {
@@ -0,0 +1,120 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import oracle.kubernetes.operator.helpers.CallRecorder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.MakeRightPlan;
+import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+
+/**
+ * Computes the work which a make-right would do to apply a proposed spec to a domain, by running the make-right's
+ * own steps as a dry run against a copy of the domain's presence info. Calls to Kubernetes which would change
+ * anything are recorded by a {@link CallRecorder} rather than made, and the recorded calls are summarized as a plan.
+ */
+class MakeRightPreview implements DomainProcessorDelegate {
+
+  private static final Gson GSON = new JSON().getGson();
+
+  private final DomainProcessorDelegate delegate;
+  private CallRecorder recorder;
+
+  MakeRightPreview(DomainProcessorDelegate delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Runs a make-right of the domain with the proposed spec as a dry run. The presence info is not changed.
+   *
+   * @param info the presence info of the domain
+   * @param proposedSpec the proposed spec
+   * @return a summary of the work which the make-right would do
+   */
+  MakeRightPlan preview(DomainPresenceInfo info, DomainSpec proposedSpec) {
+    Domain proposed = createProposedDomain(info.getDomain(), proposedSpec);
+    DomainChange change = DomainChange.classify(info.getDomain(), proposed);
+    if (change.isNoOp()) {
+      return MakeRightPlan.fromRecording(change.getType(), null);
+    }
+
+    DomainPresenceInfo copy = info.copyFor(proposed);
+    recorder = new CallRecorder(copy);
+    DomainProcessorImpl.MakeRightDomainOperationImpl operation
+          = new DomainProcessorImpl(this).createMakeRightOperation(copy);
+    Optional.ofNullable(change.getDirtySet()).filter(this::isKnownWithoutIntrospection)
+          .ifPresent(operation::withDirtySet);
+    recorder.run(operation.createDomainPlanSteps(operation.createPacket()));
+    return MakeRightPlan.fromRecording(change.getType(), recorder);
+  }
+
+  // A dry run does not introspect the domain, so it cannot tell which servers a new topology would affect.
+  private boolean isKnownWithoutIntrospection(DirtySet dirtySet) {
+    return !dirtySet.isEverything() && !dirtySet.isTopologyChanges();
+  }
+
+  // Kubernetes would give the updated domain a new generation, so the copy has none.
+  private Domain createProposedDomain(Domain current, DomainSpec proposedSpec) {
+    Domain proposed = GSON.fromJson(GSON.toJson(current), Domain.class);
+    proposed.setSpec(GSON.fromJson(GSON.toJson(proposedSpec), DomainSpec.class));
+    Optional.ofNullable(proposed.getMetadata()).ifPresent(metadata -> metadata.setGeneration(null));
+    return proposed;
+  }
+
+  @Override
+  public String getOperatorNamespace() {
+    return delegate.getOperatorNamespace();
+  }
+
+  @Override
+  public PodAwaiterStepFactory getPodAwaiterStepFactory(String namespace) {
+    return recorder;
+  }
+
+  @Override
+  public V1SubjectRulesReviewStatus getSubjectRulesReviewStatus(String namespace) {
+    return delegate.getSubjectRulesReviewStatus(namespace);
+  }
+
+  @Override
+  public boolean isNamespaceRunning(String namespace) {
+    return delegate.isNamespaceRunning(namespace);
+  }
+
+  @Override
+  public KubernetesVersion getVersion() {
+    return delegate.getVersion();
+  }
+
+  @Override
+  public SemanticVersion getProductVersion() {
+    return delegate.getProductVersion();
+  }
+
+  @Override
+  public FiberGate createFiberGate() {
+    return delegate.createFiberGate();
+  }
+
+  @Override
+  public void runSteps(Step firstStep) {
+    delegate.runSteps(firstStep);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    return delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+  }
+}
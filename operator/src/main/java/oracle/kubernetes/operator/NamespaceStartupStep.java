@@ -0,0 +1,234 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.base.Strings;
+import oracle.kubernetes.operator.logging.LoggingContext;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Runs a step for each of a list of namespaces, each in its own child fiber, with no more than a fixed number
+ * running at once. Namespaces are started in list order, so the most important should be first. When every
+ * namespace has finished, processing continues with the next step. An action may also be specified to run as soon
+ * as a set of critical namespaces has finished, while the others are still being processed.
+ */
+class NamespaceStartupStep extends Step {
+  static final String CONCURRENCY_PARAM = "namespaceStartupConcurrency";
+  static final String CRITICAL_NAMESPACES_PARAM = "criticalNamespaces";
+  static final int DEFAULT_CONCURRENCY = 10;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final List<String> namespaces;
+  private final Function<String, Step> action;
+  private final int maxConcurrent;
+  private boolean reportTimes;
+  private Collection<String> criticalNamespaces = Collections.emptyList();
+  private Runnable criticalNamespacesAction;
+
+  /**
+   * Creates a step to process the specified namespaces.
+   *
+   * @param namespaces the namespaces, in the order in which they should be started
+   * @param action a function which returns the step to run for a namespace
+   * @param maxConcurrent the maximum number of namespaces to process at once
+   * @param next the step to run after all namespaces are processed
+   */
+  NamespaceStartupStep(List<String> namespaces, Function<String, Step> action, int maxConcurrent, Step next) {
+    super(next);
+    this.namespaces = namespaces;
+    this.action = action;
+    this.maxConcurrent = Math.max(1, maxConcurrent);
+  }
+
+  /**
+   * Returns the maximum number of namespaces to start at once, as configured by the tuning parameters.
+   *
+   * @return a positive number of namespaces
+   */
+  static int getMaxConcurrentStartups() {
+    return Optional.ofNullable(getParameter(CONCURRENCY_PARAM))
+          .map(NamespaceStartupStep::parseConcurrency)
+          .orElse(DEFAULT_CONCURRENCY);
+  }
+
+  private static int parseConcurrency(String value) {
+    try {
+      return Math.max(1, Integer.parseInt(value));
+    } catch (NumberFormatException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      return DEFAULT_CONCURRENCY;
+    }
+  }
+
+  /**
+   * Returns the namespaces which must be started before the operator is ready, as configured by the tuning
+   * parameters. If none are configured, all of the specified namespaces are critical.
+   *
+   * @param namespaces the namespaces being started
+   * @return the critical namespaces
+   */
+  static Collection<String> getCriticalNamespaces(Collection<String> namespaces) {
+    return Optional.ofNullable(getParameter(CRITICAL_NAMESPACES_PARAM))
+          .map(value -> Stream.of(value.split(",")).map(String::trim).collect(Collectors.toList()))
+          .orElse(new ArrayList<>(namespaces));
+  }
+
+  private static String getParameter(String name) {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.get(name))
+          .map(String::trim)
+          .filter(value -> !Strings.isNullOrEmpty(value))
+          .orElse(null);
+  }
+
+  /**
+   * Requests that the time taken to process each namespace be logged.
+   *
+   * @return this step
+   */
+  NamespaceStartupStep withTimesReported() {
+    reportTimes = true;
+    return this;
+  }
+
+  /**
+   * Specifies an action to run once the specified namespaces have all been processed. Namespaces which are not
+   * in the list to process are ignored; if none of them are, the action runs at the start of processing.
+   *
+   * @param criticalNamespaces the namespaces which must be processed before running the action
+   * @param criticalNamespacesAction the action to run
+   * @return this step
+   */
+  NamespaceStartupStep withCriticalNamespaces(Collection<String> criticalNamespaces,
+                                              Runnable criticalNamespacesAction) {
+    this.criticalNamespaces = criticalNamespaces;
+    this.criticalNamespacesAction = criticalNamespacesAction;
+    return this;
+  }
+
+  @Override
+  protected String getDetail() {
+    return String.join(",", namespaces);
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    if (namespaces.isEmpty()) {
+      runCriticalNamespacesAction();
+      return doNext(packet);
+    }
+    return doSuspend(fiber -> new Startup(fiber, packet).start());
+  }
+
+  private void runCriticalNamespacesAction() {
+    if (criticalNamespacesAction != null) {
+      criticalNamespacesAction.run();
+    }
+  }
+
+  private class Startup {
+    private final AsyncFiber fiber;
+    private final Packet packet;
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>(namespaces);
+    private final AtomicInteger remaining = new AtomicInteger(namespaces.size());
+    private final Set<String> criticalRemaining = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean criticalActionRun = new AtomicBoolean();
+    private final List<Throwable> throwables = Collections.synchronizedList(new ArrayList<>());
+
+    Startup(AsyncFiber fiber, Packet packet) {
+      this.fiber = fiber;
+      this.packet = packet;
+      for (String ns : criticalNamespaces) {
+        if (namespaces.contains(ns)) {
+          criticalRemaining.add(ns);
+        }
+      }
+    }
+
+    void start() {
+      if (criticalRemaining.isEmpty()) {
+        runCriticalActionOnce();
+      }
+      for (int i = 0; i < Math.min(maxConcurrent, namespaces.size()); i++) {
+        startNext();
+      }
+    }
+
+    private void startNext() {
+      String ns = pending.poll();
+      if (ns == null) {
+        return;
+      }
+
+      long startNanos = System.nanoTime();
+      Step step;
+      try (LoggingContext stack = LoggingContext.setThreadContext().namespace(ns)) {
+        step = action.apply(ns);
+      }
+      fiber.createChildFiber().start(step, packet.clone(), new CompletionCallback() {
+        @Override
+        public void onCompletion(Packet p) {
+          finished(ns, startNanos, null);
+        }
+
+        @Override
+        public void onThrowable(Packet p, Throwable throwable) {
+          finished(ns, startNanos, throwable);
+        }
+      });
+    }
+
+    private void finished(String ns, long startNanos, Throwable throwable) {
+      if (reportTimes) {
+        LOGGER.info(MessageKeys.NAMESPACE_STARTUP_TIME, ns,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+      }
+      if (throwable != null) {
+        throwables.add(throwable);
+      }
+      if (criticalRemaining.remove(ns) && criticalRemaining.isEmpty()) {
+        runCriticalActionOnce();
+      }
+
+      if (remaining.decrementAndGet() > 0) {
+        startNext();
+      } else if (throwables.isEmpty()) {
+        fiber.resume(packet);
+      } else {
+        throwables.subList(1, throwables.size()).forEach(t -> LOGGER.warning(MessageKeys.EXCEPTION, t));
+        fiber.terminate(throwables.get(0), packet);
+      }
+    }
+
+    private void runCriticalActionOnce() {
+      if (criticalActionRun.compareAndSet(false, true)) {
+        runCriticalNamespacesAction();
+      }
+    }
+  }
+}
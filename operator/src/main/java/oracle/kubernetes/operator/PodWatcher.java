@@ -143,6 +143,16 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     return namespace;
   }
 
+  @Override
+  public V1ObjectMeta getMetadata(V1Pod pod) {
+    return pod.getMetadata();
+  }
+
+  @Override
+  V1Pod createTombstone(V1Pod pod) {
+    return new V1Pod().metadata(copyIdentifyingMetadata(pod));
+  }
+
   /**
    * Receive response.
    * @param item item
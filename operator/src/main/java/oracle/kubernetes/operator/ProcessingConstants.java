@@ -10,6 +10,7 @@ public interface ProcessingConstants {
   String DOMAIN_COMPONENT_NAME = "domain";
   String FIBER_COMPONENT_NAME = "fiber";
   String PODWATCHER_COMPONENT_NAME = "podWatcher";
+  String CALL_RECORDER_COMPONENT_NAME = "callRecorder";
 
   /** key to an object of type WlsServerConfig. */
   String SERVER_SCAN = "serverScan";
@@ -25,6 +26,10 @@ public interface ProcessingConstants {
   String SERVER_HEALTH_MAP = "serverHealthMap";
 
   String DOMAIN_TOPOLOGY = "domainTopology";
+
+  /** Key to a TopologyDiff between the last and the current introspected topologies. */
+  String DOMAIN_TOPOLOGY_DIFF = "domainTopologyDiff";
+
   String JOB_POD_NAME = "jobPodName";
   String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
   String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
@@ -40,4 +45,13 @@ public interface ProcessingConstants {
 
   /** Key to an object of type MakeRightDomainOperation. */
   String MAKE_RIGHT_DOMAIN_OPERATION = "makeRightOp";
+
+  /** Key to a DirtySet which limits the servers and clusters processed by a make-right. */
+  String DIRTY_SET = "dirtySet";
+
+  /** Key to a DomainPresenceSnapshot read when warm-starting a namespace. */
+  String DOMAIN_PRESENCE_SNAPSHOT = "domainPresenceSnapshot";
+
+  /** Key to a digest of the current inputs to introspection. */
+  String INTROSPECTION_INPUTS_DIGEST = "introspectionInputsDigest";
 }
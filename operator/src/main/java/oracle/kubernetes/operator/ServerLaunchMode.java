@@ -0,0 +1,9 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+public enum ServerLaunchMode {
+  NodeManager,
+  Direct
+}
@@ -3,11 +3,14 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
@@ -64,4 +67,21 @@ public class ServiceWatcher extends Watcher<V1Service> {
   public String getNamespace() {
     return ns;
   }
+
+  @Override
+  public V1ObjectMeta getMetadata(V1Service service) {
+    return service.getMetadata();
+  }
+
+  // The service type is retained, as it distinguishes external services from server services
+  @Override
+  V1Service createTombstone(V1Service service) {
+    return new V1Service()
+        .metadata(copyIdentifyingMetadata(service))
+        .spec(Optional.ofNullable(service.getSpec()).map(this::copyType).orElse(null));
+  }
+
+  private V1ServiceSpec copyType(V1ServiceSpec spec) {
+    return new V1ServiceSpec().type(spec.getType());
+  }
 }
@@ -3,11 +3,21 @@
 
 package oracle.kubernetes.operator;
 
-import java.lang.reflect.Method;
-import java.math.BigInteger;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -30,20 +40,43 @@ import static java.net.HttpURLConnection.HTTP_GONE;
  * This class handles the Watching interface and drives the watch support for a specific type of
  * object. It runs in a separate thread to drive watching asynchronously to the main thread.
  *
+ * <p>Watches request bookmark events, which advance the resource version from which the watcher will resume
+ * without delivering anything to the listener, so that a watch on quiet resources does not fall behind. If
+ * Kubernetes nevertheless reports that the resource version has expired, a watcher which can list its resources
+ * does so, delivers to its listener only the changes it missed, and resumes from the version of the list.
+ *
+ * <p>When an event executor is set, watchers do not have their own threads. Watches which deliver their responses
+ * as they arrive are then processed on the executor, and the next watch is scheduled on it when one ends. Since
+ * listing resources blocks, a relist is then run on a thread of its own before the next watch is scheduled.
+ *
  * @param <T> The type of the object to be watched.
  */
 abstract class Watcher<T> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED_RESOURCE_VERSION = "0";
+  private static final String BOOKMARK = "BOOKMARK";
+  private static final String ADDED = "ADDED";
+  private static final String MODIFIED = "MODIFIED";
+  private static final String DELETED = "DELETED";
+
+  private static volatile ScheduledExecutorService eventExecutor;
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
-  private String resourceVersion;
+  private volatile String resourceVersion;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
   private Thread thread = null;
-  private long lastInitialize = 0;
+  private volatile long lastInitialize = 0;
+  private final AtomicReference<Runnable> resourceVersionExpiredAction = new AtomicReference<>();
+  // Tombstones of the resources last seen, keyed by name, used only when relisting
+  private final Map<String, T> knownResources = new ConcurrentHashMap<>();
+  private volatile ResourceLister<T> resourceLister;
+  // Set only when running on the event executor, to create the threads on which to relist
+  private volatile ThreadFactory relistThreadFactory;
+  // The status of an expiration whose relist awaits the end of the current watch on the event executor
+  private final AtomicReference<V1Status> pendingRelist = new AtomicReference<>();
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -96,10 +129,103 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Sets the function used to list the watched resources, in order to resume after the resource version has
+   * expired without missing any changes. Without one, the watcher resumes from the version reported by Kubernetes.
+   *
+   * @param resourceLister a function which lists the resources watched by this watcher
+   */
+  void setResourceLister(ResourceLister<T> resourceLister) {
+    this.resourceLister = resourceLister;
+  }
+
+  /**
+   * Returns the resource version from which this watcher will resume.
+   *
+   * @return a resource version
+   */
+  String getResourceVersion() {
+    return resourceVersion;
+  }
+
+  /**
+   * Sets an action to run the first time that Kubernetes reports that this watcher's resource version has expired,
+   * in which case events have been missed. Used by watchers which resume from a saved resource version.
+   *
+   * @param action the action to run
+   */
+  void setResourceVersionExpiredAction(Runnable action) {
+    resourceVersionExpiredAction.set(action);
+  }
+
+  /**
+   * Records resources read by a separate list call, so that if this watcher's resource version expires, it can tell
+   * which of them have since changed or been deleted. Only used by watchers which have a resource lister.
+   *
+   * @param resources the resources, as listed
+   */
+  void recordListedResources(List<T> resources) {
+    if (resourceLister != null) {
+      resources.forEach(resource -> knownResources.merge(getName(resource), createTombstone(resource), this::getNewer));
+    }
+  }
+
+  /**
+   * Returns a copy of the specified resource containing only what is needed to compare it with a later listing
+   * and to report its deletion to the listener. Watchers which set a resource lister should override this,
+   * as the default retains the entire resource.
+   *
+   * @param resource a watched resource
+   * @return the resource or a stripped-down copy of it
+   */
+  T createTombstone(T resource) {
+    return resource;
+  }
+
+  /**
+   * Returns a copy of the identifying parts of the metadata of the specified resource: its name, namespace, uid,
+   * resource version, creation time and labels.
+   *
+   * @param resource a watched resource
+   * @return a new metadata object
+   */
+  V1ObjectMeta copyIdentifyingMetadata(T resource) {
+    V1ObjectMeta metadata = getMetadata(resource);
+    return new V1ObjectMeta()
+        .name(metadata.getName())
+        .namespace(metadata.getNamespace())
+        .uid(metadata.getUid())
+        .resourceVersion(metadata.getResourceVersion())
+        .creationTimestamp(metadata.getCreationTimestamp())
+        .labels(Optional.ofNullable(metadata.getLabels()).map(HashMap::new).orElse(null));
+  }
+
+  private T getNewer(T first, T second) {
+    return isNewer(getResourceVersionFromMetadata(second), getResourceVersionFromMetadata(first)) ? second : first;
+  }
+
+  /**
+   * Runs all subsequently started watchers without dedicated threads. Each watch is started on the specified
+   * executor, and watches which deliver their responses as they arrive, such as those multiplexed over a shared
+   * connection, are processed on it as well.
+   *
+   * @param executor the executor on which to run watchers, or null to give each watcher its own thread
+   */
+  static void setEventExecutor(ScheduledExecutorService executor) {
+    eventExecutor = executor;
+  }
+
+  /** Kick off the watcher processing that runs in a separate thread, or on the event executor if one is set. */
   void start(ThreadFactory factory) {
-    thread = factory.newThread(this::doWatch);
-    thread.start();
+    ScheduledExecutorService executor = eventExecutor;
+    relistThreadFactory = executor != null ? factory : null;
+    if (executor != null) {
+      setIsDraining(false);
+      scheduleNextWatch(executor);
+    } else {
+      thread = factory.newThread(this::doWatch);
+      thread.start();
+    }
   }
 
   private void doWatch() {
@@ -129,44 +255,95 @@ abstract class Watcher<T> {
   }
 
   private void watchForEvents() {
-    long now = System.currentTimeMillis();
-    long delay = (tuning.watchMinimumDelay * 1000) - (now - lastInitialize);
-    if (lastInitialize != 0 && delay > 0) {
+    long delay = getDelayBeforeNextWatch();
+    if (delay > 0) {
       try {
         Thread.sleep(delay);
       } catch (InterruptedException ex) {
         LOGGER.warning(MessageKeys.EXCEPTION, ex);
         Thread.currentThread().interrupt();
       }
-      lastInitialize = System.currentTimeMillis();
+    }
+    lastInitialize = System.currentTimeMillis();
+    try (WatchI<T> watch = initiateWatch(createWatchBuilder())) {
+      processResponses(watch);
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    }
+  }
+
+  // Watches are restarted no more often than the minimum delay, to prevent hot loops.
+  private long getDelayBeforeNextWatch() {
+    if (lastInitialize == 0) {
+      return 0;
+    }
+    return Math.max(0, (tuning.watchMinimumDelay * 1000) - (System.currentTimeMillis() - lastInitialize));
+  }
+
+  private WatchBuilder createWatchBuilder() {
+    return new WatchBuilder()
+        .withResourceVersion(resourceVersion)
+        .withAllowBookmarks(true)
+        .withTimeoutSeconds(tuning.watchLifetime);
+  }
+
+  private void processResponses(WatchI<T> watch) {
+    while (hasNext(watch)) {
+      processResponse(watch.next());
+    }
+  }
+
+  private void processResponse(Watch.Response<T> item) {
+    if (isStopping()) {
+      setIsDraining(true);
+    }
+    if (isDraining()) {
+      return;
+    }
+
+    try (LoggingContext stack = LoggingContext.setThreadContext().namespace(getNamespace())) {
+      if (isError(item)) {
+        handleErrorResponse(item);
+      } else if (isBookmark(item)) {
+        handleBookmark(item);
+      } else {
+        handleRegularUpdate(item);
+      }
+    }
+  }
+
+  private void scheduleNextWatch(ScheduledExecutorService executor) {
+    V1Status expiredStatus = pendingRelist.getAndSet(null);
+    if (isStopping()) {
+      return;
+    } else if (expiredStatus != null) {
+      relistThreadFactory.newThread(() -> relistAndScheduleNextWatch(expiredStatus, executor)).start();
     } else {
-      lastInitialize = now;
-    }
-    try (WatchI<T> watch =
-        initiateWatch(
-            new WatchBuilder()
-                .withResourceVersion(resourceVersion)
-                .withTimeoutSeconds(tuning.watchLifetime))) {
-      while (hasNext(watch)) {
-        Watch.Response<T> item = watch.next();
-
-        if (isStopping()) {
-          setIsDraining(true);
-        }
-        if (isDraining()) {
-          continue;
-        }
+      executor.schedule(() -> startWatch(executor), getDelayBeforeNextWatch(), TimeUnit.MILLISECONDS);
+    }
+  }
 
-        try (LoggingContext stack = LoggingContext.setThreadContext().namespace(getNamespace())) {
-          if (isError(item)) {
-            handleErrorResponse(item);
-          } else {
-            handleRegularUpdate(item);
-          }
+  // Runs on a thread of its own, so that the list call does not hold up the other watchers on the event executor
+  private void relistAndScheduleNextWatch(V1Status expiredStatus, ScheduledExecutorService executor) {
+    try (LoggingContext stack = LoggingContext.setThreadContext().namespace(getNamespace())) {
+      relistOrResume(expiredStatus);
+    }
+    scheduleNextWatch(executor);
+  }
+
+  private void startWatch(ScheduledExecutorService executor) {
+    lastInitialize = System.currentTimeMillis();
+    try {
+      WatchI<T> watch = initiateWatch(createWatchBuilder());
+      if (!watch.deliverTo(new WatchReceiver(watch, executor))) {
+        try (WatchI<T> closeable = watch) {
+          processResponses(closeable);
         }
+        scheduleNextWatch(executor);
       }
     } catch (Throwable ex) {
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
+      scheduleNextWatch(executor);
     }
   }
 
@@ -195,18 +372,53 @@ abstract class Watcher<T> {
    */
   public abstract String getNamespace();
 
+  /**
+   * Returns the metadata of a watched resource. Used to track the resource version from which to resume,
+   * without resorting to reflection for each event.
+   *
+   * @param resource a resource reported by the watch
+   * @return the metadata of the resource
+   */
+  public abstract V1ObjectMeta getMetadata(T resource);
+
   private boolean isError(Watch.Response<T> item) {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  private boolean isBookmark(Watch.Response<T> item) {
+    return item.type.equalsIgnoreCase(BOOKMARK);
+  }
+
+  // A bookmark carries only the current resource version, and is not reported to the listener.
+  private void handleBookmark(Watch.Response<T> item) {
+    Optional.ofNullable(item.object).ifPresent(object -> trackResourceVersion(item.type, object));
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.type, item.object);
+    recordKnownResource(item.type, item.object);
+    dispatch(item);
+  }
+
+  private void dispatch(Watch.Response<T> item) {
     if (listener != null) {
       listener.receivedResponse(item);
     }
   }
 
+  private void recordKnownResource(String type, T resource) {
+    if (resourceLister == null) {
+      return;
+    }
+
+    if (type.equalsIgnoreCase(DELETED)) {
+      knownResources.remove(getName(resource));
+    } else {
+      knownResources.put(getName(resource), createTombstone(resource));
+    }
+  }
+
   private void handleErrorResponse(Watch.Response<T> item) {
     V1Status status = item.status;
     if (status == null) {
@@ -215,10 +427,72 @@ abstract class Watcher<T> {
       // not available to our layer, so respond defensively by resetting resource version.
       resourceVersion = IGNORED_RESOURCE_VERSION;
     } else if (status.getCode() == HTTP_GONE) {
+      Runnable expiredAction = resourceVersionExpiredAction.getAndSet(null);
+      if (expiredAction != null || resourceLister == null) {
+        resourceVersion = computeNextResourceVersionFromMessage(status);
+      } else if (relistThreadFactory != null) {
+        pendingRelist.set(status);
+      } else {
+        relistOrResume(status);
+      }
+      Optional.ofNullable(expiredAction).ifPresent(Runnable::run);
+    }
+  }
+
+  private void relistOrResume(V1Status status) {
+    if (!relist()) {
       resourceVersion = computeNextResourceVersionFromMessage(status);
     }
   }
 
+  /**
+   * Lists the watched resources after the resource version has expired, delivers to the listener only the changes
+   * which the watch missed, and resumes from the version of the list.
+   *
+   * @return true if the resources were listed
+   */
+  private boolean relist() {
+    ResourceLister<T> lister = resourceLister;
+    if (lister == null) {
+      return false;
+    }
+
+    try {
+      ResourceList<T> resourceList = lister.listResources();
+      LOGGER.fine(MessageKeys.WATCH_RELIST, getNamespace(), resourceList.getItems().size());
+      for (Watch.Response<T> change : computeMissedChanges(resourceList.getItems())) {
+        recordKnownResource(change.type, change.object);
+        dispatch(change);
+      }
+      resourceVersion = resourceList.getResourceVersion();
+      return true;
+    } catch (Throwable e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      return false;
+    }
+  }
+
+  private List<Watch.Response<T>> computeMissedChanges(List<T> resources) {
+    List<Watch.Response<T>> changes = new ArrayList<>();
+    Set<String> listedNames = new HashSet<>();
+    for (T resource : resources) {
+      String name = getName(resource);
+      listedNames.add(name);
+      T known = knownResources.get(name);
+      if (known == null) {
+        changes.add(new Watch.Response<>(ADDED, resource));
+      } else if (!Objects.equals(getResourceVersionFromMetadata(known), getResourceVersionFromMetadata(resource))) {
+        changes.add(new Watch.Response<>(MODIFIED, resource));
+      }
+    }
+    for (Map.Entry<String, T> entry : knownResources.entrySet()) {
+      if (!listedNames.contains(entry.getKey())) {
+        changes.add(new Watch.Response<>(DELETED, entry.getValue()));
+      }
+    }
+    return changes;
+  }
+
   private String computeNextResourceVersionFromMessage(V1Status status) {
     String message = status.getMessage();
     if (message != null) {
@@ -235,47 +509,103 @@ abstract class Watcher<T> {
 
   /**
    * Track resourceVersion and keep highest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * extracted from the metadata returned by the watcher's typed {@link #getMetadata(Object)} accessor,
+   * and compared without parsing, since this is done for every event.
    *
    * @param type the type of operation
    * @param object the object that is returned
    */
-  private void trackResourceVersion(String type, Object object) {
+  void trackResourceVersion(String type, T object) {
     updateResourceVersion(getNewResourceVersion(type, object));
   }
 
-  private String getNewResourceVersion(String type, Object object) {
+  private String getNewResourceVersion(String type, T object) {
     String newResourceVersion = getResourceVersionFromMetadata(object);
-    if (type.equalsIgnoreCase("DELETED")) {
-      BigInteger biResourceVersion = KubernetesUtils.getResourceVersion(newResourceVersion);
-      if (biResourceVersion.compareTo(BigInteger.ZERO) > 0) {
-        return biResourceVersion.add(BigInteger.ONE).toString();
-      }
+    if (type.equalsIgnoreCase(DELETED) && isNewer(newResourceVersion, IGNORED_RESOURCE_VERSION)) {
+      return KubernetesUtils.incrementResourceVersion(newResourceVersion);
     }
     return newResourceVersion;
   }
 
-  private String getResourceVersionFromMetadata(Object object) {
-    try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED_RESOURCE_VERSION);
-    } catch (Exception e) {
-      LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED_RESOURCE_VERSION;
-    }
+  private String getResourceVersionFromMetadata(T object) {
+    V1ObjectMeta metadata = getMetadata(object);
+    return metadata == null || metadata.getResourceVersion() == null
+        ? IGNORED_RESOURCE_VERSION : metadata.getResourceVersion();
+  }
+
+  private String getName(T object) {
+    V1ObjectMeta metadata = getMetadata(object);
+    return metadata == null || metadata.getName() == null ? "" : metadata.getName();
   }
 
   private void updateResourceVersion(String newResourceVersion) {
     if (isNullOrEmpty(resourceVersion) || resourceVersion.equals(IGNORED_RESOURCE_VERSION)) {
       resourceVersion = newResourceVersion;
-    } else {
-      BigInteger biNewResourceVersion = KubernetesUtils.getResourceVersion(newResourceVersion);
-      BigInteger biResourceVersion = KubernetesUtils.getResourceVersion(resourceVersion);
-      if (biNewResourceVersion.compareTo(biResourceVersion) > 0) {
-        resourceVersion = newResourceVersion;
+    } else if (isNewer(newResourceVersion, resourceVersion)) {
+      resourceVersion = newResourceVersion;
+    }
+  }
+
+  private boolean isNewer(String first, String second) {
+    return KubernetesUtils.compareResourceVersions(first, second) > 0;
+  }
+
+  // Processes the responses of a watch as they arrive, and starts the next watch once it ends.
+  private class WatchReceiver implements WatchI.Receiver<T> {
+    private final WatchI<T> watch;
+    private final ScheduledExecutorService executor;
+
+    WatchReceiver(WatchI<T> watch, ScheduledExecutorService executor) {
+      this.watch = watch;
+      this.executor = executor;
+    }
+
+    @Override
+    public void receive(Watch.Response<T> response) {
+      processResponse(response);
+    }
+
+    @Override
+    public void completed() {
+      try {
+        watch.close();
+      } catch (IOException e) {
+        LOGGER.fine(MessageKeys.EXCEPTION, e);
       }
+      scheduleNextWatch(executor);
+    }
+  }
+
+  /**
+   * A function which lists the resources watched by a watcher.
+   *
+   * @param <T> the type of the resources
+   */
+  @FunctionalInterface
+  interface ResourceLister<T> {
+    ResourceList<T> listResources() throws ApiException;
+  }
+
+  /**
+   * The resources returned by a list call, and the resource version from which a watch of them may resume.
+   *
+   * @param <T> the type of the resources
+   */
+  static class ResourceList<T> {
+    private final List<T> items;
+    private final String resourceVersion;
+
+    ResourceList(List<T> items, String resourceVersion) {
+      this.items = Optional.ofNullable(items).orElse(new ArrayList<>());
+      this.resourceVersion = resourceVersion;
+    }
+
+    List<T> getItems() {
+      return items;
+    }
+
+    String getResourceVersion() {
+      return resourceVersion;
     }
   }
 }
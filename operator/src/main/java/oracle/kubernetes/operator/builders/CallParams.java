@@ -51,4 +51,13 @@ public interface CallParams {
    * @return the current setting. Defaults to null.
    */
   String getResourceVersion();
+
+  /**
+   * On a watch call: when true, requests that the server send BOOKMARK events, which carry only the current
+   * resource version, so that a watch on rarely-changing resources can resume without its version expiring.
+   * Servers which do not support bookmarks ignore this option.
+   *
+   * @return the current setting. Defaults to null.
+   */
+  Boolean getAllowBookmarks();
 }
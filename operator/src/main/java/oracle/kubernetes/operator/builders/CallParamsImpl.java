@@ -14,6 +14,7 @@ class CallParamsImpl implements CallParams {
   private String labelSelector;
   private String pretty;
   private String resourceVersion;
+  private Boolean allowBookmarks;
 
   @Override
   public Integer getLimit() {
@@ -68,4 +69,13 @@ class CallParamsImpl implements CallParams {
   void setResourceVersion(String resourceVersion) {
     this.resourceVersion = resourceVersion;
   }
+
+  @Override
+  public Boolean getAllowBookmarks() {
+    return allowBookmarks;
+  }
+
+  void setAllowBookmarks(Boolean allowBookmarks) {
+    this.allowBookmarks = allowBookmarks;
+  }
 }
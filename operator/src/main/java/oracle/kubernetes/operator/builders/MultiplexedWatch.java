@@ -0,0 +1,185 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+
+import com.google.gson.JsonParseException;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A watch which runs as a stream on a shared HTTP/2 connection. Its lines are read by a non-blocking subscriber,
+ * and either delivered to a {@link WatchI.Receiver} on the HTTP client's executor, or queued for iteration.
+ * The request is not sent until one of those is first requested.
+ *
+ * @param <T> the generic object type
+ */
+class MultiplexedWatch<T> implements WatchI<T>, Flow.Subscriber<String> {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final long POLL_MILLIS = 100;
+
+  private final HttpClient httpClient;
+  private final HttpRequest request;
+  private final LineParser<T> parser;
+  private final BlockingQueue<Watch.Response<T>> responses = new LinkedBlockingQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final AtomicBoolean completed = new AtomicBoolean();
+  private volatile Receiver<T> receiver;
+  private volatile Flow.Subscription subscription;
+  private volatile CompletableFuture<?> exchange;
+  private volatile boolean closed;
+  private Watch.Response<T> next;
+
+  MultiplexedWatch(HttpClient httpClient, HttpRequest request, JSON json, Type watchType) {
+    this.httpClient = httpClient;
+    this.request = request;
+    this.parser = new LineParser<>(json, watchType);
+  }
+
+  @Override
+  public boolean deliverTo(Receiver<T> receiver) {
+    this.receiver = receiver;
+    start();
+    return true;
+  }
+
+  private void start() {
+    if (started.compareAndSet(false, true)) {
+      exchange = httpClient.sendAsync(request, this::createBodySubscriber)
+          .whenComplete((response, throwable) -> complete(throwable));
+    }
+  }
+
+  private HttpResponse.BodySubscriber<Void> createBodySubscriber(HttpResponse.ResponseInfo info) {
+    if (info.statusCode() == HTTP_OK) {
+      return HttpResponse.BodySubscribers.fromLineSubscriber(this);
+    }
+    return HttpResponse.BodySubscribers.mapping(
+        HttpResponse.BodySubscribers.ofString(UTF_8), body -> reportFailure(info.statusCode(), body));
+  }
+
+  private Void reportFailure(int statusCode, String body) {
+    LOGGER.warning(MessageKeys.EXCEPTION, new ApiException(statusCode, body));
+    return null;
+  }
+
+  private void complete(Throwable throwable) {
+    if (throwable != null && !closed) {
+      LOGGER.fine(MessageKeys.EXCEPTION, throwable);
+    }
+    if (completed.compareAndSet(false, true) && receiver != null) {
+      receiver.completed();
+    }
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    this.subscription = subscription;
+    if (closed) {
+      subscription.cancel();
+    } else {
+      subscription.request(1);
+    }
+  }
+
+  @Override
+  public void onNext(String line) {
+    try {
+      Watch.Response<T> response = parser.parse(line);
+      if (receiver != null) {
+        receiver.receive(response);
+      } else {
+        responses.add(response);
+      }
+    } catch (IOException | JsonParseException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    } finally {
+      if (!closed) {
+        subscription.request(1);
+      }
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    // reported when the exchange completes
+  }
+
+  @Override
+  public void onComplete() {
+    // reported when the exchange completes
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (subscription != null) {
+      subscription.cancel();
+    }
+    if (exchange != null) {
+      exchange.cancel(true);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Watch.Response<T>> iterator() {
+    return this;
+  }
+
+  @Override
+  public boolean hasNext() {
+    start();
+    try {
+      while (next == null && !closed && !(completed.get() && responses.isEmpty())) {
+        next = responses.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return next != null;
+  }
+
+  @Override
+  public Watch.Response<T> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Watch.Response<T> result = next;
+    next = null;
+    return result;
+  }
+
+  // Reuses the Kubernetes client's parsing of watch lines, including error statuses.
+  private static class LineParser<T> extends Watch<T> {
+    LineParser(JSON json, Type watchType) {
+      super(json, null, watchType, null);
+    }
+
+    Watch.Response<T> parse(String line) throws IOException {
+      return parseLine(line);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import okhttp3.Call;
+import okhttp3.Request;
+import oracle.kubernetes.operator.helpers.Pool;
+
+/**
+ * Creates watches which run as streams on a small number of shared HTTP/2 connections to the Kubernetes API server,
+ * rather than each holding its own HTTP/1.1 connection. Each watch request is built by the Kubernetes client as
+ * usual, so that it carries the current credentials, and then sent by a JDK HTTP client which multiplexes the
+ * streams and reads them without blocking, running its callbacks on the specified executor.
+ */
+public class MultiplexedWatchFactory implements WatchBuilder.WatchFactory {
+
+  // Headers set by the JDK HTTP client itself, which it does not allow a request to specify.
+  private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+      "connection", "content-length", "date", "expect", "from", "host", "origin", "referer", "upgrade", "via",
+      "warning"));
+
+  private final HttpClient httpClient;
+
+  private MultiplexedWatchFactory(HttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * Creates a factory for watches with the TLS settings of the specified Kubernetes client.
+   *
+   * @param client a client configured for the Kubernetes API server
+   * @param executor the executor on which to read the watches and deliver their responses
+   * @return a new factory
+   * @throws GeneralSecurityException if the client's TLS settings cannot be used
+   * @throws IOException if the client's certificate authority cannot be read
+   */
+  public static MultiplexedWatchFactory create(ApiClient client, Executor executor)
+      throws GeneralSecurityException, IOException {
+    return new MultiplexedWatchFactory(
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .sslContext(createSslContext(client))
+            .executor(executor)
+            .build());
+  }
+
+  private static SSLContext createSslContext(ApiClient client) throws GeneralSecurityException, IOException {
+    if (!client.isVerifyingSsl()) {
+      throw new GeneralSecurityException("Multiplexed watches require verification of the API server certificate");
+    }
+    InputStream caCert = client.getSslCaCert();
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(client.getKeyManagers(), caCert == null ? null : getTrustManagers(caCert), null);
+    return context;
+  }
+
+  // The client has already read its certificate authority, so the stream must be reset before it is read again.
+  private static TrustManager[] getTrustManagers(InputStream caCert) throws GeneralSecurityException, IOException {
+    if (!caCert.markSupported()) {
+      throw new IOException("Unable to reread the certificate authority of the Kubernetes client");
+    }
+    caCert.reset();
+
+    KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    keyStore.load(null, null);
+    Collection<? extends Certificate> certificates = CertificateFactory.getInstance("X.509")
+        .generateCertificates(caCert);
+    int index = 0;
+    for (Certificate certificate : certificates) {
+      keyStore.setCertificateEntry("ca" + index++, certificate);
+    }
+    TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    factory.init(keyStore);
+    return factory.getTrustManagers();
+  }
+
+  @Override
+  public <T> WatchI<T> createWatch(
+      Pool<ApiClient> pool,
+      CallParams callParams,
+      Class<?> responseBodyType,
+      BiFunction<ApiClient, CallParams, Call> function)
+      throws ApiException {
+    ApiClient client = pool.take();
+    try {
+      return new MultiplexedWatch<>(
+          httpClient,
+          toHttpRequest(function.apply(client, callParams).request()),
+          client.getJSON(),
+          WatchBuilder.getType(responseBodyType));
+    } catch (UncheckedApiException e) {
+      throw e.getCause();
+    } finally {
+      pool.recycle(client);
+    }
+  }
+
+  static HttpRequest toHttpRequest(Request request) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(request.url().uri()).GET();
+    for (String name : request.headers().names()) {
+      if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+        request.headers(name).forEach(value -> builder.header(name, value));
+      }
+    }
+    return builder.build();
+  }
+}
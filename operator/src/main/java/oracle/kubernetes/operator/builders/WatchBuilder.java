@@ -33,8 +33,6 @@ public class WatchBuilder {
   /** Ignored for watches. */
   private static final String START_LIST = null;
 
-  private static final Boolean ALLOW_BOOKMARKS = false;
-
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
   private final CallParamsImpl callParams = new CallParamsImpl();
@@ -42,7 +40,16 @@ public class WatchBuilder {
   public WatchBuilder() {
   }
 
-  private static Type getType(Class<?> responseBodyType) {
+  /**
+   * Selects the factory used to create all subsequent watches.
+   *
+   * @param factory the factory, such as one which multiplexes watches over shared connections
+   */
+  public static void setWatchFactory(WatchFactory factory) {
+    FACTORY = factory;
+  }
+
+  static Type getType(Class<?> responseBodyType) {
     return new ParameterizedType() {
       @Override
       public Type[] getActualTypeArguments() {
@@ -191,6 +198,18 @@ public class WatchBuilder {
     return this;
   }
 
+  /**
+   * Sets a value for the allowWatchBookmarks parameter for the call that will set up this watch. When true,
+   * the server periodically sends BOOKMARK events carrying its current resource version. Defaults to null.
+   *
+   * @param allowBookmarks the desired value
+   * @return the updated builder
+   */
+  public WatchBuilder withAllowBookmarks(Boolean allowBookmarks) {
+    callParams.setAllowBookmarks(allowBookmarks);
+    return this;
+  }
+
   public interface WatchFactory {
     <T> WatchI<T> createWatch(
         Pool<ApiClient> pool,
@@ -241,7 +260,7 @@ public class WatchBuilder {
             .listNamespacedServiceCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -276,7 +295,7 @@ public class WatchBuilder {
             .listNamespacedPodCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -311,7 +330,7 @@ public class WatchBuilder {
             .listNamespacedJobCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -346,7 +365,7 @@ public class WatchBuilder {
             .listNamespacedEventCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -381,6 +400,7 @@ public class WatchBuilder {
             .listNamespacedDomainCall(
                 namespace,
                 callParams.getPretty(),
+                callParams.getAllowBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -415,7 +435,7 @@ public class WatchBuilder {
             .listNamespacedConfigMapCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -444,7 +464,7 @@ public class WatchBuilder {
         return new CoreV1Api(client)
             .listNamespaceCall(
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                callParams.getAllowBookmarks(),
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -14,4 +14,33 @@ import io.kubernetes.client.util.Watch;
  * @param <T> the generic object type
  */
 public interface WatchI<T>
-    extends Iterable<Watch.Response<T>>, Iterator<Watch.Response<T>>, java.io.Closeable {}
+    extends Iterable<Watch.Response<T>>, Iterator<Watch.Response<T>>, java.io.Closeable {
+
+  /**
+   * Asks this watch to deliver its responses to a receiver as they arrive, rather than through blocking reads.
+   * Watches which can only be read by iteration return false, and deliver nothing.
+   *
+   * @param receiver the receiver for the responses
+   * @return true if the responses will be delivered to the receiver
+   */
+  default boolean deliverTo(Receiver<T> receiver) {
+    return false;
+  }
+
+  /**
+   * Receives the responses from a watch which delivers them as they arrive.
+   *
+   * @param <T> the generic object type
+   */
+  interface Receiver<T> {
+    /**
+     * Called for each response, in the order received.
+     *
+     * @param response the response
+     */
+    void receive(Watch.Response<T> response);
+
+    /** Called once, after the last response, when the watch has ended or failed. */
+    void completed();
+  }
+}
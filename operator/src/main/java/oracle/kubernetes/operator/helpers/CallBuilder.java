@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.lang.reflect.Type;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -40,7 +41,9 @@ import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1beta1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.VersionInfo;
+import io.kubernetes.client.util.ProxyContentTypeRequestBody;
 import okhttp3.Call;
+import okhttp3.Request;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.calls.AsyncRequestStep;
@@ -62,6 +65,11 @@ public class CallBuilder {
   /** HTTP status code for "Not Found". */
   public static final int NOT_FOUND = 404;
 
+  /** The field manager which owns the fields set by server-side apply requests from the operator. */
+  public static final String FIELD_MANAGER = "weblogic-operator";
+
+  static final String SERVER_SIDE_APPLY_PARAM = "serverSideApply";
+
   private static final SynchronousCallDispatcher DEFAULT_DISPATCHER =
       new SynchronousCallDispatcher() {
         @Override
@@ -160,6 +168,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1Patch) requestParams.body,
                   callback));
+  private final CallFactory<V1ConfigMap> applyConfigMap =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyConfigMapAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1ConfigMap) requestParams.body,
+                  callback));
   private final CallFactory<V1Pod> createPod =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -173,6 +190,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1Patch) requestParams.body,
                   callback));
+  private final CallFactory<V1Pod> applyPod =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyPodAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Pod) requestParams.body,
+                  callback));
   private final CallFactory<V1Job> createJob =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -182,6 +208,15 @@ public class CallBuilder {
           wrap(
               createServiceAsync(
                   usage, requestParams.namespace, (V1Service) requestParams.body, callback));
+  private final CallFactory<V1Service> applyService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Service) requestParams.body,
+                  callback));
   private final CallFactory<V1PersistentVolume> createPersistentvolume =
       ((requestParams, client, cont, callback) ->
           wrap(
@@ -244,6 +279,20 @@ public class CallBuilder {
   private final CallFactory<V1PodList> listPod =
       (requestParams, usage, cont, callback) ->
           wrap(listPodAsync(usage, requestParams.namespace, cont, callback));
+  private final SynchronousCallFactory<V1PodList> listPodCall =
+      (client, requestParams) ->
+          new CoreV1Api(client)
+              .listNamespacedPod(
+                  requestParams.namespace,
+                  pretty,
+                  allowWatchBookmarks,
+                  null,
+                  fieldSelector,
+                  labelSelector,
+                  limit,
+                  resourceVersion,
+                  timeoutSeconds,
+                  watch);
   private final CallFactory<V1Status> deletecollectionPod =
       (requestParams, usage, cont, callback) ->
           wrap(deleteCollectionPodAsync(usage, requestParams.namespace, cont,
@@ -451,6 +500,19 @@ public class CallBuilder {
     this.helper = helper;
   }
 
+  /**
+   * Returns true if the operator is configured to maintain the resources it verifies with server-side apply
+   * requests, letting the API server merge the desired state rather than reading the resource first.
+   * @return true if server-side apply is enabled
+   */
+  public static boolean isServerSideApplyEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.get(SERVER_SIDE_APPLY_PARAM))
+        .map(String::trim)
+        .map(Boolean::parseBoolean)
+        .orElse(false);
+  }
+
   private static CallBuilderTuning getCallBuilderTuning() {
     return Optional.ofNullable(TuningParameters.getInstance())
         .map(TuningParameters::getCallBuilderTuning)
@@ -499,6 +561,18 @@ public class CallBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of items returned by a single list call. A synchronous list call does not request
+   * further pages, so a caller which needs every item should specify null, for no limit.
+   *
+   * @param limit the maximum number of items, or null
+   * @return this CallBuilder
+   */
+  public CallBuilder withLimit(Integer limit) {
+    this.limit = limit;
+    return this;
+  }
+
   private void tuning(int limit, int timeoutSeconds, int maxRetryCount) {
     this.limit = limit;
     this.timeoutSeconds = timeoutSeconds;
@@ -1033,6 +1107,47 @@ public class CallBuilder {
         patchConfigMap);
   }
 
+  private Call applyConfigMapAsync(
+      ApiClient client, String name, String namespace, V1ConfigMap body, ApiCallback<V1ConfigMap> callback)
+      throws ApiException {
+    return executeApplyAsync(
+        client,
+        new CoreV1Api(client)
+            .patchNamespacedConfigMapCall(
+                name, namespace, toApplyPatch(client, body), pretty, dryRun, FIELD_MANAGER, true, null),
+        V1ConfigMap.class,
+        callback);
+  }
+
+  /**
+   * Asynchronous step for creating or updating a config map with a server-side apply request.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body the desired state of the fields managed by the operator
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyConfigMapAsync(
+      String name, String namespace, V1ConfigMap body, ResponseStep<V1ConfigMap> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("applyConfigMap", namespace, name, body),
+        applyConfigMap);
+  }
+
+  /**
+   * List pods.
+   *
+   * @param namespace Namespace
+   * @return List of pods
+   * @throws ApiException API Exception
+   */
+  public V1PodList listPod(String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("listPod", namespace, null, null);
+    return executeSynchronousCall(requestParams, listPodCall);
+  }
+
   private Call listPodAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1PodList> callback)
       throws ApiException {
@@ -1169,6 +1284,35 @@ public class CallBuilder {
         patchPod);
   }
 
+  private Call applyPodAsync(
+      ApiClient client, String name, String namespace, V1Pod body, ApiCallback<V1Pod> callback)
+      throws ApiException {
+    return executeApplyAsync(
+        client,
+        new CoreV1Api(client)
+            .patchNamespacedPodCall(
+                name, namespace, toApplyPatch(client, body), pretty, dryRun, FIELD_MANAGER, true, null),
+        V1Pod.class,
+        callback);
+  }
+
+  /**
+   * Asynchronous step for updating a pod with a server-side apply request.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body the desired state of the fields managed by the operator
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyPodAsync(
+      String name, String namespace, V1Pod body, ResponseStep<V1Pod> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("applyPod", namespace, name, body),
+        applyPod);
+  }
+
   private Call deleteCollectionPodAsync(
       ApiClient client, String namespace, String cont, V1DeleteOptions deleteOptions, ApiCallback<V1Status> callback)
       throws ApiException {
@@ -1403,6 +1547,33 @@ public class CallBuilder {
         responseStep, new RequestParams("createService", namespace, null, body), createService);
   }
 
+  private Call applyServiceAsync(
+      ApiClient client, String name, String namespace, V1Service body, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return executeApplyAsync(
+        client,
+        new CoreV1Api(client)
+            .patchNamespacedServiceCall(
+                name, namespace, toApplyPatch(client, body), pretty, dryRun, FIELD_MANAGER, true, null),
+        V1Service.class,
+        callback);
+  }
+
+  /**
+   * Asynchronous step for creating or updating a service with a server-side apply request.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body the desired state of the fields managed by the operator
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyServiceAsync(
+      String name, String namespace, V1Service body, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("applyService", namespace, name, body), applyService);
+  }
+
   /**
    * Delete service.
    *
@@ -1782,7 +1953,7 @@ public class CallBuilder {
 
   private <T> Step createRequestAsync(
       ResponseStep<T> next, RequestParams requestParams, CallFactory<T> factory) {
-    return STEP_FACTORY.createRequestAsync(
+    return CallRecorder.createRequestStep(next, requestParams, STEP_FACTORY.createRequestAsync(
         next,
         requestParams,
         factory,
@@ -1791,7 +1962,23 @@ public class CallBuilder {
         maxRetryCount,
         fieldSelector,
         labelSelector,
-        resourceVersion);
+        resourceVersion));
+  }
+
+  private V1Patch toApplyPatch(ApiClient client, Object body) {
+    return new V1Patch(client.getJSON().serialize(body));
+  }
+
+  // The generated patch calls select the JSON patch content type, so the request is rebuilt to declare
+  // an apply patch before it is sent. The API server accepts JSON as a form of the apply YAML format.
+  private <T> Call executeApplyAsync(ApiClient client, Call patchCall, Type returnType, ApiCallback<T> callback) {
+    Request request = patchCall.request();
+    Call applyCall = client.getHttpClient().newCall(
+        request.newBuilder()
+            .patch(new ProxyContentTypeRequestBody(request.body(), V1Patch.PATCH_FORMAT_APPLY_YAML))
+            .build());
+    client.executeAsync(applyCall, returnType, callback);
+    return applyCall;
   }
 
   private CancellableCall wrap(Call call) {
@@ -0,0 +1,645 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Status;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.PodAwaiterStepFactory;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.calls.AsyncRequestStep;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestParams;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * Stands in for Kubernetes while a chain of steps runs as a dry run. Calls which would change a resource are
+ * recorded rather than sent, and answered as Kubernetes would answer them, as are reads of the domain resource
+ * and of any resource which the dry run has changed. Other reads are sent to Kubernetes as usual.
+ *
+ * <p>The steps run on an engine with a simulated clock. A created pod becomes ready, and a deleted one goes away,
+ * a fixed interval after the call; a pod which is still starting when the dry run begins becomes ready after the
+ * same interval. The steps which wait for pods, or which limit the number of servers starting or restarting at
+ * once, therefore behave as they would against a cluster, without the dry run having to wait.
+ */
+public class CallRecorder implements PodAwaiterStepFactory {
+
+  static final long POD_READY_MILLIS = TimeUnit.SECONDS.toMillis(10);
+  static final long POD_DELETE_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final Gson GSON = new JSON().getGson();
+  private static final long HORIZON_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final String SIMULATED_NODE = "simulated-node";
+  private static final String POD = "Pod";
+  private static final String DOMAIN = "Domain";
+  private static final String DOMAIN_STATUS = "DomainStatus";
+  private static final List<String> VERBS = Arrays.asList("create", "delete", "replace", "patch", "apply", "read");
+
+  private final DomainPresenceInfo info;
+  private final SimulatedClock clock = new SimulatedClock();
+  private final List<RecordedCall> calls = new ArrayList<>();
+  // resources changed by the dry run, keyed by kind and name; a deleted resource maps to null
+  private final Map<String, Object> changed = new HashMap<>();
+  private final Set<String> startingPods = new HashSet<>();
+  private final Set<String> deletingPods = new HashSet<>();
+  private final Map<String, List<Runnable>> readyWaiters = new HashMap<>();
+  private final Map<String, List<Runnable>> deleteWaiters = new HashMap<>();
+
+  /**
+   * Creates a recorder for a dry run which works on the specified presence info. The info is updated as the
+   * watches would update it, as pods become ready or go away.
+   *
+   * @param info a presence info which is not in use by the operator
+   */
+  public CallRecorder(DomainPresenceInfo info) {
+    this.info = info;
+  }
+
+  /**
+   * Returns true if the steps processing the specified packet are running as a dry run. Steps which change
+   * operator state other than the presence info in the packet must skip those changes in a dry run.
+   *
+   * @param packet the packet being processed
+   * @return true if the calls made by the steps are being recorded
+   */
+  public static boolean isRecording(Packet packet) {
+    return packet.getSpi(CallRecorder.class) != null;
+  }
+
+  // Wraps a step which makes a Kubernetes request, so that a dry run can answer the request itself.
+  static Step createRequestStep(ResponseStep<?> responseStep, RequestParams requestParams, Step requestStep) {
+    return new RecordingStep(responseStep, requestParams, requestStep);
+  }
+
+  /**
+   * Runs the specified steps to completion, recording the calls that they make, and any calls still needed
+   * to bring the pods which they start or stop to their final states.
+   *
+   * @param plan the steps to run and the packet for them to process
+   */
+  public void run(Step.StepAndPacket plan) {
+    plan.packet.getComponents().put(ProcessingConstants.CALL_RECORDER_COMPONENT_NAME, Component.createFor(this));
+    clock.setDriver(Thread.currentThread());
+    info.getServerPods().filter(pod -> !PodHelper.isDeleting(pod) && !PodHelper.getReadyStatus(pod))
+          .forEach(pod -> scheduleReady(getPodName(pod), pod));
+    new Engine(clock).createFiber().start(plan.step, plan.packet, new Fiber.CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        // no-op
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        LOGGER.fine("Dry run of domain " + info.getDomainUid() + " ended with " + throwable);
+      }
+    });
+    clock.runUntil(HORIZON_MILLIS);
+  }
+
+  List<RecordedCall> getCalls() {
+    return Collections.unmodifiableList(calls);
+  }
+
+  @Override
+  public Step waitForReady(V1Pod pod, Step next) {
+    return new WaitForReadyStep(pod, next);
+  }
+
+  @Override
+  public Step waitForDelete(V1Pod pod, Step next) {
+    return new WaitForDeleteStep(pod, next);
+  }
+
+  // Returns the simulated response to a request, or null if the request should be sent.
+  private CallResponse<?> respond(RequestParams requestParams) {
+    String verb = VERBS.stream().filter(requestParams.call::startsWith).findFirst().orElse(null);
+    if (verb == null || requestParams.call.endsWith("Review")) {
+      return null;
+    }
+
+    String kind = requestParams.call.substring(verb.length());
+    switch (verb) {
+      case "read":
+        return read(requestParams, kind);
+      case "create":
+        return create(requestParams, kind);
+      case "delete":
+        return delete(requestParams, kind);
+      case "patch":
+      case "apply":
+        return patch(requestParams, kind);
+      default:
+        return replace(requestParams, kind);
+    }
+  }
+
+  private CallResponse<?> read(RequestParams requestParams, String kind) {
+    String key = getKey(kind, requestParams.name);
+    if (kind.equals(DOMAIN)) {
+      return createSuccess(requestParams, info.getDomain());
+    } else if (!changed.containsKey(key)) {
+      return null;
+    } else if (changed.get(key) == null) {
+      return CallResponse.createFailure(requestParams,
+            new ApiException(CallBuilder.NOT_FOUND, "Not Found"), CallBuilder.NOT_FOUND);
+    } else {
+      return createSuccess(requestParams, changed.get(key));
+    }
+  }
+
+  private CallResponse<?> create(RequestParams requestParams, String kind) {
+    Object result = kind.equals(POD) ? createPod((V1Pod) requestParams.body) : requestParams.body;
+    String name = getName(result);
+    changed.put(getKey(kind, name), result);
+    record(requestParams, name, result);
+    return createSuccess(requestParams, result);
+  }
+
+  private CallResponse<?> delete(RequestParams requestParams, String kind) {
+    if (kind.equals(POD)) {
+      deletePod(requestParams);
+    } else {
+      changed.put(getKey(kind, requestParams.name), null);
+      record(requestParams, requestParams.name, null);
+    }
+    return createSuccess(requestParams, new V1Status());
+  }
+
+  // The steps only use the results of pod and domain patches, which they record in place of the current resource.
+  private CallResponse<?> patch(RequestParams requestParams, String kind) {
+    Object result;
+    if (kind.equals(POD)) {
+      result = getCurrentPod(requestParams.name);
+    } else if (kind.equals(DOMAIN)) {
+      result = info.getDomain();
+    } else {
+      result = requestParams.body;
+    }
+    record(requestParams, requestParams.name, result);
+    return createSuccess(requestParams, result);
+  }
+
+  // A replaced domain status is returned as part of the whole domain, as Kubernetes would return it.
+  private CallResponse<?> replace(RequestParams requestParams, String kind) {
+    Object result = requestParams.body;
+    if (kind.equals(DOMAIN_STATUS)) {
+      Domain domain = GSON.fromJson(GSON.toJson(info.getDomain()), Domain.class);
+      result = domain.withStatus(((Domain) requestParams.body).getStatus());
+    } else {
+      changed.put(getKey(kind, requestParams.name), result);
+    }
+    record(requestParams, requestParams.name, result);
+    return createSuccess(requestParams, result);
+  }
+
+  private <T> CallResponse<T> createSuccess(RequestParams requestParams, T result) {
+    return CallResponse.createSuccess(requestParams, result, 200);
+  }
+
+  private String getKey(String kind, String name) {
+    return kind + "/" + name;
+  }
+
+  private String getName(Object resource) {
+    return Optional.ofNullable(GSON.toJsonTree(resource).getAsJsonObject().getAsJsonObject("metadata"))
+          .map(metadata -> metadata.get("name"))
+          .map(JsonElement::getAsString)
+          .orElse(null);
+  }
+
+  private RecordedCall record(RequestParams requestParams, String name, Object resource) {
+    V1Pod pod = resource instanceof V1Pod ? (V1Pod) resource : null;
+    RecordedCall call = new RecordedCall(requestParams.call, name, getLabel(pod, LabelConstants.SERVERNAME_LABEL),
+          getLabel(pod, LabelConstants.CLUSTERNAME_LABEL), clock.now());
+    calls.add(call);
+    return call;
+  }
+
+  private String getLabel(V1Pod pod, String label) {
+    return Optional.ofNullable(pod)
+          .map(V1Pod::getMetadata)
+          .map(metadata -> metadata.getLabels())
+          .map(labels -> labels.get(label))
+          .orElse(null);
+  }
+
+  // A new pod is scheduled at once, and becomes ready after an interval.
+  private V1Pod createPod(V1Pod model) {
+    V1Pod pod = copy(model);
+    Optional.ofNullable(pod.getSpec()).filter(spec -> spec.getNodeName() == null)
+          .ifPresent(spec -> spec.setNodeName(SIMULATED_NODE));
+    scheduleReady(pod.getMetadata().getName(), pod);
+    return pod;
+  }
+
+  private V1Pod copy(V1Pod pod) {
+    return GSON.fromJson(GSON.toJson(pod), V1Pod.class);
+  }
+
+  private V1Pod getCurrentPod(String podName) {
+    String key = getKey(POD, podName);
+    if (changed.containsKey(key)) {
+      return (V1Pod) changed.get(key);
+    }
+    return info.getServerPods().filter(pod -> podName.equals(pod.getMetadata().getName())).findFirst().orElse(null);
+  }
+
+  private void scheduleReady(String podName, V1Pod pod) {
+    startingPods.add(podName);
+    clock.schedule(() -> becomeReady(podName, pod), POD_READY_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  private void becomeReady(String podName, V1Pod pod) {
+    startingPods.remove(podName);
+    if (getCurrentPod(podName) != pod) {
+      return;
+    }
+
+    V1Pod ready = copy(pod).status(new V1PodStatus().phase("Running")
+          .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+    changed.put(getKey(POD, podName), ready);
+    replaceRecordedPod(pod, ready, WebLogicConstants.RUNNING_STATE);
+    setEndTime("createPod", podName);
+    runWaiters(readyWaiters, podName);
+  }
+
+  // A deleted pod is marked as being deleted at once, and goes away after an interval.
+  private void deletePod(RequestParams requestParams) {
+    String podName = requestParams.name;
+    V1Pod pod = getCurrentPod(podName);
+    record(requestParams, podName, pod);
+    changed.put(getKey(POD, podName), null);
+    if (pod != null) {
+      V1Pod deleting = copy(pod);
+      deleting.getMetadata().setDeletionTimestamp(SystemClock.now());
+      replaceRecordedPod(pod, deleting, null);
+      deletingPods.add(podName);
+      clock.schedule(() -> completeDeletion(podName, deleting), POD_DELETE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void completeDeletion(String podName, V1Pod deleting) {
+    deletingPods.remove(podName);
+    replaceRecordedPod(deleting, null, WebLogicConstants.SHUTDOWN_STATE);
+    setEndTime("deletePod", podName);
+    runWaiters(deleteWaiters, podName);
+  }
+
+  // The presence info is only updated if the steps have not since recorded another pod for the server.
+  private void replaceRecordedPod(V1Pod oldPod, V1Pod newPod, String status) {
+    String serverName = PodHelper.getPodServerName(oldPod);
+    if (serverName != null && info.getServerPod(serverName) == oldPod) {
+      info.setServerPod(serverName, newPod);
+      Optional.ofNullable(status).ifPresent(s -> info.updateLastKnownServerStatus(serverName, s));
+    }
+  }
+
+  private void setEndTime(String call, String name) {
+    for (int i = calls.size() - 1; i >= 0; i--) {
+      if (calls.get(i).call.equals(call) && name.equals(calls.get(i).name)) {
+        calls.get(i).endTime = clock.now();
+        return;
+      }
+    }
+  }
+
+  private void addWaiter(Map<String, List<Runnable>> waiters, String podName, Runnable waiter) {
+    waiters.computeIfAbsent(podName, name -> new ArrayList<>()).add(waiter);
+  }
+
+  private void runWaiters(Map<String, List<Runnable>> waiters, String podName) {
+    Optional.ofNullable(waiters.remove(podName)).ifPresent(list -> list.forEach(Runnable::run));
+  }
+
+  private String getPodName(V1Pod pod) {
+    return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(metadata -> metadata.getName()).orElse(null);
+  }
+
+  /** A call recorded by a dry run, with the simulated times at which it started and took full effect. */
+  static class RecordedCall {
+    private final String call;
+    private final String name;
+    private final String serverName;
+    private final String clusterName;
+    private final long startTime;
+    private long endTime;
+
+    RecordedCall(String call, String name, String serverName, String clusterName, long startTime) {
+      this.call = call;
+      this.name = name;
+      this.serverName = serverName;
+      this.clusterName = clusterName;
+      this.startTime = startTime;
+      this.endTime = startTime;
+    }
+
+    String getCall() {
+      return call;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    String getServerName() {
+      return serverName;
+    }
+
+    String getClusterName() {
+      return clusterName;
+    }
+
+    long getStartTime() {
+      return startTime;
+    }
+
+    long getEndTime() {
+      return endTime;
+    }
+  }
+
+  private static class RecordingStep extends Step {
+    private final ResponseStep<?> responseStep;
+    private final RequestParams requestParams;
+
+    RecordingStep(ResponseStep<?> responseStep, RequestParams requestParams, Step requestStep) {
+      super(requestStep);
+      this.responseStep = responseStep;
+      this.requestParams = requestParams;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      CallRecorder recorder = packet.getSpi(CallRecorder.class);
+      CallResponse<?> response = Optional.ofNullable(recorder).map(r -> r.respond(requestParams)).orElse(null);
+      if (response == null) {
+        if (recorder != null && getNext() instanceof AsyncRequestStep) {
+          recorder.clock.expectResume();
+        }
+        return doNext(packet);
+      }
+
+      packet.getComponents().put(AsyncRequestStep.RESPONSE_COMPONENT_NAME, Component.createFor(response));
+      return doNext(responseStep, packet);
+    }
+  }
+
+  private class WaitForReadyStep extends Step {
+    private final V1Pod pod;
+
+    WaitForReadyStep(V1Pod pod, Step next) {
+      super(next);
+      this.pod = pod;
+    }
+
+    // A pod which is neither ready nor starting becomes ready after the usual interval.
+    @Override
+    public NextAction apply(Packet packet) {
+      String podName = getPodName(pod);
+      V1Pod current = Optional.ofNullable(podName).map(CallRecorder.this::getCurrentPod).orElse(null);
+      if (current == null || PodHelper.getReadyStatus(current)) {
+        return doNext(packet);
+      } else if (!startingPods.contains(podName)) {
+        scheduleReady(podName, current);
+      }
+      return doSuspend(fiber -> addWaiter(readyWaiters, podName, () -> fiber.resume(packet)));
+    }
+  }
+
+  private class WaitForDeleteStep extends Step {
+    private final V1Pod pod;
+
+    WaitForDeleteStep(V1Pod pod, Step next) {
+      super(next);
+      this.pod = pod;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      String podName = getPodName(pod);
+      if (!deletingPods.contains(podName)) {
+        return doNext(packet);
+      }
+      return doSuspend(fiber -> addWaiter(deleteWaiters, podName, () -> fiber.resume(packet)));
+    }
+  }
+
+  /**
+   * An executor which runs everything on the thread which drives it, in the order of a simulated clock.
+   * The clock jumps to the time of the next scheduled task once no task is due, unless a request sent to
+   * Kubernetes has yet to resume its fiber.
+   */
+  private static class SimulatedClock extends AbstractExecutorService implements ScheduledExecutorService {
+    private static final long RESUME_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+    private Thread driver;
+    private long now;
+    private long sequence;
+    private int expectedResumes;
+
+    synchronized void setDriver(Thread driver) {
+      this.driver = driver;
+    }
+
+    synchronized long now() {
+      return now;
+    }
+
+    synchronized void expectResume() {
+      expectedResumes++;
+    }
+
+    void runUntil(long horizon) {
+      Task task;
+      while ((task = nextTask(horizon)) != null) {
+        task.run();
+      }
+    }
+
+    private synchronized Task nextTask(long horizon) {
+      while (true) {
+        Task next = tasks.peek();
+        if (next != null && next.time <= now) {
+          return tasks.poll();
+        } else if (expectedResumes > 0) {
+          waitForResume();
+        } else if (next == null || next.time > horizon) {
+          return null;
+        } else {
+          now = next.time;
+        }
+      }
+    }
+
+    // If no response arrives in time, the request's own timeout, on the simulated clock, takes over.
+    private void waitForResume() {
+      long deadline = System.currentTimeMillis() + RESUME_WAIT_MILLIS;
+      try {
+        while (expectedResumes > 0 && !isTaskDue() && System.currentTimeMillis() < deadline) {
+          wait(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (!isTaskDue()) {
+        expectedResumes = 0;
+      }
+    }
+
+    private boolean isTaskDue() {
+      return Optional.ofNullable(tasks.peek()).map(task -> task.time <= now).orElse(false);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      schedule(command, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      Task task = new Task(command, now + unit.toMillis(delay), sequence++);
+      tasks.add(task);
+      if (Thread.currentThread() != driver) {
+        expectedResumes = Math.max(0, expectedResumes - 1);
+        notifyAll();
+      }
+      return task;
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                                                     TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void shutdown() {
+      // nothing to release
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return false;
+    }
+
+    private class Task implements ScheduledFuture<Object>, Runnable {
+      private final Runnable command;
+      private final long time;
+      private final long order;
+      private boolean cancelled;
+      private boolean done;
+
+      Task(Runnable command, long time, long order) {
+        this.command = command;
+        this.time = time;
+        this.order = order;
+      }
+
+      @Override
+      public void run() {
+        if (!cancelled) {
+          command.run();
+        }
+        done = true;
+      }
+
+      @Override
+      public long getDelay(TimeUnit unit) {
+        return unit.convert(time - now(), TimeUnit.MILLISECONDS);
+      }
+
+      @Override
+      public int compareTo(Delayed other) {
+        Task task = (Task) other;
+        return time != task.time ? Long.compare(time, task.time) : Long.compare(order, task.order);
+      }
+
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        cancelled = !done;
+        return cancelled;
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return cancelled;
+      }
+
+      @Override
+      public boolean isDone() {
+        return done || cancelled;
+      }
+
+      @Override
+      public Object get() {
+        return null;
+      }
+
+      @Override
+      public Object get(long timeout, TimeUnit unit) {
+        return null;
+      }
+    }
+  }
+}
@@ -33,6 +33,7 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.Scan;
 import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.wlsconfig.TopologyDiff;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -45,6 +46,8 @@ import static java.lang.System.lineSeparator;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAIN_RESTART_VERSION;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.HEADLESS_CLUSTER_SERVICES;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.INTROSPECTION_INPUTS_DIGEST;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.SECRETS_MD_5;
 import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.SIT_CONFIG_FILE_PREFIX;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
@@ -189,6 +192,11 @@ public class ConfigMapHelper {
       return scripts;
     }
 
+    @Override
+    boolean isServerSideApplicable() {
+      return CallBuilder.isServerSideApplyEnabled();
+    }
+
     @Override
     void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
       packet.put(ProcessingConstants.SCRIPT_CONFIG_MAP, configMap);
@@ -264,9 +272,27 @@ public class ConfigMapHelper {
      * @return the new step to run
      */
     Step verifyConfigMap(Step next) {
+      if (isServerSideApplicable()) {
+        return new ApplyStep(next);
+      }
       return new CallBuilder().readConfigMapAsync(getName(), namespace, new ReadResponseStep(next));
     }
 
+    /**
+     * Returns true if the config map may be verified by sending its model to the API server with a server-side
+     * apply request, rather than reading it and comparing it with the model. Maps whose contents must be combined
+     * with their existing entries are always read first.
+     * @return true if the map should be applied
+     */
+    boolean isServerSideApplicable() {
+      return false;
+    }
+
+    private void addIntrospectionVersionLabel(Packet packet) {
+      DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getDomain).map(Domain::getIntrospectVersion)
+            .ifPresent(value -> addLabel(INTROSPECTION_STATE_LABEL, value));
+    }
+
     Step createConfigMap(Step next) {
       return new CallBuilder()
           .createConfigMapAsync(namespace, getModel(), createCreateResponseStep(next));
@@ -299,8 +325,7 @@ public class ConfigMapHelper {
 
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
-        DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getDomain).map(Domain::getIntrospectVersion)
-              .ifPresent(value -> addLabel(INTROSPECTION_STATE_LABEL, value));
+        addIntrospectionVersionLabel(packet);
         V1ConfigMap existingMap = withoutTransientData(callResponse.getResult());
         if (existingMap == null) {
           return doNext(createConfigMap(getNext()), packet);
@@ -364,6 +389,40 @@ public class ConfigMapHelper {
       return updated;
     }
 
+    // Sends the model in a single request, which creates the map if it is missing, and otherwise lets the API server
+    // merge the model with the current map. The map is therefore never read, nor can its creation conflict.
+    private class ApplyStep extends Step {
+      ApplyStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        addIntrospectionVersionLabel(packet);
+        return doNext(
+              new CallBuilder().applyConfigMapAsync(name, namespace, getModel(), new ApplyResponseStep(getNext())),
+              packet);
+      }
+    }
+
+    private class ApplyResponseStep extends ResponseStep<V1ConfigMap> {
+      ApplyResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        return super.onFailure(conflictStep, packet, callResponse);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        LOGGER.fine(MessageKeys.CM_APPLIED, getName(), namespace);
+        recordCurrentMap(packet, callResponse.getResult());
+        return doNext(packet);
+      }
+    }
+
     private ResponseStep<V1ConfigMap> createCreateResponseStep(Step next) {
       return new CreateResponseStep(next);
     }
@@ -447,6 +506,8 @@ public class ConfigMapHelper {
    *   SECRETS_HASH                       a hash of the override secrets
    *   DOMAIN_RESTART_VERSION             a field from the domain to force rolling when changed
    *   DOMAIN_INPUTS_HASH                 a hash of the image used in the domain
+   *   INTROSPECTION_INPUTS_DIGEST        a digest of the inputs to the introspection, if computed
+   *   HEADLESS_CLUSTER_SERVICES          whether clustered servers are addressed through headless cluster services
    *
    * @param next Next step
    * @return Step for creating config map containing introspection results
@@ -455,6 +516,36 @@ public class ConfigMapHelper {
     return new IntrospectionConfigMapStep(next);
   }
 
+  // In a dry run no introspector job runs, so the previous topology stands in for the one it would produce.
+  static Step createIntrospectionPreviewStep(Step next) {
+    return new IntrospectionPreviewStep(next);
+  }
+
+  /**
+   * Records in the packet the inputs which an introspection would record in the introspector config map.
+   */
+  static class IntrospectionPreviewStep extends Step {
+
+    IntrospectionPreviewStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (!packet.containsKey(ProcessingConstants.DOMAIN_TOPOLOGY)) {
+        return doEnd(packet);
+      }
+
+      Domain domain = packet.getSpi(DomainPresenceInfo.class).getDomain();
+      Optional.ofNullable(domain.getRestartVersion()).ifPresent(version -> packet.put(DOMAIN_RESTART_VERSION, version));
+      packet.put(DOMAIN_INPUTS_HASH, String.valueOf(getModelInImageSpecHash(domain.getSpec().getImage())));
+      Optional.ofNullable(packet.get(ProcessingConstants.INTROSPECTION_INPUTS_DIGEST))
+            .ifPresent(digest -> packet.put(INTROSPECTION_INPUTS_DIGEST, digest));
+      packet.put(HEADLESS_CLUSTER_SERVICES, Boolean.toString(ServiceHelper.isHeadlessClusterServicesEnabled()));
+      return doNext(packet);
+    }
+  }
+
   /**
    * The first in a chain of steps to create the introspector config map from introspection results.
    */
@@ -517,6 +608,7 @@ public class ConfigMapHelper {
     }
 
     private void updatePacket() {
+      recordTopologyDiff();
       ScanCache.INSTANCE.registerScan(
             info.getNamespace(), info.getDomainUid(), new Scan(wlsDomainConfig, new DateTime()));
       packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
@@ -525,6 +617,39 @@ public class ConfigMapHelper {
       copyFileToPacketIfPresent(SECRETS_MD_5, SECRETS_MD_5);
       copyToPacketAndFileIfPresent(DOMAIN_RESTART_VERSION, info.getDomain().getRestartVersion());
       copyToPacketAndFileIfPresent(DOMAIN_INPUTS_HASH, getModelInImageSpecHash());
+      copyToPacketAndFileIfPresent(INTROSPECTION_INPUTS_DIGEST,
+            (String) packet.get(ProcessingConstants.INTROSPECTION_INPUTS_DIGEST));
+      populatePacketAndFile(HEADLESS_CLUSTER_SERVICES, getHeadlessClusterServices());
+    }
+
+    // The introspector job was given the same setting, and used it to choose the listen addresses of servers.
+    private String getHeadlessClusterServices() {
+      return Boolean.toString(ServiceHelper.isHeadlessClusterServicesEnabled());
+    }
+
+    // Publishes the differences from the previous topology, if it is known and if nothing else which affects
+    // every server, such as the domain archive or the restart version, has changed.
+    private void recordTopologyDiff() {
+      WlsDomainConfig previous = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      if (previous == null || wlsDomainConfig == null || !hasSameDomainWideResults()) {
+        packet.remove(ProcessingConstants.DOMAIN_TOPOLOGY_DIFF);
+      } else {
+        TopologyDiff diff = TopologyDiff.between(previous, wlsDomainConfig);
+        LOGGER.fine("Topology changes for domain " + info.getDomainUid() + ": " + diff);
+        packet.put(ProcessingConstants.DOMAIN_TOPOLOGY_DIFF, diff);
+      }
+    }
+
+    private boolean hasSameDomainWideResults() {
+      return isUnchanged(DOMAINZIP_HASH, data.get(DOMAINZIP_HASH))
+            && isUnchanged(SECRETS_MD_5, data.get(SECRETS_MD_5))
+            && isUnchanged(DOMAIN_RESTART_VERSION, info.getDomain().getRestartVersion())
+            && ServiceHelper.isHeadlessClusterServicesIntrospected(packet)
+                  == ServiceHelper.isHeadlessClusterServicesEnabled();
+    }
+
+    private boolean isUnchanged(String packetKey, String newValue) {
+      return Objects.equals(packet.get(packetKey), newValue);
     }
 
     private Step createIntrospectionVersionUpdateStep() {
@@ -692,6 +817,8 @@ public class ConfigMapHelper {
    *   SECRETS_HASH                       a hash of the override secrets
    *   DOMAIN_RESTART_VERSION             a field from the domain to force rolling when changed
    *   DOMAIN_INPUTS_HASH                 a hash of the image used in the domain.
+   *   INTROSPECTION_INPUTS_DIGEST        a digest of the inputs to the introspection which produced the map
+   *   HEADLESS_CLUSTER_SERVICES          whether clustered servers are addressed through headless cluster services
    *
    * @param ns the namespace of the domain
    * @param domainUid the unique domain ID
@@ -714,6 +841,8 @@ public class ConfigMapHelper {
       copyMapEntryToPacket(result, packet, DOMAINZIP_HASH);
       copyMapEntryToPacket(result, packet, DOMAIN_RESTART_VERSION);
       copyMapEntryToPacket(result, packet, DOMAIN_INPUTS_HASH);
+      copyMapEntryToPacket(result, packet, INTROSPECTION_INPUTS_DIGEST);
+      copyMapEntryToPacket(result, packet, HEADLESS_CLUSTER_SERVICES);
 
       DomainTopology domainTopology =
             Optional.ofNullable(result)
@@ -735,10 +864,12 @@ public class ConfigMapHelper {
     }
 
     private void recordTopology(Packet packet, DomainPresenceInfo info, DomainTopology domainTopology) {
-      ScanCache.INSTANCE.registerScan(
-          info.getNamespace(),
-          info.getDomainUid(),
-          new Scan(domainTopology.getDomain(), new DateTime()));
+      if (!CallRecorder.isRecording(packet)) {
+        ScanCache.INSTANCE.registerScan(
+            info.getNamespace(),
+            info.getDomainUid(),
+            new Scan(domainTopology.getDomain(), new DateTime()));
+      }
 
       packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainTopology.getDomain());
     }
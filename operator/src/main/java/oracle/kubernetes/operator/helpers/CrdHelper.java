@@ -18,8 +18,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionNames;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionSpec;
@@ -39,7 +37,6 @@ import io.kubernetes.client.openapi.models.V1beta1CustomResourceValidation;
 import io.kubernetes.client.openapi.models.V1beta1JSONSchemaProps;
 import io.kubernetes.client.util.Yaml;
 import okhttp3.internal.http2.StreamResetException;
-import oracle.kubernetes.json.SchemaGenerator;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
@@ -50,8 +47,6 @@ import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
-import oracle.kubernetes.weblogic.domain.model.DomainSpec;
-import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 
 /** Helper class to ensure Domain CRD is created. */
 public class CrdHelper {
@@ -199,7 +194,8 @@ public class CrdHelper {
 
     static V1ObjectMeta createMetadata(SemanticVersion productVersion) {
       V1ObjectMeta metadata = new V1ObjectMeta()
-          .name(KubernetesConstants.CRD_NAME);
+          .name(KubernetesConstants.CRD_NAME)
+          .putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, CrdSchema.getInstance().getHash());
 
       if (productVersion != null) {
         metadata.putLabelsItem(LabelConstants.OPERATOR_VERISON, productVersion.toString());
@@ -327,42 +323,19 @@ public class CrdHelper {
     }
 
     static V1JSONSchemaProps createOpenApiV3Schema() {
-      Gson gson = new Gson();
-      JsonElement jsonElementSpec =
-          gson.toJsonTree(createSchemaGenerator().generate(DomainSpec.class));
-      V1JSONSchemaProps spec = gson.fromJson(jsonElementSpec, V1JSONSchemaProps.class);
-      JsonElement jsonElementStatus =
-          gson.toJsonTree(createSchemaGenerator().generate(DomainStatus.class));
-      V1JSONSchemaProps status =
-          gson.fromJson(jsonElementStatus, V1JSONSchemaProps.class);
+      CrdSchema schema = CrdSchema.getInstance();
       return new V1JSONSchemaProps()
           .type("object")
-          .putPropertiesItem("spec", spec)
-          .putPropertiesItem("status", status);
+          .putPropertiesItem("spec", schema.getSpecSchema())
+          .putPropertiesItem("status", schema.getStatusSchema());
     }
 
     static V1beta1JSONSchemaProps createBetaOpenApiV3Schema() {
-      Gson gson = new Gson();
-      JsonElement jsonElementSpec =
-          gson.toJsonTree(createSchemaGenerator().generate(DomainSpec.class));
-      V1beta1JSONSchemaProps spec = gson.fromJson(jsonElementSpec, V1beta1JSONSchemaProps.class);
-      JsonElement jsonElementStatus =
-          gson.toJsonTree(createSchemaGenerator().generate(DomainStatus.class));
-      V1beta1JSONSchemaProps status =
-          gson.fromJson(jsonElementStatus, V1beta1JSONSchemaProps.class);
+      CrdSchema schema = CrdSchema.getInstance();
       return new V1beta1JSONSchemaProps()
           .type("object")
-          .putPropertiesItem("spec", spec)
-          .putPropertiesItem("status", status);
-    }
-
-    static SchemaGenerator createSchemaGenerator() {
-      SchemaGenerator generator = new SchemaGenerator();
-      generator.setIncludeAdditionalProperties(false);
-      generator.setSupportObjectReferences(false);
-      generator.setIncludeSchemaReference(false);
-      generator.addPackageToSuppressDescriptions("io.kubernetes.client.openapi.models");
-      return generator;
+          .putPropertiesItem("spec", schema.getBetaSpecSchema())
+          .putPropertiesItem("status", schema.getBetaStatusSchema());
     }
 
     Step verifyCrd(Step next) {
@@ -694,7 +667,7 @@ public class CrdHelper {
       }
 
       return getSchemaValidation(actual) == null
-          || !getSchemaValidation(expected).equals(getSchemaValidation(actual));
+          || !hasSameSchemaHash(actual.getMetadata(), expected.getMetadata());
     }
 
     @Override
@@ -718,7 +691,21 @@ public class CrdHelper {
       }
 
       return getBetaSchemaValidation(actual) == null
-          || !getBetaSchemaValidation(expected).equals(getBetaSchemaValidation(actual));
+          || !hasSameSchemaHash(actual.getMetadata(), expected.getMetadata());
+    }
+
+    // The schema hash annotation is set when the operator creates the CRD, so comparing it avoids a deep
+    // comparison of the schemas. A CRD without the annotation was created by an older operator and is replaced.
+    private boolean hasSameSchemaHash(V1ObjectMeta actual, V1ObjectMeta expected) {
+      String actualHash = getSchemaHash(actual);
+      return actualHash != null && actualHash.equals(getSchemaHash(expected));
+    }
+
+    private String getSchemaHash(V1ObjectMeta metadata) {
+      return Optional.ofNullable(metadata)
+          .map(V1ObjectMeta::getAnnotations)
+          .map(annotations -> annotations.get(AnnotationHelper.SHA256_ANNOTATION))
+          .orElse(null);
     }
 
     private SemanticVersion getProductVersionFromMetadata(V1ObjectMeta metadata) {
@@ -0,0 +1,109 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import io.kubernetes.client.openapi.models.V1JSONSchemaProps;
+import io.kubernetes.client.openapi.models.V1beta1JSONSchemaProps;
+import oracle.kubernetes.json.SchemaGenerator;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * The validation schema for the domain CRD. The schemas for the domain spec and status are generated
+ * at build time by the jsonschema-maven-plugin and loaded from the classpath the first time they are needed.
+ * If the generated resources are not present, for example when running from an IDE, the schemas are generated
+ * by reflection instead. The schema hash is computed from the compact JSON form of both schemas, so that
+ * it is the same regardless of how they were obtained.
+ */
+class CrdSchema {
+  static final String SPEC_SCHEMA_RESOURCE = "/crd/domain-spec-schema.json";
+  static final String STATUS_SCHEMA_RESOURCE = "/crd/domain-status-schema.json";
+
+  private static final Gson GSON = new Gson();
+
+  private final JsonElement spec;
+  private final JsonElement status;
+  private final String hash;
+
+  private CrdSchema(JsonElement spec, JsonElement status) {
+    this.spec = spec;
+    this.status = status;
+    this.hash = DigestUtils.sha256Hex(GSON.toJson(spec) + GSON.toJson(status));
+  }
+
+  /**
+   * Returns the domain CRD schema, loading it on first use.
+   * @return the schema
+   */
+  static CrdSchema getInstance() {
+    return SchemaHolder.INSTANCE;
+  }
+
+  private static class SchemaHolder {
+    private static final CrdSchema INSTANCE = load();
+  }
+
+  static CrdSchema load() {
+    JsonElement spec = readResource(SPEC_SCHEMA_RESOURCE);
+    JsonElement status = readResource(STATUS_SCHEMA_RESOURCE);
+    return spec != null && status != null ? new CrdSchema(spec, status) : generate();
+  }
+
+  static CrdSchema generate() {
+    return new CrdSchema(
+        GSON.toJsonTree(createSchemaGenerator().generate(DomainSpec.class)),
+        GSON.toJsonTree(createSchemaGenerator().generate(DomainStatus.class)));
+  }
+
+  private static SchemaGenerator createSchemaGenerator() {
+    SchemaGenerator generator = new SchemaGenerator();
+    generator.setIncludeAdditionalProperties(false);
+    generator.setSupportObjectReferences(false);
+    generator.setIncludeSchemaReference(false);
+    generator.addPackageToSuppressDescriptions("io.kubernetes.client.openapi.models");
+    return generator;
+  }
+
+  private static JsonElement readResource(String resourceName) {
+    try (InputStream stream = CrdSchema.class.getResourceAsStream(resourceName)) {
+      if (stream == null) {
+        return null;
+      }
+      try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+        return GSON.fromJson(reader, JsonElement.class);
+      }
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  String getHash() {
+    return hash;
+  }
+
+  V1JSONSchemaProps getSpecSchema() {
+    return GSON.fromJson(spec, V1JSONSchemaProps.class);
+  }
+
+  V1JSONSchemaProps getStatusSchema() {
+    return GSON.fromJson(status, V1JSONSchemaProps.class);
+  }
+
+  V1beta1JSONSchemaProps getBetaSpecSchema() {
+    return GSON.fromJson(spec, V1beta1JSONSchemaProps.class);
+  }
+
+  V1beta1JSONSchemaProps getBetaStatusSchema() {
+    return GSON.fromJson(status, V1beta1JSONSchemaProps.class);
+  }
+}
@@ -9,12 +9,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -26,11 +28,13 @@ import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.joda.time.DateTime;
 
 import static java.lang.System.lineSeparator;
 
@@ -46,9 +50,13 @@ public class DomainPresenceInfo {
   private final AtomicBoolean isPopulated = new AtomicBoolean(false);
   private final AtomicInteger retryCount = new AtomicInteger(0);
   private final AtomicReference<Collection<ServerStartupInfo>> serverStartupInfo;
+  private final AtomicReference<DateTime> lastFullPlanCompletion = new AtomicReference<>();
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1Service> clusters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, V1Service> headlessClusters = new ConcurrentHashMap<>();
+  private final ServerPodIndex podIndex = new ServerPodIndex();
+  private final ConcurrentMap<String, VerifiedResource> verifiedResources = new ConcurrentHashMap<>();
 
   private final List<String> validationWarnings = Collections.synchronizedList(new ArrayList<>());
 
@@ -77,6 +85,34 @@ public class DomainPresenceInfo {
     this.serverStartupInfo = new AtomicReference<>(null);
   }
 
+  /**
+   * Creates a copy of this presence info for a new version of its domain, which may be updated without affecting
+   * this info. The resources recorded as verified are not copied, as they apply only to the current domain.
+   *
+   * @param domain the domain for the copy
+   * @return a new presence info
+   */
+  public DomainPresenceInfo copyFor(Domain domain) {
+    DomainPresenceInfo copy = new DomainPresenceInfo(domain);
+    copy.setDeleting(!isNotDeleting());
+    copy.setPopulated(isPopulated());
+    copy.lastFullPlanCompletion.set(lastFullPlanCompletion.get());
+    copy.setServerStartupInfo(getServerStartupInfo());
+    servers.forEach((serverName, sko) -> copy.copyServer(serverName, sko));
+    copy.clusters.putAll(clusters);
+    copy.headlessClusters.putAll(headlessClusters);
+    return copy;
+  }
+
+  private void copyServer(String serverName, ServerKubernetesObjects sko) {
+    ServerKubernetesObjects copy = getSko(serverName);
+    copy.isPodBeingDeleted().set(sko.isPodBeingDeleted().get());
+    copy.getLastKnownStatus().set(sko.getLastKnownStatus().get());
+    copy.getService().set(sko.getService().get());
+    copy.getExternalService().set(sko.getExternalService().get());
+    setServerPod(serverName, sko.getPod().get());
+  }
+
   private static <K, V> boolean removeIfPresentAnd(
       ConcurrentMap<K, V> map, K key, Predicate<? super V> predicateFunction) {
     Objects.requireNonNull(predicateFunction);
@@ -118,13 +154,77 @@ public class DomainPresenceInfo {
   }
 
   /**
-   * Specifies the pod associated with an operator-managed server.
+   * Specifies the pod associated with an operator-managed server. The pod should not be modified afterwards,
+   * as the indexes of servers by pod state are only updated when a pod is specified.
    *
    * @param serverName the name of the server
    * @param pod the pod
    */
   public void setServerPod(String serverName, V1Pod pod) {
-    getSko(serverName).getPod().set(pod);
+    updatePod(serverName, current -> pod);
+  }
+
+  // Pods are replaced rather than modified in place, so the index is only updated when a server's pod is set.
+  private V1Pod updatePod(String serverName, UnaryOperator<V1Pod> updateFunction) {
+    AtomicReference<V1Pod> podReference = getSko(serverName).getPod();
+    synchronized (podIndex) {
+      V1Pod oldPod = podReference.get();
+      V1Pod newPod = updateFunction.apply(oldPod);
+      podReference.set(newPod);
+      podIndex.update(serverName, oldPod, newPod);
+      return oldPod;
+    }
+  }
+
+  /**
+   * Returns the names of the servers with pods in the specified cluster.
+   *
+   * @param clusterName the name of the cluster, or null for servers whose pods are not in a cluster
+   * @return a read-only view of the server names
+   */
+  public Set<String> getServerNamesWithPods(String clusterName) {
+    return podIndex.getServers(clusterName);
+  }
+
+  /**
+   * Returns the names of the servers in the specified cluster whose pods are ready. This includes pods
+   * which are being deleted.
+   *
+   * @param clusterName the name of the cluster, or null for servers whose pods are not in a cluster
+   * @return a read-only view of the server names
+   */
+  public Set<String> getServerNamesWithReadyPods(String clusterName) {
+    return podIndex.getReadyServers(clusterName);
+  }
+
+  /**
+   * Returns the names of the servers in the specified cluster whose pods have been scheduled to a node. This
+   * includes pods which are being deleted.
+   *
+   * @param clusterName the name of the cluster, or null for servers whose pods are not in a cluster
+   * @return a read-only view of the server names
+   */
+  public Set<String> getServerNamesWithScheduledPods(String clusterName) {
+    return podIndex.getScheduledServers(clusterName);
+  }
+
+  /**
+   * Returns the names of the servers in the specified cluster whose pods are being deleted.
+   *
+   * @param clusterName the name of the cluster, or null for servers whose pods are not in a cluster
+   * @return a read-only view of the server names
+   */
+  public Set<String> getServerNamesWithDeletingPods(String clusterName) {
+    return podIndex.getDeletingServers(clusterName);
+  }
+
+  /**
+   * Returns the names of the clusters which have server pods.
+   *
+   * @return the cluster names
+   */
+  public Collection<String> getPodClusterNames() {
+    return podIndex.getClusterNames();
   }
 
   /**
@@ -180,7 +280,7 @@ public class DomainPresenceInfo {
    */
   public void setServerPodFromEvent(String serverName, V1Pod event) {
     updateStatus(serverName, event);
-    getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
+    updatePod(serverName, current -> getNewerPod(current, event));
   }
 
   private void updateStatus(String serverName, V1Pod event) {
@@ -229,7 +329,7 @@ public class DomainPresenceInfo {
       return false;
     }
     ServerKubernetesObjects sko = getSko(serverName);
-    V1Pod deletedPod = sko.getPod().getAndAccumulate(event, this::getNewerCurrentOrNull);
+    V1Pod deletedPod = updatePod(serverName, current -> getNewerCurrentOrNull(current, event));
     if (deletedPod != null) {
       sko.getLastKnownStatus().set(new LastKnownStatus(WebLogicConstants.SHUTDOWN_STATE));
     }
@@ -339,10 +439,58 @@ public class DomainPresenceInfo {
         s -> !KubernetesUtils.isFirstNewer(getMetadata(s), getMetadata(event)));
   }
 
+  void removeHeadlessClusterService(String clusterName) {
+    headlessClusters.remove(clusterName);
+  }
+
+  /**
+   * Returns the headless service through which the servers of the specified cluster are addressed, if any.
+   *
+   * @param clusterName the name of the cluster
+   * @return the headless cluster service, or null
+   */
+  public V1Service getHeadlessClusterService(String clusterName) {
+    return headlessClusters.get(clusterName);
+  }
+
+  void setHeadlessClusterService(String clusterName, V1Service service) {
+    headlessClusters.put(clusterName, service);
+  }
+
+  void setHeadlessClusterServiceFromEvent(String clusterName, V1Service event) {
+    if (clusterName == null) {
+      return;
+    }
+
+    headlessClusters.compute(clusterName, (k, s) -> getNewerService(s, event));
+  }
+
+  boolean deleteHeadlessClusterServiceFromEvent(String clusterName, V1Service event) {
+    return removeIfPresentAnd(
+        headlessClusters,
+        clusterName,
+        s -> !KubernetesUtils.isFirstNewer(getMetadata(s), getMetadata(event)));
+  }
+
   private V1Service getNewerService(V1Service first, V1Service second) {
     return KubernetesUtils.isFirstNewer(getMetadata(first), getMetadata(second)) ? first : second;
   }
 
+  /**
+   * Returns a stream of all services present: server, external, cluster and headless cluster services.
+   *
+   * @return a service stream
+   */
+  Stream<V1Service> getServices() {
+    return Stream.of(
+        getServers().values().stream()
+            .flatMap(sko -> Stream.of(sko.getService().get(), sko.getExternalService().get())),
+        clusters.values().stream(),
+        headlessClusters.values().stream())
+        .flatMap(services -> services)
+        .filter(Objects::nonNull);
+  }
+
   public V1Service getExternalService(String serverName) {
     return getSko(serverName).getExternalService().get();
   }
@@ -399,6 +547,81 @@ public class DomainPresenceInfo {
     resetFailureCount();
   }
 
+  /**
+   * Records that a make-right plan covering the entire domain has just completed.
+   */
+  public void recordFullPlanCompleted() {
+    lastFullPlanCompletion.set(SystemClock.now());
+  }
+
+  public boolean isFullPlanCompleted() {
+    return lastFullPlanCompletion.get() != null;
+  }
+
+  /**
+   * Returns true if a make-right plan covering the entire domain has completed within the specified interval.
+   * Until then, a make-right may not limit itself to the servers affected by an event.
+   *
+   * @param intervalSeconds the maximum age, in seconds, of the last full plan
+   * @return true if a recent full plan has completed
+   */
+  public boolean isFullPlanCompletedWithin(int intervalSeconds) {
+    return Optional.ofNullable(lastFullPlanCompletion.get())
+        .map(time -> time.plusSeconds(intervalSeconds).isAfter(SystemClock.now()))
+        .orElse(false);
+  }
+
+  /**
+   * Records that a resource was found to match the recipe computed from the current generation of the domain
+   * resource and from the specified other inputs.
+   *
+   * @param key identifies the resource, such as the kind and name of a pod or service
+   * @param resource the resource, as currently recorded in this object
+   * @param recipeInputs the inputs to the recipe other than the domain resource and its topology
+   */
+  void recordVerified(String key, Object resource, Object recipeInputs) {
+    Optional.ofNullable(getDomainGeneration())
+        .ifPresent(generation -> verifiedResources.put(key, new VerifiedResource(resource, generation, recipeInputs)));
+  }
+
+  /**
+   * Returns true if the specified resource is the one last recorded as matching its recipe, and neither the
+   * generation of the domain resource nor the other inputs to the recipe have changed since.
+   *
+   * @param key identifies the resource, such as the kind and name of a pod or service
+   * @param resource the resource, as currently recorded in this object
+   * @param recipeInputs the inputs to the recipe other than the domain resource and its topology
+   * @return true if the resource need not be compared with its recipe again
+   */
+  boolean isVerified(String key, Object resource, Object recipeInputs) {
+    return Optional.ofNullable(verifiedResources.get(key))
+        .map(verified -> verified.matches(resource, getDomainGeneration(), recipeInputs))
+        .orElse(false);
+  }
+
+  private Long getDomainGeneration() {
+    return Optional.ofNullable(getDomain()).map(Domain::getMetadata).map(V1ObjectMeta::getGeneration).orElse(null);
+  }
+
+  private static class VerifiedResource {
+    private final Object resource;
+    private final long generation;
+    private final Object recipeInputs;
+
+    VerifiedResource(Object resource, long generation, Object recipeInputs) {
+      this.resource = resource;
+      this.generation = generation;
+      this.recipeInputs = recipeInputs;
+    }
+
+    // resources are replaced rather than modified when they change, so an identical instance is unchanged
+    boolean matches(Object resource, Long generation, Object recipeInputs) {
+      return this.resource == resource
+          && generation != null && this.generation == generation
+          && Objects.equals(this.recipeInputs, recipeInputs);
+    }
+  }
+
   /**
    * Gets the domain. Except the instance to change frequently based on status updates.
    *
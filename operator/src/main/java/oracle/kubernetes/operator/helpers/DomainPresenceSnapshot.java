@@ -0,0 +1,301 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.base.Strings;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * A persisted copy of the operator's knowledge of the domains in a namespace: their pods and services, the last
+ * known status of their servers, and the resource versions from which the pod and service watches may resume.
+ * A snapshot is stored as gzipped JSON in a config map in the namespace, so that a restarted operator may
+ * warm-start from it rather than listing every resource and running a make-right for every domain.
+ */
+public class DomainPresenceSnapshot {
+
+  /** The tuning parameter which sets the interval at which snapshots are saved. Snapshots are disabled if not set. */
+  public static final String SNAPSHOT_INTERVAL_PARAM = "domainPresenceSnapshotIntervalSeconds";
+  static final String SNAPSHOT_CONFIG_MAP_NAME = "weblogic-operator-snapshot";
+  static final String SNAPSHOT_KEY = "snapshot";
+
+  // A config map may not exceed 1 MiB, and binary data is stored base64-encoded.
+  static final int MAX_SNAPSHOT_BYTES = 700 * 1024;
+
+  private static final int FORMAT_VERSION = 1;
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final Gson GSON = new JSON().getGson();
+
+  private int formatVersion = FORMAT_VERSION;
+  private String namespace;
+  private String podResourceVersion;
+  private String serviceResourceVersion;
+  private List<DomainEntry> domains = new ArrayList<>();
+
+  private static class DomainEntry {
+    private Domain domain;
+    private List<V1Pod> pods = new ArrayList<>();
+    private List<V1Service> services = new ArrayList<>();
+    private Map<String, String> lastKnownStatus = new HashMap<>();
+  }
+
+  /**
+   * Returns the interval at which snapshots should be saved.
+   * @return a number of seconds, or zero if snapshots are disabled
+   */
+  public static int getSnapshotIntervalSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.get(SNAPSHOT_INTERVAL_PARAM))
+          .map(String::trim)
+          .filter(value -> !Strings.isNullOrEmpty(value))
+          .map(DomainPresenceSnapshot::parseInterval)
+          .orElse(0);
+  }
+
+  private static int parseInterval(String value) {
+    try {
+      return Math.max(0, Integer.parseInt(value));
+    } catch (NumberFormatException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      return 0;
+    }
+  }
+
+  public static boolean isEnabled() {
+    return getSnapshotIntervalSeconds() > 0;
+  }
+
+  /**
+   * Captures the state of the specified domains. Only domains for which a full make-right has completed are
+   * included, so that a restored domain never skips work that had not yet been done.
+   * @param namespace the namespace of the domains
+   * @param infos the domain presence infos for the namespace
+   * @param podResourceVersion the resource version from which a pod watch should resume
+   * @param serviceResourceVersion the resource version from which a service watch should resume
+   * @return a new snapshot
+   */
+  public static DomainPresenceSnapshot capture(
+        String namespace, Collection<DomainPresenceInfo> infos,
+        String podResourceVersion, String serviceResourceVersion) {
+    DomainPresenceSnapshot snapshot = new DomainPresenceSnapshot();
+    snapshot.namespace = namespace;
+    snapshot.podResourceVersion = podResourceVersion;
+    snapshot.serviceResourceVersion = serviceResourceVersion;
+    infos.stream()
+          .filter(DomainPresenceSnapshot::isRestorable)
+          .map(DomainPresenceSnapshot::createEntry)
+          .forEach(snapshot.domains::add);
+    return snapshot;
+  }
+
+  private static boolean isRestorable(DomainPresenceInfo info) {
+    return info.getDomain() != null && info.isNotDeleting() && info.isFullPlanCompleted();
+  }
+
+  private static DomainEntry createEntry(DomainPresenceInfo info) {
+    DomainEntry entry = new DomainEntry();
+    entry.domain = info.getDomain();
+    info.getServerPods().forEach(entry.pods::add);
+    info.getServices().forEach(entry.services::add);
+    for (String serverName : info.getServerNames()) {
+      Optional.ofNullable(info.getLastKnownServerStatus(serverName))
+            .map(LastKnownStatus::getStatus)
+            .ifPresent(status -> entry.lastKnownStatus.put(serverName, status));
+    }
+    return entry;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getPodResourceVersion() {
+    return podResourceVersion;
+  }
+
+  public String getServiceResourceVersion() {
+    return serviceResourceVersion;
+  }
+
+  public List<String> getDomainUids() {
+    return domains.stream().map(entry -> entry.domain.getDomainUid()).collect(Collectors.toList());
+  }
+
+  /**
+   * Returns true if the snapshot holds the specified domain with an unchanged spec. Kubernetes only increments
+   * the generation of a domain when its spec changes.
+   * @param domain a domain read from Kubernetes
+   * @return true if the domain may be restored without a make-right
+   */
+  public boolean isCurrent(Domain domain) {
+    return getEntry(domain.getDomainUid())
+          .map(entry -> getGeneration(entry.domain))
+          .filter(Objects::nonNull)
+          .map(generation -> generation.equals(getGeneration(domain)))
+          .orElse(false);
+  }
+
+  private static Long getGeneration(Domain domain) {
+    return Optional.ofNullable(domain.getMetadata()).map(V1ObjectMeta::getGeneration).orElse(null);
+  }
+
+  private Optional<DomainEntry> getEntry(String domainUid) {
+    return domains.stream().filter(entry -> domainUid.equals(entry.domain.getDomainUid())).findFirst();
+  }
+
+  /**
+   * Restores the pods, services and server status of each domain in this snapshot to the specified map.
+   * @param dpis a map of domain UIDs to presence infos
+   */
+  public void restore(Map<String, DomainPresenceInfo> dpis) {
+    for (DomainEntry entry : domains) {
+      DomainPresenceInfo info =
+            dpis.computeIfAbsent(entry.domain.getDomainUid(), k -> new DomainPresenceInfo(entry.domain));
+      for (V1Pod pod : entry.pods) {
+        Optional.ofNullable(PodHelper.getPodServerName(pod)).ifPresent(name -> info.setServerPod(name, pod));
+      }
+      entry.services.forEach(service -> ServiceHelper.addToPresence(info, service));
+      entry.lastKnownStatus.forEach(info::updateLastKnownServerStatus);
+    }
+  }
+
+  /**
+   * Encodes this snapshot as gzipped JSON.
+   * @return the encoded snapshot
+   */
+  public byte[] toBytes() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+      GSON.toJson(this, writer);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Decodes a snapshot encoded by {@link #toBytes()}.
+   * @param bytes the encoded snapshot
+   * @return the snapshot, or null if it cannot be decoded or was written in a different format
+   */
+  public static DomainPresenceSnapshot fromBytes(byte[] bytes) {
+    try (Reader reader =
+               new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8)) {
+      DomainPresenceSnapshot snapshot = GSON.fromJson(reader, DomainPresenceSnapshot.class);
+      return snapshot != null && snapshot.formatVersion == FORMAT_VERSION ? snapshot : null;
+    } catch (IOException | JsonParseException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      return null;
+    }
+  }
+
+  /**
+   * Creates a step to read the snapshot for a namespace, if any, into the packet under the key
+   * {@link ProcessingConstants#DOMAIN_PRESENCE_SNAPSHOT}.
+   * @param namespace the namespace
+   * @return the created step
+   */
+  public static Step readSnapshotStep(String namespace) {
+    return new CallBuilder().readConfigMapAsync(SNAPSHOT_CONFIG_MAP_NAME, namespace, new ReadSnapshotStep(namespace));
+  }
+
+  /**
+   * Creates a step to save this snapshot, replacing any previous one.
+   * @param operatorNamespace the namespace of the operator
+   * @return the created step, or null if the snapshot is too large to save
+   */
+  public Step createSaveStep(String operatorNamespace) {
+    byte[] bytes = toBytes();
+    if (bytes.length > MAX_SNAPSHOT_BYTES) {
+      LOGGER.warning(MessageKeys.SNAPSHOT_TOO_LARGE, namespace, bytes.length, MAX_SNAPSHOT_BYTES);
+      return null;
+    }
+
+    V1ConfigMap configMap = new V1ConfigMap()
+          .kind("ConfigMap")
+          .apiVersion("v1")
+          .metadata(new V1ObjectMeta()
+                .name(SNAPSHOT_CONFIG_MAP_NAME)
+                .namespace(namespace)
+                .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, operatorNamespace))
+          .putBinaryDataItem(SNAPSHOT_KEY, bytes);
+    return new CallBuilder()
+          .replaceConfigMapAsync(SNAPSHOT_CONFIG_MAP_NAME, namespace, configMap, new SaveSnapshotStep(configMap));
+  }
+
+  private static class ReadSnapshotStep extends DefaultResponseStep<V1ConfigMap> {
+    private final String namespace;
+
+    ReadSnapshotStep(String namespace) {
+      this.namespace = namespace;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      Optional.ofNullable(callResponse.getResult())
+            .map(V1ConfigMap::getBinaryData)
+            .map(data -> data.get(SNAPSHOT_KEY))
+            .map(DomainPresenceSnapshot::fromBytes)
+            .filter(snapshot -> namespace.equals(snapshot.getNamespace()))
+            .ifPresent(snapshot -> packet.put(ProcessingConstants.DOMAIN_PRESENCE_SNAPSHOT, snapshot));
+      return doNext(packet);
+    }
+  }
+
+  private static class SaveSnapshotStep extends DefaultResponseStep<V1ConfigMap> {
+    private final V1ConfigMap configMap;
+
+    SaveSnapshotStep(V1ConfigMap configMap) {
+      this.configMap = configMap;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      return callResponse.getStatusCode() == CallBuilder.NOT_FOUND
+          ? doNext(createConfigMap(), packet)
+          : super.onFailure(packet, callResponse);
+    }
+
+    private Step createConfigMap() {
+      return new CallBuilder()
+            .createConfigMapAsync(configMap.getMetadata().getNamespace(), configMap, new DefaultResponseStep<>());
+    }
+  }
+}
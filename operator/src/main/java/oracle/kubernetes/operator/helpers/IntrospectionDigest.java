@@ -0,0 +1,226 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Computes a digest of everything which determines the result of introspecting a domain: the image, the
+ * environment variables of the introspector job, the contents of the model and override config maps and of
+ * the secrets which the introspector reads, and the introspector scripts. If a later introspection would have
+ * the same digest, it would produce the same results.
+ *
+ * <p>This is not true of domains whose homes are on persistent volumes, which may change without any change to
+ * these inputs, so no digest is computed for them. Nor is it true of a domain whose image is named by a tag,
+ * since the tag may be moved to a different image; only an image pinned by its digest identifies its contents.
+ */
+class IntrospectionDigest {
+
+  private static final byte[] MISSING = new byte[] {0};
+  private static final String IMAGE_DIGEST_SEPARATOR = "@sha256:";
+
+  private final Map<String, byte[]> inputs = new TreeMap<>();
+
+  private IntrospectionDigest() {
+  }
+
+  /**
+   * Returns true if the results of introspecting the specified domain are determined by its digest.
+   *
+   * @param domain the domain resource
+   * @return true if a digest can be used to decide whether introspection is needed
+   */
+  static boolean isApplicable(Domain domain) {
+    return domain.getDomainHomeSourceType() != DomainSourceType.PersistentVolume
+          && isPinnedImage(domain.getSpec().getImage());
+  }
+
+  private static boolean isPinnedImage(String image) {
+    return image != null && image.contains(IMAGE_DIGEST_SEPARATOR);
+  }
+
+  /**
+   * Creates a step which computes the digest of the inputs for introspecting the domain in the packet, and
+   * records it in the packet as {@link ProcessingConstants#INTROSPECTION_INPUTS_DIGEST}.
+   *
+   * @param next the step to run once the digest is recorded
+   * @return the created step
+   */
+  static Step createDigestStep(Step next) {
+    return new DigestStep(next);
+  }
+
+  // The job's environment carries every domain resource field which the introspector reads.
+  private void addDomainInputs(DomainPresenceInfo info) {
+    Domain domain = info.getDomain();
+    add("image", domain.getSpec().getImage());
+    add("introspectVersion", domain.getIntrospectVersion());
+    for (V1EnvVar envVar : JobHelper.getIntrospectorEnvironmentVariables(info)) {
+      add("env/" + envVar.getName(), Objects.toString(envVar.getValue(), Objects.toString(envVar.getValueFrom())));
+    }
+    add("scripts", ScriptsDigestHolder.SCRIPTS_DIGEST);
+  }
+
+  private static Collection<String> getConfigMapNames(Domain domain) {
+    List<String> names = new ArrayList<>();
+    Optional.ofNullable(domain.getWdtConfigMap()).ifPresent(names::add);
+    Optional.ofNullable(domain.getConfigOverrides()).ifPresent(names::add);
+    return names;
+  }
+
+  private static Collection<String> getSecretNames(Domain domain) {
+    List<String> names = new ArrayList<>(domain.getConfigOverrideSecrets());
+    names.add(domain.getWebLogicCredentialsSecretName());
+    Optional.ofNullable(domain.getOpssWalletPasswordSecret()).ifPresent(names::add);
+    Optional.ofNullable(domain.getOpssWalletFileSecret()).ifPresent(names::add);
+    Optional.ofNullable(domain.getRuntimeEncryptionSecret()).ifPresent(names::add);
+    return names;
+  }
+
+  private void add(String name, String value) {
+    inputs.put(name, value == null ? MISSING : value.getBytes(UTF_8));
+  }
+
+  private void addConfigMap(String name, V1ConfigMap configMap) {
+    Map<String, String> data = Optional.ofNullable(configMap).map(V1ConfigMap::getData).orElse(null);
+    if (data == null) {
+      inputs.put("configMap/" + name, MISSING);
+    } else {
+      data.forEach((key, value) -> add("configMap/" + name + "/" + key, value));
+    }
+  }
+
+  private void addSecret(String name, V1Secret secret) {
+    Map<String, byte[]> data = Optional.ofNullable(secret).map(V1Secret::getData).orElse(null);
+    if (data == null) {
+      inputs.put("secret/" + name, MISSING);
+    } else {
+      data.forEach((key, value) -> inputs.put("secret/" + name + "/" + key, value));
+    }
+  }
+
+  // Each name and value is preceded by its length, so that no two different sets of inputs can be confused.
+  private String computeDigest() {
+    MessageDigest digest = DigestUtils.getSha256Digest();
+    inputs.forEach((name, value) -> {
+      update(digest, name.getBytes(UTF_8));
+      update(digest, value);
+    });
+    return Hex.encodeHexString(digest.digest());
+  }
+
+  private void update(MessageDigest digest, byte[] bytes) {
+    digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+    digest.update(bytes);
+  }
+
+  // The introspector scripts change only when the operator is upgraded, so their digest is computed once.
+  private static class ScriptsDigestHolder {
+    private static final String SCRIPTS_DIGEST = computeScriptsDigest();
+
+    private static String computeScriptsDigest() {
+      IntrospectionDigest digest = new IntrospectionDigest();
+      ConfigMapHelper.getScriptReader().loadFilesFromClasspath().forEach(digest::add);
+      return digest.computeDigest();
+    }
+  }
+
+  private static class DigestStep extends Step {
+
+    DigestStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      Domain domain = info.getDomain();
+      IntrospectionDigest digest = new IntrospectionDigest();
+      digest.addDomainInputs(info);
+
+      List<Step> reads = new ArrayList<>();
+      for (String name : getConfigMapNames(domain)) {
+        reads.add(new CallBuilder().readConfigMapAsync(name, info.getNamespace(),
+              new ReadConfigMapResponseStep(digest, name)));
+      }
+      for (String name : getSecretNames(domain)) {
+        reads.add(new CallBuilder().readSecretAsync(name, info.getNamespace(),
+              new ReadSecretResponseStep(digest, name)));
+      }
+      reads.add(new RecordDigestStep(digest, getNext()));
+      return doNext(Step.chain(reads.toArray(new Step[0])), packet);
+    }
+  }
+
+  private static class ReadConfigMapResponseStep extends DefaultResponseStep<V1ConfigMap> {
+    private final IntrospectionDigest digest;
+    private final String name;
+
+    ReadConfigMapResponseStep(IntrospectionDigest digest, String name) {
+      this.digest = digest;
+      this.name = name;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      digest.addConfigMap(name, callResponse.getResult());
+      return doNext(packet);
+    }
+  }
+
+  private static class ReadSecretResponseStep extends DefaultResponseStep<V1Secret> {
+    private final IntrospectionDigest digest;
+    private final String name;
+
+    ReadSecretResponseStep(IntrospectionDigest digest, String name) {
+      this.digest = digest;
+      this.name = name;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1Secret> callResponse) {
+      digest.addSecret(name, callResponse.getResult());
+      return doNext(packet);
+    }
+  }
+
+  private static class RecordDigestStep extends Step {
+    private final IntrospectionDigest digest;
+
+    RecordDigestStep(IntrospectionDigest digest, Step next) {
+      super(next);
+      this.digest = digest;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(ProcessingConstants.INTROSPECTION_INPUTS_DIGEST, digest.computeDigest());
+      return doNext(packet);
+    }
+  }
+}
@@ -0,0 +1,352 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import com.google.common.base.Strings;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.ManagedServersUpStep;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+import static oracle.kubernetes.operator.DomainStatusUpdater.INTROSPECTION_QUEUED_PROGRESS_REASON;
+import static oracle.kubernetes.operator.DomainStatusUpdater.createProgressingStep;
+
+/**
+ * Limits the number of introspector jobs which may run at once, both across the operator and within each
+ * namespace. A domain which cannot start its introspector job at once waits in a queue, and is admitted when
+ * an earlier job completes and is reported by the job watcher or deleted. Domains none of whose servers are
+ * running are admitted before those which are already serving, and otherwise domains are admitted in the order
+ * in which they asked.
+ */
+public class IntrospectionScheduler {
+  static final String MAX_CONCURRENT_PARAM = "maxConcurrentIntrospections";
+  static final String MAX_CONCURRENT_PER_NAMESPACE_PARAM = "maxConcurrentIntrospectionsPerNamespace";
+  static final int DEFAULT_MAX_CONCURRENT = 10;
+  static final int UNLIMITED = 0;
+  static final int DEFAULT_JOB_DEADLINE_SECONDS = 120;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  @SuppressWarnings("FieldMayBeFinal") // non-final to allow unit tests to replace it
+  private static IntrospectionScheduler instance = new IntrospectionScheduler();
+
+  // admissions of running introspections, keyed by namespace and domain UID
+  private final Map<String, Admission> running = new HashMap<>();
+  private final NavigableSet<Waiter> waiting = new TreeSet<>(
+        Comparator.comparing(Waiter::hasRunningServers).thenComparingLong(Waiter::getSequence));
+  private long nextSequence;
+
+  public static IntrospectionScheduler getInstance() {
+    return instance;
+  }
+
+  /**
+   * Creates a step which proceeds once the domain in the packet may run its introspector job. If the job
+   * budget is exhausted, the domain is marked as queued in its status and the fiber is suspended until
+   * an earlier introspection completes.
+   *
+   * @param next the step to run once the domain is admitted
+   * @return the created step
+   */
+  static Step createAdmissionStep(Step next) {
+    return new AdmissionStep(next);
+  }
+
+  /**
+   * Releases the admission held by the specified domain, if any, allowing a waiting domain to introspect.
+   * This method is idempotent.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public void release(String namespace, String domainUid) {
+    releaseIf(namespace, domainUid, admission -> true);
+  }
+
+  /**
+   * Records the Kubernetes UID of the introspector job created by an admitted domain, so that only the completion
+   * of that job releases the admission.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param jobUid the UID of the created job
+   */
+  public synchronized void recordJob(String namespace, String domainUid, String jobUid) {
+    Optional.ofNullable(running.get(toKey(namespace, domainUid))).ifPresent(admission -> admission.jobUid = jobUid);
+  }
+
+  /**
+   * Releases the admission held by the specified domain, if the finished introspector job is the one created
+   * for that admission. Events for jobs from earlier introspections are thus ignored.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param jobUid the UID of the finished job, or null if unknown
+   * @param jobCreationTime the time at which the finished job was created, or null if unknown
+   */
+  public void releaseForJob(String namespace, String domainUid, String jobUid, DateTime jobCreationTime) {
+    releaseIf(namespace, domainUid, admission -> admission.isFor(jobUid, jobCreationTime));
+  }
+
+  private void releaseIf(String namespace, String domainUid, Predicate<Admission> condition) {
+    List<Waiter> admitted;
+    synchronized (this) {
+      String key = toKey(namespace, domainUid);
+      Admission admission = running.get(key);
+      if (admission == null || !condition.test(admission)) {
+        return;
+      }
+      running.remove(key);
+      admitted = admitWaiting();
+    }
+    admitted.forEach(Waiter::resume);
+  }
+
+  synchronized int getRunningCount() {
+    return running.size();
+  }
+
+  synchronized int getWaitingCount() {
+    return waiting.size();
+  }
+
+  // Admits the candidate at once only if it would be admitted from the queue ahead of every domain already
+  // waiting. Any waiting domains admitted because expired admissions were dropped are resumed.
+  private boolean tryAdmit(Waiter candidate) {
+    List<Waiter> admitted;
+    boolean isAdmitted;
+    synchronized (this) {
+      if (running.containsKey(candidate.key)) {
+        return true;
+      }
+      waiting.removeIf(w -> w.key.equals(candidate.key));
+      waiting.add(candidate);
+      expireAdmissions();
+      admitted = admitWaiting();
+      isAdmitted = admitted.remove(candidate);
+      waiting.remove(candidate);
+    }
+    admitted.forEach(Waiter::resume);
+    return isAdmitted;
+  }
+
+  private void enqueue(Waiter waiter) {
+    List<Waiter> admitted;
+    synchronized (this) {
+      waiting.removeIf(w -> w.key.equals(waiter.key));
+      waiting.add(waiter);
+      expireAdmissions();
+      admitted = admitWaiting();
+    }
+    admitted.forEach(Waiter::resume);
+  }
+
+  private synchronized long takeSequence() {
+    return nextSequence++;
+  }
+
+  private synchronized int getQueuePosition(String namespace, String domainUid, boolean hasRunningServers) {
+    String key = toKey(namespace, domainUid);
+    return (int) waiting.stream()
+          .filter(w -> !w.key.equals(key))
+          .filter(w -> !w.hasRunningServers || hasRunningServers)
+          .count() + 1;
+  }
+
+  // Admits waiting domains, in priority order, for as long as there is room. A domain whose namespace is full
+  // does not block domains from other namespaces. Must be called while synchronized.
+  private List<Waiter> admitWaiting() {
+    List<Waiter> admitted = new ArrayList<>();
+    Iterator<Waiter> iterator = waiting.iterator();
+    while (iterator.hasNext() && running.size() < getMaxConcurrent()) {
+      Waiter waiter = iterator.next();
+      if (waiter.isAbandoned()) {
+        iterator.remove();
+      } else if (hasCapacity(waiter.namespace)) {
+        iterator.remove();
+        running.put(waiter.key, new Admission(waiter.namespace, waiter.fiber));
+        admitted.add(waiter);
+      }
+    }
+    return admitted;
+  }
+
+  private boolean hasCapacity(String namespace) {
+    return running.size() < getMaxConcurrent() && countRunningIn(namespace) < getMaxConcurrentPerNamespace();
+  }
+
+  private long countRunningIn(String namespace) {
+    return running.values().stream().filter(admission -> admission.namespace.equals(namespace)).count();
+  }
+
+  // An admission is dropped if the fiber which held it has ended without releasing it, for example because
+  // it was cancelled before creating its job, and in any case once its job would have exceeded its deadline.
+  private void expireAdmissions() {
+    DateTime cutoff = SystemClock.now().minus(TimeUnit.SECONDS.toMillis(2 * getJobDeadlineSeconds()));
+    running.values().removeIf(admission -> admission.isAbandoned() || admission.time.isBefore(cutoff));
+  }
+
+  private static String toKey(String namespace, String domainUid) {
+    return namespace + "/" + domainUid;
+  }
+
+  private static int getMaxConcurrent() {
+    return Math.max(1, getIntParameter(MAX_CONCURRENT_PARAM, DEFAULT_MAX_CONCURRENT));
+  }
+
+  private static int getMaxConcurrentPerNamespace() {
+    int limit = getIntParameter(MAX_CONCURRENT_PER_NAMESPACE_PARAM, UNLIMITED);
+    return limit <= UNLIMITED ? Integer.MAX_VALUE : limit;
+  }
+
+  private static long getJobDeadlineSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getPodTuning)
+          .map(tuning -> tuning.introspectorJobActiveDeadlineSeconds)
+          .orElse((long) DEFAULT_JOB_DEADLINE_SECONDS);
+  }
+
+  private static int getIntParameter(String name, int defaultValue) {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.get(name))
+          .map(String::trim)
+          .filter(value -> !Strings.isNullOrEmpty(value))
+          .map(value -> parseInt(value, defaultValue))
+          .orElse(defaultValue);
+  }
+
+  private static int parseInt(String value, int defaultValue) {
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+      return defaultValue;
+    }
+  }
+
+  private static boolean isEnded(AsyncFiber fiber) {
+    return fiber instanceof Fiber && (((Fiber) fiber).isCancelled() || ((Fiber) fiber).isDone());
+  }
+
+  private static boolean hasRunningServers(DomainPresenceInfo info) {
+    return !ManagedServersUpStep.getRunningServers(info).isEmpty();
+  }
+
+  private static class Admission {
+    private final String namespace;
+    private final AsyncFiber fiber;
+    // job creation times are only recorded to the second
+    private final DateTime time = SystemClock.now().withMillisOfSecond(0);
+    private volatile String jobUid;
+
+    Admission(String namespace, AsyncFiber fiber) {
+      this.namespace = namespace;
+      this.fiber = fiber;
+    }
+
+    boolean isAbandoned() {
+      return isEnded(fiber);
+    }
+
+    // Matches the job recorded for this admission, or if none has yet been recorded, any job created since.
+    boolean isFor(String finishedJobUid, DateTime jobCreationTime) {
+      if (jobUid != null && finishedJobUid != null) {
+        return jobUid.equals(finishedJobUid);
+      }
+      return jobCreationTime == null || !jobCreationTime.isBefore(time);
+    }
+  }
+
+  private static class Waiter {
+    private final String key;
+    private final String namespace;
+    private final boolean hasRunningServers;
+    private final long sequence;
+    private final AsyncFiber fiber;
+    private final Packet packet;
+
+    Waiter(DomainPresenceInfo info, long sequence, AsyncFiber fiber, Packet packet) {
+      this.key = toKey(info.getNamespace(), info.getDomainUid());
+      this.namespace = info.getNamespace();
+      this.hasRunningServers = IntrospectionScheduler.hasRunningServers(info);
+      this.sequence = sequence;
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+
+    boolean hasRunningServers() {
+      return hasRunningServers;
+    }
+
+    long getSequence() {
+      return sequence;
+    }
+
+    boolean isAbandoned() {
+      return IntrospectionScheduler.isEnded(fiber);
+    }
+
+    void resume() {
+      fiber.resume(packet);
+    }
+  }
+
+  private static class AdmissionStep extends Step {
+
+    AdmissionStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      IntrospectionScheduler scheduler = getInstance();
+      long sequence = scheduler.takeSequence();
+      if (scheduler.tryAdmit(new Waiter(info, sequence, Fiber.getCurrentIfSet(), packet))) {
+        return doNext(packet);
+      }
+
+      LOGGER.info(MessageKeys.INTROSPECTION_QUEUED, info.getDomainUid(),
+            scheduler.getQueuePosition(info.getNamespace(), info.getDomainUid(), hasRunningServers(info)),
+            scheduler.getRunningCount());
+      Step wait = new WaitForAdmissionStep(getNext(), sequence);
+      return doNext(createProgressingStep(info, INTROSPECTION_QUEUED_PROGRESS_REASON, true, wait), packet);
+    }
+  }
+
+  private static class WaitForAdmissionStep extends Step {
+    private final long sequence;
+
+    WaitForAdmissionStep(Step next, long sequence) {
+      super(next);
+      this.sequence = sequence;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      return doSuspend(fiber -> getInstance().enqueue(new Waiter(info, sequence, fiber, packet)));
+    }
+  }
+}
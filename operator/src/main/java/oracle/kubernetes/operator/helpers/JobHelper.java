@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.helpers;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
@@ -88,7 +89,14 @@ public class JobHelper {
     return topology == null
           || isBringingUpNewDomain(info)
           || introspectionRequested(packet)
-          || isModelInImageUpdate(packet, info);
+          || isModelInImageUpdate(packet, info)
+          || isServerAddressingChanged(packet);
+  }
+
+  // The listen addresses of clustered servers depend on whether they are addressed through headless cluster services.
+  private static boolean isServerAddressingChanged(Packet packet) {
+    return ServiceHelper.isHeadlessClusterServicesIntrospected(packet)
+          != ServiceHelper.isHeadlessClusterServicesEnabled();
   }
 
   private static boolean isBringingUpNewDomain(DomainPresenceInfo info) {
@@ -207,6 +215,18 @@ public class JobHelper {
     return new ReadDomainIntrospectorPodStep(next);
   }
 
+  /**
+   * Returns the environment variables with which the introspector job would be created for the specified domain.
+   * The variables which tell the job how to reach an admin server started by an earlier introspection are omitted,
+   * as they do not depend on the domain resource.
+   *
+   * @param info the presence info for the domain
+   * @return the introspector job's environment variables
+   */
+  static List<V1EnvVar> getIntrospectorEnvironmentVariables(DomainPresenceInfo info) {
+    return new DomainIntrospectorJobStepContext(info).getEnvironmentVariables(TuningParameters.getInstance());
+  }
+
   static class DomainIntrospectorJobStepContext extends JobStepContext {
 
     // domainTopology is null if this is 1st time we're running job for this domain
@@ -218,6 +238,12 @@ public class JobHelper {
       init();
     }
 
+    // Describes the job which would be created for a domain which has not yet been introspected.
+    DomainIntrospectorJobStepContext(DomainPresenceInfo info) {
+      super(info);
+      this.domainTopology = null;
+    }
+
     /**
      * Creates the specified new pod and performs any additional needed processing.
      *
@@ -292,6 +318,8 @@ public class JobHelper {
       addEnvVar(vars, IntrospectorJobEnvVars.ISTIO_ENABLED, Boolean.toString(isIstioEnabled()));
       addEnvVar(vars, IntrospectorJobEnvVars.ISTIO_READINESS_PORT, Integer.toString(getIstioReadinessPort()));
       addEnvVar(vars, IntrospectorJobEnvVars.ISTIO_POD_NAMESPACE, getNamespace());
+      addEnvVarIfTrue(ServiceHelper.isHeadlessClusterServicesEnabled(), vars,
+            IntrospectorJobEnvVars.HEADLESS_CLUSTER_SERVICES);
 
       String dataHome = getDataHome();
       if (dataHome != null && !dataHome.isEmpty()) {
@@ -334,23 +362,64 @@ public class JobHelper {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-      if (runIntrospector(packet, info)) {
-        JobStepContext context = new DomainIntrospectorJobStepContext(packet);
+      if (!runIntrospector(packet, info)) {
+        return doNext(DomainValidationSteps.createValidateDomainTopologyStep(getNext()), packet);
+      } else if (IntrospectionDigest.isApplicable(info.getDomain())) {
+        return doNext(IntrospectionDigest.createDigestStep(new IntrospectIfInputsChangedStep(getNext())), packet);
+      } else {
+        return doNext(createIntrospectionSteps(packet, info, getNext()), packet);
+      }
+    }
+  }
 
-        packet.putIfAbsent(START_TIME, System.currentTimeMillis());
+  private static Step createIntrospectionSteps(Packet packet, DomainPresenceInfo info, Step next) {
+    JobStepContext context = new DomainIntrospectorJobStepContext(packet);
 
-        return doNext(
-            Step.chain(
-                createProgressingStep(info, INSPECTING_DOMAIN_PROGRESS_REASON, true, null),
-                context.createNewJob(null),
-                readDomainIntrospectorPodLogStep(null),
-                deleteDomainIntrospectorJobStep(null),
-                ConfigMapHelper.createIntrospectorConfigMapStep(getNext())),
-              packet);
+    packet.putIfAbsent(START_TIME, System.currentTimeMillis());
+
+    if (CallRecorder.isRecording(packet)) {
+      return Step.chain(
+            createProgressingStep(info, INSPECTING_DOMAIN_PROGRESS_REASON, true, null),
+            context.createNewJob(null),
+            ConfigMapHelper.createIntrospectionPreviewStep(next));
+    }
+
+    return Step.chain(
+          IntrospectionScheduler.createAdmissionStep(null),
+          createProgressingStep(info, INSPECTING_DOMAIN_PROGRESS_REASON, true, null),
+          context.createNewJob(null),
+          readDomainIntrospectorPodLogStep(null),
+          deleteDomainIntrospectorJobStep(null),
+          ConfigMapHelper.createIntrospectorConfigMapStep(next));
+  }
+
+  /**
+   * Runs the introspector unless the results recorded by the last introspection, which are already in the packet,
+   * were produced from the same inputs.
+   */
+  private static class IntrospectIfInputsChangedStep extends Step {
+
+    IntrospectIfInputsChangedStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      if (!isIntrospectionInputsUnchanged(packet)) {
+        return doNext(createIntrospectionSteps(packet, info, getNext()), packet);
       }
 
+      LOGGER.info(MessageKeys.INTROSPECTION_RESULT_REUSED, info.getDomainUid());
+      MakeRightDomainOperation.recordInspection(packet);
       return doNext(DomainValidationSteps.createValidateDomainTopologyStep(getNext()), packet);
     }
+
+    private boolean isIntrospectionInputsUnchanged(Packet packet) {
+      return packet.get(ProcessingConstants.DOMAIN_TOPOLOGY) != null
+          && Objects.equals(packet.get(ProcessingConstants.INTROSPECTION_INPUTS_DIGEST),
+                            packet.get(IntrospectorConfigMapKeys.INTROSPECTION_INPUTS_DIGEST));
+    }
   }
 
   private static class DeleteIntrospectorJobStep extends Step {
@@ -388,6 +457,9 @@ public class JobHelper {
       java.lang.String namespace = info.getNamespace();
       String jobName = JobHelper.createJobName(domainUid);
       logJobDeleted(domainUid, namespace, jobName, packet);
+      if (!CallRecorder.isRecording(packet)) {
+        IntrospectionScheduler.getInstance().release(namespace, domainUid);
+      }
       return new CallBuilder()
             .deleteJobAsync(
                   jobName,
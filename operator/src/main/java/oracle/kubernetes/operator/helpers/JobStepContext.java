@@ -45,7 +45,11 @@ public abstract class JobStepContext extends BasePodStepContext {
   private V1Job jobModel;
 
   JobStepContext(Packet packet) {
-    super(packet.getSpi(DomainPresenceInfo.class));
+    this(packet.getSpi(DomainPresenceInfo.class));
+  }
+
+  JobStepContext(DomainPresenceInfo info) {
+    super(info);
   }
 
   private static V1VolumeMount readOnlyVolumeMount(String volumeName, String mountPath) {
@@ -480,9 +484,15 @@ public abstract class JobStepContext extends BasePodStepContext {
       V1Job job = callResponse.getResult();
       if (job != null) {
         packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_JOB, job);
+        Optional.ofNullable(job.getMetadata()).map(V1ObjectMeta::getUid).ifPresent(this::recordJob);
       }
       return doNext(packet);
     }
+
+    // Only the completion of the job just created will release the domain's introspection admission.
+    private void recordJob(String jobUid) {
+      IntrospectionScheduler.getInstance().recordJob(getNamespace(), getDomainUid(), jobUid);
+    }
   }
 
   protected V1ConfigMapVolumeSource getWdtConfigMapVolumeSource(String name) {
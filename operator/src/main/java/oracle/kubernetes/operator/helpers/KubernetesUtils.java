@@ -130,7 +130,7 @@ public class KubernetesUtils {
     DateTime time2 = second.getCreationTimestamp();
 
     if (time1.equals(time2)) {
-      return getResourceVersion(first).compareTo(getResourceVersion(second)) > 0;
+      return compareResourceVersions(first.getResourceVersion(), second.getResourceVersion()) > 0;
     } else {
       return time1.isAfter(time2);
     }
@@ -173,6 +173,71 @@ public class KubernetesUtils {
     return BigInteger.ZERO;
   }
 
+  /**
+   * Compares two resource versions as {@link #getResourceVersion(String)} would, but without parsing them: the values
+   * are compared digit by digit, and a value which is not a non-negative decimal integer is treated as 0. This is
+   * intended for code which compares versions for every watch event, where allocating big integers is wasteful.
+   *
+   * @param first the first resource version
+   * @param second the second resource version
+   * @return a negative number, zero or a positive number as the first version is less than, equal to, or greater
+   *     than the second.
+   */
+  public static int compareResourceVersions(String first, String second) {
+    int firstStart = getFirstSignificantDigit(first);
+    int secondStart = getFirstSignificantDigit(second);
+    int firstLength = firstStart < 0 ? 0 : first.length() - firstStart;
+    int secondLength = secondStart < 0 ? 0 : second.length() - secondStart;
+    if (firstLength != secondLength) {
+      return Integer.compare(firstLength, secondLength);
+    }
+
+    for (int i = 0; i < firstLength; i++) {
+      int difference = first.charAt(firstStart + i) - second.charAt(secondStart + i);
+      if (difference != 0) {
+        return difference;
+      }
+    }
+    return 0;
+  }
+
+  // Returns the index of the first non-zero digit of a resource version, the length of the version if all its
+  // digits are zero, or -1 if the version is not a non-negative decimal integer.
+  private static int getFirstSignificantDigit(String resourceVersion) {
+    if (isNullOrEmpty(resourceVersion)) {
+      return -1;
+    }
+
+    int start = resourceVersion.length();
+    for (int i = resourceVersion.length() - 1; i >= 0; i--) {
+      char c = resourceVersion.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      } else if (c != '0') {
+        start = i;
+      }
+    }
+    return start;
+  }
+
+  /**
+   * Returns the resource version which follows the specified one. The version must be a non-negative decimal integer.
+   *
+   * @param resourceVersion a resource version
+   * @return the version, incremented by one
+   */
+  public static String incrementResourceVersion(String resourceVersion) {
+    char[] digits = resourceVersion.toCharArray();
+    for (int i = digits.length - 1; i >= 0; i--) {
+      if (digits[i] != '9') {
+        digits[i]++;
+        return new String(digits);
+      }
+      digits[i] = '0';
+    }
+    return "1" + new String(digits);
+  }
+
   public static V1ObjectMeta withOperatorLabels(String uid, V1ObjectMeta meta) {
     return meta.putLabelsItem(LabelConstants.DOMAINUID_LABEL, uid)
           .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true");
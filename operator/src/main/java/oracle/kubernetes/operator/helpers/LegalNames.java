@@ -16,6 +16,7 @@ public class LegalNames {
 
   private static final String SERVER_PATTERN = "%s-%s";
   private static final String CLUSTER_SERVICE_PATTERN = "%s-cluster-%s";
+  private static final String HEADLESS_CLUSTER_SERVICE_PATTERN = "%s-cluster-%s-headless";
   public static final String DOMAIN_INTROSPECTOR_JOB_SUFFIX = "-introspect-domain-job";
   private static final String DOMAIN_INTROSPECTOR_JOB_PATTERN = "%s" + DOMAIN_INTROSPECTOR_JOB_SUFFIX;
   private static final String EXTERNAL_SERVICE_PATTERN = "%s-%s-external";
@@ -68,6 +69,24 @@ public class LegalNames {
     return toDns1123LegalName(String.format(CLUSTER_SERVICE_PATTERN, domainUid, clusterName));
   }
 
+  public static String toHeadlessClusterServiceName(String domainUid, String clusterName) {
+    return toDns1123LegalName(String.format(HEADLESS_CLUSTER_SERVICE_PATTERN, domainUid, clusterName));
+  }
+
+  /**
+   * Returns the DNS name of a clustered server which is addressed through the headless service of its cluster,
+   * rather than through a service of its own. The pod of the server uses the server service name as its
+   * hostname and the headless cluster service name as its subdomain.
+   *
+   * @param domainUid the UID of the domain
+   * @param serverName the name of the server
+   * @param clusterName the name of the cluster to which the server belongs
+   * @return the name, relative to the namespace of the domain
+   */
+  public static String toClusteredServerAddress(String domainUid, String serverName, String clusterName) {
+    return toServerName(domainUid, serverName) + "." + toHeadlessClusterServiceName(domainUid, clusterName);
+  }
+
   public static String toJobIntrospectorName(String domainUid) {
     return toDns1123LegalName(String.format(DOMAIN_INTROSPECTOR_JOB_PATTERN, domainUid));
   }
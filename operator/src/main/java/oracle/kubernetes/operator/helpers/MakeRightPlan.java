@@ -0,0 +1,278 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import oracle.kubernetes.operator.DomainChange;
+import oracle.kubernetes.operator.helpers.CallRecorder.RecordedCall;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A preview of the work which a make-right would do to apply a proposed spec to a domain: whether the domain
+ * would be introspected, which servers would be started, stopped or rolled, which pods would be patched and which
+ * services replaced or deleted, together with the number of each which the make-right would process at once.
+ *
+ * <p>The preview is summarized from the calls which the make-right's own steps make when run as a dry run, so the
+ * parallelism of each action is that of the make-right itself. It does not include changes which would follow from
+ * a new topology, since those are only known once the introspector has run.
+ */
+public class MakeRightPlan {
+
+  public enum ActionType {
+    /** Runs the introspector job. */
+    INTROSPECT,
+    /** Creates pods for servers which are not running. */
+    START_SERVERS,
+    /** Deletes the pods of servers which should no longer run. */
+    STOP_SERVERS,
+    /** Replaces pods whose recipes would change. */
+    ROLL_PODS,
+    /** Patches the labels or annotations of pods which can otherwise be kept. */
+    PATCH_PODS,
+    /** Replaces services whose recipes would change. */
+    REPLACE_SERVICES,
+    /** Deletes services which are no longer needed. */
+    DELETE_SERVICES
+  }
+
+  private final DomainChange.Type changeType;
+  private final List<Action> actions = new ArrayList<>();
+
+  private MakeRightPlan(DomainChange.Type changeType) {
+    this.changeType = changeType;
+  }
+
+  /**
+   * Summarizes the calls recorded by a dry run of a make-right as the work which the make-right would do.
+   *
+   * @param changeType the classification of the change being applied
+   * @param recorder the recorder used by the dry run, or null if the make-right would not run
+   * @return the summarized plan
+   */
+  public static MakeRightPlan fromRecording(DomainChange.Type changeType, CallRecorder recorder) {
+    MakeRightPlan plan = new MakeRightPlan(changeType);
+    Optional.ofNullable(recorder).map(CallRecorder::getCalls).ifPresent(calls -> new Summarizer(plan).add(calls));
+    return plan;
+  }
+
+  public DomainChange.Type getChangeType() {
+    return changeType;
+  }
+
+  public List<Action> getActions() {
+    return Collections.unmodifiableList(actions);
+  }
+
+  private void addAction(ActionType type, String clusterName, List<String> targets, int parallelism, int waves) {
+    if (!targets.isEmpty()) {
+      actions.add(new Action(type, clusterName, targets,
+            Math.max(1, Math.min(parallelism, targets.size())), Math.max(1, waves)));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+          .append("changeType", changeType)
+          .append("actions", actions)
+          .toString();
+  }
+
+  /** One kind of work, applied to the members of a single cluster or to the servers outside clusters. */
+  public static class Action {
+    private final ActionType type;
+    private final String clusterName;
+    private final List<String> targets;
+    private final int parallelism;
+    private final int waves;
+
+    Action(ActionType type, String clusterName, List<String> targets, int parallelism, int waves) {
+      this.type = type;
+      this.clusterName = clusterName;
+      this.targets = targets;
+      this.parallelism = parallelism;
+      this.waves = waves;
+    }
+
+    public ActionType getType() {
+      return type;
+    }
+
+    /**
+     * Returns the name of the cluster to whose members this action applies.
+     * @return a cluster name, or null if the action does not apply to clustered servers
+     */
+    public String getClusterName() {
+      return clusterName;
+    }
+
+    /**
+     * Returns the names of the servers, services or jobs to which this action applies.
+     * @return a list of names
+     */
+    public List<String> getTargets() {
+      return Collections.unmodifiableList(targets);
+    }
+
+    /**
+     * Returns the largest number of targets which the make-right would process at once.
+     * @return a positive number
+     */
+    public int getParallelism() {
+      return parallelism;
+    }
+
+    /**
+     * Returns the number of successive groups in which the make-right would process the targets.
+     * @return a positive number
+     */
+    public int getWaves() {
+      return waves;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+            .append("type", type)
+            .append("clusterName", clusterName)
+            .append("targets", targets)
+            .append("parallelism", parallelism)
+            .append("waves", waves)
+            .toString();
+    }
+  }
+
+  // Classifies the recorded calls in the order they were made. A pod or service which is created again after
+  // being deleted has been replaced; one which is not has been stopped or deleted.
+  private static class Summarizer {
+    private final MakeRightPlan plan;
+    private final Map<Grouping, List<Interval>> groups = new TreeMap<>();
+    private final Map<String, RecordedCall> deletedPods = new LinkedHashMap<>();
+    private final Map<String, RecordedCall> deletedServices = new LinkedHashMap<>();
+
+    Summarizer(MakeRightPlan plan) {
+      this.plan = plan;
+    }
+
+    void add(List<RecordedCall> calls) {
+      calls.forEach(this::addCall);
+      deletedPods.values().forEach(call -> addPodAction(ActionType.STOP_SERVERS, call, call, call));
+      deletedServices.values()
+            .forEach(call -> addAction(ActionType.DELETE_SERVICES, null, call.getName(), call, call));
+      groups.forEach((grouping, intervals) ->
+            plan.addAction(grouping.type, grouping.clusterName,
+                  getTargets(intervals), getMaxOverlap(intervals), getWaves(intervals)));
+    }
+
+    private void addCall(RecordedCall call) {
+      switch (call.getCall()) {
+        case "createJob":
+          addAction(ActionType.INTROSPECT, null, call.getName(), call, call);
+          break;
+        case "deletePod":
+          deletedPods.put(call.getName(), call);
+          break;
+        case "createPod":
+          addCreatedPod(call, deletedPods.remove(call.getName()));
+          break;
+        case "patchPod":
+        case "applyPod":
+          addPodAction(ActionType.PATCH_PODS, call, call, call);
+          break;
+        case "deleteService":
+          deletedServices.put(call.getName(), call);
+          break;
+        case "createService":
+        case "applyService":
+          Optional.ofNullable(deletedServices.remove(call.getName()))
+                .ifPresent(deleted -> addAction(ActionType.REPLACE_SERVICES, null, call.getName(), deleted, call));
+          break;
+        default:
+      }
+    }
+
+    private void addCreatedPod(RecordedCall created, RecordedCall deleted) {
+      if (deleted == null) {
+        addPodAction(ActionType.START_SERVERS, created, created, created);
+      } else {
+        addPodAction(ActionType.ROLL_PODS, created, deleted, created);
+      }
+    }
+
+    private void addPodAction(ActionType type, RecordedCall pod, RecordedCall first, RecordedCall last) {
+      String target = Optional.ofNullable(pod.getServerName()).orElse(pod.getName());
+      addAction(type, pod.getClusterName(), target, first, last);
+    }
+
+    private void addAction(ActionType type, String clusterName, String target, RecordedCall first, RecordedCall last) {
+      groups.computeIfAbsent(new Grouping(type, clusterName), grouping -> new ArrayList<>())
+            .add(new Interval(target, first.getStartTime(), last.getEndTime()));
+    }
+
+    private List<String> getTargets(List<Interval> intervals) {
+      return intervals.stream()
+            .sorted(Comparator.comparingLong(interval -> interval.start))
+            .map(interval -> interval.target)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    // The steps start all the targets of one group at the same simulated time.
+    private int getWaves(List<Interval> intervals) {
+      return (int) intervals.stream().mapToLong(interval -> interval.start).distinct().count();
+    }
+
+    // The number of targets being processed at once is greatest at the start of one of them.
+    private int getMaxOverlap(List<Interval> intervals) {
+      return intervals.stream()
+            .mapToInt(interval -> (int) intervals.stream().filter(other -> other.includes(interval.start)).count())
+            .max()
+            .orElse(1);
+    }
+  }
+
+  private static class Grouping implements Comparable<Grouping> {
+    private final ActionType type;
+    private final String clusterName;
+
+    Grouping(ActionType type, String clusterName) {
+      this.type = type;
+      this.clusterName = clusterName;
+    }
+
+    // actions on servers outside clusters come before those on cluster members
+    @Override
+    public int compareTo(Grouping other) {
+      return Comparator.comparing((Grouping grouping) -> grouping.type)
+            .thenComparing(grouping -> grouping.clusterName, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .compare(this, other);
+    }
+  }
+
+  private static class Interval {
+    private final String target;
+    private final long start;
+    private final long end;
+
+    // an action which takes effect at once still occupies an instant
+    Interval(String target, long start, long end) {
+      this.target = target;
+      this.start = start;
+      this.end = Math.max(end, start + 1);
+    }
+
+    boolean includes(long time) {
+      return start <= time && time < end;
+    }
+  }
+}
@@ -77,6 +77,22 @@ public enum OperatorServiceType {
       return info.deleteClusterServiceFromEvent(ServiceHelper.getClusterName(event), event);
     }
   },
+  HEADLESS_CLUSTER {
+    @Override
+    void addToPresence(DomainPresenceInfo presenceInfo, V1Service service) {
+      presenceInfo.setHeadlessClusterService(ServiceHelper.getClusterName(service), service);
+    }
+
+    @Override
+    void updateFromEvent(DomainPresenceInfo presenceInfo, V1Service service) {
+      presenceInfo.setHeadlessClusterServiceFromEvent(ServiceHelper.getClusterName(service), service);
+    }
+
+    @Override
+    boolean deleteFromEvent(DomainPresenceInfo info, V1Service event) {
+      return info.deleteHeadlessClusterServiceFromEvent(ServiceHelper.getClusterName(event), event);
+    }
+  },
   UNKNOWN {
     @Override
     boolean matches(V1Service service) {
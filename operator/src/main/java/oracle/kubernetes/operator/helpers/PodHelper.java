@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1EnvVar;
@@ -93,18 +95,7 @@ public class PodHelper {
    * @return list containing scheduled pods
    */
   public static List<String> getScheduledPods(DomainPresenceInfo info, String clusterName) {
-    // These are presently scheduled servers
-    List<String> scheduledServers = new ArrayList<>();
-    for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
-      V1Pod pod = entry.getValue().getPod().get();
-      if (pod != null && !PodHelper.isDeleting(pod) && PodHelper.getScheduledStatus(pod)) {
-        String wlsClusterName = pod.getMetadata().getLabels().get(CLUSTERNAME_LABEL);
-        if ((wlsClusterName == null) || (wlsClusterName.contains(clusterName))) {
-          scheduledServers.add(entry.getKey());
-        }
-      }
-    }
-    return scheduledServers;
+    return getActiveServers(info, clusterName, info::getServerNamesWithScheduledPods);
   }
 
   /**
@@ -114,18 +105,29 @@ public class PodHelper {
    * @return list containing ready pods
    */
   public static List<String> getReadyPods(DomainPresenceInfo info, String clusterName) {
-    // These are presently Ready servers
-    List<String> readyServers = new ArrayList<>();
-    for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
-      V1Pod pod = entry.getValue().getPod().get();
-      if (pod != null && !PodHelper.isDeleting(pod) && PodHelper.getReadyStatus(pod)) {
-        String wlsClusterName = pod.getMetadata().getLabels().get(CLUSTERNAME_LABEL);
-        if ((wlsClusterName == null) || (wlsClusterName.contains(clusterName))) {
-          readyServers.add(entry.getKey());
-        }
+    return getActiveServers(info, clusterName, info::getServerNamesWithReadyPods);
+  }
+
+  // Returns the servers selected from the index for both the cluster and the non-clustered servers,
+  // omitting those whose pods are being deleted.
+  private static List<String> getActiveServers(
+        DomainPresenceInfo info, String clusterName, Function<String, Set<String>> selector) {
+    List<String> servers = new ArrayList<>();
+    addActiveServers(servers, info, null, selector);
+    if (clusterName != null) {
+      addActiveServers(servers, info, clusterName, selector);
+    }
+    return servers;
+  }
+
+  private static void addActiveServers(
+        List<String> servers, DomainPresenceInfo info, String clusterName, Function<String, Set<String>> selector) {
+    Set<String> deleting = info.getServerNamesWithDeletingPods(clusterName);
+    for (String serverName : selector.apply(clusterName)) {
+      if (!deleting.contains(serverName)) {
+        servers.add(serverName);
       }
     }
-    return readyServers;
   }
 
   /**
@@ -291,8 +293,6 @@ public class PodHelper {
     AdminPodStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet);
       this.packet = packet;
-
-      init();
     }
 
     @Override
@@ -413,8 +413,6 @@ public class PodHelper {
       super(conflictStep, packet);
       this.packet = packet;
       clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-
-      init();
     }
 
     @Override
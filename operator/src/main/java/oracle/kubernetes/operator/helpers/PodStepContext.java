@@ -7,6 +7,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,6 +41,7 @@ import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.ServerLaunchMode;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
@@ -48,6 +50,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
+import oracle.kubernetes.operator.wlsconfig.TopologyDiff;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.NextAction;
@@ -76,6 +79,7 @@ public abstract class PodStepContext extends BasePodStepContext {
   private final String miiModelSecretsHash;
   private final String miiDomainZipHash;
   private final String domainRestartVersion;
+  private final boolean headlessClusterServices;
 
   PodStepContext(Step conflictStep, Packet packet) {
     super(packet.getSpi(DomainPresenceInfo.class));
@@ -85,17 +89,18 @@ public abstract class PodStepContext extends BasePodStepContext {
     miiDomainZipHash = (String)packet.get(IntrospectorConfigMapKeys.DOMAINZIP_HASH);
     domainRestartVersion = (String)packet.get(IntrospectorConfigMapKeys.DOMAIN_RESTART_VERSION);
     scan = (WlsServerConfig) packet.get(ProcessingConstants.SERVER_SCAN);
+    headlessClusterServices = ServiceHelper.isHeadlessClusterServicesIntrospected(packet);
   }
 
   private static boolean isCustomerItem(Map.Entry<String, String> entry) {
     return !entry.getKey().startsWith("weblogic.");
   }
 
-  void init() {
-    podModel = createPodModel();
-  }
-
+  // The model is computed only when needed, since a pod known to be current need not be compared with it.
   V1Pod getPodModel() {
+    if (podModel == null) {
+      podModel = createPodModel();
+    }
     return podModel;
   }
 
@@ -245,6 +250,18 @@ public abstract class PodStepContext extends BasePodStepContext {
     return null;
   }
 
+  // A clustered server may be addressed through the headless service of its cluster, in which case the
+  // introspector will have set its listen address to the DNS name of its pod within that service.
+  private boolean isAddressedThroughClusterService() {
+    return headlessClusterServices && getClusterName() != null;
+  }
+
+  private String getServerAddress() {
+    return isAddressedThroughClusterService()
+        ? LegalNames.toClusteredServerAddress(getDomainUid(), getServerName(), getClusterName())
+        : LegalNames.toServerServiceName(getDomainUid(), getServerName());
+  }
+
   // Prevent the watcher from recreating pod with old spec
   private void markBeingDeleted() {
     info.setServerPodBeingDeleted(getServerName(), Boolean.TRUE);
@@ -335,6 +352,10 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   protected Step patchPod(V1Pod currentPod, Step next) {
+    if (CallBuilder.isServerSideApplyEnabled()) {
+      return applyPodMetadata(next);
+    }
+
     JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
 
     KubernetesUtils.addPatches(
@@ -347,6 +368,18 @@ public abstract class PodStepContext extends BasePodStepContext {
             new V1Patch(patchBuilder.build().toString()), patchResponse(next));
   }
 
+  // Only the labels and annotations of a running pod may change, so only those are sent. The API server merges
+  // them with those set by others, without the operator computing a patch from its cached copy of the pod.
+  private Step applyPodMetadata(Step next) {
+    V1Pod pod = new V1Pod().apiVersion("v1").kind("Pod")
+        .metadata(new V1ObjectMeta()
+            .name(getPodName())
+            .namespace(getNamespace())
+            .labels(new HashMap<>(getPodLabels()))
+            .annotations(new HashMap<>(getPodAnnotations())));
+    return new CallBuilder().applyPodAsync(getPodName(), getNamespace(), pod, patchResponse(next));
+  }
+
   private Map<String, String> getLabels(V1Pod pod) {
     return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getLabels).orElseGet(Collections::emptyMap);
   }
@@ -401,6 +434,31 @@ public abstract class PodStepContext extends BasePodStepContext {
     return useCurrent;
   }
 
+  // A pod already found to match its recipe need not be compared with it again, if the last introspection
+  // did not affect its server, and neither the domain resource nor the other inputs to the recipe have changed.
+  private boolean isUnchangedSinceVerified(Packet packet, V1Pod currentPod) {
+    return Optional.ofNullable((TopologyDiff) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY_DIFF))
+          .map(diff -> !diff.isServerAffected(getServerName(), getClusterName()))
+          .orElse(false)
+        && info.isVerified(getVerificationKey(), currentPod, getRecipeInputs());
+  }
+
+  private String getVerificationKey() {
+    return "pod/" + getServerName();
+  }
+
+  private List<Object> getRecipeInputs() {
+    return Arrays.asList(
+          scan,
+          domainTopology.getName(),
+          domainTopology.getAdminServerName(),
+          miiModelSecretsHash,
+          miiDomainZipHash,
+          domainRestartVersion,
+          headlessClusterServices,
+          Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getPodTuning).orElse(null));
+  }
+
   private String getReasonToRecycle(V1Pod currentPod) {
     PodCompatibility compatibility = new PodCompatibility(getPodModel(), currentPod);
     return compatibility.getIncompatibility();
@@ -477,6 +535,9 @@ public abstract class PodStepContext extends BasePodStepContext {
     addDefaultEnvVarIfMissing(env, "SHUTDOWN_TYPE", shutdown.getShutdownType());
     addDefaultEnvVarIfMissing(env, "SHUTDOWN_TIMEOUT", String.valueOf(shutdown.getTimeoutSeconds()));
     addDefaultEnvVarIfMissing(env, "SHUTDOWN_IGNORE_SESSIONS", String.valueOf(shutdown.getIgnoreSessions()));
+    if (shutdown.isRestShutdownMethod()) {
+      addDefaultEnvVarIfMissing(env, "SHUTDOWN_METHOD", shutdown.getShutdownMethod());
+    }
   }
 
   private Shutdown getShutdownSpec() {
@@ -551,6 +612,11 @@ public abstract class PodStepContext extends BasePodStepContext {
         .readinessGates(getReadinessGates())
         .initContainers(getServerSpec().getInitContainers());
 
+    if (isAddressedThroughClusterService()) {
+      podSpec.hostname(getPodName())
+          .subdomain(LegalNames.toHeadlessClusterServiceName(getDomainUid(), getClusterName()));
+    }
+
     for (V1Volume additionalVolume : getVolumes(getDomainUid())) {
       podSpec.addVolumesItem(additionalVolume);
     }
@@ -570,6 +636,9 @@ public abstract class PodStepContext extends BasePodStepContext {
     if (getDomainHomeSourceType() == DomainSourceType.FromModel) {
       volumes.add(createRuntimeEncryptionSecretVolume());
     }
+    if (getShutdownSpec().isRestShutdownMethod()) {
+      volumes.add(createCredentialsSecretVolume());
+    }
 
     return volumes;
   }
@@ -613,6 +682,9 @@ public abstract class PodStepContext extends BasePodStepContext {
     if (getDomainHomeSourceType() == DomainSourceType.FromModel) {
       mounts.add(createRuntimeEncryptionSecretVolumeMount());
     }
+    if (getShutdownSpec().isRestShutdownMethod()) {
+      mounts.add(createCredentialsSecretVolumeMount());
+    }
     return mounts;
   }
 
@@ -626,6 +698,17 @@ public abstract class PodStepContext extends BasePodStepContext {
     return new V1SecretVolumeSource().secretName(name).defaultMode(420);
   }
 
+  // The REST shutdown method authenticates to the server with the WebLogic credentials
+  private V1Volume createCredentialsSecretVolume() {
+    return new V1Volume()
+        .name(SECRETS_VOLUME)
+        .secret(new V1SecretVolumeSource().secretName(getDomain().getWebLogicCredentialsSecretName()).defaultMode(420));
+  }
+
+  private V1VolumeMount createCredentialsSecretVolumeMount() {
+    return new V1VolumeMount().name(SECRETS_VOLUME).mountPath(SECRETS_MOUNT_PATH).readOnly(true);
+  }
+
   /**
    * Sets the environment variables used by operator/src/main/resources/scripts/startServer.sh
    * @param vars a list to which new variables are to be added
@@ -642,10 +725,17 @@ public abstract class PodStepContext extends BasePodStepContext {
     addEnvVar(vars, ServerEnvVars.NODEMGR_HOME, NODEMGR_HOME);
     addEnvVar(vars, ServerEnvVars.LOG_HOME, getEffectiveLogHome());
     addEnvVar(vars, ServerEnvVars.SERVER_OUT_IN_POD_LOG, isIncludeServerOutInPodLog());
-    addEnvVar(vars, ServerEnvVars.SERVICE_NAME, LegalNames.toServerServiceName(getDomainUid(), getServerName()));
+    addEnvVar(vars, ServerEnvVars.SERVICE_NAME, getServerAddress());
     addEnvVar(vars, ServerEnvVars.AS_SERVICE_NAME, LegalNames.toServerServiceName(getDomainUid(), getAsName()));
     Optional.ofNullable(getDataHome()).ifPresent(v -> addEnvVar(vars, ServerEnvVars.DATA_HOME, v));
     addEnvVarIfTrue(mockWls(), vars, "MOCK_WLS");
+    if (isDirectLaunch()) {
+      addEnvVar(vars, ServerEnvVars.SERVER_LAUNCH_MODE, ServerLaunchMode.Direct.name());
+    }
+  }
+
+  private boolean isDirectLaunch() {
+    return ServerLaunchMode.Direct.name().equals(getServerSpec().getLaunchMode());
   }
 
   private String getDomainHome() {
@@ -810,6 +900,9 @@ public abstract class PodStepContext extends BasePodStepContext {
       V1Pod currentPod = info.getServerPod(getServerName());
       if (currentPod == null) {
         return doNext(createNewPod(getNext()), packet);
+      } else if (isUnchangedSinceVerified(packet, currentPod)) {
+        logPodExists();
+        return doNext(packet);
       } else if (!canUseCurrentPod(currentPod)) {
         LOGGER.info(
             MessageKeys.CYCLING_POD,
@@ -819,6 +912,7 @@ public abstract class PodStepContext extends BasePodStepContext {
       } else if (mustPatchPod(currentPod)) {
         return doNext(patchCurrentPod(currentPod, getNext()), packet);
       } else {
+        info.recordVerified(getVerificationKey(), currentPod, getRecipeInputs());
         logPodExists();
         return doNext(packet);
       }
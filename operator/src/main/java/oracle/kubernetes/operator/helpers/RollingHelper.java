@@ -6,14 +6,15 @@ package oracle.kubernetes.operator.helpers;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 
-import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -57,18 +58,25 @@ public class RollingHelper {
     return new RollingStep(rolling, next);
   }
 
-  private static List<String> getReadyServers(DomainPresenceInfo info) {
+  private static Set<String> getReadyServers(DomainPresenceInfo info) {
     // These are presently Ready servers
-    List<String> availableServers = new ArrayList<>();
-    for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
-      V1Pod pod = entry.getValue().getPod().get();
-      if (pod != null && !PodHelper.isDeleting(pod) && PodHelper.getReadyStatus(pod)) {
-        availableServers.add(entry.getKey());
-      }
+    Set<String> availableServers = new HashSet<>();
+    addReadyServers(availableServers, info, null);
+    for (String clusterName : info.getPodClusterNames()) {
+      addReadyServers(availableServers, info, clusterName);
     }
     return availableServers;
   }
 
+  private static void addReadyServers(Set<String> availableServers, DomainPresenceInfo info, String clusterName) {
+    Set<String> deleting = info.getServerNamesWithDeletingPods(clusterName);
+    for (String serverName : info.getServerNamesWithReadyPods(clusterName)) {
+      if (!deleting.contains(serverName)) {
+        availableServers.add(serverName);
+      }
+    }
+  }
+
   private static class RollingStep extends Step {
     private final Map<String, StepAndPacket> rolling;
 
@@ -89,7 +97,7 @@ public class RollingHelper {
 
       Domain dom = info.getDomain();
       // These are presently Ready servers
-      List<String> availableServers = getReadyServers(info);
+      Set<String> availableServers = getReadyServers(info);
 
       Collection<StepAndPacket> serversThatCanRestartNow = new ArrayList<>();
       Map<String, Queue<StepAndPacket>> clusteredRestarts = new HashMap<>();
@@ -188,7 +196,7 @@ public class RollingHelper {
       // Refresh as this is constantly changing
       Domain dom = info.getDomain();
       // These are presently Ready servers
-      List<String> availableServers = getReadyServers(info);
+      Set<String> availableServers = getReadyServers(info);
 
       List<String> readyServers = new ArrayList<>();
 
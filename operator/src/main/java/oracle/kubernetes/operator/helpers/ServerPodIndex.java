@@ -0,0 +1,118 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+
+/**
+ * Indexes the servers of a domain by the cluster label and state of their pods, so that the servers with pods
+ * in a given state can be found without examining every pod. Servers whose pods have no cluster label are indexed
+ * under a null cluster name.
+ */
+class ServerPodIndex {
+  // the key for servers whose pods have no cluster label, since a concurrent map may not have a null key
+  private static final String NON_CLUSTERED = "";
+
+  private final Map<String, ClusterPods> clusters = new ConcurrentHashMap<>();
+
+  /**
+   * Records a change to the pod of a server. Calls must be serialized, and made in the order of the changes.
+   *
+   * @param serverName the name of the server
+   * @param oldPod the pod previously recorded for the server, or null
+   * @param newPod the pod now recorded for the server, or null
+   */
+  void update(String serverName, V1Pod oldPod, V1Pod newPod) {
+    if (oldPod != null) {
+      getClusterPods(getClusterName(oldPod)).remove(serverName);
+    }
+    if (newPod != null) {
+      getClusterPods(getClusterName(newPod)).add(serverName, newPod);
+    }
+  }
+
+  private ClusterPods getClusterPods(String clusterName) {
+    return clusters.computeIfAbsent(toKey(clusterName), k -> new ClusterPods());
+  }
+
+  private String getClusterName(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata())
+          .map(V1ObjectMeta::getLabels)
+          .map(labels -> labels.get(CLUSTERNAME_LABEL))
+          .orElse(null);
+  }
+
+  private String toKey(String clusterName) {
+    return Optional.ofNullable(clusterName).orElse(NON_CLUSTERED);
+  }
+
+  Collection<String> getClusterNames() {
+    return clusters.entrySet().stream()
+          .filter(entry -> !entry.getKey().equals(NON_CLUSTERED) && !entry.getValue().servers.isEmpty())
+          .map(Map.Entry::getKey)
+          .collect(Collectors.toList());
+  }
+
+  Set<String> getServers(String clusterName) {
+    return getView(clusterName, pods -> pods.servers);
+  }
+
+  Set<String> getReadyServers(String clusterName) {
+    return getView(clusterName, pods -> pods.ready);
+  }
+
+  Set<String> getScheduledServers(String clusterName) {
+    return getView(clusterName, pods -> pods.scheduled);
+  }
+
+  Set<String> getDeletingServers(String clusterName) {
+    return getView(clusterName, pods -> pods.deleting);
+  }
+
+  private Set<String> getView(String clusterName, Function<ClusterPods, Set<String>> selector) {
+    return Optional.ofNullable(clusters.get(toKey(clusterName)))
+          .map(selector)
+          .map(Collections::unmodifiableSet)
+          .orElse(Collections.emptySet());
+  }
+
+  private static class ClusterPods {
+    private final Set<String> servers = ConcurrentHashMap.newKeySet();
+    private final Set<String> ready = ConcurrentHashMap.newKeySet();
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+    private final Set<String> deleting = ConcurrentHashMap.newKeySet();
+
+    void add(String serverName, V1Pod pod) {
+      servers.add(serverName);
+      addIf(ready, serverName, PodHelper.getReadyStatus(pod));
+      addIf(scheduled, serverName, PodHelper.getScheduledStatus(pod));
+      addIf(deleting, serverName, PodHelper.isDeleting(pod));
+    }
+
+    private void addIf(Set<String> set, String serverName, boolean condition) {
+      if (condition) {
+        set.add(serverName);
+      }
+    }
+
+    void remove(String serverName) {
+      servers.remove(serverName);
+      ready.remove(serverName);
+      scheduled.remove(serverName);
+      deleting.remove(serverName);
+    }
+  }
+}
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -18,14 +19,17 @@ import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.openapi.models.V1Status;
 import oracle.kubernetes.operator.DomainStatusUpdater;
+import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
+import oracle.kubernetes.operator.wlsconfig.TopologyDiff;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
@@ -56,6 +60,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_REP
 public class ServiceHelper {
   public static final String CLUSTER_IP_TYPE = "ClusterIP";
   public static final String NODE_PORT_TYPE = "NodePort";
+  static final String HEADLESS_CLUSTER_SERVICES_PARAM = "headlessClusterServices";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private ServiceHelper() {
@@ -82,6 +87,44 @@ public class ServiceHelper {
     return new ForServerStep(isPreserveServices, next);
   }
 
+  /**
+   * Returns true if the operator is configured to address clustered servers through one headless service per
+   * cluster, rather than through a service per server. A domain uses this mode once it has been introspected
+   * with it; see {@link #isAddressedThroughClusterService(Packet, String)}.
+   *
+   * @return true if headless cluster services are enabled
+   */
+  public static boolean isHeadlessClusterServicesEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.get(HEADLESS_CLUSTER_SERVICES_PARAM))
+          .map(String::trim)
+          .map(Boolean::parseBoolean)
+          .orElse(false);
+  }
+
+  /**
+   * Returns true if the last introspection of the domain in the packet was done with headless cluster services.
+   *
+   * @param packet the packet for the domain
+   * @return true if the listen addresses of clustered servers use their headless cluster services
+   */
+  public static boolean isHeadlessClusterServicesIntrospected(Packet packet) {
+    return Boolean.parseBoolean((String) packet.get(IntrospectorConfigMapKeys.HEADLESS_CLUSTER_SERVICES));
+  }
+
+  /**
+   * Returns true if the servers of the specified cluster are addressed through the headless service of the
+   * cluster, rather than through services of their own. Their pods then use their server service names as
+   * their hostnames and the headless service name as their subdomains.
+   *
+   * @param packet the packet for the domain
+   * @param clusterName the name of a cluster, or null for a standalone server
+   * @return true if no per-server service is needed
+   */
+  public static boolean isAddressedThroughClusterService(Packet packet, String clusterName) {
+    return clusterName != null && isHeadlessClusterServicesIntrospected(packet);
+  }
+
   static V1Service createServerServiceModel(Packet packet) {
     return new ServerServiceStepContext(false, null, packet).createModel();
   }
@@ -156,6 +199,21 @@ public class ServiceHelper {
     return new ForClusterStep(next);
   }
 
+  /**
+   * Create asynchronous step for the headless service through which the servers of a cluster are addressed.
+   * If the domain does not use headless cluster services, the step deletes any such service instead.
+   *
+   * @param next Next processing step
+   * @return Step for headless cluster service creation
+   */
+  public static Step createForHeadlessClusterStep(Step next) {
+    return new ForHeadlessClusterStep(next);
+  }
+
+  static V1Service createHeadlessClusterServiceModel(Packet packet) {
+    return new HeadlessClusterStepContext(null, packet).createModel();
+  }
+
   static V1Service createClusterServiceModel(Packet packet) {
     return new ClusterStepContext(null, packet).createModel();
   }
@@ -186,6 +244,16 @@ public class ServiceHelper {
       this.isPreserveServices = isPreserveServices;
     }
 
+    @Override
+    public NextAction apply(Packet packet) {
+      String clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
+      if (isAddressedThroughClusterService(packet, clusterName)) {
+        String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+        return doNext(deleteServicesStep(serverName, getNext()), packet);
+      }
+      return super.apply(packet);
+    }
+
     @Override
     protected ServiceStepContext createContext(Packet packet) {
       return new ServerServiceStepContext(isPreserveServices, this, packet);
@@ -278,6 +346,16 @@ public class ServiceHelper {
       return clusterName;
     }
 
+    @Override
+    boolean isUnaffectedBy(TopologyDiff topologyDiff) {
+      return !topologyDiff.isServerAffected(getServerName(), getClusterName());
+    }
+
+    @Override
+    Object getRecipeInputs() {
+      return Arrays.asList(scan, getDomainName(), isPreserveServices);
+    }
+
     @Override
     protected void logServiceExists() {
       LOGGER.fine(getServiceExistsMessageKey(), getDomainUid(), getServerName());
@@ -379,12 +457,14 @@ public class ServiceHelper {
     private final Step conflictStep;
     protected List<V1ServicePort> ports;
     final WlsDomainConfig domainTopology;
+    final TopologyDiff topologyDiff;
     private final OperatorServiceType serviceType;
 
     ServiceStepContext(Step conflictStep, Packet packet, OperatorServiceType serviceType) {
       super(packet.getSpi(DomainPresenceInfo.class));
       this.conflictStep = conflictStep;
       domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      topologyDiff = (TopologyDiff) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY_DIFF);
       this.serviceType = serviceType;
     }
 
@@ -508,7 +588,11 @@ public class ServiceHelper {
       V1Service service = getServiceFromRecord();
       if (service == null) {
         return createNewService(next);
+      } else if (isUnchangedSinceVerified(service)) {
+        logServiceExists();
+        return next;
       } else if (canUseCurrentService(createModel(), service)) {
+        info.recordVerified(getVerificationKey(), service, getRecipeInputs());
         logServiceExists();
         return next;
       } else {
@@ -519,6 +603,26 @@ public class ServiceHelper {
 
     protected abstract void logServiceExists();
 
+    // A service already found to match its recipe need not be compared with it again, if the last introspection
+    // did not affect it, and neither the domain resource nor the other inputs to the recipe have changed.
+    private boolean isUnchangedSinceVerified(V1Service service) {
+      return topologyDiff != null
+          && isUnaffectedBy(topologyDiff)
+          && info.isVerified(getVerificationKey(), service, getRecipeInputs());
+    }
+
+    boolean isUnaffectedBy(TopologyDiff topologyDiff) {
+      return false;
+    }
+
+    Object getRecipeInputs() {
+      return null;
+    }
+
+    private String getVerificationKey() {
+      return "service/" + createServiceName();
+    }
+
     private Step createNewService(Step next) {
       return createService(getServiceCreatedMessageKey(), next);
     }
@@ -538,7 +642,17 @@ public class ServiceHelper {
 
     protected abstract String getServiceReplaceMessageKey();
 
+    // With server-side apply, a service which exists although it is not recorded is updated in place,
+    // rather than causing a conflict which must be resolved by reading it.
     private Step createService(String messageKey, Step next) {
+      if (CallBuilder.isServerSideApplyEnabled()) {
+        return new CallBuilder()
+            .applyServiceAsync(
+                createServiceName(),
+                getNamespace(),
+                createModel().apiVersion("v1").kind("Service"),
+                new CreateResponse(messageKey, next));
+      }
       return new CallBuilder()
           .createServiceAsync(getNamespace(), createModel(), new CreateResponse(messageKey, next));
     }
@@ -681,12 +795,16 @@ public class ServiceHelper {
   }
 
   private static class ClusterStepContext extends ServiceStepContext {
-    private final String clusterName;
+    final String clusterName;
     private final WlsDomainConfig config;
     final Map<String, V1ServicePort> ports = new HashMap<>();
 
     ClusterStepContext(Step conflictStep, Packet packet) {
-      super(conflictStep, packet, OperatorServiceType.CLUSTER);
+      this(conflictStep, packet, OperatorServiceType.CLUSTER);
+    }
+
+    ClusterStepContext(Step conflictStep, Packet packet, OperatorServiceType serviceType) {
+      super(conflictStep, packet, serviceType);
       clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
       config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
     }
@@ -696,6 +814,16 @@ public class ServiceHelper {
           .putSelectorItem(LabelConstants.CLUSTERNAME_LABEL, clusterName);
     }
 
+    @Override
+    boolean isUnaffectedBy(TopologyDiff topologyDiff) {
+      return !topologyDiff.isClusterAffected(clusterName);
+    }
+
+    @Override
+    Object getRecipeInputs() {
+      return Arrays.asList(config.getClusterConfig(clusterName), getDomainName());
+    }
+
     protected List<V1ServicePort> createServicePorts() {
       for (WlsServerConfig server : getServerConfigs(config.getClusterConfig(clusterName))) {
         addServicePorts(server);
@@ -779,6 +907,81 @@ public class ServiceHelper {
     }
   }
 
+  private static class ForHeadlessClusterStep extends ServiceHelperStep {
+    ForHeadlessClusterStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (isHeadlessClusterServicesIntrospected(packet)) {
+        return super.apply(packet);
+      }
+
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      String clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
+      V1Service oldService = info.getHeadlessClusterService(clusterName);
+      if (oldService == null) {
+        return doNext(packet);
+      }
+
+      info.removeHeadlessClusterService(clusterName);
+      return doNext(new CallBuilder().deleteServiceAsync(oldService.getMetadata().getName(), info.getNamespace(),
+            new V1DeleteOptions(), new DefaultResponseStep<>(getNext())), packet);
+    }
+
+    @Override
+    protected ServiceStepContext createContext(Packet packet) {
+      return new HeadlessClusterStepContext(this, packet);
+    }
+  }
+
+  // A headless service which selects the pods of a cluster. Each pod uses the service as its subdomain,
+  // so that it is known by a stable DNS name without requiring a service of its own.
+  private static class HeadlessClusterStepContext extends ClusterStepContext {
+    private final KubernetesVersion version;
+
+    HeadlessClusterStepContext(Step conflictStep, Packet packet) {
+      super(conflictStep, packet, OperatorServiceType.HEADLESS_CLUSTER);
+      version = packet.getSpi(KubernetesVersion.class);
+    }
+
+    @Override
+    protected V1ServiceSpec createServiceSpec() {
+      V1ServiceSpec serviceSpec = super.createServiceSpec().clusterIP("None");
+      if (version != null && version.isPublishNotReadyAddressesSupported()) {
+        serviceSpec.setPublishNotReadyAddresses(Boolean.TRUE);
+      }
+      return serviceSpec;
+    }
+
+    @Override
+    protected V1ObjectMeta createMetadata() {
+      return super.createMetadata()
+          .putAnnotationsItem("service.alpha.kubernetes.io/tolerate-unready-endpoints", "true");
+    }
+
+    @Override
+    protected String createServiceName() {
+      return LegalNames.toHeadlessClusterServiceName(getDomainUid(), clusterName);
+    }
+
+    @Override
+    protected V1Service getServiceFromRecord() {
+      return info.getHeadlessClusterService(clusterName);
+    }
+
+    @Override
+    protected void addServiceToRecord(@Nonnull V1Service service) {
+      info.setHeadlessClusterService(clusterName, service);
+    }
+
+    @Override
+    protected void removeServiceFromRecord() {
+      info.removeHeadlessClusterService(clusterName);
+    }
+  }
+
   private static class ForExternalServiceStep extends ServiceHelperStep {
     ForExternalServiceStep(Step next) {
       super(next);
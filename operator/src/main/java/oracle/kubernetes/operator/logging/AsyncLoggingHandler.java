@@ -0,0 +1,293 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+/**
+ * A log handler which writes to a stream on its own thread, so that threads which log are not held up when the
+ * stream cannot keep up. Records are formatted on the logging thread, which holds the fiber and logging context
+ * that the formatter reports, and the results are queued in a bounded ring buffer. A single writer thread drains
+ * the buffer and writes the queued records in batches, flushing once per batch.
+ *
+ * <p>When the buffer is three-quarters full, records at or below the discard level are dropped, leaving room for
+ * more important records. When it is full, records at or above the block level wait for room; all others are
+ * dropped. The writer reports how many records have been dropped, and at which levels, in a warning (WLSKO-0185)
+ * written with the next batch; that warning is the supported way to monitor dropped records.
+ */
+public class AsyncLoggingHandler extends Handler {
+  static final String PREFIX = AsyncLoggingHandler.class.getName();
+  static final String ENABLED_PROPERTY = PREFIX + ".enabled";
+  static final String CAPACITY_PROPERTY = PREFIX + ".capacity";
+  static final String DISCARD_LEVEL_PROPERTY = PREFIX + ".discardLevel";
+  static final String BLOCK_LEVEL_PROPERTY = PREFIX + ".blockLevel";
+  static final String CONSOLE_LEVEL_PROPERTY = "java.util.logging.ConsoleHandler.level";
+  static final String CONSOLE_ENCODING_PROPERTY = "java.util.logging.ConsoleHandler.encoding";
+
+  static final int DEFAULT_CAPACITY = 8192;
+  static final Level DEFAULT_DISCARD_LEVEL = Level.FINE;
+  static final Level DEFAULT_BLOCK_LEVEL = Level.WARNING;
+
+  private static final int BATCH_SIZE = 256;
+  private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long BLOCKED_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+  private final BoundedRingBuffer<String> buffer;
+  private final int discardThreshold;
+  private final Level discardLevel;
+  private final Level blockLevel;
+  private final Map<Level, LongAdder> droppedCounts = new ConcurrentHashMap<>();
+  private final StringBuilder batch = new StringBuilder();
+  private final Writer writer;
+  private volatile Thread writerThread;
+  private volatile boolean writerWaiting;
+  private volatile boolean closed;
+  private final Map<Level, Long> reportedCounts = new TreeMap<>(Comparator.comparingInt(Level::intValue));
+
+  /**
+   * Creates a handler.
+   *
+   * @param out the stream to which formatted records are written
+   * @param charset the character set in which to write them
+   * @param capacity the minimum number of records which may be queued
+   * @param discardLevel the level at or below which records are dropped first
+   * @param blockLevel the level at or above which records wait for room rather than being dropped
+   */
+  AsyncLoggingHandler(OutputStream out, Charset charset, int capacity, Level discardLevel, Level blockLevel) {
+    this.writer = new OutputStreamWriter(out, charset);
+    this.buffer = new BoundedRingBuffer<>(capacity);
+    this.discardThreshold = buffer.capacity() * 3 / 4;
+    this.discardLevel = discardLevel;
+    this.blockLevel = blockLevel;
+  }
+
+  /**
+   * Creates a handler which writes to the console, as configured by the log manager properties, and starts its
+   * writer thread.
+   *
+   * @return a new handler
+   */
+  static AsyncLoggingHandler createConsoleHandler() {
+    AsyncLoggingHandler handler = new AsyncLoggingHandler(
+        System.err,
+        getCharset(),
+        getIntProperty(CAPACITY_PROPERTY, DEFAULT_CAPACITY),
+        getLevelProperty(DISCARD_LEVEL_PROPERTY, DEFAULT_DISCARD_LEVEL),
+        getLevelProperty(BLOCK_LEVEL_PROPERTY, DEFAULT_BLOCK_LEVEL));
+    handler.setLevel(getLevelProperty(CONSOLE_LEVEL_PROPERTY, Level.INFO));
+    handler.setFormatter(new LoggingFormatter());
+    handler.start();
+    return handler;
+  }
+
+  static boolean isEnabled() {
+    return Boolean.parseBoolean(getProperty(ENABLED_PROPERTY));
+  }
+
+  private static String getProperty(String name) {
+    return Optional.ofNullable(LogManager.getLogManager().getProperty(name)).map(String::trim).orElse(null);
+  }
+
+  private static int getIntProperty(String name, int defaultValue) {
+    try {
+      return Optional.ofNullable(getProperty(name)).map(Integer::parseInt).orElse(defaultValue);
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static Level getLevelProperty(String name, Level defaultValue) {
+    try {
+      return Optional.ofNullable(getProperty(name)).map(Level::parse).orElse(defaultValue);
+    } catch (IllegalArgumentException e) {
+      return defaultValue;
+    }
+  }
+
+  private static Charset getCharset() {
+    try {
+      return Optional.ofNullable(getProperty(CONSOLE_ENCODING_PROPERTY)).map(Charset::forName)
+          .orElse(Charset.defaultCharset());
+    } catch (IllegalArgumentException e) {
+      return Charset.defaultCharset();
+    }
+  }
+
+  /** Starts the thread which writes the queued records. */
+  void start() {
+    Thread thread = new Thread(this::writeRecords, "operator-log-writer");
+    thread.setDaemon(true);
+    writerThread = thread;
+    thread.start();
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (!isLoggable(record)) {
+      return;
+    }
+
+    String formatted = format(record);
+    if (formatted == null) {
+      return;
+    } else if (closed) {
+      write(formatted);
+      return;
+    }
+
+    int level = record.getLevel().intValue();
+    if (level <= discardLevel.intValue() && buffer.size() >= discardThreshold) {
+      drop(record.getLevel());
+      return;
+    }
+    while (!buffer.offer(formatted)) {
+      if (level < blockLevel.intValue()) {
+        drop(record.getLevel());
+        return;
+      }
+      wakeWriter();
+      LockSupport.parkNanos(BLOCKED_WAIT_NANOS);
+    }
+    if (closed) {
+      drain();
+    } else if (writerWaiting) {
+      wakeWriter();
+    }
+  }
+
+  private String format(LogRecord record) {
+    try {
+      return getFormatter().format(record);
+    } catch (Exception e) {
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+      return null;
+    }
+  }
+
+  private void drop(Level level) {
+    droppedCounts.computeIfAbsent(level, l -> new LongAdder()).increment();
+  }
+
+  private void wakeWriter() {
+    Optional.ofNullable(writerThread).ifPresent(LockSupport::unpark);
+  }
+
+  private void writeRecords() {
+    while (!closed) {
+      if (!writeBatch()) {
+        writerWaiting = true;
+        if (buffer.isEmpty() && !closed) {
+          LockSupport.parkNanos(IDLE_WAIT_NANOS);
+        }
+        writerWaiting = false;
+      }
+    }
+    drain();
+  }
+
+  // Writes and flushes up to one batch of queued records. Returns false if there were none.
+  // Normally called only by the writer thread, but synchronized so that records queued while closing are not lost.
+  private synchronized boolean writeBatch() {
+    batch.setLength(0);
+    String formatted;
+    for (int i = 0; i < BATCH_SIZE && (formatted = buffer.poll()) != null; i++) {
+      batch.append(formatted);
+    }
+    appendDropReport();
+    if (batch.length() == 0) {
+      return false;
+    }
+
+    write(batch);
+    return true;
+  }
+
+  // Reports the records dropped since the last report, in total and by level.
+  private void appendDropReport() {
+    Map<Level, Long> newlyDropped = new TreeMap<>(Comparator.comparingInt(Level::intValue));
+    droppedCounts.forEach((level, count) -> {
+      long dropped = count.sum() - reportedCounts.getOrDefault(level, 0L);
+      if (dropped > 0) {
+        newlyDropped.put(level, dropped);
+        reportedCounts.merge(level, dropped, Long::sum);
+      }
+    });
+    if (!newlyDropped.isEmpty()) {
+      Optional.ofNullable(format(createDropReport(newlyDropped))).ifPresent(batch::append);
+    }
+  }
+
+  private LogRecord createDropReport(Map<Level, Long> newlyDropped) {
+    LogRecord record = new LogRecord(Level.WARNING, MessageKeys.LOG_RECORDS_DROPPED);
+    record.setLoggerName("Operator");
+    record.setResourceBundle(ResourceBundle.getBundle("Operator"));
+    record.setSourceClassName(getClass().getName());
+    record.setSourceMethodName("writeRecords");
+    record.setParameters(new Object[] {
+        newlyDropped.values().stream().mapToLong(Long::longValue).sum(),
+        newlyDropped.entrySet().stream()
+            .map(entry -> entry.getKey().getName() + "=" + entry.getValue())
+            .collect(Collectors.joining(", "))});
+    return record;
+  }
+
+  private synchronized void write(CharSequence text) {
+    try {
+      writer.append(text);
+      writer.flush();
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  private void drain() {
+    while (writeBatch()) {
+      // keep writing until the buffer is empty
+    }
+  }
+
+  @Override
+  public void flush() {
+    // each batch is flushed as it is written
+  }
+
+  /**
+   * Stops the writer thread once it has written all queued records. Records published after this are written
+   * directly by the publishing thread.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    Thread thread = writerThread;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+      try {
+        thread.join(CLOSE_TIMEOUT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    drain();
+  }
+}
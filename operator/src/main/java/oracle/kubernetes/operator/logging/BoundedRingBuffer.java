@@ -0,0 +1,94 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue for any number of producers and a single consumer. Each slot carries a sequence number
+ * which tells a producer whether the slot is free to be claimed, and the consumer whether it has been filled.
+ *
+ * @param <E> the type of the elements
+ */
+class BoundedRingBuffer<E> {
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * Creates a ring buffer.
+   *
+   * @param minimumCapacity the minimum number of elements to hold, which is rounded up to a power of two
+   */
+  BoundedRingBuffer(int minimumCapacity) {
+    int capacity = Integer.highestOneBit(Math.max(2, minimumCapacity) - 1) << 1;
+    elements = new AtomicReferenceArray<>(capacity);
+    sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+    mask = capacity - 1;
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Returns the number of elements in the buffer. This is only an estimate while elements are being added.
+   *
+   * @return the number of elements
+   */
+  int size() {
+    return (int) Math.max(0, tail.get() - head.get());
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Adds an element to the buffer, if there is room. May be called from any thread.
+   *
+   * @param element the element to add
+   * @return true if the element was added, false if the buffer is full
+   */
+  boolean offer(E element) {
+    while (true) {
+      long position = tail.get();
+      int index = (int) (position & mask);
+      long available = sequences.get(index) - position;
+      if (available < 0) {
+        return false;
+      } else if (available == 0 && tail.compareAndSet(position, position + 1)) {
+        elements.set(index, element);
+        sequences.set(index, position + 1);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest element from the buffer. Must only be called by the consumer thread.
+   *
+   * @return the element, or null if the buffer is empty
+   */
+  E poll() {
+    long position = head.get();
+    int index = (int) (position & mask);
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+
+    E element = elements.get(index);
+    elements.set(index, null);
+    sequences.set(index, position + capacity());
+    head.set(position + 1);
+    return element;
+  }
+}
@@ -33,9 +33,7 @@ public class LoggingFacade {
       }
     }
 
-    ConsoleHandler handler = new ConsoleHandler();
-    handler.setFormatter(new LoggingFormatter());
-    logger.addHandler(handler);
+    logger.addHandler(LoggingFactory.getConsoleHandler());
   }
 
   /**
@@ -5,6 +5,8 @@ package oracle.kubernetes.operator.logging;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
 import java.util.logging.Logger;
 
 import io.kubernetes.client.openapi.JSON;
@@ -17,6 +19,9 @@ public class LoggingFactory {
 
   private static JSON json = new JSON();
 
+  // the shared console handler, if log records are written asynchronously
+  private static AsyncLoggingHandler asyncHandler;
+
   private LoggingFactory() {
     // hide implicit public constructor
   }
@@ -29,6 +34,26 @@ public class LoggingFactory {
     LoggingFactory.json = json;
   }
 
+  /**
+   * Returns a handler to write operator log records to the console. If the log manager property
+   * oracle.kubernetes.operator.logging.AsyncLoggingHandler.enabled is true, all loggers share a handler which writes
+   * on its own thread; otherwise, each gets its own console handler.
+   *
+   * @return a console handler
+   */
+  static synchronized Handler getConsoleHandler() {
+    if (!AsyncLoggingHandler.isEnabled()) {
+      ConsoleHandler handler = new ConsoleHandler();
+      handler.setFormatter(new LoggingFormatter());
+      return handler;
+    }
+
+    if (asyncHandler == null) {
+      asyncHandler = AsyncLoggingHandler.createConsoleHandler();
+    }
+    return asyncHandler;
+  }
+
   /**
    * Obtains a Logger from the underlying logging implementation and wraps it in a LoggingFacade.
    *
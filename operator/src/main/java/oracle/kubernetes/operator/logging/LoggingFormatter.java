@@ -3,20 +3,21 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
 import io.swagger.annotations.ApiModel;
@@ -24,7 +25,11 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 
-/** Custom log formatter to format log messages in JSON format. */
+/**
+ * Custom log formatter to format log messages in JSON format. Each record is written by a streaming generator
+ * from a shared factory into a buffer reused by the formatting thread, so that formatting allocates little beyond
+ * the message itself and the resulting string.
+ */
 public class LoggingFormatter extends Formatter {
   private static final Map<String, List<String>> PLACEHOLDER = new HashMap<String, List<String>>();
 
@@ -39,14 +44,32 @@ public class LoggingFormatter extends Formatter {
   private static final String TIME_IN_MILLIS = "timeInMillis";
   private static final String MESSAGE = "message";
   private static final String EXCEPTION = "exception";
-  private static final String DATE_FORMAT = "MM-dd-yyyy'T'HH:mm:ss.SSSZZ";
+  private static final String DATE_FORMAT = "MM-dd-yyyy'T'HH:mm:ss.SSSZ";
 
   // For ApiException
   private static final String RESPONSE_CODE = "code";
   private static final String RESPONSE_HEADERS = "headers";
   private static final String RESPONSE_BODY = "body";
 
-  private final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+  // Buffers which grow beyond this size, typically for stack traces, are not kept for reuse.
+  private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+  private static final JsonFactory JSON_FACTORY
+      = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  private static final ThreadLocal<StringWriter> BUFFER = ThreadLocal.withInitial(StringWriter::new);
+
+  // the toString() format for the model classes is inappropriate for our logs
+  // so, they are replaced with the JSON serialization
+  private static final ClassValue<Boolean> IS_MODEL_CLASS = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.getAnnotation(ApiModel.class) != null
+          || type.getName().startsWith("oracle.kubernetes.weblogic.domain.");
+    }
+  };
+
+  private final DateTimeFormatter dateFormat
+      = DateTimeFormatter.ofPattern(DATE_FORMAT).withZone(ZoneId.systemDefault());
 
   @Override
   public String format(LogRecord record) {
@@ -61,39 +84,83 @@ public class LoggingFormatter extends Formatter {
       sourceClassName = record.getLoggerName();
     }
 
-    // the toString() format for the model classes is inappropriate for our logs
-    // so, replace with the JSON serialization
+    serializeModelParameters(record.getParameters());
+
+    final String message = formatMessage(record);
+    String level = record.getLevel().getLocalizedName();
+    long rawTime = record.getMillis();
+    final String dateString = dateFormat.format(Instant.ofEpochMilli(rawTime));
+    Fiber fiber = Fiber.getCurrentIfSet();
+    Packet packet = Optional.ofNullable(fiber).map(Fiber::getPacket).orElse(null);
+    DomainPresenceInfo info = Optional.ofNullable(packet).map(this::getDomainPresenceInfo).orElse(null);
+
+    StringWriter buffer = getBuffer();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      generator.writeNumberField(THREAD, Thread.currentThread().getId());
+      generator.writeStringField(FIBER, fiber != null ? fiber.toString() : "");
+      generator.writeStringField(DOMAIN_NAMESPACE, getNamespace(info, packet));
+      generator.writeStringField(DOMAIN_UID, getDomainUid(info));
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      generator.writeStringField(MESSAGE, message != null ? message : "");
+      writeThrowable(generator, record.getThrown());
+      generator.writeEndObject();
+    } catch (IOException e) {
+      String tmp =
+          "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
+              + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
+      return String.format(
+          tmp,
+          dateString,
+          level,
+          LoggingFormatter.class.getName(),
+          rawTime,
+          e.getLocalizedMessage());
+    }
+    return buffer.append('\n').toString();
+  }
+
+  private StringWriter getBuffer() {
+    StringWriter buffer = BUFFER.get();
+    if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      buffer = new StringWriter();
+      BUFFER.set(buffer);
+    }
+    buffer.getBuffer().setLength(0);
+    return buffer;
+  }
+
+  private void serializeModelParameters(Object[] parameters) {
     JSON j = LoggingFactory.getJson();
-    if (j != null) {
-      Object[] parameters = record.getParameters();
-      if (parameters != null) {
-        for (int i = 0; i < parameters.length; i++) {
-          Object pi = parameters[i];
-          if (pi != null) {
-            if (pi.getClass().getAnnotation(ApiModel.class) != null
-                || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
-              // this is a model object
-              parameters[i] = j.serialize(pi);
-            }
-          }
+    if (j != null && parameters != null) {
+      for (int i = 0; i < parameters.length; i++) {
+        Object pi = parameters[i];
+        if (pi != null && IS_MODEL_CLASS.get(pi.getClass())) {
+          parameters[i] = j.serialize(pi);
         }
       }
     }
+  }
 
-    final String message = formatMessage(record);
+  // Writes the exception, code, headers and body fields, which are empty unless the throwable is an ApiException.
+  private void writeThrowable(JsonGenerator generator, Throwable thrown) throws IOException {
     String code = "";
     Map<String, List<String>> headers = PLACEHOLDER;
     String body = "";
     String throwable = "";
-    if (record.getThrown() != null) {
+    if (thrown != null) {
       StringWriter sw = new StringWriter();
       PrintWriter pw = new PrintWriter(sw);
       pw.println();
-      record.getThrown().printStackTrace(pw);
+      thrown.printStackTrace(pw);
       pw.close();
       throwable = sw.toString();
-      if (record.getThrown() instanceof ApiException) {
-        ApiException ae = (ApiException) record.getThrown();
+      if (thrown instanceof ApiException) {
+        ApiException ae = (ApiException) thrown;
         code = String.valueOf(ae.getCode());
         if (ae.getResponseHeaders() != null) {
           headers = ae.getResponseHeaders();
@@ -104,63 +171,42 @@ public class LoggingFormatter extends Formatter {
         }
       }
     }
-    String level = record.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
-    long rawTime = record.getMillis();
-    final String dateString = dateFormat.format(new Date(rawTime));
-    long thread = Thread.currentThread().getId();
-    Fiber fiber = Fiber.getCurrentIfSet();
 
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, fiber != null ? fiber.toString() : "");
-    map.put(DOMAIN_NAMESPACE, getNamespace(fiber));
-    map.put(DOMAIN_UID, getDomainUid(fiber));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replaceAll("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replaceAll("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
-    String json = "";
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
-      String tmp =
-          "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
-              + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
-      return String.format(
-          tmp,
-          dateString,
-          level,
-          LoggingFormatter.class.getName(),
-          rawTime,
-          e.getLocalizedMessage());
+    generator.writeStringField(EXCEPTION, throwable);
+    generator.writeStringField(RESPONSE_CODE, code);
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      generator.writeFieldName(String.valueOf(header.getKey()));
+      writeStrings(generator, header.getValue());
+    }
+    generator.writeEndObject();
+    generator.writeStringField(RESPONSE_BODY, body);
+  }
+
+  private void writeStrings(JsonGenerator generator, List<String> values) throws IOException {
+    if (values == null) {
+      generator.writeNull();
+    } else {
+      generator.writeStartArray();
+      for (String value : values) {
+        generator.writeString(value);
+      }
+      generator.writeEndArray();
     }
-    return json + "\n";
   }
 
   /**
    * Get the domain UID associated with the current log message.
-   * Check the fiber that is currently being used to execute the step that initiates the log.
+   * Check the domain presence of the fiber that is currently being used to execute the step that initiates the log.
    * If there is no fiber associated with this log, check the ThreadLocal.
    *
-   * @param fiber The current Fiber
+   * @param info the domain presence in the current fiber's packet, if any
    * @return the domain UID or empty string
    */
-  private String getDomainUid(Fiber fiber) {
-    return Optional.ofNullable(fiber)
-          .map(Fiber::getPacket)
-          .map(this::getDomainPresenceInfo)
+  private String getDomainUid(DomainPresenceInfo info) {
+    return Optional.ofNullable(info)
           .map(DomainPresenceInfo::getDomainUid)
-          .orElse(getDomainUidFromThreadContext());
+          .orElseGet(this::getDomainUidFromThreadContext);
   }
 
   private DomainPresenceInfo getDomainPresenceInfo(Packet packet) {
@@ -176,20 +222,18 @@ public class LoggingFormatter extends Formatter {
    * Check the fiber that is currently being used to execute the step that initiate the log.
    * If there is no fiber associated with this log, check the ThreadLocal.
    *
-   * @param fiber The current Fiber
+   * @param info the domain presence in the current fiber's packet, if any
+   * @param packet the current fiber's packet, if any
    * @return the namespace or empty string
    */
-  private String getNamespace(Fiber fiber) {
-    return Optional.ofNullable(fiber)
-          .map(Fiber::getPacket)
-          .map(this::getDomainPresenceInfo)
+  private String getNamespace(DomainPresenceInfo info, Packet packet) {
+    return Optional.ofNullable(info)
           .map(DomainPresenceInfo::getNamespace)
-          .orElse(getNamespaceFromLoggingContext(fiber));
+          .orElseGet(() -> getNamespaceFromLoggingContext(packet));
   }
 
-  private String getNamespaceFromLoggingContext(Fiber fiber) {
-    return Optional.ofNullable(fiber)
-          .map(Fiber::getPacket)
+  private String getNamespaceFromLoggingContext(Packet packet) {
+    return Optional.ofNullable(packet)
           .map(p -> p.getSpi(LoggingContext.class))
           .or(LoggingContext::optionalContext)
           .map(LoggingContext::namespace)
@@ -133,6 +133,18 @@ public class MessageKeys {
   public static final String INTROSPECTOR_JOB_FAILED = "WLSKO-0175";
   public static final String INTROSPECTOR_JOB_FAILED_DETAIL = "WLSKO-0176";
   public static final String INTROSPECTOR_POD_FAILED = "WLSKO-0177";
+  public static final String SNAPSHOT_TOO_LARGE = "WLSKO-0178";
+  public static final String SNAPSHOT_RESTORED = "WLSKO-0179";
+  public static final String SNAPSHOT_EXPIRED = "WLSKO-0180";
+  public static final String WATCH_RELIST = "WLSKO-0181";
+  public static final String WATCH_MULTIPLEXING_ENABLED = "WLSKO-0182";
+  public static final String WATCH_MULTIPLEXING_UNAVAILABLE = "WLSKO-0183";
+  public static final String NAMESPACE_STARTUP_TIME = "WLSKO-0184";
+  public static final String LOG_RECORDS_DROPPED = "WLSKO-0185";
+  public static final String INTROSPECTION_RESULT_REUSED = "WLSKO-0186";
+  public static final String INTROSPECTION_QUEUED = "WLSKO-0187";
+  public static final String CM_APPLIED = "WLSKO-0188";
+  public static final String FORK_JOIN_SCHEDULING_ENABLED = "WLSKO-0189";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
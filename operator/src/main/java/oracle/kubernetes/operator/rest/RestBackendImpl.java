@@ -25,22 +25,29 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainProcessor;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.MakeRightPlan;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainActionType;
+import oracle.kubernetes.operator.rest.model.MakeRightPlanModel;
+import oracle.kubernetes.operator.rest.model.PlannedActionModel;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.INVALID_DOMAIN_UID;
 
@@ -68,10 +75,14 @@ public class RestBackendImpl implements RestBackend {
         return null;
       };
 
+  @SuppressWarnings("FieldMayBeFinal") // used by unit test
+  private static DomainPresenceInfoRetriever PRESENCE_INFO = DomainProcessorImpl::findDomainPresenceInfo;
+
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private final AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final DomainProcessor processor;
   private V1UserInfo userInfo;
 
   /**
@@ -83,12 +94,15 @@ public class RestBackendImpl implements RestBackend {
    *     the WebLogic operator REST api.
    * @param targetNamespaces a list of Kubernetes namepaces that contain domains that the WebLogic
    *     operator manages.
+   * @param processor the processor which makes right the domains in those namespaces.
    */
-  RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces) {
+  RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces,
+                  DomainProcessor processor) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
     userInfo = authenticate(accessToken);
     this.targetNamespaces = targetNamespaces;
+    this.processor = processor;
     LOGGER.exiting();
   }
 
@@ -212,6 +226,36 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  @Override
+  public MakeRightPlanModel previewMakeRight(String domainUid, DomainSpec proposedSpec) {
+    LOGGER.entering(domainUid);
+    verifyDomain(domainUid);
+    authorize(domainUid, Operation.get);
+
+    Domain domain = getDomain(domainUid).orElseThrow(() -> createNotFoundException(domainUid));
+    String namespace = domain.getMetadata().getNamespace();
+    DomainPresenceInfo info = PRESENCE_INFO.getDomainPresenceInfo(namespace, domainUid)
+        .filter(cached -> cached.getDomain() != null)
+        .orElse(new DomainPresenceInfo(domain));
+    MakeRightPlanModel result = toModel(processor.previewMakeRight(info, proposedSpec));
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  private MakeRightPlanModel toModel(MakeRightPlan plan) {
+    MakeRightPlanModel model = new MakeRightPlanModel(plan.getChangeType().toString());
+    for (MakeRightPlan.Action action : plan.getActions()) {
+      PlannedActionModel actionModel = new PlannedActionModel();
+      actionModel.setAction(action.getType().toString());
+      actionModel.setCluster(action.getClusterName());
+      actionModel.setTargets(new ArrayList<>(action.getTargets()));
+      actionModel.setParallelism(action.getParallelism());
+      actionModel.setWaves(action.getWaves());
+      model.addAction(actionModel);
+    }
+    return model;
+  }
+
   private void verifyDomain(String domainUid) {
     if (!isDomainUid(domainUid)) {
       throw new WebApplicationException(LOGGER.formatMessage(INVALID_DOMAIN_UID, domainUid), Status.BAD_REQUEST);
@@ -260,7 +304,11 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private void reportNotFound(String domainUid) {
-    throw createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
+    throw createNotFoundException(domainUid);
+  }
+
+  private WebApplicationException createNotFoundException(String domainUid) {
+    return createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
   }
 
   private Optional<Domain> getDomain(String domainUid) {
@@ -417,4 +465,8 @@ public class RestBackendImpl implements RestBackend {
   interface TopologyRetriever {
     WlsDomainConfig getWlsDomainConfig(String ns, String domainUid);
   }
+
+  interface DomainPresenceInfoRetriever {
+    Optional<DomainPresenceInfo> getDomainPresenceInfo(String ns, String domainUid);
+  }
 }
@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.rest;
 
 import java.util.Collection;
 
+import oracle.kubernetes.operator.DomainProcessor;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
@@ -17,6 +18,7 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final DomainProcessor processor;
 
   /**
    * Constructs a RestConfigImpl.
@@ -24,11 +26,13 @@ public class RestConfigImpl implements RestConfig {
    * @param principal is the name of the Kubernetes User or Service Account to use when calling the
    *     Kubernetes REST API.
    * @param targetNamespaces is a list of the Kubernetes Namespaces covered by this Operator.
+   * @param processor the processor which makes right the domains in those namespaces.
    */
-  public RestConfigImpl(String principal, Collection<String> targetNamespaces) {
+  public RestConfigImpl(String principal, Collection<String> targetNamespaces, DomainProcessor processor) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
     this.targetNamespaces = targetNamespaces;
+    this.processor = processor;
     LOGGER.exiting();
   }
 
@@ -90,7 +94,7 @@ public class RestConfigImpl implements RestConfig {
   @Override
   public RestBackend getBackend(String accessToken) {
     LOGGER.entering();
-    RestBackend result = new RestBackendImpl(principal, accessToken, targetNamespaces);
+    RestBackend result = new RestBackendImpl(principal, accessToken, targetNamespaces, processor);
     LOGGER.exiting();
     return result;
   }
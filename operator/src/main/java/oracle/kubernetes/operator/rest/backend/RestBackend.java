@@ -6,6 +6,8 @@ package oracle.kubernetes.operator.rest.backend;
 import java.util.Set;
 
 import oracle.kubernetes.operator.rest.model.DomainAction;
+import oracle.kubernetes.operator.rest.model.MakeRightPlanModel;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -37,6 +39,15 @@ public interface RestBackend {
    */
   void performDomainAction(String domainUid, DomainAction params);
 
+  /**
+   * Computes the work which the operator would do to replace the spec of a domain with the specified one,
+   * without changing anything.
+   * @param domainUid the unique ID of a domain
+   * @param proposedSpec the proposed spec
+   * @return a description of the planned actions
+   */
+  MakeRightPlanModel previewMakeRight(String domainUid, DomainSpec proposedSpec);
+
   /**
    * Get the names of the clusters in a WebLogic domain.
    *
@@ -0,0 +1,81 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MakeRightPlanModel describes the work which the operator would do to apply a proposed domain spec, without
+ * applying it.
+ */
+public class MakeRightPlanModel extends BaseModel {
+
+  private String changeType;
+  private List<PlannedActionModel> actions = new ArrayList<>();
+
+  /** Construct an empty MakeRightPlanModel. */
+  public MakeRightPlanModel() {
+  }
+
+  /**
+   * Construct a populated MakeRightPlanModel.
+   *
+   * @param changeType - the kind of change which the proposed spec makes to the domain.
+   */
+  public MakeRightPlanModel(String changeType) {
+    setChangeType(changeType);
+  }
+
+  /**
+   * Get the kind of change which the proposed spec makes to the domain: NONE, SCALING, RESTART,
+   * INTROSPECTION or SPEC.
+   *
+   * @return the kind of change.
+   */
+  public String getChangeType() {
+    return changeType;
+  }
+
+  /**
+   * Set the kind of change which the proposed spec makes to the domain.
+   *
+   * @param changeType - the kind of change.
+   */
+  public void setChangeType(String changeType) {
+    this.changeType = changeType;
+  }
+
+  /**
+   * Get the actions which the operator would take, in the order in which it would start them.
+   *
+   * @return a List of PlannedActionModel.
+   */
+  public List<PlannedActionModel> getActions() {
+    return actions;
+  }
+
+  /**
+   * Set the actions which the operator would take.
+   *
+   * @param actions - a List of PlannedActionModel.
+   */
+  public void setActions(List<PlannedActionModel> actions) {
+    this.actions = actions;
+  }
+
+  /**
+   * Add an action which the operator would take.
+   *
+   * @param action - the action.
+   */
+  public void addAction(PlannedActionModel action) {
+    actions.add(action);
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "changeType=" + getChangeType() + ", actions=" + getActions(); // super has no properties
+  }
+}
@@ -0,0 +1,129 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PlannedActionModel describes one kind of work which the operator would do to apply a proposed domain spec,
+ * either to the members of a WebLogic cluster or to the servers outside clusters.
+ */
+public class PlannedActionModel extends BaseModel {
+
+  private String action;
+  private String cluster;
+  private List<String> targets = new ArrayList<>();
+  private int parallelism;
+  private int waves;
+
+  /**
+   * Get the kind of work: INTROSPECT, START_SERVERS, STOP_SERVERS, ROLL_PODS, PATCH_PODS, REPLACE_SERVICES
+   * or DELETE_SERVICES.
+   *
+   * @return the kind of work.
+   */
+  public String getAction() {
+    return action;
+  }
+
+  /**
+   * Set the kind of work.
+   *
+   * @param action - the kind of work.
+   */
+  public void setAction(String action) {
+    this.action = action;
+  }
+
+  /**
+   * Get the name of the cluster to whose members the work applies.
+   *
+   * @return the cluster's name, or null if the work does not apply to clustered servers.
+   */
+  public String getCluster() {
+    return cluster;
+  }
+
+  /**
+   * Set the name of the cluster to whose members the work applies.
+   *
+   * @param cluster - the cluster's name.
+   */
+  public void setCluster(String cluster) {
+    this.cluster = cluster;
+  }
+
+  /**
+   * Get the names of the servers, services or jobs to which the work applies.
+   *
+   * @return a List of names.
+   */
+  public List<String> getTargets() {
+    return targets;
+  }
+
+  /**
+   * Set the names of the servers, services or jobs to which the work applies.
+   *
+   * @param targets - a List of names.
+   */
+  public void setTargets(List<String> targets) {
+    this.targets = targets;
+  }
+
+  /**
+   * Get the number of targets to which the work applies.
+   *
+   * @return the number of targets.
+   */
+  public int getCount() {
+    return targets.size();
+  }
+
+  /**
+   * Get the largest number of targets which the operator would process at once.
+   *
+   * @return the estimated parallelism.
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Set the largest number of targets which the operator would process at once.
+   *
+   * @param parallelism - the estimated parallelism.
+   */
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Get the number of successive groups in which the operator would process the targets.
+   *
+   * @return the estimated number of groups.
+   */
+  public int getWaves() {
+    return waves;
+  }
+
+  /**
+   * Set the number of successive groups in which the operator would process the targets.
+   *
+   * @param waves - the estimated number of groups.
+   */
+  public void setWaves(int waves) {
+    this.waves = waves;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "action=" + getAction()
+        + ", cluster=" + getCluster()
+        + ", targets=" + getTargets()
+        + ", parallelism=" + getParallelism()
+        + ", waves=" + getWaves(); // super has no properties
+  }
+}
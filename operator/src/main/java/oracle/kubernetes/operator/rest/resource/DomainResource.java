@@ -46,6 +46,7 @@ public class DomainResource extends BaseResource {
     DomainModel item = new DomainModel(getDomainUid());
     addSelfAndParentLinks(item);
     addLink(item, "clusters");
+    addLink(item, "plan");
     LOGGER.exiting(item);
     return item;
   }
@@ -74,6 +75,19 @@ public class DomainResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'plan' jaxrs child resource.
+   *
+   * @return the make-right plan sub resource.
+   */
+  @Path("plan")
+  public MakeRightPlanResource getMakeRightPlanResource() {
+    LOGGER.entering(href());
+    MakeRightPlanResource result = new MakeRightPlanResource(this, "plan");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getDomainUid() {
     return getPathSegment();
   }
@@ -0,0 +1,71 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.Optional;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response.Status;
+
+import com.google.gson.JsonParseException;
+import io.kubernetes.client.openapi.JSON;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.model.MakeRightPlanModel;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+
+/**
+ * MakeRightPlanResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/domains/{domainUID}/plan path. It can be used to preview the work which the
+ * WebLogic operator would do to apply a proposed domain resource, without applying it.
+ */
+public class MakeRightPlanResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a MakeRightPlanResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public MakeRightPlanResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Preview the work which the operator would do if this domain's spec were replaced by that of the
+   * specified domain resource. Nothing is changed.
+   *
+   * @param proposedDomain - the proposed domain resource, in JSON format. Only its spec is used.
+   * @return a MakeRightPlanModel describing the planned actions.
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public MakeRightPlanModel post(final String proposedDomain) {
+    LOGGER.entering(href());
+    MakeRightPlanModel result = getBackend().previewMakeRight(getDomainUid(), getProposedSpec(proposedDomain));
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  private DomainSpec getProposedSpec(String proposedDomain) {
+    try {
+      return Optional.ofNullable(new JSON().getGson().fromJson(proposedDomain, Domain.class))
+          .map(Domain::getSpec)
+          .orElseThrow(() -> new WebApplicationException(Status.BAD_REQUEST));
+    } catch (JsonParseException e) {
+      throw new WebApplicationException(e.getMessage(), Status.BAD_REQUEST);
+    }
+  }
+
+  private String getDomainUid() {
+    return getParent().getPathSegment();
+  }
+}
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 
+import oracle.kubernetes.operator.DirtySet;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -27,13 +28,19 @@ public class ClusterServicesStep extends Step {
 
     // Add cluster services
     WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    DirtySet dirtySet = (DirtySet) packet.get(ProcessingConstants.DIRTY_SET);
     if (config != null) {
       for (Map.Entry<String, WlsClusterConfig> entry : config.getClusterConfigs().entrySet()) {
+        if (dirtySet != null && !dirtySet.includesCluster(entry.getKey())) {
+          continue;
+        }
+
         Packet p = packet.clone();
         WlsClusterConfig clusterConfig = entry.getValue();
         p.put(ProcessingConstants.CLUSTER_NAME, clusterConfig.getClusterName());
 
-        startDetails.add(new StepAndPacket(ServiceHelper.createForClusterStep(null), p));
+        startDetails.add(new StepAndPacket(
+            ServiceHelper.createForClusterStep(ServiceHelper.createForHeadlessClusterStep(null)), p));
       }
     }
 
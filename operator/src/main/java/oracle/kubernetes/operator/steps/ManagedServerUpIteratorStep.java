@@ -104,7 +104,8 @@ public class ManagedServerUpIteratorStep extends Step {
     }
 
     if (!work.isEmpty()) {
-      return doForkJoin(DomainStatusUpdater.createStatusUpdateStep(getNext()), packet, work);
+      return doForkJoin(new ManagedServerUpAfterStep(DomainStatusUpdater.createStatusUpdateStep(getNext())),
+            packet, work);
     }
 
     return doNext(DomainStatusUpdater.createStatusUpdateStep(getNext()), packet);
@@ -176,7 +177,7 @@ public class ManagedServerUpIteratorStep extends Step {
     public NextAction apply(Packet packet) {
 
       if (startDetailsQueue.isEmpty()) {
-        return doNext(new ManagedServerUpAfterStep(getNext()), packet);
+        return doNext(packet);
       } else if (isServiceOnlyOrShuttingDown()) {
         Collection<StepAndPacket> servers = Collections.singletonList(startDetailsQueue.poll());
         return doForkJoin(this, packet, servers);
@@ -6,16 +6,22 @@ package oracle.kubernetes.operator.steps;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.DirtySet;
 import oracle.kubernetes.operator.DomainStatusUpdater;
+import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
@@ -29,7 +35,9 @@ import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.OperatorUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.ManagedServer;
 import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 
 import static oracle.kubernetes.operator.DomainStatusUpdater.MANAGED_SERVERS_STARTING_PROGRESS_REASON;
@@ -77,6 +85,31 @@ public class ManagedServersUpStep extends Step {
     return Step.chain(steps.toArray(new Step[0]));
   }
 
+  // Only the members of dirty clusters may be scaled down by a make-right limited to a dirty set.
+  private static Step scaleDownDirtyClusters(
+      DomainPresenceInfo info, DirtySet dirtySet, Collection<String> servers, Step next) {
+    List<String> serversToStop = info.getServerPods()
+        .filter(pod -> dirtySet.includesClusterMembers(getPodClusterName(pod)))
+        .map(PodHelper::getPodServerName)
+        .filter(serverName -> serverName != null && !servers.contains(serverName))
+        .collect(Collectors.toList());
+
+    if (serversToStop.isEmpty()) {
+      return next;
+    }
+    return Step.chain(
+        createProgressingStep(info, MANAGED_SERVERS_STARTING_PROGRESS_REASON, true, null),
+        new ServerDownIteratorStep(serversToStop, null),
+        next);
+  }
+
+  private static String getPodClusterName(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata())
+        .map(V1ObjectMeta::getLabels)
+        .map(labels -> labels.get(LabelConstants.CLUSTERNAME_LABEL))
+        .orElse(null);
+  }
+
   private static List<String> getServersToStop(
       DomainPresenceInfo info, List<String> serversToIgnore) {
     return info.getServerNames().stream()
@@ -110,13 +143,39 @@ public class ManagedServersUpStep extends Step {
     info.setServerStartupInfo(factory.getStartupInfos());
     LOGGER.exiting();
 
+    DirtySet dirtySet = (DirtySet) packet.get(ProcessingConstants.DIRTY_SET);
+    if (dirtySet != null) {
+      return doNext(
+          scaleDownDirtyClusters(
+              info, dirtySet, factory.servers, new ClusterServicesStep(factory.createNextStep(dirtySet, getNext()))),
+          packet);
+    }
+
     return doNext(
         NEXT_STEP_FACTORY.createServerStep(
             info, config, factory.servers, factory.createNextStep(getNext())),
         packet);
   }
 
-  private void addServersToFactory(@Nonnull ServersUpStepFactory factory, @Nonnull WlsDomainConfig wlsDomainConfig) {
+  /**
+   * Returns the names of the managed servers which a make-right would start for the domain, in the order in which
+   * it would consider them.
+   *
+   * @param config the topology of the domain
+   * @param domain the domain resource
+   * @return a list of server names
+   */
+  public static List<String> getServersToStart(@Nonnull WlsDomainConfig config, @Nonnull Domain domain) {
+    ServersUpStepFactory factory = new ServersUpStepFactory(config, domain);
+    addServersToFactory(factory, config);
+    return Optional.ofNullable(factory.getStartupInfos()).orElse(Collections.emptyList()).stream()
+        .filter(ssi -> !ssi.isServiceOnly())
+        .map(ServerStartupInfo::getName)
+        .collect(Collectors.toList());
+  }
+
+  private static void addServersToFactory(
+      @Nonnull ServersUpStepFactory factory, @Nonnull WlsDomainConfig wlsDomainConfig) {
     Set<String> clusteredServers = new HashSet<>();
 
     wlsDomainConfig.getClusterConfigs().values()
@@ -127,17 +186,27 @@ public class ManagedServersUpStep extends Step {
         .forEach(wlsServerConfig -> factory.addServerIfNeeded(wlsServerConfig, null));
   }
 
-  private void addClusteredServersToFactory(@Nonnull ServersUpStepFactory factory, Set<String> clusteredServers,
+  private static void addClusteredServersToFactory(@Nonnull ServersUpStepFactory factory, Set<String> clusteredServers,
       @Nonnull WlsClusterConfig wlsClusterConfig) {
     factory.logIfInvalidReplicaCount(wlsClusterConfig);
+    wlsClusterConfig.getServers().forEach(wlsServerConfig -> clusteredServers.add(wlsServerConfig.getName()));
+
     // We depend on 'getServerConfigs()' returning an ascending 'numero-lexi'
     // sorted list so that a cluster's "lowest named" servers have precedence
     // when the  cluster's replica  count is lower than  the WL cluster size.
-    wlsClusterConfig.getServerConfigs()
-        .forEach(wlsServerConfig -> {
-          factory.addServerIfNeeded(wlsServerConfig, wlsClusterConfig);
-          clusteredServers.add(wlsServerConfig.getName());
-        });
+    // The servers which are not configured individually share the same settings, so once one of them is not
+    // needed, neither are those which follow; only individually configured servers remain to be considered,
+    // and the configurations of the other dynamic servers are never computed.
+    List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
+    for (int i = 0; i < serverConfigs.size(); i++) {
+      WlsServerConfig serverConfig = serverConfigs.get(i);
+      if (!factory.addServerIfNeeded(serverConfig, wlsClusterConfig)
+          && !factory.isIndividuallyConfigured(serverConfig.getName())) {
+        factory.getIndividuallyConfiguredServers(wlsClusterConfig)
+            .forEach(wlsServerConfig -> factory.addServerIfNeeded(wlsServerConfig, wlsClusterConfig));
+        return;
+      }
+    }
   }
 
   // an interface to provide a hook for unit testing.
@@ -146,7 +215,7 @@ public class ManagedServersUpStep extends Step {
         DomainPresenceInfo info, WlsDomainConfig config, Collection<String> servers, Step next);
   }
 
-  class ServersUpStepFactory {
+  static class ServersUpStepFactory {
     final WlsDomainConfig domainTopology;
     final Domain domain;
     Collection<ServerStartupInfo> startupInfos;
@@ -173,10 +242,11 @@ public class ManagedServersUpStep extends Step {
       return false;
     }
 
-    private void addServerIfNeeded(@Nonnull WlsServerConfig serverConfig, WlsClusterConfig clusterConfig) {
+    // Returns false if the server was considered and is neither to be started nor to have its service created.
+    private boolean addServerIfNeeded(@Nonnull WlsServerConfig serverConfig, WlsClusterConfig clusterConfig) {
       String serverName = serverConfig.getName();
       if (servers.contains(serverName) || serverName.equals(domainTopology.getAdminServerName())) {
-        return;
+        return true;
       }
 
       String clusterName = clusterConfig == null ? null : clusterConfig.getClusterName();
@@ -189,7 +259,25 @@ public class ManagedServersUpStep extends Step {
       } else if (shouldPrecreateServerService(server)) {
         servers.add(serverName);
         addStartupInfo(new ServerStartupInfo(serverConfig, clusterName, server, true));
+      } else {
+        return false;
       }
+      return true;
+    }
+
+    private boolean isIndividuallyConfigured(String serverName) {
+      return domain.getSpec().getManagedServers().stream()
+          .anyMatch(managedServer -> serverName.equals(managedServer.getServerName()));
+    }
+
+    private List<WlsServerConfig> getIndividuallyConfiguredServers(WlsClusterConfig clusterConfig) {
+      return domain.getSpec().getManagedServers().stream()
+          .map(ManagedServer::getServerName)
+          .filter(Objects::nonNull)
+          .map(clusterConfig::getServerConfig)
+          .filter(Objects::nonNull)
+          .sorted(Comparator.comparing(serverConfig -> OperatorUtils.getSortingString(serverConfig.getName())))
+          .collect(Collectors.toList());
     }
 
     boolean exceedsMaxConfiguredClusterSize(WlsClusterConfig clusterConfig) {
@@ -197,7 +285,7 @@ public class ManagedServersUpStep extends Step {
         String clusterName = clusterConfig.getClusterName();
         int configMaxClusterSize = clusterConfig.getMaxDynamicClusterSize();
         return clusterConfig.hasDynamicServers()
-            && clusterConfig.getServerConfigs().size() == configMaxClusterSize
+            && clusterConfig.getServerConfigCount() == configMaxClusterSize
             && domain.getReplicaCount(clusterName) > configMaxClusterSize;
       }
       return false;
@@ -211,6 +299,19 @@ public class ManagedServersUpStep extends Step {
       }
     }
 
+    // A make-right limited to a dirty set only brings up the dirty servers, including all members of dirty clusters.
+    private Step createNextStep(DirtySet dirtySet, Step next) {
+      Collection<ServerStartupInfo> dirtyStartupInfos = Optional.ofNullable(getStartupInfos())
+          .orElse(Collections.emptyList()).stream()
+          .filter(ssi -> dirtySet.includesServer(ssi.getName(), ssi.getClusterName()))
+          .collect(Collectors.toList());
+      if (dirtyStartupInfos.isEmpty()) {
+        return next;
+      } else {
+        return new ManagedServerUpIteratorStep(dirtyStartupInfos, next);
+      }
+    }
+
     Collection<ServerStartupInfo> getStartupInfos() {
       return startupInfos;
     }
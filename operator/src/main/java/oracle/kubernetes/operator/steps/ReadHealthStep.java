@@ -13,7 +13,6 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -100,8 +99,9 @@ public class ReadHealthStep extends Step {
 
     String secretName = dom.getWebLogicCredentialsSecretName();
 
-    V1Service service = info.getServerService(serverName);
     V1Pod pod = info.getServerPod(serverName);
+    V1Service service = Optional.ofNullable(info.getServerService(serverName))
+          .orElse(getHeadlessClusterService(info, pod));
     if (service != null) {
       Step getSecretReadHealthAndProcessResponse =
           SecretHelper.getSecretData(
@@ -115,6 +115,16 @@ public class ReadHealthStep extends Step {
     return doNext(packet);
   }
 
+  // A clustered server addressed through the headless service of its cluster has no service of its own.
+  private V1Service getHeadlessClusterService(DomainPresenceInfo info, V1Pod pod) {
+    return Optional.ofNullable(pod)
+          .map(V1Pod::getMetadata)
+          .map(V1ObjectMeta::getLabels)
+          .map(labels -> labels.get(CLUSTERNAME_LABEL))
+          .map(info::getHeadlessClusterService)
+          .orElse(null);
+  }
+
   private static class WithSecretDataStep extends Step {
 
     WithSecretDataStep(Step next) {
@@ -265,12 +275,7 @@ public class ReadHealthStep extends Step {
     }
 
     private WlsServerConfig findServerConfig(WlsClusterConfig wlsClusterConfig) {
-      for (WlsServerConfig serverConfig : wlsClusterConfig.getServerConfigs()) {
-        if (Objects.equals(getServerName(), serverConfig.getName())) {
-          return serverConfig;
-        }
-      }
-      return null;
+      return wlsClusterConfig.getServerConfig(getServerName());
     }
 
     private String getServerName() {
@@ -0,0 +1,239 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * A read-only list of the servers in a dynamic cluster, in index order. The configuration of each
+ * server is computed from the server template and its index only when it is first requested, so
+ * that a cluster with a large configured size does not pay for servers that are never looked at.
+ */
+final class LazyDynamicServerConfigs extends AbstractList<WlsServerConfig> implements RandomAccess {
+
+  private static final int STARTING_SERVER_INDEX = 1;
+
+  private final List<String> serverNames;
+  private final String serverNamePrefix;
+  private final int size;
+  private final String clusterName;
+  private final String domainName;
+  private final boolean calculatedListenPorts;
+  private final WlsServerConfig serverTemplate;
+  private final WlsDynamicServerConfig.CompiledServerTemplate compiledTemplate;
+  private final AtomicReferenceArray<WlsServerConfig> configs;
+
+  /**
+   * Creates a view whose server names are generated from the name prefix and index.
+   *
+   * @param serverNamePrefix prefix for names of servers in the dynamic cluster
+   * @param size the number of servers in the dynamic cluster
+   * @param clusterName Name of the WLS cluster that this dynamic servers configuration belongs to
+   * @param domainName Name of the WLS domain that this WLS cluster belongs to
+   * @param calculatedListenPorts whether listen ports are fixed or calculated based on server index
+   * @param serverTemplate template of servers in the dynamic cluster
+   */
+  LazyDynamicServerConfigs(
+      String serverNamePrefix,
+      int size,
+      String clusterName,
+      String domainName,
+      boolean calculatedListenPorts,
+      WlsServerConfig serverTemplate) {
+    this(null, serverNamePrefix, size, clusterName, domainName, calculatedListenPorts, serverTemplate);
+  }
+
+  /**
+   * Creates a view whose server names are supplied explicitly, as reported by the WLS REST API.
+   *
+   * @param serverNames Names of the servers corresponding to the current cluster size
+   * @param clusterName Name of the WLS cluster that this dynamic servers configuration belongs to
+   * @param domainName Name of the WLS domain that this WLS cluster belongs to
+   * @param calculatedListenPorts whether listen ports are fixed or calculated based on server index
+   * @param serverTemplate template of servers in the dynamic cluster
+   */
+  LazyDynamicServerConfigs(
+      List<String> serverNames,
+      String clusterName,
+      String domainName,
+      boolean calculatedListenPorts,
+      WlsServerConfig serverTemplate) {
+    this(serverNames, null, serverNames.size(), clusterName, domainName, calculatedListenPorts, serverTemplate);
+  }
+
+  private LazyDynamicServerConfigs(
+      List<String> serverNames,
+      String serverNamePrefix,
+      int size,
+      String clusterName,
+      String domainName,
+      boolean calculatedListenPorts,
+      WlsServerConfig serverTemplate) {
+    this.serverNames = serverNames;
+    this.serverNamePrefix = serverNamePrefix;
+    this.size = Math.max(size, 0);
+    this.clusterName = clusterName;
+    this.domainName = domainName;
+    this.calculatedListenPorts = calculatedListenPorts;
+    this.serverTemplate = serverTemplate;
+    this.compiledTemplate = new WlsDynamicServerConfig.CompiledServerTemplate(serverTemplate);
+    this.configs = new AtomicReferenceArray<>(this.size);
+  }
+
+  @Override
+  public WlsServerConfig get(int index) {
+    Objects.checkIndex(index, size);
+    WlsServerConfig config = configs.get(index);
+    if (config == null) {
+      configs.compareAndSet(index, null, createServerConfig(index));
+      config = configs.get(index);
+    }
+    return config;
+  }
+
+  private WlsServerConfig createServerConfig(int index) {
+    return WlsDynamicServerConfig.create(
+        getServerName(index),
+        index + STARTING_SERVER_INDEX,
+        clusterName,
+        domainName,
+        calculatedListenPorts,
+        compiledTemplate);
+  }
+
+  /**
+   * Returns the name of the server at the specified index, without computing its configuration.
+   *
+   * @param index the index of the server in this view
+   * @return the server name
+   */
+  String getServerName(int index) {
+    return serverNames != null
+        ? serverNames.get(index)
+        : serverNamePrefix + (index + STARTING_SERVER_INDEX);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns true if the server names in this view are generated from the server name prefix, which
+   * means that they are already in ascending 'numero-lexi' order.
+   *
+   * @return true if names are generated
+   */
+  boolean hasGeneratedNames() {
+    return serverNames == null;
+  }
+
+  /**
+   * Returns the configuration of the named server, computing only that server's configuration.
+   *
+   * @param serverName the name of the server
+   * @return the server configuration, or null if the server is not part of the dynamic cluster
+   */
+  WlsServerConfig getServerConfig(String serverName) {
+    int index = indexOfServer(serverName);
+    return index < 0 ? null : get(index);
+  }
+
+  /**
+   * Returns true if the named server is part of the dynamic cluster.
+   *
+   * @param serverName the name of the server
+   * @return true if the server is present
+   */
+  boolean containsServer(String serverName) {
+    return indexOfServer(serverName) >= 0;
+  }
+
+  private int indexOfServer(String serverName) {
+    if (serverName == null) {
+      return -1;
+    } else if (serverNames != null) {
+      return serverNames.indexOf(serverName);
+    } else if (serverNamePrefix == null || !serverName.startsWith(serverNamePrefix)) {
+      return -1;
+    }
+
+    String suffix = serverName.substring(serverNamePrefix.length());
+    if (suffix.isEmpty() || suffix.length() > 9 || suffix.charAt(0) == '0') {
+      return -1;
+    }
+    for (int i = 0; i < suffix.length(); i++) {
+      if (!Character.isDigit(suffix.charAt(i))) {
+        return -1;
+      }
+    }
+    int index = Integer.parseInt(suffix) - STARTING_SERVER_INDEX;
+    return index < size ? index : -1;
+  }
+
+  /**
+   * Returns the number of server configurations that have been computed so far.
+   *
+   * @return the count of materialized servers
+   */
+  int getMaterializedCount() {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (configs.get(i) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  // Views are compared by the inputs from which their servers are derived, so that no server is computed.
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    } else if (!(other instanceof LazyDynamicServerConfigs)) {
+      return false;
+    }
+
+    LazyDynamicServerConfigs rhs = (LazyDynamicServerConfigs) other;
+    return new EqualsBuilder()
+        .append(size, rhs.size)
+        .append(serverNames, rhs.serverNames)
+        .append(serverNamePrefix, rhs.serverNamePrefix)
+        .append(clusterName, rhs.clusterName)
+        .append(domainName, rhs.domainName)
+        .append(calculatedListenPorts, rhs.calculatedListenPorts)
+        .append(serverTemplate, rhs.serverTemplate)
+        .isEquals();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+        .append(getServerTemplateName())
+        .append(size)
+        .append(serverNamePrefix)
+        .toHashCode();
+  }
+
+  private String getServerTemplateName() {
+    return serverTemplate == null ? null : serverTemplate.getName();
+  }
+
+  @Override
+  public String toString() {
+    if (size == 0) {
+      return "[]";
+    }
+    return "[" + getServerName(0) + (size > 1 ? " .. " + getServerName(size - 1) : "")
+        + " (" + getMaterializedCount() + " of " + size + " materialized)]";
+  }
+}
@@ -3,6 +3,9 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Substitute macro specified in WLS server template. Behavior of this class should mimic the
  * behavior of the macro substitution logic in WebLogic
@@ -52,9 +55,21 @@ public class MacroSubstitutor {
     this.machineName = machineName;
   }
 
+  /**
+   * Parses a string containing macros into a template that can be substituted repeatedly without
+   * re-scanning the string or resolving macro names again.
+   *
+   * @param inputValue String containing macros
+   * @return the compiled template
+   */
+  static CompiledTemplate compile(String inputValue) {
+    return new CompiledTemplate(inputValue);
+  }
+
   /**
    * Perform macro substitution. Extracts the macro name and resolves its macro value using values.
-   * specified in this MacroSubstitutor.
+   * specified in this MacroSubstitutor. Strings which are substituted repeatedly should be compiled
+   * with {@link #compile(String)} instead.
    *
    * @param inputValue String containing macros
    * @return String with values substituted for macros
@@ -124,4 +139,120 @@ public class MacroSubstitutor {
     // Look for macro in ConfigurationProperty or as system property
     return System.getProperty(macro);
   }
+
+  /**
+   * Return the segment which resolves the given macro.
+   *
+   * @param macro Macro to be substituted
+   * @return Segment which appends the value for the macro
+   */
+  private static Segment resolveMacroSegment(String macro) {
+    if (macro.isEmpty()) {
+      return (builder, substitutor) -> { };
+    }
+    switch (macro) {
+      case "domainName":
+        return (builder, substitutor) -> appendIfNotNull(builder, substitutor.domainName);
+      case "serverName":
+        return (builder, substitutor) -> appendIfNotNull(builder, substitutor.serverName);
+      case "clusterName":
+        return (builder, substitutor) -> appendIfNotNull(builder, substitutor.clusterName);
+      case "machineName":
+        return (builder, substitutor) -> appendIfNotNull(builder, substitutor.machineName);
+      case "id":
+        return (builder, substitutor) -> builder.append(substitutor.id);
+      default:
+        // Look for macro in ConfigurationProperty or as system property
+        return (builder, substitutor) -> appendIfNotNull(builder, System.getProperty(macro));
+    }
+  }
+
+  private static void appendIfNotNull(StringBuilder builder, String value) {
+    if (value != null) {
+      builder.append(value);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Segment {
+    void appendTo(StringBuilder builder, MacroSubstitutor substitutor);
+  }
+
+  /**
+   * A string which has been split once into literal and macro segments. Each macro segment has
+   * already been bound to the value it resolves to, so substitution is a single append pass.
+   */
+  static final class CompiledTemplate {
+    private static final Segment[] NO_SEGMENTS = new Segment[0];
+
+    private final String source;
+    private final Segment[] segments;
+    private final int literalLength;
+
+    private CompiledTemplate(String source) {
+      this.source = source;
+      List<Segment> parsed = new ArrayList<>();
+      this.literalLength = parse(source, parsed);
+      this.segments = parsed.isEmpty() ? NO_SEGMENTS : parsed.toArray(NO_SEGMENTS);
+    }
+
+    private static int parse(String inputValue, List<Segment> segments) {
+      if (inputValue == null) {
+        return 0;
+      }
+
+      int start = 0;
+      int idx = inputValue.indexOf(START_MACRO);
+      if (idx == -1) {
+        return inputValue.length();
+      }
+
+      int literalLength = 0;
+      while (idx != -1) {
+        literalLength += addLiteral(segments, inputValue.substring(start, idx));
+
+        int end = inputValue.indexOf(END_MACRO, idx);
+        if (end == -1) {
+          start = idx;
+          break;
+        }
+
+        segments.add(resolveMacroSegment(inputValue.substring(idx + 2, end)));
+
+        start = end + 1;
+        idx = inputValue.indexOf(START_MACRO, start);
+      }
+
+      return literalLength + addLiteral(segments, inputValue.substring(start));
+    }
+
+    private static int addLiteral(List<Segment> segments, String literal) {
+      if (!literal.isEmpty()) {
+        segments.add((builder, substitutor) -> builder.append(literal));
+      }
+      return literal.length();
+    }
+
+    private boolean isLiteral() {
+      return segments.length == 0;
+    }
+
+    /**
+     * Returns the template with its macros replaced by the values from the given substitutor.
+     *
+     * @param substitutor the source of macro values
+     * @return String with values substituted for macros
+     */
+    String substitute(MacroSubstitutor substitutor) {
+      if (isLiteral()) {
+        return source;
+      }
+
+      StringBuilder builder = new StringBuilder(literalLength + 16 * segments.length);
+      for (Segment segment : segments) {
+        segment.appendTo(builder, substitutor);
+      }
+      return builder.toString();
+    }
+  }
 }
@@ -0,0 +1,206 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.Nonnull;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * The structural differences between two configurations of the same WebLogic domain: the servers which were added
+ * or removed, or whose ports, addresses or network access points changed, and the clusters whose members or
+ * dynamic server settings changed. Resources for servers and clusters which are not affected by the differences
+ * need not be recomputed.
+ */
+public class TopologyDiff {
+  private final boolean domainChanged;
+  private final Set<String> addedServers = new TreeSet<>();
+  private final Set<String> removedServers = new TreeSet<>();
+  private final Set<String> changedServers = new TreeSet<>();
+  private final Set<String> changedClusters = new TreeSet<>();
+  private final Set<String> changedDynamicClusters = new TreeSet<>();
+
+  private TopologyDiff(WlsDomainConfig oldConfig, WlsDomainConfig newConfig) {
+    domainChanged = !Objects.equals(oldConfig.getName(), newConfig.getName())
+          || !Objects.equals(oldConfig.getAdminServerName(), newConfig.getAdminServerName());
+    compareServers(getStaticServers(oldConfig), getStaticServers(newConfig));
+    compareClusters(oldConfig.getClusterConfigs(), newConfig.getClusterConfigs());
+  }
+
+  /**
+   * Computes the differences between two configurations of a domain.
+   *
+   * @param oldConfig the earlier configuration
+   * @param newConfig the later configuration
+   * @return the differences
+   */
+  public static TopologyDiff between(@Nonnull WlsDomainConfig oldConfig, @Nonnull WlsDomainConfig newConfig) {
+    return new TopologyDiff(oldConfig, newConfig);
+  }
+
+  // Returns the statically configured servers, standalone and clustered, keyed by name. Dynamic servers
+  // are compared through the settings of their clusters, so that they need not be computed.
+  private static Map<String, StaticServer> getStaticServers(WlsDomainConfig config) {
+    Map<String, StaticServer> servers = new HashMap<>();
+    Optional.ofNullable(config.getServers()).orElse(Collections.emptyList())
+          .forEach(server -> servers.put(server.getName(), new StaticServer(null, server)));
+    for (WlsClusterConfig cluster : Optional.ofNullable(config.getConfiguredClusters())
+          .orElse(Collections.emptyList())) {
+      cluster.getServers()
+            .forEach(server -> servers.put(server.getName(), new StaticServer(cluster.getClusterName(), server)));
+    }
+    return servers;
+  }
+
+  private void compareServers(Map<String, StaticServer> oldServers, Map<String, StaticServer> newServers) {
+    oldServers.forEach((name, server) -> {
+      if (!newServers.containsKey(name)) {
+        removedServers.add(name);
+        addChangedCluster(server.clusterName);
+      }
+    });
+    newServers.forEach((name, server) -> {
+      StaticServer oldServer = oldServers.get(name);
+      if (oldServer == null) {
+        addedServers.add(name);
+        addChangedCluster(server.clusterName);
+      } else if (!oldServer.equals(server)) {
+        changedServers.add(name);
+        addChangedCluster(oldServer.clusterName);
+        addChangedCluster(server.clusterName);
+      }
+    });
+  }
+
+  private void addChangedCluster(String clusterName) {
+    Optional.ofNullable(clusterName).ifPresent(changedClusters::add);
+  }
+
+  private void compareClusters(Map<String, WlsClusterConfig> oldClusters, Map<String, WlsClusterConfig> newClusters) {
+    Set<String> names = new TreeSet<>(oldClusters.keySet());
+    names.addAll(newClusters.keySet());
+    for (String name : names) {
+      WlsClusterConfig oldCluster = oldClusters.get(name);
+      WlsClusterConfig newCluster = newClusters.get(name);
+      if (!Objects.equals(getDynamicServersConfig(oldCluster), getDynamicServersConfig(newCluster))) {
+        changedDynamicClusters.add(name);
+        changedClusters.add(name);
+      } else if (oldCluster == null || newCluster == null) {
+        changedClusters.add(name);
+      }
+    }
+  }
+
+  private WlsDynamicServersConfig getDynamicServersConfig(WlsClusterConfig cluster) {
+    return Optional.ofNullable(cluster).map(WlsClusterConfig::getDynamicServersConfig).orElse(null);
+  }
+
+  /**
+   * Returns true if the configurations are the same.
+   *
+   * @return true if nothing changed
+   */
+  public boolean isEmpty() {
+    return !domainChanged
+          && addedServers.isEmpty()
+          && removedServers.isEmpty()
+          && changedServers.isEmpty()
+          && changedClusters.isEmpty();
+  }
+
+  /**
+   * Returns true if the configuration of the specified server may have changed.
+   *
+   * @param serverName the name of the server
+   * @param clusterName the name of the cluster to which it belongs, or null
+   * @return true if resources derived from the server's configuration must be recomputed
+   */
+  public boolean isServerAffected(String serverName, String clusterName) {
+    return domainChanged
+          || addedServers.contains(serverName)
+          || removedServers.contains(serverName)
+          || changedServers.contains(serverName)
+          || (clusterName != null && changedDynamicClusters.contains(clusterName));
+  }
+
+  /**
+   * Returns true if the members of the specified cluster or their configurations may have changed.
+   *
+   * @param clusterName the name of the cluster
+   * @return true if resources derived from the cluster's configuration must be recomputed
+   */
+  public boolean isClusterAffected(String clusterName) {
+    return domainChanged || changedClusters.contains(clusterName);
+  }
+
+  /**
+   * Returns true if the name or the admin server of the domain changed, which affects every server.
+   *
+   * @return true if the domain changed
+   */
+  public boolean isDomainChanged() {
+    return domainChanged;
+  }
+
+  public Set<String> getAddedServers() {
+    return Collections.unmodifiableSet(addedServers);
+  }
+
+  public Set<String> getRemovedServers() {
+    return Collections.unmodifiableSet(removedServers);
+  }
+
+  public Set<String> getChangedServers() {
+    return Collections.unmodifiableSet(changedServers);
+  }
+
+  public Set<String> getChangedClusters() {
+    return Collections.unmodifiableSet(changedClusters);
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+          .append("domainChanged", domainChanged)
+          .append("addedServers", addedServers)
+          .append("removedServers", removedServers)
+          .append("changedServers", changedServers)
+          .append("changedClusters", changedClusters)
+          .toString();
+  }
+
+  private static class StaticServer {
+    private final String clusterName;
+    private final WlsServerConfig config;
+
+    StaticServer(String clusterName, WlsServerConfig config) {
+      this.clusterName = clusterName;
+      this.config = config;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof StaticServer)) {
+        return false;
+      }
+      StaticServer that = (StaticServer) o;
+      return Objects.equals(clusterName, that.clusterName) && Objects.equals(config, that.config);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(clusterName, config);
+    }
+  }
+}
@@ -3,11 +3,15 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
 
 import oracle.kubernetes.utils.OperatorUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -137,8 +141,9 @@ public class WlsClusterConfig {
    * @param serverName the name to look for
    * @return true or false
    */
-  public boolean hasNamedServer(String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+  public synchronized boolean hasNamedServer(String serverName) {
+    return servers.stream().anyMatch(c -> serverName.equals(c.getName()))
+        || (dynamicServersConfig != null && dynamicServersConfig.containsServer(serverName));
   }
 
   /**
@@ -228,15 +233,22 @@ public class WlsClusterConfig {
    * Returns a sorted list of server configurations for servers that belong to this cluster,
    * which includes both statically configured servers and dynamic servers.
    *
+   * <p>For a cluster with only generated dynamic servers, the returned list is a read-only view
+   * which computes each server configuration when it is first accessed.
+   *
    * @return A sorted list of WlsServerConfig containing configurations of servers that belong to
    *     this cluster
    */
   public synchronized List<WlsServerConfig> getServerConfigs() {
-    int dcsize = dynamicServersConfig == null ? 0 : dynamicServersConfig.getDynamicClusterSize();
-    List<WlsServerConfig> result = new ArrayList<>(dcsize + servers.size());
-    if (dynamicServersConfig != null) {
-      result.addAll(dynamicServersConfig.getServerConfigs());
+    List<WlsServerConfig> dynamicServerConfigs = getDynamicServerConfigs();
+    if (servers.isEmpty() && dynamicServersConfig != null && dynamicServersConfig.hasSortedServerConfigs()) {
+      return dynamicServerConfigs;
+    } else if (dynamicServerConfigs instanceof LazyDynamicServerConfigs) {
+      return new MergedServerConfigs(servers, (LazyDynamicServerConfigs) dynamicServerConfigs);
     }
+
+    List<WlsServerConfig> result = new ArrayList<>(dynamicServerConfigs.size() + servers.size());
+    result.addAll(dynamicServerConfigs);
     result.addAll(servers);
     Collections.sort(
         result,
@@ -245,6 +257,36 @@ public class WlsClusterConfig {
     return result;
   }
 
+  /**
+   * Returns the number of servers in this cluster, both statically configured and dynamic, without computing
+   * the configurations of the dynamic servers.
+   *
+   * @return the number of servers in the cluster
+   */
+  public synchronized int getServerConfigCount() {
+    return servers.size() + getDynamicServerConfigs().size();
+  }
+
+  private List<WlsServerConfig> getDynamicServerConfigs() {
+    return Optional.ofNullable(dynamicServersConfig)
+        .map(WlsDynamicServersConfig::getServerConfigs)
+        .orElse(Collections.emptyList());
+  }
+
+  /**
+   * Returns the configuration of the named server in this cluster. Dynamic servers are looked up
+   * without computing the configurations of the other servers in the cluster.
+   *
+   * @param serverName the name of the server
+   * @return the server configuration, or null if the server is not part of this cluster
+   */
+  public synchronized WlsServerConfig getServerConfig(String serverName) {
+    return servers.stream()
+        .filter(c -> c.getName().equals(serverName))
+        .findFirst()
+        .orElseGet(() -> dynamicServersConfig == null ? null : dynamicServersConfig.getServerConfig(serverName));
+  }
+
   public List<WlsServerConfig> getServers() {
     return this.servers;
   }
@@ -411,4 +453,49 @@ public class WlsClusterConfig {
     return builder.isEquals();
   }
 
+  /**
+   * A read-only view of the statically configured and dynamic servers of a cluster, sorted by name. Only the
+   * names of the dynamic servers are needed to sort them; their configurations are computed on first access.
+   */
+  private static class MergedServerConfigs extends AbstractList<WlsServerConfig> implements RandomAccess {
+    private final List<WlsServerConfig> staticServers;
+    private final LazyDynamicServerConfigs dynamicServers;
+    // entries below the number of dynamic servers are their indexes; the others follow with static servers
+    private final Integer[] order;
+
+    MergedServerConfigs(List<WlsServerConfig> staticServers, LazyDynamicServerConfigs dynamicServers) {
+      this.staticServers = new ArrayList<>(staticServers);
+      this.dynamicServers = dynamicServers;
+      this.order = new Integer[dynamicServers.size() + staticServers.size()];
+      String[] sortingStrings = new String[order.length];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+        sortingStrings[i] = OperatorUtils.getSortingString(getServerName(i));
+      }
+      Arrays.sort(order, Comparator.comparing(i -> sortingStrings[i]));
+    }
+
+    private String getServerName(int entry) {
+      return isDynamic(entry) ? dynamicServers.getServerName(entry) : getStaticServer(entry).getName();
+    }
+
+    private boolean isDynamic(int entry) {
+      return entry < dynamicServers.size();
+    }
+
+    private WlsServerConfig getStaticServer(int entry) {
+      return staticServers.get(entry - dynamicServers.size());
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      int entry = order[index];
+      return isDynamic(entry) ? dynamicServers.get(entry) : getStaticServer(entry);
+    }
+
+    @Override
+    public int size() {
+      return order.length;
+    }
+  }
 }
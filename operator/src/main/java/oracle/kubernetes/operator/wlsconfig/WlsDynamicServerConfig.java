@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /** Contains configuration of a WLS server that belongs to a dynamic cluster. */
 public class WlsDynamicServerConfig extends WlsServerConfig {
@@ -64,6 +65,48 @@ public class WlsDynamicServerConfig extends WlsServerConfig {
       String domainName,
       boolean calculatedListenPorts,
       WlsServerConfig serverTemplate) {
+    return create(
+        name, index, clusterName, domainName, calculatedListenPorts, serverTemplate,
+        substitutor -> substitutor.substituteMacro(serverTemplate.getListenAddress()),
+        substitutor -> substitutor.substituteMacro(serverTemplate.getMachineName()));
+  }
+
+  /**
+   * Create a dynamic server config using a server template whose macros have already been
+   * compiled, and the index number of this server.
+   *
+   * @param name Name of the server
+   * @param index index of this server within the cluster, for example, the index of dserver-2 would
+   *     be 2
+   * @param clusterName name of the WLS cluster that this server belongs to
+   * @param domainName name of the WLS domain that this server belongs to
+   * @param calculatedListenPorts whether listen ports are calculated according to configuration in
+   *     the dynamic cluster
+   * @param compiledTemplate compiled server template used for servers in the dynamic cluster
+   * @return a dynamic server configuration object containing configuration of this dynamic server
+   */
+  static WlsDynamicServerConfig create(
+      String name,
+      int index,
+      String clusterName,
+      String domainName,
+      boolean calculatedListenPorts,
+      CompiledServerTemplate compiledTemplate) {
+    return create(
+        name, index, clusterName, domainName, calculatedListenPorts, compiledTemplate.serverTemplate,
+        compiledTemplate.listenAddress::substitute,
+        compiledTemplate.machineName::substitute);
+  }
+
+  private static WlsDynamicServerConfig create(
+      String name,
+      int index,
+      String clusterName,
+      String domainName,
+      boolean calculatedListenPorts,
+      WlsServerConfig serverTemplate,
+      Function<MacroSubstitutor, String> listenAddress,
+      Function<MacroSubstitutor, String> machineName) {
     Integer listenPort = serverTemplate.getListenPort();
     Integer sslListenPort = serverTemplate.getSslListenPort();
     List<NetworkAccessPoint> networkAccessPoints = new ArrayList<>();
@@ -98,13 +141,29 @@ public class WlsDynamicServerConfig extends WlsServerConfig {
     return new WlsDynamicServerConfig(
         name,
         listenPort,
-        macroSubstitutor.substituteMacro(serverTemplate.getListenAddress()),
+        listenAddress.apply(macroSubstitutor),
         sslListenPort,
-        macroSubstitutor.substituteMacro(serverTemplate.getMachineName()),
+        machineName.apply(macroSubstitutor),
         serverTemplate.getAdminPort(),
         networkAccessPoints);
   }
 
+  /**
+   * A server template together with its macro-bearing fields, parsed once so that they can be
+   * substituted for each dynamic server in the cluster.
+   */
+  static final class CompiledServerTemplate {
+    private final WlsServerConfig serverTemplate;
+    private final MacroSubstitutor.CompiledTemplate listenAddress;
+    private final MacroSubstitutor.CompiledTemplate machineName;
+
+    CompiledServerTemplate(WlsServerConfig serverTemplate) {
+      this.serverTemplate = serverTemplate;
+      this.listenAddress = MacroSubstitutor.compile(serverTemplate.getListenAddress());
+      this.machineName = MacroSubstitutor.compile(serverTemplate.getMachineName());
+    }
+  }
+
   /**
    * Whether this server is a dynamic server, ie, not statically configured.
    *
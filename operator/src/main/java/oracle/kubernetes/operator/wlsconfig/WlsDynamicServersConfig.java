@@ -4,8 +4,10 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -133,7 +135,7 @@ public class WlsDynamicServersConfig {
 
   /**
    * Create a list of WlsServerConfig objects for dynamic servers that corresponds to the current
-   * cluster size.
+   * cluster size. The configuration of each server is only computed when it is first requested.
    *
    * @param serverNames Names of the servers corresponding to the current cluster size
    * @param serverTemplate WlsServerConfig object containing template used for creating dynamic
@@ -151,22 +153,9 @@ public class WlsDynamicServersConfig {
       boolean calculatedListenPorts) {
     List<WlsServerConfig> serverConfigs = null;
     if (serverNames != null && !serverNames.isEmpty()) {
-      serverConfigs = new ArrayList<>(serverNames.size());
-      int index = 0;
-      int startingServerIndex =
-          1; // hard coded to 1 for the time being. This will be configurable in later version of
-      // WLS
-      for (String serverName : serverNames) {
-        serverConfigs.add(
-            WlsDynamicServerConfig.create(
-                serverName,
-                index + startingServerIndex,
-                clusterName,
-                domainName,
-                calculatedListenPorts,
-                serverTemplate));
-        index++;
-      }
+      serverConfigs =
+          new LazyDynamicServerConfigs(
+              new ArrayList<>(serverNames), clusterName, domainName, calculatedListenPorts, serverTemplate);
     }
     return serverConfigs;
   }
@@ -318,27 +307,67 @@ public class WlsDynamicServersConfig {
   }
 
   /**
-   * Generate the Dynamic Server configurations.
+   * Generate the Dynamic Server configurations. Server configurations are not computed here;
+   * each is derived from the template and its index on first access.
    * @param serverTemplate name of the dynamic server template
    * @param clusterName name of the cluster
    * @param domainName name of the domain
    */
   public void generateDynamicServerConfigs(
       WlsServerConfig serverTemplate, String clusterName, String domainName) {
-    List<String> dynamicServerNames = generateDynamicServerNames();
     serverConfigs =
-        createServerConfigsFromTemplate(
-            dynamicServerNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
+        new LazyDynamicServerConfigs(
+            serverNamePrefix,
+            Optional.ofNullable(dynamicClusterSize).orElse(0),
+            clusterName,
+            domainName,
+            calculatedListenPorts,
+            serverTemplate);
   }
 
-  private List<String> generateDynamicServerNames() {
-    List<String> serverNames = new ArrayList<>();
-    for (int index = 1; index <= dynamicClusterSize; index++) {
-      serverNames.add(serverNamePrefix + index);
+  /**
+   * Returns the configuration of the named dynamic server, without computing the configurations of
+   * the other servers in the cluster.
+   *
+   * @param serverName the name of the server
+   * @return the server configuration, or null if the server is not part of this dynamic cluster
+   */
+  public WlsServerConfig getServerConfig(String serverName) {
+    if (serverConfigs instanceof LazyDynamicServerConfigs) {
+      return ((LazyDynamicServerConfigs) serverConfigs).getServerConfig(serverName);
     }
-    return serverNames;
+    return Optional.ofNullable(serverConfigs).orElse(Collections.emptyList()).stream()
+        .filter(c -> c.getName().equals(serverName))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Returns true if the named server is one of the dynamic servers in this cluster.
+   *
+   * @param serverName the name of the server
+   * @return true if the server is part of this dynamic cluster
+   */
+  public boolean containsServer(String serverName) {
+    if (serverConfigs instanceof LazyDynamicServerConfigs) {
+      return ((LazyDynamicServerConfigs) serverConfigs).containsServer(serverName);
+    }
+    return getServerConfig(serverName) != null;
+  }
+
+  /**
+   * Returns true if the server configurations are known to be in ascending 'numero-lexi' order
+   * by name, so that callers do not need to sort them.
+   *
+   * @return true if the server configurations are already sorted
+   */
+  boolean hasSortedServerConfigs() {
+    return serverConfigs instanceof LazyDynamicServerConfigs
+        && ((LazyDynamicServerConfigs) serverConfigs).hasGeneratedNames();
   }
 
+  // The server configurations are derived from the other fields, and are left out of the following methods
+  // so that they do not compute the configuration of every dynamic server.
   @Override
   public String toString() {
     return new ToStringBuilder(this)
@@ -351,7 +380,6 @@ public class WlsDynamicServersConfig {
         .append("calculatedListenPorts", calculatedListenPorts)
         .append("serverTemplate", serverTemplate)
         .append("machineNameMatchExpression", machineNameMatchExpression)
-        .append("serverConfigs", serverConfigs)
         .toString();
   }
 
@@ -367,8 +395,7 @@ public class WlsDynamicServersConfig {
             .append(serverNamePrefix)
             .append(calculatedListenPorts)
             .append(serverTemplate)
-            .append(machineNameMatchExpression)
-            .append(serverConfigs);
+            .append(machineNameMatchExpression);
     return builder.toHashCode();
   }
 
@@ -392,8 +419,7 @@ public class WlsDynamicServersConfig {
             .append(serverNamePrefix, rhs.serverNamePrefix)
             .append(calculatedListenPorts, rhs.calculatedListenPorts)
             .append(serverTemplate, rhs.serverTemplate)
-            .append(machineNameMatchExpression, rhs.machineNameMatchExpression)
-            .append(serverConfigs, rhs.serverConfigs);
+            .append(machineNameMatchExpression, rhs.machineNameMatchExpression);
     return builder.isEquals();
   }
 }
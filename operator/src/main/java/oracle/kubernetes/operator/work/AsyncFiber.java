@@ -40,4 +40,13 @@ public interface AsyncFiber {
    * @return a new child fiber
    */
   Fiber createChildFiber();
+
+  /**
+   * Runs an action which creates and starts the child fibers of a fork. The action may be run on another thread.
+   *
+   * @param startAction the action which starts the child fibers
+   */
+  default void startChildren(Runnable startAction) {
+    startAction.run();
+  }
 }
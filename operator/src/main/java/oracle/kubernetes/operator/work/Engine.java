@@ -4,6 +4,9 @@
 package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
@@ -14,8 +17,9 @@ import java.util.concurrent.atomic.AtomicReference;
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
  */
 public class Engine {
-  private static final int DEFAULT_THREAD_COUNT = 10;
+  public static final int DEFAULT_THREAD_COUNT = 10;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private final AtomicReference<ForkJoinScheduler> forkJoinScheduler = new AtomicReference<>();
 
   /**
    * Creates engine with the specified executor.
@@ -61,8 +65,47 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Runs the child fibers created by {@link Step#doForkJoin} on a work-stealing pool with the default number of
+   * threads, rather than on the executor. Each worker keeps its own deque of fibers: a child fiber which forks
+   * further fibers queues them on the deque of its own worker, and idle workers steal from the others. The children
+   * of a fiber running on the executor are forked together by a single task on the pool, so that they too are queued
+   * on one worker's deque. Fibers without a parent, and scheduled operations, continue to use the executor, so that
+   * the fan-out of one domain does not delay work queued for other domains.
+   *
+   * @param id Engine id, used to name the worker threads
+   * @param container Container in which the fibers will run
+   */
+  public void enableForkJoinScheduling(String id, Container container) {
+    forkJoinScheduler.set(new ForkJoinScheduler(id, container));
+  }
+
+  /**
+   * Returns true if child fibers are run on a work-stealing pool.
+   *
+   * @return true if fork-join scheduling is enabled
+   */
+  public boolean isForkJoinSchedulingEnabled() {
+    return forkJoinScheduler.get() != null;
+  }
+
   void addRunnable(Fiber fiber) {
-    getExecutor().execute(fiber);
+    ForkJoinScheduler scheduler = forkJoinScheduler.get();
+    if (scheduler != null && fiber.isChild()) {
+      scheduler.execute(fiber);
+    } else {
+      getExecutor().execute(fiber);
+    }
+  }
+
+  // Runs the action which starts the children of a fork on the pool, unless already running on it.
+  void startChildren(Runnable startAction) {
+    ForkJoinScheduler scheduler = forkJoinScheduler.get();
+    if (scheduler == null || scheduler.isPoolThread()) {
+      startAction.run();
+    } else {
+      scheduler.submit(startAction);
+    }
   }
 
   /**
@@ -81,6 +124,61 @@ public class Engine {
     return new Fiber(this, parent);
   }
 
+  private static class ForkJoinScheduler {
+    private final ForkJoinPool pool;
+    private final Container container;
+
+    ForkJoinScheduler(String id, Container container) {
+      // fibers are forked and never joined, so the workers take them in the order queued
+      this.pool = new ForkJoinPool(DEFAULT_THREAD_COUNT, new ForkJoinThreadFactory(id), null, true);
+      this.container = container;
+    }
+
+    // A fiber queued from one of the pool's own workers goes onto that worker's deque;
+    // one queued from any other thread is submitted to the pool's shared queues.
+    void execute(Fiber fiber) {
+      ForkJoinTask<?> task = ForkJoinTask.adapt(() -> runInContainer(fiber));
+      if (isPoolThread()) {
+        task.fork();
+      } else {
+        pool.execute(task);
+      }
+    }
+
+    boolean isPoolThread() {
+      return ForkJoinTask.getPool() == pool;
+    }
+
+    void submit(Runnable action) {
+      pool.execute(() -> runInContainer(action));
+    }
+
+    private void runInContainer(Runnable action) {
+      Container old = ContainerResolver.getDefault().enterContainer(container);
+      try {
+        action.run();
+      } finally {
+        ContainerResolver.getDefault().exitContainer(old);
+      }
+    }
+  }
+
+  private static class ForkJoinThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    final String namePrefix;
+
+    ForkJoinThreadFactory(String id) {
+      namePrefix = "engine-" + id + "-fork-join-thread-";
+    }
+
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName(namePrefix + t.getPoolIndex());
+      t.setDaemon(true);
+      return t;
+    }
+  }
+
   private static class DaemonThreadFactory implements ThreadFactory {
     final AtomicInteger threadNumber = new AtomicInteger(1);
     final String namePrefix;
@@ -248,6 +248,15 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
     }
   }
 
+  @Override
+  public void startChildren(Runnable startAction) {
+    owner.startChildren(startAction);
+  }
+
+  boolean isChild() {
+    return parent != null;
+  }
+
   /**
    * Creates a child Fiber. If this Fiber is cancelled, so will all of the children.
    *
@@ -44,6 +44,15 @@ public class FiberGate {
     return new HashMap<>(gateMap);
   }
 
+  /**
+   * Returns true if a fiber with the specified key is running.
+   * @param key Key
+   * @return true if there is a current fiber
+   */
+  public boolean hasCurrentFiber(String key) {
+    return gateMap.containsKey(key);
+  }
+
   public ScheduledExecutorService getExecutor() {
     return engine.getExecutor();
   }
@@ -293,9 +293,11 @@ public abstract class Step {
                 }
               };
           // start forked fibers
-          for (StepAndPacket sp : startDetails) {
-            fiber.createChildFiber().start(sp.step, sp.packet, callback);
-          }
+          fiber.startChildren(() -> {
+            for (StepAndPacket sp : startDetails) {
+              fiber.createChildFiber().start(sp.step, sp.packet, callback);
+            }
+          });
         });
   }
 
@@ -391,6 +391,22 @@ public abstract class DomainConfigurator {
    */
   public abstract DomainConfigurator withRestartPolicy(String restartPolicy);
 
+  /**
+   * Set the method used to shut down servers for the pod configuration.
+   *
+   * @param shutdownMethod shutdown method to be set to this DomainConfigurator
+   * @return this object
+   */
+  public abstract DomainConfigurator withShutdownMethod(String shutdownMethod);
+
+  /**
+   * Set the server launch mode for the pod configuration.
+   *
+   * @param launchMode launch mode to be set to this DomainConfigurator
+   * @return this object
+   */
+  public abstract DomainConfigurator withLaunchMode(String launchMode);
+
   /**
    * Add readiness gate to the pod configuration.
    *
@@ -201,6 +201,18 @@ public abstract class BaseConfiguration {
     serverPod.setRestartPolicy(restartPolicy);
   }
 
+  public String getLaunchMode() {
+    return serverPod.getLaunchMode();
+  }
+
+  void setLaunchMode(String launchMode) {
+    serverPod.setLaunchMode(launchMode);
+  }
+
+  void setShutdownMethod(String shutdownMethod) {
+    serverPod.getShutdown().shutdownMethod(shutdownMethod);
+  }
+
   public String getRuntimeClassName() {
     return serverPod.getRuntimeClassName();
   }
@@ -258,6 +258,18 @@ public class DomainCommonConfigurator extends DomainConfigurator {
     return this;
   }
 
+  @Override
+  public DomainConfigurator withShutdownMethod(String shutdownMethod) {
+    getDomainSpec().setShutdownMethod(shutdownMethod);
+    return this;
+  }
+
+  @Override
+  public DomainConfigurator withLaunchMode(String launchMode) {
+    getDomainSpec().setLaunchMode(launchMode);
+    return this;
+  }
+
   @Override
   public DomainConfigurator withReadinessGate(V1PodReadinessGate readinessGate) {
     getDomainSpec().addReadinessGate(readinessGate);
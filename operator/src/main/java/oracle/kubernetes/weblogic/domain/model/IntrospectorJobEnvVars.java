@@ -72,6 +72,11 @@ public class IntrospectorJobEnvVars {
    */
   public static final String ISTIO_POD_NAMESPACE = "ISTIO_POD_NAMESPACE";
 
+  /**
+   * Set to "true" if clustered servers are to be addressed through the headless services of their clusters.
+   */
+  public static final String HEADLESS_CLUSTER_SERVICES = "HEADLESS_CLUSTER_SERVICES";
+
   /**
    * Returns true if the specified environment variable name is reserved by the operator for communication with
    * the introspection job.
@@ -62,10 +62,13 @@ public class ServerEnvVars {
   /** If present, pod scripts will watch for changes to override configurations and move them into place. */
   public static final String DYNAMIC_CONFIG_OVERRIDE = "DYNAMIC_CONFIG_OVERRIDE";
 
+  /** 'Direct' if the server should be started without a node manager. */
+  public static final String SERVER_LAUNCH_MODE = "SERVER_LAUNCH_MODE";
+
   private static final List<String> RESERVED_NAMES = Arrays.asList(
         DOMAIN_UID, DOMAIN_NAME, DOMAIN_HOME, NODEMGR_HOME, SERVER_NAME, SERVICE_NAME,
         ADMIN_NAME, AS_SERVICE_NAME, ADMIN_PORT, ADMIN_PORT_SECURE,
-        LOG_HOME, SERVER_OUT_IN_POD_LOG);
+        LOG_HOME, SERVER_OUT_IN_POD_LOG, SERVER_LAUNCH_MODE);
 
   static boolean isReserved(String name) {
     return RESERVED_NAMES.contains(name);
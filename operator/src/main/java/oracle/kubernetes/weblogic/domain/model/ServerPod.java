@@ -37,6 +37,8 @@ import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
 import oracle.kubernetes.json.Description;
+import oracle.kubernetes.json.EnumClass;
+import oracle.kubernetes.operator.ServerLaunchMode;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -184,6 +186,13 @@ class ServerPod extends KubernetesResource {
   @Description("Configures how the operator should shut down the server instance.")
   private final Shutdown shutdown = new Shutdown();
 
+  @Description("Specifies how the server instance is started in its Pod. NodeManager starts a Node Manager,"
+      + " which starts the server when asked by WLST. Direct starts the server without either of them, which"
+      + " shortens the time for the server to reach the RUNNING state and reduces the memory used by the Pod;"
+      + " the server is then not restarted within the Pod if it fails. Defaults to NodeManager.")
+  @EnumClass(ServerLaunchMode.class)
+  private String launchMode;
+
   /**
    * SecurityContext holds security configuration that will be applied to a container. Some fields
    * are present in both SecurityContext and PodSecurityContext. When both are set, the values in
@@ -414,6 +423,9 @@ class ServerPod extends KubernetesResource {
     livenessProbe.copyValues(serverPod1.livenessProbe);
     readinessProbe.copyValues(serverPod1.readinessProbe);
     shutdown.copyValues(serverPod1.shutdown);
+    if (launchMode == null) {
+      launchMode = serverPod1.launchMode;
+    }
     for (V1Volume var : serverPod1.getAdditionalVolumes()) {
       addIfMissing(var);
     }
@@ -679,6 +691,14 @@ class ServerPod extends KubernetesResource {
     return restartPolicy;
   }
 
+  String getLaunchMode() {
+    return launchMode;
+  }
+
+  void setLaunchMode(String launchMode) {
+    this.launchMode = launchMode;
+  }
+
   void setRestartPolicy(String restartPolicy) {
     this.restartPolicy = restartPolicy;
   }
@@ -743,6 +763,7 @@ class ServerPod extends KubernetesResource {
         .append("initContainers", initContainers)
         .append("containers", containers)
         .append("shutdown", shutdown)
+        .append("launchMode", launchMode)
         .append("affinity", affinity)
         .append("priorityClassName", priorityClassName)
         .append("readinessGates", readinessGates)
@@ -787,6 +808,7 @@ class ServerPod extends KubernetesResource {
         .append(initContainers, that.initContainers)
         .append(containers, that.containers)
         .append(shutdown, that.shutdown)
+        .append(launchMode, that.launchMode)
         .append(affinity, that.affinity)
         .append(priorityClassName, that.priorityClassName)
         .append(readinessGates, that.readinessGates)
@@ -815,6 +837,7 @@ class ServerPod extends KubernetesResource {
         .append(initContainers)
         .append(containers)
         .append(shutdown)
+        .append(launchMode)
         .append(affinity)
         .append(priorityClassName)
         .append(readinessGates)
@@ -139,6 +139,12 @@ public interface ServerSpec {
 
   String getRestartPolicy();
 
+  /**
+   * Returns how the server is started in its pod.
+   * @return the name of a {@link oracle.kubernetes.operator.ServerLaunchMode}, or null to use a node manager
+   */
+  String getLaunchMode();
+
   String getRuntimeClassName();
 
   String getNodeName();
@@ -88,6 +88,11 @@ public abstract class ServerSpecBase implements ServerSpec {
     return null;
   }
 
+  @Override
+  public String getLaunchMode() {
+    return null;
+  }
+
   @Override
   public String getRuntimeClassName() {
     return null;
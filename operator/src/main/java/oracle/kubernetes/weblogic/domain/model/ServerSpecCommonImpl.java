@@ -186,6 +186,11 @@ public abstract class ServerSpecCommonImpl extends ServerSpecBase {
     return server.getRestartPolicy();
   }
 
+  @Override
+  public String getLaunchMode() {
+    return server.getLaunchMode();
+  }
+
   @Override
   public String getRuntimeClassName() {
     return server.getRuntimeClassName();
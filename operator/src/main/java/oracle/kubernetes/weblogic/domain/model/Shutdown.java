@@ -7,12 +7,14 @@ import java.util.Optional;
 
 import oracle.kubernetes.json.Description;
 import oracle.kubernetes.json.EnumClass;
+import oracle.kubernetes.operator.ShutdownMethod;
 import oracle.kubernetes.operator.ShutdownType;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import static oracle.kubernetes.operator.KubernetesConstants.GRACEFUL_SHUTDOWNTYPE;
+import static oracle.kubernetes.operator.KubernetesConstants.WLST_SHUTDOWNMETHOD;
 
 public class Shutdown {
   // Default timeout must stay 30 seconds to match Kubernetes default
@@ -35,6 +37,14 @@ public class Shutdown {
           + " Defaults to false.")
   private Boolean ignoreSessions;
 
+  @Description(
+      "Specifies how the server instance is asked to shut down. Rest calls the server's REST management endpoint"
+          + " from the pod, which avoids starting WLST, and falls back to WLST if that fails or if the domain"
+          + " has a Coherence cluster. Rest requires the server pod to mount the WebLogic credentials secret."
+          + " Defaults to Wlst.")
+  @EnumClass(ShutdownMethod.class)
+  private String shutdownMethod;
+
   public Shutdown() {
   }
 
@@ -48,6 +58,9 @@ public class Shutdown {
     if (ignoreSessions == null) {
       ignoreSessions(fromShutdown.ignoreSessions);
     }
+    if (shutdownMethod == null) {
+      shutdownMethod(fromShutdown.shutdownMethod);
+    }
   }
 
   public String getShutdownType() {
@@ -77,12 +90,26 @@ public class Shutdown {
     return this;
   }
 
+  public String getShutdownMethod() {
+    return Optional.ofNullable(shutdownMethod).orElse(WLST_SHUTDOWNMETHOD);
+  }
+
+  public Shutdown shutdownMethod(String shutdownMethod) {
+    this.shutdownMethod = shutdownMethod;
+    return this;
+  }
+
+  public boolean isRestShutdownMethod() {
+    return ShutdownMethod.Rest.name().equals(getShutdownMethod());
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
         .append("shutdownType", shutdownType)
         .append("timeoutSeconds", timeoutSeconds)
         .append("ignoreSessions", ignoreSessions)
+        .append("shutdownMethod", shutdownMethod)
         .toString();
   }
 
@@ -102,6 +129,7 @@ public class Shutdown {
         .append(shutdownType, that.shutdownType)
         .append(timeoutSeconds, that.timeoutSeconds)
         .append(ignoreSessions, that.ignoreSessions)
+        .append(shutdownMethod, that.shutdownMethod)
         .isEquals();
   }
 
@@ -111,6 +139,7 @@ public class Shutdown {
         .append(shutdownType)
         .append(timeoutSeconds)
         .append(ignoreSessions)
+        .append(shutdownMethod)
         .toHashCode();
   }
 }
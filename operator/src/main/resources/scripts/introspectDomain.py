@@ -108,6 +108,7 @@ class OfflineWlstEnv(object):
     self.ACCESS_LOG_IN_LOG_HOME   = self.getEnvOrDef('ACCESS_LOG_IN_LOG_HOME', 'true')
     self.DATA_HOME                = self.getEnvOrDef('DATA_HOME', "")
     self.CREDENTIALS_SECRET_NAME  = self.getEnv('CREDENTIALS_SECRET_NAME')
+    self.HEADLESS_CLUSTER_SERVICES = self.getEnvOrDef('HEADLESS_CLUSTER_SERVICES', 'false')
 
     # initialize globals
 
@@ -306,6 +307,15 @@ class OfflineWlstEnv(object):
   def toDNS1123Legal(self, address):
     return address.lower().replace('_','-')
 
+  # Must match LegalNames.toServerServiceName and LegalNames.toClusteredServerAddress in the operator.
+  # A clustered server addressed through its cluster's headless service is known by its pod's hostname
+  # within that service's subdomain.
+  def toListenAddress(self, server_name, cluster):
+    address = self.toDNS1123Legal(self.getDomainUID() + "-" + server_name)
+    if cluster is not None and self.HEADLESS_CLUSTER_SERVICES == 'true':
+      address += "." + self.toDNS1123Legal(self.getDomainUID() + "-cluster-" + cluster.getName() + "-headless")
+    return address
+
 
 class SecretManager(object):
 
@@ -667,7 +677,7 @@ class TopologyGenerator(Generator):
     self.writeln("- name: " + name)
     if server.isListenPortEnabled():
       self.writeln("  listenPort: " + str(server.getListenPort()))
-    self.writeln("  listenAddress: " + self.quote(self.env.toDNS1123Legal(self.env.getDomainUID() + "-" + server.getName())))
+    self.writeln("  listenAddress: " + self.quote(self.env.toListenAddress(server.getName(), self.env.getClusterOrNone(server))))
     if server.isAdministrationPortEnabled():
       self.writeln("  adminPort: " + str(server.getAdministrationPort()))
     else:
@@ -1073,7 +1083,7 @@ class SitConfigGenerator(Generator):
 
   def customizeServer(self, server):
     name=server.getName()
-    listen_address=self.env.toDNS1123Legal(self.env.getDomainUID() + "-" + name)
+    listen_address=self.env.toListenAddress(name, self.env.getClusterOrNone(server))
     self.writeln("<d:server>")
     self.indent()
     self.writeln("<d:name>" + name + "</d:name>")
@@ -1094,7 +1104,7 @@ class SitConfigGenerator(Generator):
   def customizeServerTemplate(self, template):
     name=template.getName()
     server_name_prefix=template.getCluster().getDynamicServers().getServerNamePrefix()
-    listen_address=self.env.toDNS1123Legal(self.env.getDomainUID() + "-" + server_name_prefix + "${id}")
+    listen_address=self.env.toListenAddress(server_name_prefix + "${id}", template.getCluster())
     self.writeln("<d:server-template>")
     self.indent()
     self.writeln("<d:name>" + name + "</d:name>")
@@ -66,11 +66,9 @@ DH=${DOMAIN_HOME?}
 
 STATEFILE=${DH}/servers/${SN}/data/nodemanager/${SN}.state
 
-if [ "${MOCK_WLS}" != 'true' ]; then
-  # Adjust PATH if necessary before calling jps
-  adjustPath
-
-  if [ `jps -l | grep -c " weblogic.NodeManager"` -eq 0 ]; then
+if [ "${MOCK_WLS}" != 'true' ] && [ "${SERVER_LAUNCH_MODE}" != 'Direct' ]; then
+  # Check /proc rather than calling jps, so that no JVM is started on each probe
+  if ! findNodeManagerProcess > /dev/null; then
     trace SEVERE "WebLogic NodeManager process not found."
     exit $RETVAL
   fi
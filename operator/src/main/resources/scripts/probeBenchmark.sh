@@ -0,0 +1,36 @@
+#!/bin/bash
+
+# Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+# Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+#
+# Compares the wall time and CPU used by the liveness probe and the state reader
+# when they find processes by calling jps and by checking /proc. Run it in a server pod:
+#
+#   kubectl exec <pod> -- /weblogic-operator/scripts/probeBenchmark.sh [iterations]
+#
+
+SCRIPTPATH="$( cd "$(dirname "$0")" > /dev/null 2>&1 ; pwd -P )"
+source ${SCRIPTPATH}/utils.sh
+[ $? -ne 0 ] && echo "[SEVERE] Missing file ${SCRIPTPATH}/utils.sh" && exit 1
+
+checkEnv SERVER_NAME || exit 1
+
+ITERATIONS=${1:-20}
+TIMEFORMAT="  wall %3Rs  user %3Us  sys %3Ss"
+
+function runProbe() {
+  local mode=$1
+  local script=$2
+  local i
+  for ((i = 0; i < ITERATIONS; i++)); do
+    PROCESS_PROBE_MODE=$mode ${SCRIPTPATH}/${script} > /dev/null 2>&1
+  done
+}
+
+for script in livenessProbe.sh readState.sh; do
+  for mode in jps proc; do
+    echo "${script} x ${ITERATIONS} (${mode}):"
+    time runProbe $mode $script
+  done
+done
@@ -19,10 +19,8 @@ DH=${DOMAIN_HOME?}
 
 STATEFILE=/${DH}/servers/${SN}/data/nodemanager/${SN}.state
 
-# Adjust PATH if necessary before calling jps
-adjustPath
-
-if [ `jps -v | grep -c " -Dweblogic.Name=${SERVER_NAME} "` -eq 0 ]; then
+# Check /proc rather than calling jps, so that no JVM is started on each probe
+if ! findServerProcess > /dev/null; then
   trace "WebLogic server process not found"
   exit 1
 fi
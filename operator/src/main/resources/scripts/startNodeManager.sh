@@ -332,7 +332,7 @@ while [ 1 -eq 1 ]; do
   fi
   if [ $((SECONDS - $start_secs)) -ge $max_wait_secs ]; then
     trace INFO "Trying to put a node manager thread dump in '$nodemgr_out_file'."
-    kill -3 `jps -l | grep weblogic.NodeManager | awk '{ print $1 }'`
+    kill -3 `findNodeManagerProcess`
     trace INFO "Contents of node manager log '$nodemgr_log_file':"
     cat ${nodemgr_log_file}
     trace INFO "Contents of node manager out '$nodemgr_out_file':"
@@ -344,3 +344,6 @@ while [ 1 -eq 1 ]; do
 done
 
 trace "Nodemanager started in $((SECONDS - start_secs)) seconds."
+
+# Record the node manager PID, so that the liveness probe can check it without scanning /proc or calling jps
+findNodeManagerProcess > /dev/null
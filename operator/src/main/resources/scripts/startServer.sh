@@ -94,6 +94,9 @@ function startWLS() {
 
   traceTiming "POD '${SERVICE_NAME}' WLS STARTED"
 
+  # Record the server PID, so that readState.sh can check it without scanning /proc or calling jps
+  findServerProcess > /dev/null
+
   FAIL_BOOT_ON_SITUATIONAL_CONFIG_ERROR=${FAIL_BOOT_ON_SITUATIONAL_CONFIG_ERROR:-true}
   SERVER_OUT_MONITOR_INTERVAL=${SERVER_OUT_MONITOR_INTERVAL:-3}
   if [ ${FAIL_BOOT_ON_SITUATIONAL_CONFIG_ERROR} == 'true' ] ; then
@@ -101,6 +104,120 @@ function startWLS() {
   fi
 }
 
+#
+# Define functions to start weblogic directly, without a node manager or WLST. The server's
+# state file, which the node manager would otherwise maintain, is instead maintained by a
+# background supervisor from the server's "Server state changed" messages on its stdout.
+# If no such message appears, for example because the server's stdout is redirected or its
+# log format changed, the supervisor falls back to polling the server's readiness endpoint.
+#
+
+function writeServerState() {
+  echo "$1:Y:N" > ${STATEFILE}
+}
+
+# Return 0 if the server's readiness endpoint, which the pod's readiness probe also uses, reports it ready
+function isServerReady() {
+  local protocol="http"
+  [ "${LOCAL_ADMIN_PROTOCOL}" = "t3s" ] && protocol="https"
+  local url="${protocol}://localhost:${LOCAL_ADMIN_PORT}/weblogic/ready"
+  local http_code
+  http_code=$(curl --silent --insecure --output /dev/null --write-out '%{http_code}' --max-time 5 "${url}")
+  [ "${http_code}" = "200" ]
+}
+
+# Mark the server RUNNING once it is ready, unless a state change message has been seen by then
+function pollServerReadiness() {
+  local server_pid=$1
+  local state_seen_file=$2
+  [ -z "${LOCAL_ADMIN_PORT}" ] || [ -z "$(command -v curl)" ] && return
+  while kill -0 ${server_pid} 2> /dev/null && [ ! -f ${state_seen_file} ]; do
+    if isServerReady; then
+      [ ! -f ${state_seen_file} ] \
+        && trace "No server state change message seen; server is ready" \
+        && writeServerState "RUNNING"
+      return
+    fi
+    sleep ${SERVER_STATE_POLL_INTERVAL:-2}
+  done
+}
+
+function superviseServer() {
+  ${DOMAIN_HOME}/bin/startWebLogic.sh >> ${SERVER_OUT_FILE} 2>&1 &
+  local server_pid=$!
+  local state_seen_file="${STATEFILE}.seen"
+  rm -f ${state_seen_file}
+
+  tail -F -s 0.1 -n +0 --pid=${server_pid} ${SERVER_OUT_FILE} 2> /dev/null \
+    | grep --line-buffered -o '<BEA-000365> <Server state changed to [A-Z_]*' \
+    | while read -r line; do
+        touch ${state_seen_file}
+        writeServerState "${line##* }"
+      done &
+  local follower_pid=$!
+
+  pollServerReadiness ${server_pid} ${state_seen_file} &
+  local poller_pid=$!
+
+  wait ${server_pid}
+  local exit_status=$?
+  wait ${follower_pid} ${poller_pid}
+  rm -f ${state_seen_file}
+
+  if [ ${exit_status} -eq 0 ]; then
+    trace "WebLogic Server exited"
+    writeServerState "SHUTDOWN"
+  else
+    trace SEVERE "WebLogic Server exited with status ${exit_status}"
+    writeServerState "FAILED_NOT_RESTARTABLE"
+  fi
+}
+
+function startWLSDirect() {
+  # setup ".out" location for a WL server
+  serverLogHome="${LOG_HOME:-${DOMAIN_HOME}/servers/${SERVER_NAME}/logs}"
+  export SERVER_OUT_FILE="${serverLogHome}/${SERVER_NAME}.out"
+  export SERVER_PID_FILE="${serverLogHome}/${SERVER_NAME}.pid"
+  export SHUTDOWN_MARKER_FILE="${serverLogHome}/${SERVER_NAME}.shutdown"
+  createFolder "${serverLogHome}"
+  rm -f ${SHUTDOWN_MARKER_FILE}
+  logFileRotate ${SERVER_OUT_FILE} ${SERVER_OUT_FILE_MAX:-11}
+
+  STATEFILE_DIR=${DOMAIN_HOME}/servers/${SERVER_NAME}/data/nodemanager
+  STATEFILE=${STATEFILE_DIR}/${SERVER_NAME}.state
+  createFolder ${STATEFILE_DIR}
+  writeServerState "STARTING"
+
+  traceTiming "POD '${SERVICE_NAME}' MD5 BEGIN"
+
+  checkDomainSecretMD5 || exitOrLoop
+
+  traceTiming "POD '${SERVICE_NAME}' MD5 END"
+
+  if [ "${SERVER_OUT_IN_POD_LOG}" == 'true' ] ; then
+    trace "Showing the server out file from ${SERVER_OUT_FILE}"
+    ${SCRIPTPATH}/tailLog.sh ${SERVER_OUT_FILE} ${SERVER_PID_FILE} &
+  fi
+
+  # Pass the server the same settings that the node manager would, using the domain's start script
+  FAIL_BOOT_ON_SITUATIONAL_CONFIG_ERROR=${FAIL_BOOT_ON_SITUATIONAL_CONFIG_ERROR:-true}
+  local fail_boot_option="-Dweblogic.SituationalConfig.failBootOnError=${FAIL_BOOT_ON_SITUATIONAL_CONFIG_ERROR}"
+  export JAVA_OPTIONS="${fail_boot_option} -Dweblogic.RootDirectory=${DOMAIN_HOME} ${JAVA_OPTIONS}"
+  if [ ! "${ADMIN_NAME}" = "${SERVER_NAME}" ]; then
+    export ADMIN_URL=$(getAdminServerUrl)
+  fi
+
+  traceTiming "POD '${SERVICE_NAME}' WLS STARTING"
+
+  trace "Start WebLogic Server directly"
+  superviseServer &
+
+  SERVER_OUT_MONITOR_INTERVAL=${SERVER_OUT_MONITOR_INTERVAL:-3}
+  if [ ${FAIL_BOOT_ON_SITUATIONAL_CONFIG_ERROR} == 'true' ] ; then
+    ${SCRIPTPATH}/monitorLog.sh ${SERVER_OUT_FILE} ${SERVER_OUT_MONITOR_INTERVAL} &
+  fi
+}
+
 function mockWLS() {
 
   trace "Mocking WebLogic Server"
@@ -364,6 +481,8 @@ copySitCfgWhileBooting /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/
 
 if [ "${MOCK_WLS}" == 'true' ]; then
   mockWLS
+elif [ "${SERVER_LAUNCH_MODE}" == 'Direct' ]; then
+  startWLSDirect
 else
   startWLS
 fi
@@ -51,11 +51,8 @@ function check_for_shutdown() {
   if [ -e /tmp/diefast ]; then
     trace "Found '/tmp/diefast' file; skipping clean shutdown" &>> ${STOP_OUT_FILE}
 
-    # Adjust PATH if necessary before calling jps
-    adjustPath
-
-    kill -9 `jps -v | grep " NodeManager " | awk '{ print $1 }'`
-    kill -9 `jps -v | grep " -Dweblogic.Name=${SERVER_NAME} " | awk '{ print $1 }'`
+    kill -9 `findNodeManagerProcess`
+    kill -9 `findServerProcess`
     touch ${SHUTDOWN_MARKER_FILE}
     return 0
   fi
@@ -64,14 +61,79 @@ function check_for_shutdown() {
   return 1
 }
 
+# Return success if the domain has a Coherence cluster, or if that cannot be determined.
+# The Coherence services must be safe before the server is shut down, which requires WLST.
+function doesCoherenceExist() {
+  local config_file="${DOMAIN_HOME}/config/config.xml"
+  [ ! -r "${config_file}" ] && return 0
+  tr -d '[:space:]' < ${config_file} \
+    | sed 's#<coherence-cluster-system-resource></coherence-cluster-system-resource>##g' \
+    | grep -q '<coherence-cluster-system-resource>'
+}
+
+# Echo the value of $1 escaped for a double quoted curl config file value.
+function escapeCurlConfigValue() {
+  local value="${1//\\/\\\\}"
+  echo "${value//\"/\\\"}"
+}
+
+# Ask the server to shut itself down by calling its REST management endpoint, which avoids
+# the cost of starting WLST, and wait until it has done so. The credentials are passed
+# to curl on stdin so that they don't appear on its command line.
+# Return 1 if the request could not be delivered, so that WLST can be used instead.
+function shutdownUsingRest() {
+  local credentials_dir="/weblogic-operator/secrets"
+  [ ! -r "${credentials_dir}/username" ] || [ ! -r "${credentials_dir}/password" ] \
+    && trace "WebLogic credentials not found in '${credentials_dir}'" &>> ${STOP_OUT_FILE} && return 1
+  [ -z "$(command -v curl)" ] && trace "curl not found" &>> ${STOP_OUT_FILE} && return 1
+
+  local protocol="http"
+  [ "${SHUTDOWN_PROTOCOL_ARG}" = "t3s" ] && protocol="https"
+
+  local operation="shutdown"
+  local body="{\"timeout\": ${SHUTDOWN_TIMEOUT_ARG}, \"ignoreSessions\": ${SHUTDOWN_IGNORE_SESSIONS_ARG}}"
+  if [ "${SHUTDOWN_TYPE_ARG,,}" = "forced" ]; then
+    operation="forceShutdown"
+    body="{}"
+  fi
+  local url="${protocol}://${SERVICE_NAME}:${SHUTDOWN_PORT_ARG}/management/weblogic/latest/serverRuntime/${operation}"
+
+  trace "Calling ${url}" &>> ${STOP_OUT_FILE}
+  local username="$(escapeCurlConfigValue "$(< ${credentials_dir}/username)")"
+  local password="$(escapeCurlConfigValue "$(< ${credentials_dir}/password)")"
+  local http_code
+  http_code=$(echo "user = \"${username}:${password}\"" \
+    | curl --silent --insecure --config - --output /dev/null --write-out '%{http_code}' \
+        --max-time $((SHUTDOWN_TIMEOUT_ARG + 10)) \
+        -H 'X-Requested-By: WebLogicOperator' -H 'Content-Type: application/json' -H 'Accept: application/json' \
+        -X POST -d "${body}" "${url}")
+  local curl_status=$?
+
+  # The server may close the connection while it shuts down, before it replies (curl exit codes 52 and 56)
+  if [ $curl_status -eq 0 ] && [[ "${http_code}" =~ ^2 ]]; then
+    trace "Server accepted the REST shutdown request" &>> ${STOP_OUT_FILE}
+  elif [ $curl_status -eq 52 ] || [ $curl_status -eq 56 ]; then
+    trace "Server closed the connection during the REST shutdown request" &>> ${STOP_OUT_FILE}
+  else
+    trace "REST shutdown request failed with curl status ${curl_status} and HTTP status ${http_code}" \
+      &>> ${STOP_OUT_FILE}
+    return 1
+  fi
+
+  local max_wait_secs=$((SHUTDOWN_TIMEOUT_ARG + 10))
+  local start_secs=$SECONDS
+  until check_for_shutdown; do
+    [ $((SECONDS - start_secs)) -ge $max_wait_secs ] && break
+    sleep 1
+  done
+  return 0
+}
+
 
 # Check if the server is already shutdown
 check_for_shutdown
 [ $? -eq 0 ] && trace "Server already shutdown or failed" &>>  ${STOP_OUT_FILE} && exit 0
 
-# Otherwise, connect to the node manager and stop the server instance
-[ ! -f "${SCRIPTPATH}/wlst.sh" ] && trace SEVERE "Missing file '${SCRIPTPATH}/wlst.sh'." && exit 1
-
 # Arguments for shutdown
 export SHUTDOWN_PORT_ARG=${LOCAL_ADMIN_PORT:-${MANAGED_SERVER_PORT:-8001}}
 export SHUTDOWN_PROTOCOL_ARG=${LOCAL_ADMIN_PROTOCOL:-t3}
@@ -79,19 +141,32 @@ export SHUTDOWN_TIMEOUT_ARG=${SHUTDOWN_TIMEOUT:-30}
 export SHUTDOWN_IGNORE_SESSIONS_ARG=${SHUTDOWN_IGNORE_SESSIONS:-false}
 export SHUTDOWN_TYPE_ARG=${SHUTDOWN_TYPE:-Graceful}
 
-trace "Before stop-server.py [${SERVER_NAME}] ${SCRIPTDIR}" &>> ${STOP_OUT_FILE}
-${SCRIPTPATH}/wlst.sh /weblogic-operator/scripts/stop-server.py &>> ${STOP_OUT_FILE}
-trace "After stop-server.py" &>> ${STOP_OUT_FILE}
+shutdown_start_secs=$SECONDS
+if [ "${SHUTDOWN_METHOD}" = "Rest" ] && doesCoherenceExist; then
+  trace "Coherence cluster exists; using WLST to shut down the server" &>> ${STOP_OUT_FILE}
+  use_wlst="true"
+elif [ "${SHUTDOWN_METHOD}" = "Rest" ] && shutdownUsingRest; then
+  use_wlst="false"
+else
+  use_wlst="true"
+fi
+
+# Otherwise, or if the REST request could not be delivered, use WLST to stop the server instance
+if [ "${use_wlst}" = "true" ]; then
+  [ ! -f "${SCRIPTPATH}/wlst.sh" ] && trace SEVERE "Missing file '${SCRIPTPATH}/wlst.sh'." && exit 1
+
+  trace "Before stop-server.py [${SERVER_NAME}] ${SCRIPTDIR}" &>> ${STOP_OUT_FILE}
+  ${SCRIPTPATH}/wlst.sh /weblogic-operator/scripts/stop-server.py &>> ${STOP_OUT_FILE}
+  trace "After stop-server.py" &>> ${STOP_OUT_FILE}
+fi
+trace "Shutdown request took $((SECONDS - shutdown_start_secs)) seconds" &>> ${STOP_OUT_FILE}
 
-# at this point node manager should have terminated the server
+# at this point the server should have shut down
 # but let's try looking for the server process and
 # kill the server if the process still exists,
-# just in case we failed to stop it via wlst
-
-# Adjust PATH if necessary before calling jps
-adjustPath
+# just in case we failed to stop it via REST or wlst
 
-pid=$(jps -v | grep " -Dweblogic.Name=${SERVER_NAME} " | awk '{print $1}')
+pid=$(findServerProcess)
 if [ ! -z $pid ]; then
   echo "Killing the server process $pid" &>> ${STOP_OUT_FILE}
   kill -15 $pid
@@ -889,3 +889,86 @@ function adjustPath() {
     fi
   fi
 }
+
+#
+# exportProcessPidFiles
+#   purpose: Export the locations of the PID files for the node manager and WebLogic
+#            Server processes. They are local to the container, since the PIDs are
+#            only meaningful there, and are checked against /proc before use.
+#
+function exportProcessPidFiles() {
+  export NODEMGR_PROCESS_PID_FILE="${PROCESS_PID_DIR:-/tmp}/${SERVER_NAME}_nodemanager.pid"
+  export SERVER_PROCESS_PID_FILE="${PROCESS_PID_DIR:-/tmp}/${SERVER_NAME}_server.pid"
+}
+
+#
+# hasProcessArg
+#   purpose: Succeed if the command line of the process with PID $1 has an argument
+#            that matches the escaped regular expression $2, by reading /proc/$1/cmdline.
+#            The expression is escaped so that the 'grep' process itself never matches.
+#
+function hasProcessArg() {
+  [ -r /proc/$1/cmdline ] && grep -q -a -z -x -e "$2" /proc/$1/cmdline 2> /dev/null
+}
+
+#
+# findProcess
+#   purpose: Echo the PID of the process whose command line has the argument $2.
+#            The PID recorded in file $1 is checked first; if it is missing or stale,
+#            /proc is scanned and the PID that is found is recorded in $1.
+#            Return 1 if there is no such process.
+#
+#            No JVM is spawned unless PROCESS_PROBE_MODE is 'jps', or /proc
+#            is not available, in which case 'jps -lv' is used instead.
+#
+function findProcess() {
+  local pid_file="$1"
+  local arg="$2"
+  local pattern="$(sed 's/[]\/$*.^[]/\\&/g' <<< "$arg")"
+  local pid
+
+  if [ "${PROCESS_PROBE_MODE:-proc}" = "jps" ] || [ ! -d /proc/self ]; then
+    adjustPath
+    pid=$(jps -lv | awk -v arg="$arg" '{ for (i = 2; i <= NF; i++) if ($i == arg) { print $1; exit } }')
+    [ -z "$pid" ] && return 1
+    echo $pid
+    return 0
+  fi
+
+  if [ -f "$pid_file" ]; then
+    pid=$(< "$pid_file")
+    if [ -n "$pid" ] && hasProcessArg "$pid" "$pattern"; then
+      echo $pid
+      return 0
+    fi
+  fi
+
+  for pid in /proc/[0-9]*; do
+    pid=${pid#/proc/}
+    if hasProcessArg "$pid" "$pattern"; then
+      echo $pid > "$pid_file" 2> /dev/null
+      echo $pid
+      return 0
+    fi
+  done
+  return 1
+}
+
+#
+# findNodeManagerProcess
+#   purpose: Echo the PID of the node manager process, or return 1 if it is not running.
+#
+function findNodeManagerProcess() {
+  exportProcessPidFiles
+  findProcess "${NODEMGR_PROCESS_PID_FILE}" "weblogic.NodeManager"
+}
+
+#
+# findServerProcess
+#   purpose: Echo the PID of the process for WebLogic Server ${SERVER_NAME},
+#            or return 1 if it is not running.
+#
+function findServerProcess() {
+  exportProcessPidFiles
+  findProcess "${SERVER_PROCESS_PID_FILE}" "-Dweblogic.Name=${SERVER_NAME}"
+}
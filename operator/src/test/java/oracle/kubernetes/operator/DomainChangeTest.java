@@ -0,0 +1,181 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.function.Consumer;
+
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.DomainChange.Type.INTROSPECTION;
+import static oracle.kubernetes.operator.DomainChange.Type.METADATA;
+import static oracle.kubernetes.operator.DomainChange.Type.NONE;
+import static oracle.kubernetes.operator.DomainChange.Type.RESTART;
+import static oracle.kubernetes.operator.DomainChange.Type.SCALING;
+import static oracle.kubernetes.operator.DomainChange.Type.SPEC;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainChangeTest {
+
+  private final Domain cached = createDomain();
+  private final Domain updated = createDomain();
+
+  private static Domain createDomain() {
+    Domain domain = DomainProcessorTestSetup.createTestDomain();
+    DomainConfigurator configurator = configure(domain);
+    configurator.configureAdminServer();
+    configurator.configureCluster("cluster1").withReplicas(2);
+    configurator.configureCluster("cluster2").withReplicas(3);
+    configurator.configureServer("ms1").withRestartVersion("1");
+    return domain;
+  }
+
+  private static DomainConfigurator configure(Domain domain) {
+    return DomainConfiguratorFactory.forDomain(domain);
+  }
+
+  private DomainChange classifyUpdate(Consumer<DomainConfigurator> update) {
+    update.accept(configure(updated));
+    return DomainChange.classify(cached, updated);
+  }
+
+  @Test
+  public void whenSpecUnchanged_classifyAsNone() {
+    DomainChange change = DomainChange.classify(cached, updated);
+
+    assertThat(change.getType(), equalTo(NONE));
+    assertThat(change.getDirtySet(), nullValue());
+  }
+
+  @Test
+  public void whenOnlyAnnotationsChanged_classifyAsMetadata() {
+    updated.getMetadata().putAnnotationsItem("owner", "someone");
+
+    DomainChange change = DomainChange.classify(cached, updated);
+
+    assertThat(change.getType(), equalTo(METADATA));
+    assertThat(change.isNoOp(), is(true));
+  }
+
+  @Test
+  public void whenOnlyLabelsChanged_classifyAsMetadata() {
+    updated.getMetadata().putLabelsItem("tier", "gold");
+
+    DomainChange change = DomainChange.classify(cached, updated);
+
+    assertThat(change.getType(), equalTo(METADATA));
+    assertThat(change.isNoOp(), is(true));
+  }
+
+  @Test
+  public void whenLabelsChangedWithSameGeneration_classifyAsMetadata() {
+    cached.getMetadata().setGeneration(3L);
+    updated.getMetadata().setGeneration(3L);
+    updated.getMetadata().putLabelsItem("tier", "gold");
+
+    assertThat(DomainChange.classify(cached, updated).getType(), equalTo(METADATA));
+  }
+
+  @Test
+  public void whenLabelsAndSpecChanged_classifyBySpec() {
+    updated.getMetadata().putLabelsItem("tier", "gold");
+
+    assertThat(classifyUpdate(c -> c.configureCluster("cluster2").withReplicas(5)).getType(), equalTo(SCALING));
+  }
+
+  @Test
+  public void whenGenerationUnchanged_classifyAsNone() {
+    cached.getMetadata().setGeneration(3L);
+    updated.getMetadata().setGeneration(3L);
+    configure(updated).withDefaultImage("image:2");
+
+    assertThat(DomainChange.classify(cached, updated).getType(), equalTo(NONE));
+  }
+
+  @Test
+  public void whenClusterReplicasChanged_classifyAsScalingOfThatCluster() {
+    DomainChange change = classifyUpdate(c -> c.configureCluster("cluster2").withReplicas(5));
+
+    assertThat(change.getType(), equalTo(SCALING));
+    assertThat(change.getDirtySet().getMemberClusters(), contains("cluster2"));
+    assertThat(change.getDirtySet().getServers(), empty());
+  }
+
+  @Test
+  public void whenDomainReplicasChanged_classifyAsSpec() {
+    DomainChange change = classifyUpdate(c -> c.withDefaultReplicaCount(4));
+
+    assertThat(change.getType(), equalTo(SPEC));
+    assertThat(change.getDirtySet().isEverything(), is(true));
+  }
+
+  @Test
+  public void whenServerRestartVersionChanged_classifyAsRestartOfThatServer() {
+    DomainChange change = classifyUpdate(c -> c.configureServer("ms1").withRestartVersion("2"));
+
+    assertThat(change.getType(), equalTo(RESTART));
+    assertThat(change.getDirtySet().getServers(), contains("ms1"));
+  }
+
+  @Test
+  public void whenClusterRestartVersionChanged_classifyAsRestartOfClusterMembers() {
+    DomainChange change = classifyUpdate(c -> c.configureCluster("cluster1").withRestartVersion("2"));
+
+    assertThat(change.getType(), equalTo(RESTART));
+    assertThat(change.getDirtySet().getMemberClusters(), contains("cluster1"));
+  }
+
+  @Test
+  public void whenAdminServerRestartVersionChanged_classifyAsRestartOfAdminServer() {
+    DomainChange change = classifyUpdate(c -> c.configureAdminServer().withRestartVersion("2"));
+
+    assertThat(change.getType(), equalTo(RESTART));
+    assertThat(change.getDirtySet().includesAdminServer("admin"), is(true));
+    assertThat(change.getDirtySet().includesManagedServersOrClusters("admin"), is(false));
+  }
+
+  @Test
+  public void whenDomainRestartVersionChanged_classifyAsRestartOfEverything() {
+    DomainChange change = classifyUpdate(c -> c.withRestartVersion("2"));
+
+    assertThat(change.getType(), equalTo(RESTART));
+    assertThat(change.getDirtySet().isEverything(), is(true));
+  }
+
+  @Test
+  public void whenIntrospectVersionChanged_classifyAsIntrospection() {
+    DomainChange change = classifyUpdate(c -> c.withIntrospectVersion("2"));
+
+    assertThat(change.getType(), equalTo(INTROSPECTION));
+    assertThat(change.getDirtySet().isEverything(), is(false));
+    assertThat(change.getDirtySet().isTopologyChanges(), is(true));
+  }
+
+  @Test
+  public void whenClusterAdded_classifyAsSpec() {
+    assertThat(classifyUpdate(c -> c.configureCluster("cluster3")).getType(), equalTo(SPEC));
+  }
+
+  @Test
+  public void whenImageChanged_classifyAsSpec() {
+    assertThat(classifyUpdate(c -> c.withDefaultImage("image:2")).getType(), equalTo(SPEC));
+  }
+
+  @Test
+  public void whenClusterScaledAndServerRestarted_classifyAsSpec() {
+    DomainChange change = classifyUpdate(c -> {
+      c.configureCluster("cluster1").withReplicas(1);
+      c.configureServer("ms1").withRestartVersion("2");
+    });
+
+    assertThat(change.getType(), equalTo(SPEC));
+  }
+}
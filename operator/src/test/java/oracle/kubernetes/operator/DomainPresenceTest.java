@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceSnapshot;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.OperatorServiceType;
@@ -41,6 +43,7 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -122,6 +125,12 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
                 .creationTimestamp(DateTime.now()));
   }
 
+  private Domain createDomain(String uid, String namespace, long generation) {
+    Domain domain = createDomain(uid, namespace);
+    domain.getMetadata().name(uid).setGeneration(generation);
+    return domain;
+  }
+
   private DomainPresenceInfo getDomainPresenceInfo(DomainProcessorStub dp, String uid) {
     return dp.getDomainPresenceInfos().get(uid);
   }
@@ -235,13 +244,122 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(testSupport.getResources(KubernetesTestSupport.SERVICE), empty());
   }
 
+  @Test
+  public void whenNoSnapshotSaved_warmStartReadsExistingPods() {
+    addDomainResource(UID, NS);
+    V1Pod pod = createPodResource(UID, NS, "admin");
+    testSupport.defineResources(pod);
+
+    DomainProcessorStub dp = createStub(DomainProcessorStub.class);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+
+    warmStartResources();
+
+    assertThat(getDomainPresenceInfo(dp, UID).getServerPod("admin"), equalTo(pod));
+  }
+
+  private void warmStartResources() {
+    testSupport.runStepsToCompletion(Main.warmStartResources("operator", NS));
+  }
+
+  @Test
+  public void whenSnapshotSaved_warmStartRestoresPodsFromSnapshot() {
+    testSupport.defineResources(createDomain(UID, NS, 1L));
+    saveSnapshotWithPod(createDomain(UID, NS, 1L), "admin");
+
+    DomainProcessorStub dp = createStub(DomainProcessorStub.class);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+
+    warmStartResources();
+
+    assertThat(dp.getResumedDomainPresenceInfos().get(UID).getServerPod("admin"), notNullValue());
+  }
+
+  private void saveSnapshotWithPod(Domain domain, String serverName) {
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    info.setServerPod(serverName, createPodResource(UID, NS, serverName));
+    info.recordFullPlanCompleted();
+    testSupport.runSteps(
+        DomainPresenceSnapshot.capture(NS, Collections.singletonList(info), "1", "1").createSaveStep("operator"));
+  }
+
+  @Test
+  public void whenSnapshotDomainUnchanged_warmStartDoesNotRunMakeRight() {
+    testSupport.defineResources(createDomain(UID, NS, 1L));
+    saveSnapshotWithPod(createDomain(UID, NS, 1L), "admin");
+
+    DomainProcessorStub dp = createStub(DomainProcessorStub.class);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+
+    warmStartResources();
+
+    assertThat(dp.getDomainPresenceInfos(), is(anEmptyMap()));
+  }
+
+  @Test
+  public void whenDomainChangedSinceSnapshot_warmStartRunsMakeRight() {
+    testSupport.defineResources(createDomain(UID, NS, 2L), createPodResource(UID, NS, "admin"));
+    saveSnapshotWithPod(createDomain(UID, NS, 1L), "admin");
+
+    DomainProcessorStub dp = createStub(DomainProcessorStub.class);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+
+    warmStartResources();
+
+    assertThat(getDomainPresenceInfo(dp, UID).getServerPod("admin"), notNullValue());
+  }
+
+  @Test
+  public void whenDomainChangedSinceSnapshot_warmStartListsItsPodsAndServices() {
+    testSupport.defineResources(createDomain(UID, NS, 2L));
+    V1Pod pod = createPodResource(UID, NS, "ms1");
+    V1Service service = createServerService(UID, NS, "ms1");
+    testSupport.defineResources(pod, service);
+    saveSnapshotWithPod(createDomain(UID, NS, 1L), "admin");
+
+    DomainProcessorStub dp = createStub(DomainProcessorStub.class);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+
+    warmStartResources();
+
+    assertThat(getDomainPresenceInfo(dp, UID).getServerPod("ms1"), equalTo(pod));
+    assertThat(getDomainPresenceInfo(dp, UID).getServerService("ms1"), equalTo(service));
+    assertThat(getDomainPresenceInfo(dp, UID).getServerPod("admin"), nullValue());
+  }
+
+  @Test
+  public void whenDomainNotInSnapshot_warmStartListsItsPods() {
+    testSupport.defineResources(createDomain(UID, NS, 1L), createDomain("UID2", NS, 1L));
+    V1Pod pod = createPodResource("UID2", NS, "admin");
+    testSupport.defineResources(pod);
+    saveSnapshotWithPod(createDomain(UID, NS, 1L), "admin");
+
+    DomainProcessorStub dp = createStub(DomainProcessorStub.class);
+    testSupport.addComponent("DP", DomainProcessor.class, dp);
+
+    warmStartResources();
+
+    assertThat(getDomainPresenceInfo(dp, "UID2").getServerPod("admin"), equalTo(pod));
+    assertThat(dp.getResumedDomainPresenceInfos().get(UID).getServerPod("admin"), notNullValue());
+  }
+
   public abstract static class DomainProcessorStub implements DomainProcessor {
     private final Map<String, DomainPresenceInfo> dpis = new HashMap<>();
+    private final Map<String, DomainPresenceInfo> resumed = new HashMap<>();
 
     Map<String, DomainPresenceInfo> getDomainPresenceInfos() {
       return dpis;
     }
 
+    Map<String, DomainPresenceInfo> getResumedDomainPresenceInfos() {
+      return resumed;
+    }
+
+    @Override
+    public void resumeDomainPresence(DomainPresenceInfo info) {
+      resumed.put(info.getDomainUid(), info);
+    }
+
 
     @Override
     public MakeRightDomainOperation createMakeRightOperation(DomainPresenceInfo liveInfo) {
@@ -28,6 +28,7 @@ import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -45,6 +46,8 @@ import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
@@ -75,9 +78,11 @@ import static oracle.kubernetes.operator.logging.MessageKeys.NOT_STARTING_DOMAIN
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
@@ -258,6 +263,164 @@ public class DomainProcessorTest {
     assertThat(getRunningPods(), empty());
   }
 
+  @Test
+  public void afterFullPlan_whenServerPodDeleted_recreateOnlyThatPod() {
+    DomainPresenceInfo info = runFullPlanWithReplicas(MAX_SERVERS);
+    removeServerPodWithoutEvent(info, getManagedServerName(2));
+    List<String> createdPods = recordCreatedPods();
+
+    dispatchServerPodDeleted(info, getManagedServerName(1));
+
+    assertThat(createdPods, contains(getManagedPodName(1)));
+  }
+
+  @Test
+  public void whenLastFullPlanTooOld_serverPodDeletionRunsFullPlan() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    DomainPresenceInfo info = runFullPlanWithReplicas(MAX_SERVERS);
+    removeServerPodWithoutEvent(info, getManagedServerName(2));
+    List<String> createdPods = recordCreatedPods();
+
+    for (int i = 0; i <= TuningParameters.getInstance().getMainTuning().domainPresenceRecheckIntervalSeconds; i++) {
+      SystemClockTestSupport.increment();
+    }
+    dispatchServerPodDeleted(info, getManagedServerName(1));
+
+    assertThat(createdPods, containsInAnyOrder(getManagedPodName(1), getManagedPodName(2)));
+  }
+
+  @Test
+  public void afterFullPlan_whenClusterServiceDeleted_recreateOnlyThatService() {
+    DomainPresenceInfo info = runFullPlanWithReplicas(MIN_REPLICAS);
+    List<String> createdPods = recordCreatedPods();
+    V1Service clusterService = info.getClusterService(CLUSTER);
+    clusterService.getMetadata().setCreationTimestamp(SystemClock.now());
+    testSupport.deleteResources(clusterService);
+
+    processor.dispatchServiceWatch(new Watch.Response<>("DELETED", clusterService));
+
+    assertThat(info.getClusterService(CLUSTER), notNullValue());
+    assertThat(createdPods, empty());
+  }
+
+  @Test
+  public void afterFullPlan_whenClusterScaledUp_createOnlyNewServerPods() {
+    DomainPresenceInfo info = runFullPlanWithReplicas(MIN_REPLICAS);
+    testSupport.deleteResources(info.removeServerService(ADMIN_NAME));
+    List<String> createdPods = recordCreatedPods();
+
+    processor.createMakeRightOperation(scaleCluster(info, MIN_REPLICAS + 1)).interrupt().execute();
+
+    assertThat(createdPods, contains(getManagedPodName(MIN_REPLICAS + 1)));
+    assertThat(info.getServerService(ADMIN_NAME), nullValue());
+  }
+
+  @Test
+  public void afterFullPlan_whenClusterScaledDown_removeExcessPods() {
+    DomainPresenceInfo info = runFullPlanWithReplicas(MAX_SERVERS);
+    testSupport.deleteResources(info.removeServerService(ADMIN_NAME));
+
+    processor.createMakeRightOperation(scaleCluster(info, MIN_REPLICAS)).interrupt().execute();
+
+    assertThat(getRunningPods().size(), equalTo(MIN_REPLICAS + NUM_ADMIN_SERVERS + NUM_JOB_PODS));
+  }
+
+  @Test
+  public void afterFullPlan_whenOnlyAnnotationsChanged_dontRunMakeRight() {
+    runFullPlanWithReplicas(MIN_REPLICAS);
+    Domain updatedDomain = createDomainWithReplicas(MIN_REPLICAS);
+    updatedDomain.getMetadata().putAnnotationsItem("owner", "someone");
+
+    processor.createMakeRightOperation(updatedDomain).interrupt().execute();
+
+    assertThat(logRecords, containsFine(NOT_STARTING_DOMAINUID_THREAD));
+  }
+
+  @Test
+  public void afterFullPlan_whenIntrospectionFindsNoTopologyChanges_dontProcessServers() {
+    DomainPresenceInfo info = runFullPlanWithReplicas(MIN_REPLICAS);
+    testSupport.deleteResources(info.removeServerService(ADMIN_NAME));
+    List<V1Job> jobs = recordCreatedJobs();
+
+    processor.createMakeRightOperation(changeIntrospectVersion(info, "2")).interrupt().execute();
+
+    assertThat(jobs, hasSize(1));
+    assertThat(info.getServerService(ADMIN_NAME), nullValue());
+  }
+
+  @Test
+  public void afterFullPlan_whenIntrospectionFindsNewServer_startOnlyThatServer() throws JsonProcessingException {
+    DomainPresenceInfo info = runFullPlanWithReplicas(MIN_REPLICAS);
+    testSupport.deleteResources(info.removeServerService(ADMIN_NAME));
+    testSupport.definePodLog(LegalNames.toJobIntrospectorName(UID), NS, DomainProcessorTestSetup.getIntrospectResult(
+          createDomainConfig().addWlsServer("standalone", "domain1-standalone", 8001)));
+    List<String> createdPods = recordCreatedPods();
+
+    processor.createMakeRightOperation(changeIntrospectVersion(info, "2")).interrupt().execute();
+
+    assertThat(createdPods, contains(LegalNames.toPodName(UID, "standalone")));
+    assertThat(info.getServerService(ADMIN_NAME), nullValue());
+  }
+
+  private List<V1Job> recordCreatedJobs() {
+    List<V1Job> jobs = new ArrayList<>();
+    testSupport.doOnCreate(KubernetesTestSupport.JOB, j -> jobs.add((V1Job) j));
+    return jobs;
+  }
+
+  // The cached domain must be a different object from the one in Kubernetes, which is updated here
+  private Domain changeIntrospectVersion(DomainPresenceInfo info, String introspectVersion) {
+    Domain domain = testSupport.getResourceWithName(DOMAIN, UID);
+    info.setDomain(createDomainWithReplicas(domain.getReplicaCount(CLUSTER)).withMetadata(domain.getMetadata()));
+    configureDomain(domain).withIntrospectVersion(introspectVersion);
+    return domain;
+  }
+
+  // The cached domain must be a different object from the one in Kubernetes, which is updated here
+  private Domain scaleCluster(DomainPresenceInfo info, int replicas) {
+    Domain domain = testSupport.getResourceWithName(DOMAIN, UID);
+    info.setDomain(createDomainWithReplicas(domain.getReplicaCount(CLUSTER)).withMetadata(domain.getMetadata()));
+    configureDomain(domain).configureCluster(CLUSTER).withReplicas(replicas);
+    return domain;
+  }
+
+  private Domain createDomainWithReplicas(int replicas) {
+    Domain updatedDomain = DomainProcessorTestSetup.createTestDomain();
+    configureDomain(updatedDomain).configureCluster(CLUSTER).withReplicas(replicas);
+    return updatedDomain;
+  }
+
+  private DomainPresenceInfo runFullPlanWithReplicas(int replicas) {
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(replicas);
+    DomainPresenceInfo info = new DomainPresenceInfo(newDomain);
+    info.setPopulated(true);
+    processor.createMakeRightOperation(info).withExplicitRecheck().execute();
+    return info;
+  }
+
+  private void removeServerPodWithoutEvent(DomainPresenceInfo info, String serverName) {
+    V1Pod pod = withCreationTimestamp(info.getServerPod(serverName));
+    testSupport.deleteResources(pod);
+    info.deleteServerPodFromEvent(serverName, pod);
+  }
+
+  private void dispatchServerPodDeleted(DomainPresenceInfo info, String serverName) {
+    V1Pod pod = withCreationTimestamp(info.getServerPod(serverName));
+    testSupport.deleteResources(pod);
+    processor.dispatchPodWatch(new Watch.Response<>("DELETED", pod));
+  }
+
+  private V1Pod withCreationTimestamp(V1Pod pod) {
+    pod.getMetadata().setCreationTimestamp(SystemClock.now());
+    return pod;
+  }
+
+  private List<String> recordCreatedPods() {
+    List<String> createdPods = new ArrayList<>();
+    testSupport.doOnCreate(POD, p -> createdPods.add(((V1Pod) p).getMetadata().getName()));
+    return createdPods;
+  }
+
   private V1Service createNonOperatorService() {
     return new V1Service()
         .metadata(
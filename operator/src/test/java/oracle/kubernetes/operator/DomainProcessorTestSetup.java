@@ -136,7 +136,7 @@ public class DomainProcessorTestSetup {
                     .namespace(NS)));
   }
 
-  private String getIntrospectResult(WlsDomainConfig domainConfig) throws JsonProcessingException {
+  static String getIntrospectResult(WlsDomainConfig domainConfig) throws JsonProcessingException {
     return String.format(INTROSPECT_RESULT, createTopologyYaml(domainConfig));
   }
 
@@ -200,6 +200,12 @@ public class DomainStatusUpdaterTest {
   private void setClusterAndNodeName(V1Pod pod, String clusterName, String nodeName) {
     Objects.requireNonNull(pod.getMetadata()).setLabels(ImmutableMap.of(LabelConstants.CLUSTERNAME_LABEL, clusterName));
     pod.setSpec(new V1PodSpec().nodeName(nodeName));
+    reindexPod(pod);
+  }
+
+  // the pod is modified in place by these tests, so must be recorded again for the server pod indexes to see it
+  private void reindexPod(V1Pod pod) {
+    info.setServerPod(Objects.requireNonNull(pod.getMetadata()).getName(), pod);
   }
 
   private void setNodeName(V1Pod pod,String nodeName) {
@@ -731,6 +737,7 @@ public class DomainStatusUpdaterTest {
 
   private void failPod(String serverName) {
     getPod(serverName).setStatus(new V1PodStatus().phase("Failed"));
+    reindexPod(getPod(serverName));
   }
 
   private DomainConfigurator configureDomain() {
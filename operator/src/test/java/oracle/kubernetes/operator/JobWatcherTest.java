@@ -387,4 +387,9 @@ public class JobWatcherTest extends WatcherTestBase implements WatchListener<V1J
     // Override as JobWatcher doesn't currently implement listener for callback
   }
 
+  @Override
+  public void bookmarks_areNotSentToListeners() {
+    // Override as JobWatcher doesn't currently implement listener for callback
+  }
+
 }
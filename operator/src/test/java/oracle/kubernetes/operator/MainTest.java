@@ -5,14 +5,24 @@ package oracle.kubernetes.operator;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
+import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
 import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -21,9 +31,12 @@ public class MainTest {
   private static final String NS = "default";
   private static final String DOMAIN_UID = "domain-uid-for-testing";
   private Method getTargetNamespaces;
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
 
   @After
   public void tearDown() {
+    mementos.forEach(Memento::revert);
   }
 
   @Test
@@ -113,6 +126,41 @@ public class MainTest {
     assertTrue(KubernetesUtils.isFirstNewer(domainMeta, domain2Meta));
   }
 
+  @Test
+  public void onInitialStartupWithMoreNamespacesThanConcurrency_countDomainsInEachNamespace() throws Exception {
+    installStartupTestSupport();
+
+    testSupport.runSteps(createStartNamespacesStep(false).asInitialStartup(() -> { }));
+
+    assertThat(testSupport.getNumCalls(), equalTo(3));
+  }
+
+  @Test
+  public void onRecheckWithMoreNamespacesThanConcurrency_dontListDomains() throws Exception {
+    installStartupTestSupport();
+
+    testSupport.runSteps(createStartNamespacesStep(true));
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  private void installStartupTestSupport() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    TuningParameters.getInstance().put(NamespaceStartupStep.CONCURRENCY_PARAM, "1");
+  }
+
+  // Replaces the work done in each namespace, so that only the calls made to order the namespaces are counted.
+  private Main.StartNamespacesStep createStartNamespacesStep(boolean isFullRecheck) {
+    return new Main.StartNamespacesStep(List.of("ns1", "ns2", "ns3"), isFullRecheck) {
+      @Override
+      protected Step action(String ns) {
+        return new TerminalStep();
+      }
+    };
+  }
+
   @SuppressWarnings({"unchecked", "SameParameterValue"})
   private Collection<String> invoke_getTargetNamespaces(String tnValue, String namespace)
       throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
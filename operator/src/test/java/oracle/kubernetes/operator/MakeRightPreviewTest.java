@@ -0,0 +1,288 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.MakeRightPlan;
+import oracle.kubernetes.operator.helpers.MakeRightPlan.Action;
+import oracle.kubernetes.operator.helpers.MakeRightPlan.ActionType;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.rest.ScanCacheStub;
+import oracle.kubernetes.operator.utils.InMemoryCertificates;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class MakeRightPreviewTest {
+  private static final Gson GSON = new JSON().getGson();
+  private static final String ADMIN_SERVER = "admin";
+  private static final String STANDALONE_SERVER = "standalone";
+  private static final String CLUSTER = "cluster1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final Map<String, Map<String, DomainPresenceInfo>> presenceInfoMap = new HashMap<>();
+  private final DomainProcessorImpl processor =
+        new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(testSupport));
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private Domain proposed;
+
+  private static WlsDomainConfig createTopology() {
+    WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("base_domain")
+          .withAdminServerName(ADMIN_SERVER)
+          .withWlsServer(ADMIN_SERVER, 7001)
+          .withWlsServer(STANDALONE_SERVER, 8001);
+    configSupport.addWlsCluster(CLUSTER, 9001, "ms1", "ms2", "ms3", "ms4", "ms5", "ms6");
+    return configSupport.createDomainConfig();
+  }
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(InMemoryCertificates.install());
+    mementos.add(UnitTestHash.install());
+    mementos.add(ScanCacheStub.install());
+
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER).withReplicas(2);
+    testSupport.defineResources(domain);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createTopology());
+    DomainProcessorTestSetup.defineRequiredResources(testSupport);
+
+    processor.createMakeRightOperation(info).withExplicitRecheck().execute();
+    info.setPopulated(true);
+    proposed = new Domain().withMetadata(domain.getMetadata()).withSpec(copy(domain.getSpec()));
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private DomainSpec copy(DomainSpec spec) {
+    return GSON.fromJson(GSON.toJson(spec), DomainSpec.class);
+  }
+
+  private void markReady(String... serverNames) {
+    for (String serverName : serverNames) {
+      V1Pod pod = GSON.fromJson(GSON.toJson(info.getServerPod(serverName)), V1Pod.class);
+      info.setServerPod(serverName, pod.status(new V1PodStatus().phase("Running")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True"))));
+    }
+  }
+
+  private DomainConfigurator configureProposed() {
+    return DomainConfiguratorFactory.forDomain(proposed);
+  }
+
+  private MakeRightPlan preview() {
+    return processor.previewMakeRight(info, proposed.getSpec());
+  }
+
+  private List<ActionType> getActionTypes(MakeRightPlan plan) {
+    return plan.getActions().stream().map(Action::getType).collect(Collectors.toList());
+  }
+
+  private Action getAction(MakeRightPlan plan, ActionType type, String clusterName) {
+    return plan.getActions().stream()
+          .filter(action -> action.getType() == type)
+          .filter(action -> Objects.equals(action.getClusterName(), clusterName))
+          .findFirst()
+          .orElseThrow();
+  }
+
+  private List<String> getServersWithPods() {
+    return info.getServerNames().stream()
+          .filter(serverName -> info.getServerPod(serverName) != null)
+          .collect(Collectors.toList());
+  }
+
+  @Test
+  public void afterInitialMakeRight_serversHavePods() {
+    assertThat(getServersWithPods(), containsInAnyOrder(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2"));
+  }
+
+  @Test
+  public void whenSpecUnchanged_planIsEmpty() {
+    MakeRightPlan plan = preview();
+
+    assertThat(plan.getChangeType(), equalTo(DomainChange.Type.NONE));
+    assertThat(plan.getActions(), empty());
+  }
+
+  @Test
+  public void whenClusterScaledUp_planStartsOnlyNewMembers() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().configureCluster(CLUSTER).withReplicas(4);
+
+    MakeRightPlan plan = preview();
+
+    assertThat(plan.getChangeType(), equalTo(DomainChange.Type.SCALING));
+    assertThat(getActionTypes(plan), contains(ActionType.START_SERVERS));
+    assertThat(getAction(plan, ActionType.START_SERVERS, CLUSTER).getTargets(), contains("ms3", "ms4"));
+  }
+
+  @Test
+  public void whenMaxConcurrentStartupLimited_startMembersInWaves() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().withMaxConcurrentStartup(1).configureCluster(CLUSTER).withReplicas(6);
+
+    Action start = getAction(preview(), ActionType.START_SERVERS, CLUSTER);
+
+    assertThat(start.getTargets(), contains("ms3", "ms4", "ms5", "ms6"));
+    assertThat(start.getParallelism(), equalTo(2));
+    assertThat(start.getWaves(), equalTo(2));
+  }
+
+  @Test
+  public void whenMaxConcurrentStartupNotLimited_startMembersTogether() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().configureCluster(CLUSTER).withReplicas(6);
+
+    Action start = getAction(preview(), ActionType.START_SERVERS, CLUSTER);
+
+    assertThat(start.getParallelism(), equalTo(4));
+    assertThat(start.getWaves(), equalTo(1));
+  }
+
+  @Test
+  public void whenClusterScaledDown_planStopsExcessMembers() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().configureCluster(CLUSTER).withReplicas(1);
+
+    MakeRightPlan plan = preview();
+
+    assertThat(getAction(plan, ActionType.STOP_SERVERS, CLUSTER).getTargets(), contains("ms2"));
+  }
+
+  @Test
+  public void whenIntrospectVersionChanged_planIntrospection() {
+    configureProposed().withIntrospectVersion("2");
+
+    MakeRightPlan plan = preview();
+
+    assertThat(plan.getChangeType(), equalTo(DomainChange.Type.INTROSPECTION));
+    assertThat(getAction(plan, ActionType.INTROSPECT, null).getTargets(),
+          contains(LegalNames.toJobIntrospectorName(UID)));
+  }
+
+  @Test
+  public void whenClusterRestartVersionChanged_planRollsOnlyClusterMembers() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().configureCluster(CLUSTER).withRestartVersion("2");
+
+    MakeRightPlan plan = preview();
+
+    assertThat(plan.getChangeType(), equalTo(DomainChange.Type.RESTART));
+    assertThat(getActionTypes(plan), contains(ActionType.ROLL_PODS));
+    assertThat(getAction(plan, ActionType.ROLL_PODS, CLUSTER).getTargets(), containsInAnyOrder("ms1", "ms2"));
+  }
+
+  @Test
+  public void whenImageChanged_planRollsAllRunningServers() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().withDefaultImage("weblogic:new");
+
+    MakeRightPlan plan = preview();
+
+    assertThat(getActionTypes(plan), contains(ActionType.ROLL_PODS, ActionType.ROLL_PODS));
+    assertThat(getAction(plan, ActionType.ROLL_PODS, null).getTargets(),
+          containsInAnyOrder(ADMIN_SERVER, STANDALONE_SERVER));
+    assertThat(getAction(plan, ActionType.ROLL_PODS, CLUSTER).getTargets(), containsInAnyOrder("ms1", "ms2"));
+  }
+
+  @Test
+  public void whenReadyClusterMembersRolled_limitParallelismToKeepMinimumAvailable() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().withDefaultImage("weblogic:new");
+
+    Action roll = getAction(preview(), ActionType.ROLL_PODS, CLUSTER);
+
+    assertThat(roll.getParallelism(), equalTo(1));
+    assertThat(roll.getWaves(), equalTo(2));
+  }
+
+  @Test
+  public void whenMaxUnavailableRaised_rollClusterMembersTogether() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().withDefaultImage("weblogic:new").configureCluster(CLUSTER).withMaxUnavailable(2);
+
+    Action roll = getAction(preview(), ActionType.ROLL_PODS, CLUSTER);
+
+    assertThat(roll.getParallelism(), equalTo(2));
+    assertThat(roll.getWaves(), equalTo(1));
+  }
+
+  @Test
+  public void whenOnlyPodLabelAdded_planPatchesPods() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    configureProposed().withPodLabel("tier", "gold");
+
+    MakeRightPlan plan = preview();
+
+    assertThat(getAction(plan, ActionType.PATCH_PODS, CLUSTER).getTargets(), containsInAnyOrder("ms1", "ms2"));
+  }
+
+  @Test
+  public void afterPreview_presenceInfoAndKubernetesAreUnchanged() {
+    markReady(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2");
+    List<V1Pod> pods = testSupport.getResources(POD);
+    V1Pod adminPod = info.getServerPod(ADMIN_SERVER);
+    configureProposed().withDefaultImage("weblogic:new").configureCluster(CLUSTER).withReplicas(4);
+
+    preview();
+
+    assertThat(info.getDomain(), sameInstance(domain));
+    assertThat(domain.getReplicaCount(CLUSTER), equalTo(2));
+    assertThat(info.getServerPod(ADMIN_SERVER), sameInstance(adminPod));
+    assertThat(getServersWithPods(), containsInAnyOrder(ADMIN_SERVER, STANDALONE_SERVER, "ms1", "ms2"));
+    assertThat(testSupport.getResources(POD), hasSize(pods.size()));
+    assertThat(testSupport.<Domain>getResourceWithName(DOMAIN, UID).getSpec().getImage(),
+          equalTo(domain.getSpec().getImage()));
+    assertThat(presenceInfoMap.get(NS).get(UID), sameInstance(info));
+  }
+}
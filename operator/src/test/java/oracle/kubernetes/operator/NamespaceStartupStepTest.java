@@ -0,0 +1,212 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+public class NamespaceStartupStepTest {
+  private final List<Memento> mementos = new ArrayList<>();
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final TerminalStep terminalStep = new TerminalStep();
+  private final Map<String, Integer> startupSeconds = new HashMap<>();
+  private final List<String> started = new ArrayList<>();
+  private final AtomicBoolean criticalActionRun = new AtomicBoolean();
+  private int active;
+  private int maxActive;
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+  }
+
+  /**
+   * Tear down test.
+   * @throws Exception on failure
+   */
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  public void afterAllNamespacesStarted_runNextStep() {
+    defineNamespaces("ns1", 1, "ns2", 2, "ns3", 3);
+
+    testSupport.runSteps(createStartupStep(10));
+    runForSeconds(3);
+
+    assertThat(terminalStep.wasRun(), equalTo(true));
+  }
+
+  @Test
+  public void whileNamespacesStillStarting_doNotRunNextStep() {
+    defineNamespaces("ns1", 1, "ns2", 2, "ns3", 3);
+
+    testSupport.runSteps(createStartupStep(10));
+    runForSeconds(2);
+
+    assertThat(terminalStep.wasRun(), equalTo(false));
+  }
+
+  @Test
+  public void whenNoNamespaces_runNextStep() {
+    testSupport.runSteps(createStartupStep(10));
+
+    assertThat(terminalStep.wasRun(), equalTo(true));
+  }
+
+  @Test
+  public void startNoMoreThanMaximumNamespacesAtOnce() {
+    defineNamespaces("ns1", 1, "ns2", 2, "ns3", 3, "ns4", 4, "ns5", 5);
+
+    testSupport.runSteps(createStartupStep(2));
+    runForSeconds(5);
+
+    assertThat(maxActive, equalTo(2));
+    assertThat(terminalStep.wasRun(), equalTo(true));
+  }
+
+  @Test
+  public void startNamespacesInListOrder() {
+    defineNamespaces("ns1", 2, "ns2", 1, "ns3", 3, "ns4", 4);
+
+    testSupport.runSteps(createStartupStep(1));
+    runForSeconds(5);
+
+    assertThat(started, contains("ns1", "ns2", "ns3", "ns4"));
+  }
+
+  @Test
+  public void whenCriticalNamespacesStarted_runCriticalActionBeforeOthersComplete() {
+    defineNamespaces("ns1", 1, "ns2", 5, "ns3", 2);
+
+    testSupport.runSteps(
+        createStartupStep(10).withCriticalNamespaces(List.of("ns1", "ns3"), () -> criticalActionRun.set(true)));
+    runForSeconds(2);
+
+    assertThat(criticalActionRun.get(), equalTo(true));
+    assertThat(terminalStep.wasRun(), equalTo(false));
+  }
+
+  @Test
+  public void whileCriticalNamespacesStillStarting_doNotRunCriticalAction() {
+    defineNamespaces("ns1", 1, "ns2", 5, "ns3", 2);
+
+    testSupport.runSteps(
+        createStartupStep(10).withCriticalNamespaces(List.of("ns1", "ns3"), () -> criticalActionRun.set(true)));
+    runForSeconds(1);
+
+    assertThat(criticalActionRun.get(), equalTo(false));
+  }
+
+  @Test
+  public void whenNoCriticalNamespacesListed_runCriticalActionImmediately() {
+    defineNamespaces("ns1", 1);
+
+    testSupport.runSteps(
+        createStartupStep(10).withCriticalNamespaces(List.of("other"), () -> criticalActionRun.set(true)));
+
+    assertThat(criticalActionRun.get(), equalTo(true));
+  }
+
+  @Test
+  public void whenConcurrencyNotConfigured_useDefault() {
+    assertThat(NamespaceStartupStep.getMaxConcurrentStartups(),
+        equalTo(NamespaceStartupStep.DEFAULT_CONCURRENCY));
+  }
+
+  @Test
+  public void whenConcurrencyConfigured_useIt() {
+    TuningParameters.getInstance().put(NamespaceStartupStep.CONCURRENCY_PARAM, "3");
+
+    assertThat(NamespaceStartupStep.getMaxConcurrentStartups(), equalTo(3));
+  }
+
+  @Test
+  public void whenCriticalNamespacesNotConfigured_allNamespacesAreCritical() {
+    assertThat(NamespaceStartupStep.getCriticalNamespaces(List.of("ns1", "ns2")), containsInAnyOrder("ns1", "ns2"));
+  }
+
+  @Test
+  public void whenCriticalNamespacesConfigured_useThem() {
+    TuningParameters.getInstance().put(NamespaceStartupStep.CRITICAL_NAMESPACES_PARAM, "ns2, ns3");
+
+    assertThat(NamespaceStartupStep.getCriticalNamespaces(List.of("ns1", "ns2")), contains("ns2", "ns3"));
+  }
+
+  // Advances the clock a second at a time, so that steps scheduled along the way also run.
+  private void runForSeconds(int seconds) {
+    for (int i = 1; i <= seconds; i++) {
+      testSupport.setTime(i, TimeUnit.SECONDS);
+    }
+  }
+
+  private void defineNamespaces(Object... namesAndSeconds) {
+    for (int i = 0; i < namesAndSeconds.length; i += 2) {
+      startupSeconds.put((String) namesAndSeconds[i], (Integer) namesAndSeconds[i + 1]);
+    }
+  }
+
+  private NamespaceStartupStep createStartupStep(int maxConcurrent) {
+    List<String> namespaces = new ArrayList<>(startupSeconds.keySet());
+    Collections.sort(namespaces);
+    return new NamespaceStartupStep(namespaces, NamespaceStartStep::new, maxConcurrent, terminalStep);
+  }
+
+  // Simulates the startup of a namespace. The test executor schedules a delayed step at the time given by its delay,
+  // and runs only one item at each time, so each namespace must be given a different number of seconds.
+  private class NamespaceStartStep extends Step {
+    private final String ns;
+
+    NamespaceStartStep(String ns) {
+      super(null);
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      started.add(ns);
+      maxActive = Math.max(maxActive, ++active);
+      return doDelay(new NamespaceStartedStep(), packet, startupSeconds.get(ns), TimeUnit.SECONDS);
+    }
+  }
+
+  private class NamespaceStartedStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      active--;
+      return doNext(packet);
+    }
+  }
+}
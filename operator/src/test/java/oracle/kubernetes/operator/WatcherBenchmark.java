@@ -0,0 +1,126 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the per-event cost of tracking the resource version of a stream of pod watch events by looking up the
+ * metadata reflectively and parsing the versions as big integers, against the watcher's typed metadata accessor and
+ * string comparison.
+ *
+ * <p>Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.operator.WatcherBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WatcherBenchmark {
+
+  private static final String NAMESPACE = "namespace";
+  private static final long FIRST_RESOURCE_VERSION = 2733280673L;
+
+  @Param({"1000"})
+  private int eventCount;
+
+  private final List<V1Pod> pods = new ArrayList<>();
+  private BenchmarkWatcher watcher;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(WatcherBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * Creates pods with increasing resource versions, as received from a busy watch.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < eventCount; i++) {
+      pods.add(new V1Pod().metadata(new V1ObjectMeta().name("pod" + i).namespace(NAMESPACE)
+          .resourceVersion(Long.toString(FIRST_RESOURCE_VERSION + i))));
+    }
+    watcher = new BenchmarkWatcher();
+  }
+
+  /**
+   * Tracks the resource versions by looking up the metadata method reflectively and comparing parsed versions.
+   * @param blackhole sink for the results
+   * @throws Exception if the metadata cannot be read
+   */
+  @Benchmark
+  public void trackReflectively(Blackhole blackhole) throws Exception {
+    BigInteger highest = BigInteger.ZERO;
+    for (V1Pod pod : pods) {
+      Method getMetadata = pod.getClass().getDeclaredMethod("getMetadata");
+      V1ObjectMeta metadata = (V1ObjectMeta) getMetadata.invoke(pod);
+      BigInteger version = new BigInteger(metadata.getResourceVersion());
+      if (version.compareTo(highest) > 0) {
+        highest = version;
+      }
+    }
+    blackhole.consume(highest.toString());
+  }
+
+  /**
+   * Tracks the resource versions with the watcher's typed accessor and string comparison.
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void trackTyped(Blackhole blackhole) {
+    for (V1Pod pod : pods) {
+      watcher.trackResourceVersion("MODIFIED", pod);
+    }
+    blackhole.consume(watcher.getResourceVersion());
+  }
+
+  private static class BenchmarkWatcher extends Watcher<V1Pod> {
+    BenchmarkWatcher() {
+      super("0", new WatchTuning(30, 0, 5), new AtomicBoolean(true));
+    }
+
+    @Override
+    public WatchI<V1Pod> initiateWatch(WatchBuilder watchBuilder) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getNamespace() {
+      return NAMESPACE;
+    }
+
+    @Override
+    public V1ObjectMeta getMetadata(V1Pod pod) {
+      return pod.getMetadata();
+    }
+  }
+}
@@ -0,0 +1,212 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import javax.annotation.Nonnull;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.CallParams;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.helpers.Pool;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+
+/** Tests watchers which run on an event executor rather than in their own threads. */
+public class WatcherEventExecutorTest {
+  private static final String NS = "namespace";
+
+  private final WatchTuning tuning = new WatchTuning(30, 0, 5);
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Watch.Response<V1ConfigMap>> callBacks = Collections.synchronizedList(new ArrayList<>());
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(StaticStubSupport.install(Watcher.class, "eventExecutor", executor));
+    StubWatchFactory.setListener(() -> stopping.set(true));
+  }
+
+  /**
+   * Tear down test.
+   */
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void withEventExecutor_watcherDoesNotCreateThread() throws Exception {
+    StubWatchFactory.addCallResponses(createAddResponse(createConfigMap("1")));
+
+    runWatcher();
+
+    assertThat(callBacks, contains(addEvent(createConfigMap("1"))));
+  }
+
+  @Test
+  public void withEventExecutor_nextWatchResumesFromLastResourceVersion() throws Exception {
+    StubWatchFactory.addCallResponses(createAddResponse(createConfigMap("12")));
+    StubWatchFactory.addCallResponses();
+
+    runWatcher();
+
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "12"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void whenWatchDeliversResponses_sendThemToListener() throws Exception {
+    mementos.add(StaticStubSupport.install(WatchBuilder.class, "FACTORY", new DeliveringWatchFactory(
+        Collections.singletonList(createAddResponse(createConfigMap("1"))),
+        Collections.singletonList(createModifyResponse(createConfigMap("2"))))));
+
+    runWatcher();
+
+    assertThat(callBacks, contains(addEvent(createConfigMap("1")), modifyEvent(createConfigMap("2"))));
+  }
+
+  private void runWatcher() throws InterruptedException {
+    new TestWatcher().start(this::refuseToCreateThread);
+    while (!stopping.get()) {
+      Thread.sleep(10);
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), equalTo(true));
+  }
+
+  private Thread refuseToCreateThread(Runnable runnable) {
+    throw new AssertionError("Watcher should not create a thread");
+  }
+
+  @SuppressWarnings("rawtypes")
+  private Watch.Response createAddResponse(V1ConfigMap configMap) {
+    return WatchEvent.createAddedEvent(configMap).toWatchResponse();
+  }
+
+  @SuppressWarnings("rawtypes")
+  private Watch.Response createModifyResponse(V1ConfigMap configMap) {
+    return WatchEvent.createModifiedEvent(configMap).toWatchResponse();
+  }
+
+  private V1ConfigMap createConfigMap(String resourceVersion) {
+    return new V1ConfigMap().metadata(new V1ObjectMeta().name("map").namespace(NS).resourceVersion(resourceVersion));
+  }
+
+  private class TestWatcher extends Watcher<V1ConfigMap> {
+    TestWatcher() {
+      super("0", tuning, stopping, callBacks::add);
+    }
+
+    @Override
+    public WatchI<V1ConfigMap> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+      return watchBuilder.createConfigMapWatch(NS);
+    }
+
+    @Override
+    public String getNamespace() {
+      return NS;
+    }
+
+    @Override
+    public V1ObjectMeta getMetadata(V1ConfigMap configMap) {
+      return configMap.getMetadata();
+    }
+  }
+
+  // Creates watches which push their responses to a receiver, as a multiplexed watch does, and then complete.
+  private class DeliveringWatchFactory implements WatchBuilder.WatchFactory {
+    private final List<List<Watch.Response<V1ConfigMap>>> calls;
+
+    @SafeVarargs
+    DeliveringWatchFactory(List<Watch.Response<V1ConfigMap>>... calls) {
+      this.calls = new ArrayList<>(List.of(calls));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> WatchI<T> createWatch(
+        Pool<ApiClient> pool,
+        CallParams callParams,
+        Class<?> responseBodyType,
+        BiFunction<ApiClient, CallParams, Call> function) {
+      if (calls.isEmpty()) {
+        stopping.set(true);
+        return (WatchI<T>) new DeliveringWatch(Collections.emptyList());
+      }
+      return (WatchI<T>) new DeliveringWatch(calls.remove(0));
+    }
+  }
+
+  private static class DeliveringWatch implements WatchI<V1ConfigMap> {
+    private final List<Watch.Response<V1ConfigMap>> responses;
+
+    DeliveringWatch(List<Watch.Response<V1ConfigMap>> responses) {
+      this.responses = responses;
+    }
+
+    @Override
+    public boolean deliverTo(Receiver<V1ConfigMap> receiver) {
+      responses.forEach(receiver::receive);
+      receiver.completed();
+      return true;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<Watch.Response<V1ConfigMap>> iterator() {
+      return responses.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      throw new AssertionError("Watch should not be read by iteration");
+    }
+
+    @Override
+    public Watch.Response<V1ConfigMap> next() {
+      throw new AssertionError("Watch should not be read by iteration");
+    }
+  }
+}
@@ -0,0 +1,250 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_GONE;
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.deleteEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
+import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.startsWith;
+
+/** Tests how a watcher with a resource lister resumes after its resource version has expired. */
+public class WatcherRelistTest extends ThreadFactoryTestBase implements AllWatchesClosedListener {
+  private static final String NS = "namespace";
+  private static final String LIST_RESOURCE_VERSION = "200";
+  private static final BigInteger REPORTED_RESOURCE_VERSION = new BigInteger("150");
+
+  private final WatchTuning tuning = new WatchTuning(30, 0, 5);
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Watch.Response<V1ConfigMap>> callBacks = new ArrayList<>();
+  private final List<V1ConfigMap> listedResources = new ArrayList<>();
+  private int numListCalls;
+  private String listingThreadName;
+  private ApiException listFailure;
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    mementos.add(StubWatchFactory.install());
+    StubWatchFactory.setListener(this);
+  }
+
+  /**
+   * Tear down test.
+   */
+  @After
+  public void tearDown() {
+    shutDownThreads();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Override
+  public void allWatchesClosed() {
+    stopping.set(true);
+  }
+
+  @Test
+  public void afterHttpGoneError_listsResourcesAndResumesFromListVersion() {
+    StubWatchFactory.addCallResponses(createHttpGoneResponse());
+    StubWatchFactory.addCallResponses();
+
+    runWatcher(createWatcher());
+
+    assertThat(numListCalls, equalTo(1));
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", LIST_RESOURCE_VERSION));
+  }
+
+  @Test
+  public void afterHttpGoneError_sendOnlyMissedChangesToListener() {
+    V1ConfigMap changed = createConfigMap("changed", "15");
+    V1ConfigMap added = createConfigMap("added", "16");
+    V1ConfigMap deleted = createConfigMap("deleted", "12");
+    listedResources.addAll(Arrays.asList(createConfigMap("unchanged", "10"), changed, added));
+    StubWatchFactory.addCallResponses(createHttpGoneResponse());
+    TestWatcher watcher = createWatcher();
+    watcher.recordListedResources(
+        Arrays.asList(createConfigMap("unchanged", "10"), createConfigMap("changed", "11"), deleted));
+
+    runWatcher(watcher);
+
+    assertThat(callBacks, containsInAnyOrder(modifyEvent(changed), addEvent(added), deleteEvent(deleted)));
+  }
+
+  @Test
+  public void afterHttpGoneError_reportDeletionWithOnlyIdentifyingMetadata() {
+    V1ConfigMap deleted = createConfigMap("deleted", "12");
+    deleted.getMetadata().putLabelsItem("weblogic.domainUID", "domain1").putAnnotationsItem("note", "value");
+    deleted.putDataItem("script", "a large script");
+    StubWatchFactory.addCallResponses(createHttpGoneResponse());
+    TestWatcher watcher = createWatcher();
+    watcher.recordListedResources(Collections.singletonList(deleted));
+
+    runWatcher(watcher);
+
+    assertThat(callBacks, contains(deleteEvent(new V1ConfigMap().metadata(
+        new V1ObjectMeta().name("deleted").namespace(NS).resourceVersion("12")
+              .putLabelsItem("weblogic.domainUID", "domain1")))));
+  }
+
+  @Test
+  public void afterHttpGoneError_compareListWithResourcesReceivedFromWatch() {
+    V1ConfigMap received = createConfigMap("received", "20");
+    listedResources.add(createConfigMap("received", "20"));
+    StubWatchFactory.addCallResponses(createAddResponse(received), createHttpGoneResponse());
+
+    runWatcher(createWatcher());
+
+    assertThat(callBacks, contains(addEvent(received)));
+  }
+
+  @Test
+  public void whenListFails_resumeFromReportedResourceVersion() {
+    listFailure = new ApiException("list failed");
+    StubWatchFactory.addCallResponses(createHttpGoneResponse());
+    StubWatchFactory.addCallResponses();
+
+    runWatcher(createWatcher());
+
+    assertThat(callBacks, empty());
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", REPORTED_RESOURCE_VERSION.toString()));
+  }
+
+  @Test
+  public void whenResourceVersionExpiredActionDefined_runActionInsteadOfRelisting() {
+    AtomicBoolean actionRun = new AtomicBoolean();
+    StubWatchFactory.addCallResponses(createHttpGoneResponse());
+    TestWatcher watcher = createWatcher();
+    watcher.setResourceVersionExpiredAction(() -> actionRun.set(true));
+
+    runWatcher(watcher);
+
+    assertThat(actionRun.get(), equalTo(true));
+    assertThat(numListCalls, equalTo(0));
+  }
+
+  @Test
+  public void whenRunningOnEventExecutor_relistOnSeparateThread() throws InterruptedException {
+    StubWatchFactory.addCallResponses(createHttpGoneResponse());
+    StubWatchFactory.addCallResponses();
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    Watcher.setEventExecutor(executor);
+
+    try {
+      createWatcher().start(this);
+      waitForWatchesToClose();
+    } finally {
+      Watcher.setEventExecutor(null);
+      executor.shutdown();
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    assertThat(listingThreadName, startsWith("Test thread"));
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", LIST_RESOURCE_VERSION));
+  }
+
+  private void waitForWatchesToClose() throws InterruptedException {
+    for (int i = 0; i < 100 && !stopping.get(); i++) {
+      Thread.sleep(50);
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private Watch.Response createHttpGoneResponse() {
+    return WatchEvent.createErrorEvent(HTTP_GONE, REPORTED_RESOURCE_VERSION).toWatchResponse();
+  }
+
+  @SuppressWarnings("rawtypes")
+  private Watch.Response createAddResponse(V1ConfigMap configMap) {
+    return WatchEvent.createAddedEvent(configMap).toWatchResponse();
+  }
+
+  private V1ConfigMap createConfigMap(String name, String resourceVersion) {
+    return new V1ConfigMap().metadata(new V1ObjectMeta().name(name).namespace(NS).resourceVersion(resourceVersion));
+  }
+
+  private TestWatcher createWatcher() {
+    TestWatcher watcher = new TestWatcher();
+    watcher.setResourceLister(this::listResources);
+    return watcher;
+  }
+
+  private Watcher.ResourceList<V1ConfigMap> listResources() throws ApiException {
+    numListCalls++;
+    listingThreadName = Thread.currentThread().getName();
+    if (listFailure != null) {
+      throw listFailure;
+    }
+    return new Watcher.ResourceList<>(new ArrayList<>(listedResources), LIST_RESOURCE_VERSION);
+  }
+
+  private void runWatcher(TestWatcher watcher) {
+    watcher.start(this);
+    watcher.waitForExit();
+  }
+
+  private class TestWatcher extends Watcher<V1ConfigMap> {
+    TestWatcher() {
+      super("100", tuning, stopping, callBacks::add);
+    }
+
+    @Override
+    public WatchI<V1ConfigMap> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+      return watchBuilder.createConfigMapWatch(NS);
+    }
+
+    @Override
+    public String getNamespace() {
+      return NS;
+    }
+
+    @Override
+    public V1ObjectMeta getMetadata(V1ConfigMap configMap) {
+      return configMap.getMetadata();
+    }
+
+    @Override
+    V1ConfigMap createTombstone(V1ConfigMap configMap) {
+      return new V1ConfigMap().metadata(copyIdentifyingMetadata(configMap));
+    }
+  }
+}
@@ -120,6 +120,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return WatchEvent.createDeleteEvent(object).toWatchResponse();
   }
 
+  private <T> Watch.Response createBookmarkResponse(T object) {
+    return WatchEvent.createBookmarkEvent(object).toWatchResponse();
+  }
+
   private Watch.Response createHttpGoneErrorResponse(BigInteger nextResourceVersion) {
     return WatchEvent.createErrorEvent(HTTP_GONE, nextResourceVersion).toWatchResponse();
   }
@@ -159,6 +163,36 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
         hasEntry("resourceVersion", resourceVersion.subtract(BigInteger.TWO).toString()));
   }
 
+  @Test
+  public void watchRequestsAllowBookmarks() {
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("allowWatchBookmarks", "true"));
+  }
+
+  @Test
+  public void bookmarks_areNotSentToListeners() {
+    Object object1 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()), createAddResponse(object1));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object1)));
+  }
+
+  @Test
+  public void afterBookmark_nextRequestSendsBookmarkResourceVersion() {
+    createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION.add(BigInteger.ONE).toString()));
+  }
+
   @Test
   public void afterHttpGoneError_nextRequestSendsIncludedResourceVersion() {
     StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
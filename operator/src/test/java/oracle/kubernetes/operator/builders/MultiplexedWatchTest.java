@@ -0,0 +1,180 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Request;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+
+public class MultiplexedWatchTest {
+  private static final String ADDED_LINE
+      = "{\"type\":\"ADDED\",\"object\":{\"metadata\":{\"name\":\"map1\",\"resourceVersion\":\"10\"}}}";
+  private static final String MODIFIED_LINE
+      = "{\"type\":\"MODIFIED\",\"object\":{\"metadata\":{\"name\":\"map1\",\"resourceVersion\":\"11\"}}}";
+  private static final String ERROR_LINE
+      = "{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"code\":410}}";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+  private final HttpClient httpClient
+      = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).executor(executor).build();
+  private HttpServer server;
+  private int responseCode = 200;
+  private List<String> lines = Collections.emptyList();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/watch", this::sendLines);
+    server.start();
+  }
+
+  private void sendLines(HttpExchange exchange) throws IOException {
+    exchange.sendResponseHeaders(responseCode, 0);
+    try (OutputStream out = exchange.getResponseBody()) {
+      for (String line : lines) {
+        out.write((line + "\n").getBytes(UTF_8));
+        out.flush();
+      }
+    }
+  }
+
+  /**
+   * Tear down test.
+   */
+  @After
+  public void tearDown() {
+    server.stop(0);
+    executor.shutdownNow();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void deliverParsedResponsesToReceiver() throws Exception {
+    lines = List.of(ADDED_LINE, MODIFIED_LINE);
+
+    RecordingReceiver receiver = deliverResponses();
+
+    assertThat(receiver.getTypes(), contains("ADDED", "MODIFIED"));
+    assertThat(receiver.responses.get(1).object.getMetadata().getResourceVersion(), equalTo("11"));
+  }
+
+  @Test
+  public void deliverErrorStatusToReceiver() throws Exception {
+    lines = List.of(ERROR_LINE);
+
+    RecordingReceiver receiver = deliverResponses();
+
+    assertThat(receiver.getTypes(), contains("ERROR"));
+    assertThat(receiver.responses.get(0).status.getCode(), equalTo(410));
+  }
+
+  @Test
+  public void whenRequestRejected_completeWithoutResponses() throws Exception {
+    responseCode = 403;
+    lines = List.of("{\"kind\":\"Status\",\"code\":403}");
+
+    RecordingReceiver receiver = deliverResponses();
+
+    assertThat(receiver.responses, empty());
+  }
+
+  @Test
+  public void whenIterated_returnResponsesInOrder() {
+    lines = List.of(ADDED_LINE, MODIFIED_LINE);
+    List<String> types = new ArrayList<>();
+
+    try (MultiplexedWatch<V1ConfigMap> watch = createWatch()) {
+      watch.forEach(response -> types.add(response.type));
+    }
+
+    assertThat(types, contains("ADDED", "MODIFIED"));
+  }
+
+  @Test
+  public void requestOmitsHeadersSetByHttpClient() {
+    HttpRequest request = MultiplexedWatchFactory.toHttpRequest(new Request.Builder()
+        .url("https://kubernetes.default.svc/api/v1/pods?watch=true")
+        .header("Host", "kubernetes.default.svc")
+        .header("Authorization", "Bearer token")
+        .build());
+
+    assertThat(request.headers().map().keySet(), hasItem("Authorization"));
+    assertThat(request.headers().map().keySet(), not(hasItem("Host")));
+  }
+
+  private RecordingReceiver deliverResponses() throws InterruptedException {
+    RecordingReceiver receiver = new RecordingReceiver();
+    MultiplexedWatch<V1ConfigMap> watch = createWatch();
+
+    assertThat(watch.deliverTo(receiver), equalTo(true));
+    assertThat(receiver.completed.await(5, TimeUnit.SECONDS), equalTo(true));
+    return receiver;
+  }
+
+  private MultiplexedWatch<V1ConfigMap> createWatch() {
+    InetSocketAddress address = server.getAddress();
+    URI uri = URI.create("http://" + address.getAddress().getHostAddress() + ":" + address.getPort() + "/watch");
+    return new MultiplexedWatch<>(
+        httpClient, HttpRequest.newBuilder(uri).build(), new JSON(), WatchBuilder.getType(V1ConfigMap.class));
+  }
+
+  static class RecordingReceiver implements WatchI.Receiver<V1ConfigMap> {
+    private final List<Watch.Response<V1ConfigMap>> responses = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    @Override
+    public void receive(Watch.Response<V1ConfigMap> response) {
+      responses.add(response);
+    }
+
+    @Override
+    public void completed() {
+      completed.countDown();
+    }
+
+    List<String> getTypes() {
+      List<String> types = new ArrayList<>();
+      responses.forEach(response -> types.add(response.type));
+      return types;
+    }
+  }
+}
@@ -125,6 +125,9 @@ public class StubWatchFactory implements WatchBuilder.WatchFactory {
     if (callParams.getLabelSelector() != null) {
       result.put("labelSelector", callParams.getLabelSelector());
     }
+    if (callParams.getAllowBookmarks() != null) {
+      result.put("allowWatchBookmarks", callParams.getAllowBookmarks().toString());
+    }
 
     return result;
   }
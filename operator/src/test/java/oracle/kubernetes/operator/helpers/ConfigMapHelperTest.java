@@ -38,6 +38,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CM_REPLACED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.notNullValue;
@@ -60,6 +61,7 @@ public class ConfigMapHelperTest {
     "wlst.sh",
     "tailLog.sh",
     "monitorLog.sh",
+    "probeBenchmark.sh",
     "model_diff.py",
     "modelInImage.sh",
     "wdt_create_filter.py",
@@ -120,6 +122,7 @@ public class ConfigMapHelperTest {
             .withLogLevel(Level.FINE));
     mementos.add(testSupport.install());
     mementos.add(TestComparator.install());
+    mementos.add(TuningParametersStub.install());
   }
 
   /**
@@ -215,6 +218,52 @@ public class ConfigMapHelperTest {
     assertThat(getScriptConfigKeys(), hasItem(ADDITIONAL_NAME));
   }
 
+  @Test
+  public void whenExistingConfigMapIsMissingData_readAndReplaceIt() {
+    testSupport.defineResources(defineConfigMap(PARTIAL_SCRIPT_NAMES));
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(logRecords, containsInfo(CM_REPLACED));
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+  }
+
+  @Test
+  public void whenServerSideApplyEnabledAndNoConfigMap_createItWithSingleCall() {
+    enableServerSideApply();
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(getScriptConfigKeys(), containsInAnyOrder(SCRIPT_NAMES));
+    assertThat(packet.get(SCRIPT_CONFIG_MAP), notNullValue());
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerSideApplyEnabledAndExistingConfigMapIsMissingData_applyItWithSingleCall() {
+    enableServerSideApply();
+    testSupport.defineResources(defineConfigMap(PARTIAL_SCRIPT_NAMES));
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(getScriptConfigKeys(), containsInAnyOrder(COMBINED_SCRIPT_NAMES));
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerSideApplyFails_reportFailure() {
+    enableServerSideApply();
+    testSupport.failOnResource(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME, DOMAIN_NS, 401);
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    testSupport.verifyCompletionThrowable(FailureStatusSourceException.class);
+  }
+
+  private void enableServerSideApply() {
+    TuningParametersStub.namedParameters.put(CallBuilder.SERVER_SIDE_APPLY_PARAM, "true");
+  }
+
   // An implementation of the comparator that tests only the keys in the maps
   static class TestComparator extends ConfigMapHelper.ConfigMapComparator {
     static Memento install() throws NoSuchFieldException {
@@ -209,6 +209,28 @@ public class CrdHelperTest {
     testSupport.runSteps(CrdHelper.createDomainCrdStep(KUBERNETES_VERSION_15, PRODUCT_VERSION, null));
   }
 
+  @Test
+  public void whenExistingCrdHasDifferentSchemaHash_replaceIt() {
+    defaultBetaCrd.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "outdated");
+    testSupport.defineResources(defaultBetaCrd);
+
+    testSupport.runSteps(CrdHelper.createDomainCrdStep(KUBERNETES_VERSION_15, PRODUCT_VERSION, null));
+
+    assertThat(logRecords, containsInfo(CREATING_CRD));
+  }
+
+  @Test
+  public void createdCrd_hasSchemaHashAnnotation() {
+    assertThat(
+        defaultCrd.getMetadata().getAnnotations().get(AnnotationHelper.SHA256_ANNOTATION),
+        equalTo(CrdSchema.getInstance().getHash()));
+  }
+
+  @Test
+  public void buildTimeSchema_matchesSchemaGeneratedByReflection() {
+    assertThat(CrdSchema.load().getHash(), equalTo(CrdSchema.generate().getHash()));
+  }
+
   @Test
   public void whenExistingCrdHasOldVersion_replaceIt() {
     testSupport.defineResources(defineBetaCrd("v1", PRODUCT_VERSION_OLD));
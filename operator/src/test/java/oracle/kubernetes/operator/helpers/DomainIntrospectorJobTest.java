@@ -14,17 +14,23 @@ import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretReference;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
+import oracle.kubernetes.operator.wlsconfig.TopologyDiff;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Cluster;
@@ -40,11 +46,14 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_DIFF;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_NAME;
 import static oracle.kubernetes.operator.helpers.DomainStatusMatcher.hasStatus;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
 import static oracle.kubernetes.operator.helpers.Matchers.hasEnvVar;
+import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTION_RESULT_REUSED;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_JOB_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_JOB_FAILED_DETAIL;
 import static oracle.kubernetes.operator.logging.MessageKeys.JOB_CREATED;
@@ -54,8 +63,10 @@ import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
 import static oracle.kubernetes.weblogic.domain.model.ConfigurationConstants.START_NEVER;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -68,6 +79,8 @@ public class DomainIntrospectorJobTest {
   private static final String LOG_HOME = "/shared/logs/" + UID;
   private static final String CREDENTIALS_SECRET_NAME = "webLogicCredentialsSecretName";
   private static final String LATEST_IMAGE = "image:latest";
+  private static final String PINNED_IMAGE
+        = "image@sha256:0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
   private static final String ADMIN_NAME = "admin";
   private static final int MAX_SERVERS = 2;
   private static final String MS_PREFIX = "managed-server";
@@ -117,7 +130,8 @@ public class DomainIntrospectorJobTest {
         getJobDeletedMessageKey(),
         getNoClusterInDomainMessageKey(),
         getJobFailedMessageKey(),
-        getJobFailedDetailMessageKey()
+        getJobFailedDetailMessageKey(),
+        INTROSPECTION_RESULT_REUSED
     };
   }
 
@@ -315,6 +329,138 @@ public class DomainIntrospectorJobTest {
     assertThat(logRecords, containsWarning(getNoClusterInDomainMessageKey()));
   }
 
+  @Test
+  public void afterIntrospection_recordInputsDigestInConfigMap() throws JsonProcessingException {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    domain.getSpec().setImage(PINNED_IMAGE);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    assertThat(getIntrospectorConfigMap().getData(), hasKey(IntrospectorConfigMapKeys.INTROSPECTION_INPUTS_DIGEST));
+  }
+
+  private V1ConfigMap getIntrospectorConfigMap() {
+    return (V1ConfigMap) testSupport.getResourceWithName(CONFIG_MAP, ConfigMapHelper.getIntrospectorConfigMapName(UID));
+  }
+
+  @Test
+  public void whenIntrospectionInputsUnchanged_dontRunJob() throws JsonProcessingException {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    domain.getSpec().setImage(PINNED_IMAGE);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, not(containsInfo(getJobCreatedMessageKey())));
+    assertThat(logRecords, containsInfo(INTROSPECTION_RESULT_REUSED));
+  }
+
+  @Test
+  public void whenImageNamedByTag_runJobEvenIfInputsUnchanged() throws JsonProcessingException {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+    assertThat(logRecords, not(containsInfo(INTROSPECTION_RESULT_REUSED)));
+  }
+
+  @Test
+  public void onFirstIntrospection_dontPublishTopologyDiff() throws JsonProcessingException {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+
+    Packet packet = testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    assertThat(packet.containsKey(DOMAIN_TOPOLOGY_DIFF), is(false));
+  }
+
+  @Test
+  public void afterReintrospection_publishTopologyDiff() throws JsonProcessingException {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    domain.getSpec().setIntrospectVersion("2");
+    Packet packet = testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    assertThat(((TopologyDiff) packet.get(DOMAIN_TOPOLOGY_DIFF)).isEmpty(), is(true));
+  }
+
+  @Test
+  public void whenOverrideSecretChanged_runJob() throws JsonProcessingException {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    defineSecret(OVERRIDE_SECRET_1, "value1");
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    testSupport.deleteResources(new V1Secret().metadata(new V1ObjectMeta().name(OVERRIDE_SECRET_1).namespace(NS)));
+    defineSecret(OVERRIDE_SECRET_1, "value2");
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+  }
+
+  @Test
+  public void whenLogHomeChanged_runJob() throws JsonProcessingException {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    domain.getSpec().setLogHomeEnabled(true);
+    domain.getSpec().setLogHome("/shared/logs");
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    domain.getSpec().setLogHome("/shared/other-logs");
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+  }
+
+  @Test
+  public void whenDomainLevelEnvironmentVariableChanged_runJob() throws JsonProcessingException {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    domain.getSpec().setEnv(List.of(new V1EnvVar().name("JAVA_OPTIONS").value("-Dsome.property=1")));
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    domain.getSpec().setEnv(List.of(new V1EnvVar().name("JAVA_OPTIONS").value("-Dsome.property=2")));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+  }
+
+  private void defineSecret(String name, String value) {
+    testSupport.defineResources(
+        new V1Secret().metadata(new V1ObjectMeta().name(name).namespace(NS)).putDataItem("key", value.getBytes()));
+  }
+
+  @Test
+  public void whenDomainHomeOnPersistentVolume_alwaysRunJob() throws JsonProcessingException {
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+  }
+
   @Test
   public void whenJobLogContainsSevereError_logJobInfosOnDelete() {
     testSupport.defineResources(
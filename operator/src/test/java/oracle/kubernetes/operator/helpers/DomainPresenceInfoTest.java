@@ -3,16 +3,27 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertThat;
 
 public class DomainPresenceInfoTest {
+  private static final DateTime CREATION_TIME = SystemClock.now();
+
   private DomainPresenceInfo info = new DomainPresenceInfo("ns", "domain");
 
   @Test
@@ -78,4 +89,94 @@ public class DomainPresenceInfoTest {
     assertThat(info.getValidationWarningsAsString(), containsString(warning1));
     assertThat(info.getValidationWarningsAsString(), containsString(warning2));
   }
+
+  @Test
+  public void afterServerPodsDefined_indexThemByCluster() {
+    info.setServerPod("admin", createPod("admin", null, "1"));
+    info.setServerPod("ms1", createPod("ms1", "cluster1", "1"));
+    info.setServerPod("ms2", createPod("ms2", "cluster1", "1"));
+    info.setServerPod("ms3", createPod("ms3", "cluster2", "1"));
+
+    assertThat(info.getServerNamesWithPods(null), containsInAnyOrder("admin"));
+    assertThat(info.getServerNamesWithPods("cluster1"), containsInAnyOrder("ms1", "ms2"));
+    assertThat(info.getPodClusterNames(), containsInAnyOrder("cluster1", "cluster2"));
+  }
+
+  @Test
+  public void afterServerPodDefined_indexByReadyAndScheduledStatus() {
+    info.setServerPod("ms1", makeReady(createPod("ms1", "cluster1", "1")));
+    info.setServerPod("ms2", schedule(createPod("ms2", "cluster1", "1")));
+
+    assertThat(info.getServerNamesWithReadyPods("cluster1"), containsInAnyOrder("ms1"));
+    assertThat(info.getServerNamesWithScheduledPods("cluster1"), containsInAnyOrder("ms2"));
+  }
+
+  @Test
+  public void afterNewerPodEvent_updateIndexes() {
+    info.setServerPod("ms1", createPod("ms1", "cluster1", "1"));
+
+    info.setServerPodFromEvent("ms1", makeReady(createPod("ms1", "cluster1", "2")));
+
+    assertThat(info.getServerNamesWithReadyPods("cluster1"), containsInAnyOrder("ms1"));
+  }
+
+  @Test
+  public void afterOlderPodEvent_doNotUpdateIndexes() {
+    info.setServerPod("ms1", makeReady(createPod("ms1", "cluster1", "2")));
+
+    info.setServerPodFromEvent("ms1", createPod("ms1", "cluster1", "1"));
+
+    assertThat(info.getServerNamesWithReadyPods("cluster1"), containsInAnyOrder("ms1"));
+  }
+
+  @Test
+  public void afterPodEventForDeletingPod_indexAsDeleting() {
+    info.setServerPod("ms1", makeReady(createPod("ms1", "cluster1", "1")));
+
+    V1Pod deleting = makeReady(createPod("ms1", "cluster1", "2"));
+    deleting.getMetadata().setDeletionTimestamp(SystemClock.now());
+    info.setServerPodFromEvent("ms1", deleting);
+
+    assertThat(info.getServerNamesWithDeletingPods("cluster1"), containsInAnyOrder("ms1"));
+  }
+
+  @Test
+  public void afterPodDeletedByEvent_removeFromIndexes() {
+    info.setServerPod("ms1", makeReady(createPod("ms1", "cluster1", "1")));
+
+    info.deleteServerPodFromEvent("ms1", createPod("ms1", "cluster1", "2"));
+
+    assertThat(info.getServerNamesWithPods("cluster1"), empty());
+    assertThat(info.getServerNamesWithReadyPods("cluster1"), empty());
+    assertThat(info.getPodClusterNames(), empty());
+  }
+
+  @Test
+  public void whenPodMovedToAnotherCluster_removeFromOldClusterIndexes() {
+    info.setServerPod("ms1", makeReady(createPod("ms1", "cluster1", "1")));
+
+    info.setServerPod("ms1", makeReady(createPod("ms1", "cluster2", "2")));
+
+    assertThat(info.getServerNamesWithReadyPods("cluster1"), empty());
+    assertThat(info.getServerNamesWithReadyPods("cluster2"), containsInAnyOrder("ms1"));
+  }
+
+  private V1Pod createPod(String serverName, String clusterName, String resourceVersion) {
+    V1ObjectMeta metadata = new V1ObjectMeta().name(serverName).resourceVersion(resourceVersion)
+          .creationTimestamp(CREATION_TIME);
+    if (clusterName != null) {
+      metadata.putLabelsItem(CLUSTERNAME_LABEL, clusterName);
+    }
+    return new V1Pod().metadata(metadata).spec(new V1PodSpec());
+  }
+
+  private V1Pod makeReady(V1Pod pod) {
+    return pod.status(new V1PodStatus().phase("Running")
+          .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+  }
+
+  private V1Pod schedule(V1Pod pod) {
+    pod.getSpec().setNodeName("node1");
+    return pod;
+  }
 }
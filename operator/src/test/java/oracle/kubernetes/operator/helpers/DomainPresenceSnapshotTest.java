@@ -0,0 +1,205 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipException;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainPresenceSnapshotTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final String POD_RESOURCE_VERSION = "1234";
+  private static final String SERVICE_RESOURCE_VERSION = "5678";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(createDomain(1L));
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(consoleControl = TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+
+    info.setServerPod("admin", createPod("admin"));
+    info.setServerService("admin", createServerService("admin"));
+    info.setClusterService("cluster1", createClusterService("cluster1"));
+    info.updateLastKnownServerStatus("admin", RUNNING_STATE);
+    info.recordFullPlanCompleted();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private Domain createDomain(Long generation) {
+    return new Domain()
+        .withSpec(new DomainSpec().withDomainUid(UID))
+        .withMetadata(new V1ObjectMeta().namespace(NS).name(UID).generation(generation));
+  }
+
+  private V1Pod createPod(String serverName) {
+    return new V1Pod().metadata(createMetadata(LegalNames.toPodName(UID, serverName))
+        .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName));
+  }
+
+  private V1Service createServerService(String serverName) {
+    return OperatorServiceType.SERVER.withTypeLabel(
+        new V1Service().metadata(createMetadata(LegalNames.toServerServiceName(UID, serverName))
+            .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName)));
+  }
+
+  private V1Service createClusterService(String clusterName) {
+    return OperatorServiceType.CLUSTER.withTypeLabel(
+        new V1Service().metadata(createMetadata(LegalNames.toClusterServiceName(UID, clusterName))
+            .putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, clusterName)));
+  }
+
+  private V1ObjectMeta createMetadata(String name) {
+    return new V1ObjectMeta()
+        .name(name)
+        .namespace(NS)
+        .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+        .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true");
+  }
+
+  private DomainPresenceSnapshot capture(DomainPresenceInfo... infos) {
+    List<DomainPresenceInfo> list = new ArrayList<>();
+    Collections.addAll(list, infos);
+    return DomainPresenceSnapshot.capture(NS, list, POD_RESOURCE_VERSION, SERVICE_RESOURCE_VERSION);
+  }
+
+  private DomainPresenceInfo restoreDomain(DomainPresenceSnapshot snapshot) {
+    Map<String, DomainPresenceInfo> dpis = new HashMap<>();
+    DomainPresenceSnapshot.fromBytes(snapshot.toBytes()).restore(dpis);
+    return dpis.get(UID);
+  }
+
+  @Test
+  public void capturedSnapshot_containsWatchResourceVersions() {
+    DomainPresenceSnapshot snapshot = DomainPresenceSnapshot.fromBytes(capture(info).toBytes());
+
+    assertThat(snapshot.getPodResourceVersion(), equalTo(POD_RESOURCE_VERSION));
+    assertThat(snapshot.getServiceResourceVersion(), equalTo(SERVICE_RESOURCE_VERSION));
+  }
+
+  @Test
+  public void whenFullPlanNotCompleted_domainIsNotCaptured() {
+    DomainPresenceInfo newInfo = new DomainPresenceInfo(createDomain(1L));
+
+    assertThat(capture(newInfo).getDomainUids(), empty());
+  }
+
+  @Test
+  public void whenDomainIsDeleting_domainIsNotCaptured() {
+    info.setDeleting(true);
+
+    assertThat(capture(info).getDomainUids(), empty());
+  }
+
+  @Test
+  public void afterRestore_domainHasServerPod() {
+    DomainPresenceInfo restored = restoreDomain(capture(info));
+
+    assertThat(restored.getServerPod("admin").getMetadata().getName(), equalTo(LegalNames.toPodName(UID, "admin")));
+  }
+
+  @Test
+  public void afterRestore_domainHasServices() {
+    DomainPresenceInfo restored = restoreDomain(capture(info));
+
+    assertThat(restored.getServerService("admin"), notNullValue());
+    assertThat(restored.getClusterService("cluster1"), notNullValue());
+  }
+
+  @Test
+  public void afterRestore_domainHasLastKnownServerStatus() {
+    DomainPresenceInfo restored = restoreDomain(capture(info));
+
+    assertThat(restored.getLastKnownServerStatus("admin").getStatus(), equalTo(RUNNING_STATE));
+  }
+
+  @Test
+  public void whenGenerationUnchanged_snapshotIsCurrent() {
+    assertThat(capture(info).isCurrent(createDomain(1L)), is(true));
+  }
+
+  @Test
+  public void whenGenerationChanged_snapshotIsNotCurrent() {
+    assertThat(capture(info).isCurrent(createDomain(2L)), is(false));
+  }
+
+  @Test
+  public void whenDomainNotInSnapshot_snapshotIsNotCurrent() {
+    Domain other = createDomain(1L);
+    other.getSpec().setDomainUid("domain2");
+
+    assertThat(capture(info).isCurrent(other), is(false));
+  }
+
+  @Test
+  public void whenBytesAreNotASnapshot_fromBytesReturnsNull() {
+    consoleControl.ignoringLoggedExceptions(ZipException.class);
+
+    assertThat(DomainPresenceSnapshot.fromBytes(new byte[] {1, 2, 3}), nullValue());
+  }
+
+  @Test
+  public void afterSave_snapshotConfigMapContainsSnapshot() {
+    testSupport.runSteps(capture(info).createSaveStep("operator"));
+
+    List<V1ConfigMap> configMaps = testSupport.getResources(CONFIG_MAP);
+    assertThat(configMaps.get(0).getMetadata().getName(), equalTo(DomainPresenceSnapshot.SNAPSHOT_CONFIG_MAP_NAME));
+  }
+
+  @Test
+  public void afterSave_readSnapshotStepAddsSnapshotToPacket() {
+    testSupport.runSteps(capture(info).createSaveStep("operator"));
+
+    Packet packet = testSupport.runSteps(DomainPresenceSnapshot.readSnapshotStep(NS));
+
+    DomainPresenceSnapshot snapshot = (DomainPresenceSnapshot) packet.get(ProcessingConstants.DOMAIN_PRESENCE_SNAPSHOT);
+    assertThat(snapshot.getDomainUids(), contains(UID));
+  }
+
+  @Test
+  public void whenNoSnapshotSaved_readSnapshotStepAddsNothingToPacket() {
+    Packet packet = testSupport.runSteps(DomainPresenceSnapshot.readSnapshotStep(NS));
+
+    assertThat(packet.get(ProcessingConstants.DOMAIN_PRESENCE_SNAPSHOT), nullValue());
+  }
+}
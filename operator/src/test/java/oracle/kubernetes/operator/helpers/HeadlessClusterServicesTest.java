@@ -0,0 +1,172 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.steps.ClusterServicesStep;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.nullValue;
+
+public class HeadlessClusterServicesTest extends ServiceHelperTestBase {
+  private static final String ADMIN_SERVER = "admin";
+  private static final String STANDALONE_SERVER = "standalone";
+  private static final String CLUSTER = "cluster1";
+  private static final int CLUSTER_SIZE = 10;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final WlsDomainConfig domainConfig = createDomainConfig();
+
+  private static WlsDomainConfig createDomainConfig() {
+    WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(DOMAIN_NAME)
+          .withAdminServerName(ADMIN_SERVER)
+          .withWlsServer(ADMIN_SERVER, 7001)
+          .withWlsServer(STANDALONE_SERVER, 8001);
+    String[] serverNames = new String[CLUSTER_SIZE];
+    for (int i = 0; i < CLUSTER_SIZE; i++) {
+      serverNames[i] = "ms" + (i + 1);
+    }
+    return configSupport.withWlsCluster(CLUSTER, serverNames).createDomainConfig();
+  }
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(UnitTestHash.install());
+
+    testSupport
+          .addToPacket(DOMAIN_TOPOLOGY, domainConfig)
+          .addDomainPresenceInfo(domainPresenceInfo);
+  }
+
+  private void useHeadlessClusterServices() {
+    testSupport.addToPacket(IntrospectorConfigMapKeys.HEADLESS_CLUSTER_SERVICES, "true");
+  }
+
+  private void runServerServiceStep(String serverName, String clusterName) {
+    testSupport
+          .addToPacket(SERVER_NAME, serverName)
+          .addToPacket(SERVER_SCAN, domainConfig.getServerConfig(serverName));
+    if (clusterName == null) {
+      testSupport.getPacket().remove(CLUSTER_NAME);
+    } else {
+      testSupport.addToPacket(CLUSTER_NAME, clusterName);
+    }
+    testSupport.runSteps(ServiceHelper.createForServerStep(new TerminalStep()));
+  }
+
+  private void runClusterServicesStep() {
+    testSupport.runSteps(new ClusterServicesStep(new TerminalStep()));
+  }
+
+  private void scaleUpCluster() {
+    runClusterServicesStep();
+    for (int i = 1; i <= CLUSTER_SIZE; i++) {
+      runServerServiceStep("ms" + i, CLUSTER);
+    }
+  }
+
+  private List<String> getServiceNames() {
+    return testSupport.<V1Service>getResources(SERVICE).stream()
+          .map(service -> service.getMetadata().getName())
+          .collect(Collectors.toList());
+  }
+
+  @Test
+  public void whenHeadlessClusterServicesIntrospected_dontCreateServiceForClusteredServer() {
+    useHeadlessClusterServices();
+
+    runServerServiceStep("ms1", CLUSTER);
+
+    assertThat(getServiceNames(), empty());
+  }
+
+  @Test
+  public void whenHeadlessClusterServicesIntrospected_createServiceForStandaloneServer() {
+    useHeadlessClusterServices();
+
+    runServerServiceStep(STANDALONE_SERVER, null);
+
+    assertThat(getServiceNames(), contains(LegalNames.toServerServiceName(UID, STANDALONE_SERVER)));
+  }
+
+  @Test
+  public void whenHeadlessClusterServicesIntrospected_deleteExistingServiceForClusteredServer() {
+    runServerServiceStep("ms1", CLUSTER);
+    useHeadlessClusterServices();
+
+    runServerServiceStep("ms1", CLUSTER);
+
+    assertThat(getServiceNames(), empty());
+    assertThat(domainPresenceInfo.getServerService("ms1"), nullValue());
+  }
+
+  @Test
+  public void whenHeadlessClusterServicesIntrospected_createHeadlessServiceSelectingClusterPods() {
+    useHeadlessClusterServices();
+
+    runClusterServicesStep();
+
+    V1Service service = domainPresenceInfo.getHeadlessClusterService(CLUSTER);
+    assertThat(service.getMetadata().getName(), equalTo(LegalNames.toHeadlessClusterServiceName(UID, CLUSTER)));
+    assertThat(service.getSpec().getClusterIP(), equalTo("None"));
+    assertThat(service.getSpec().getSelector(), hasEntry(LabelConstants.CLUSTERNAME_LABEL, CLUSTER));
+  }
+
+  @Test
+  public void whenHeadlessClusterServicesNotIntrospected_deleteHeadlessClusterService() {
+    useHeadlessClusterServices();
+    runClusterServicesStep();
+    testSupport.getPacket().remove(IntrospectorConfigMapKeys.HEADLESS_CLUSTER_SERVICES);
+
+    runClusterServicesStep();
+
+    assertThat(getServiceNames(), contains(LegalNames.toClusterServiceName(UID, CLUSTER)));
+    assertThat(domainPresenceInfo.getHeadlessClusterService(CLUSTER), nullValue());
+  }
+
+  @Test
+  public void whenScalingUpClusterWithServerServices_createServicePerServer() {
+    scaleUpCluster();
+
+    assertThat(getServiceNames().size(), equalTo(CLUSTER_SIZE + 1));
+  }
+
+  @Test
+  public void whenScalingUpClusterWithHeadlessClusterServices_createOnlyClusterServices() {
+    useHeadlessClusterServices();
+
+    scaleUpCluster();
+
+    assertThat(getServiceNames(), containsInAnyOrder(
+          LegalNames.toClusterServiceName(UID, CLUSTER),
+          LegalNames.toHeadlessClusterServiceName(UID, CLUSTER)));
+  }
+}
@@ -0,0 +1,319 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainConditionType;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.DomainStatusUpdater.INTROSPECTION_QUEUED_PROGRESS_REASON;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
+import static oracle.kubernetes.operator.helpers.IntrospectionScheduler.MAX_CONCURRENT_PARAM;
+import static oracle.kubernetes.operator.helpers.IntrospectionScheduler.MAX_CONCURRENT_PER_NAMESPACE_PARAM;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class IntrospectionSchedulerTest {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<String> admitted = new ArrayList<>();
+  private final List<Fiber> fibers = new ArrayList<>();
+  private final IntrospectionScheduler scheduler = new IntrospectionScheduler();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(IntrospectionScheduler.class, "instance", scheduler));
+    setParameter(MAX_CONCURRENT_PARAM, 2);
+  }
+
+  /**
+   * Tear down test.
+   * @throws Exception on failure
+   */
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private void setParameter(String name, int value) {
+    TuningParametersStub.namedParameters.put(name, Integer.toString(value));
+  }
+
+  @Test
+  public void whenBelowLimit_admitImmediately() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+
+    assertThat(admitted, contains("domain1", "domain2"));
+  }
+
+  @Test
+  public void whenAtLimit_dontAdmitDomain() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+
+    assertThat(admitted, contains("domain1", "domain2"));
+    assertThat(scheduler.getWaitingCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenDomainQueued_reportInDomainStatus() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+
+    assertThat(getProgressingReason("domain3"), equalTo(INTROSPECTION_QUEUED_PROGRESS_REASON));
+  }
+
+  @Test
+  public void whenAdmittedDomainRequestsAgain_admitImmediately() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain1");
+
+    assertThat(admitted, contains("domain1", "domain2", "domain1"));
+  }
+
+  @Test
+  public void afterRelease_admitWaitingDomain() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+
+    scheduler.release(NS1, "domain1");
+
+    assertThat(admitted, contains("domain1", "domain2", "domain3"));
+    assertThat(scheduler.getWaitingCount(), equalTo(0));
+  }
+
+  @Test
+  public void afterReleaseOfUnknownDomain_dontAdmitWaitingDomain() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+
+    scheduler.release(NS1, "domain4");
+
+    assertThat(admitted, contains("domain1", "domain2"));
+  }
+
+  @Test
+  public void whenDomainsWaiting_admitThoseWithoutRunningServersFirst() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "running1", "ms1");
+    startIntrospection(NS1, "down1");
+    startIntrospection(NS1, "down2");
+
+    scheduler.release(NS1, "domain1");
+    scheduler.release(NS1, "domain2");
+    scheduler.release(NS1, "down1");
+
+    assertThat(admitted, contains("domain1", "domain2", "down1", "down2", "running1"));
+  }
+
+  @Test
+  public void whenNamespaceAtLimit_admitDomainFromOtherNamespace() {
+    setParameter(MAX_CONCURRENT_PARAM, 3);
+    setParameter(MAX_CONCURRENT_PER_NAMESPACE_PARAM, 1);
+
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS2, "domain3");
+
+    assertThat(admitted, contains("domain1", "domain3"));
+  }
+
+  @Test
+  public void whenWaitingFiberCancelled_dontAdmitIt() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+    startIntrospection(NS1, "domain4");
+
+    fibers.get(2).cancel(false);
+    scheduler.release(NS1, "domain1");
+
+    assertThat(admitted, contains("domain1", "domain2", "domain4"));
+  }
+
+  @Test
+  public void whenAdmittedFiberEnded_releaseItsAdmission() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    fibers.get(0).cancel(false);
+
+    startIntrospection(NS1, "domain3");
+
+    assertThat(admitted, contains("domain1", "domain2", "domain3"));
+  }
+
+  @Test
+  public void whenJobCreatedBeforeAdmission_dontRelease() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+
+    scheduler.releaseForJob(NS1, "domain1", null, new DateTime(0));
+
+    assertThat(admitted, contains("domain1", "domain2"));
+  }
+
+  @Test
+  public void whenJobCreatedInSameSecondAsAdmission_release() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+
+    scheduler.releaseForJob(NS1, "domain1", null, SystemClock.now().withMillisOfSecond(0));
+
+    assertThat(admitted, contains("domain1", "domain2", "domain3"));
+  }
+
+  @Test
+  public void whenJobRecorded_releaseOnlyForThatJob() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+    scheduler.recordJob(NS1, "domain1", "job-uid-2");
+
+    scheduler.releaseForJob(NS1, "domain1", "job-uid-1", SystemClock.now());
+
+    assertThat(admitted, contains("domain1", "domain2"));
+
+    scheduler.releaseForJob(NS1, "domain1", "job-uid-2", new DateTime(0));
+
+    assertThat(admitted, contains("domain1", "domain2", "domain3"));
+  }
+
+  @Test
+  public void whenAdmittedFiberCancelledWhileDomainQueued_admitQueuedDomainBeforeNewcomer() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "domain3");
+    fibers.get(0).cancel(false);
+
+    startIntrospection(NS1, "domain4");
+
+    assertThat(admitted, contains("domain1", "domain2", "domain3"));
+    assertThat(scheduler.getWaitingCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenAdmissionExpiresWhileServingDomainQueued_admitNewcomerWithoutRunningServersFirst() {
+    startIntrospection(NS1, "domain1");
+    startIntrospection(NS1, "domain2");
+    startIntrospection(NS1, "running1", "ms1");
+    fibers.get(0).cancel(false);
+
+    startIntrospection(NS1, "down1");
+
+    assertThat(admitted, contains("domain1", "domain2", "down1"));
+    assertThat(scheduler.getWaitingCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenNoDomainsStarted_noneRunning() {
+    assertThat(admitted, empty());
+    assertThat(scheduler.getRunningCount(), equalTo(0));
+  }
+
+  private void startIntrospection(String namespace, String uid, String... runningServers) {
+    Domain domain = new Domain()
+          .withMetadata(new V1ObjectMeta().namespace(namespace).name(uid))
+          .withSpec(new DomainSpec().withDomainUid(uid));
+    if (testSupport.getResourceWithName(DOMAIN, uid) == null) {
+      testSupport.defineResources(domain);
+    }
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    for (String serverName : runningServers) {
+      info.setServerPod(serverName, createPod(uid, serverName));
+    }
+
+    Packet packet = new Packet();
+    packet.getComponents().put(DOMAIN_COMPONENT_NAME, Component.createFor(info));
+    Fiber fiber = testSupport.getEngine().createFiber();
+    fibers.add(fiber);
+    fiber.start(IntrospectionScheduler.createAdmissionStep(new RecordAdmissionStep(uid)), packet, new NullCallback());
+  }
+
+  private V1Pod createPod(String uid, String serverName) {
+    return new V1Pod().metadata(new V1ObjectMeta()
+          .name(LegalNames.toPodName(uid, serverName))
+          .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName));
+  }
+
+  private String getProgressingReason(String uid) {
+    Domain domain = testSupport.getResourceWithName(DOMAIN, uid);
+    return Optional.ofNullable(domain.getStatus())
+          .map(DomainStatus::getConditions).orElse(new ArrayList<>()).stream()
+          .filter(condition -> condition.getType() == DomainConditionType.Progressing)
+          .map(DomainCondition::getReason)
+          .findFirst()
+          .orElse(null);
+  }
+
+  private class RecordAdmissionStep extends Step {
+    private final String uid;
+
+    RecordAdmissionStep(String uid) {
+      this.uid = uid;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      admitted.add(uid);
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  private static class NullCallback implements CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+}
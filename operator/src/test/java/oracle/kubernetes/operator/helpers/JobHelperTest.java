@@ -42,6 +42,7 @@ import oracle.kubernetes.weblogic.domain.ServerConfigurator;
 import oracle.kubernetes.weblogic.domain.model.ConfigurationConstants;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.IntrospectorJobEnvVars;
 import oracle.kubernetes.weblogic.domain.model.ServerEnvVars;
 import org.hamcrest.Matcher;
 import org.junit.After;
@@ -326,6 +327,24 @@ public class JobHelperTest {
             not(envVarOEVNContains(ServerEnvVars.DATA_HOME))));
   }
 
+  @Test
+  public void whenHeadlessClusterServicesEnabled_introspectorPodStartupWithEnvVar() {
+    TuningParametersStub.namedParameters.put("headlessClusterServices", "true");
+
+    V1JobSpec jobSpec = createJobSpec();
+
+    assertThat(getMatchingContainerEnv(domainPresenceInfo, jobSpec),
+            hasEnvVar(IntrospectorJobEnvVars.HEADLESS_CLUSTER_SERVICES, "true"));
+  }
+
+  @Test
+  public void whenHeadlessClusterServicesNotEnabled_introspectorPodStartupWithoutEnvVar() {
+    V1JobSpec jobSpec = createJobSpec();
+
+    assertThat(getMatchingContainerEnv(domainPresenceInfo, jobSpec),
+            not(hasEnvVar(IntrospectorJobEnvVars.HEADLESS_CLUSTER_SERVICES, "true")));
+  }
+
   private static final String NULL_DATA_HOME = null;
 
   @Test
@@ -25,6 +25,7 @@ import javax.annotation.Nonnull;
 import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonException;
+import javax.json.JsonMergePatch;
 import javax.json.JsonPatch;
 import javax.json.JsonStructure;
 
@@ -289,6 +290,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
   }
 
+  /**
+   * delete resources, as if by an agent other than the operator.
+   * @param resources resources.
+   * @param <T> type
+   */
+  @SafeVarargs
+  public final <T> void deleteResources(T... resources) {
+    for (T resource : resources) {
+      V1ObjectMeta metadata = KubernetesUtils.getResourceMetadata(resource);
+      getDataRepository(resource).deleteResource(metadata.getName(), metadata.getNamespace());
+    }
+  }
+
   public void definePodLog(String name, String namespace, Object contents) {
     repositories.get(PODLOG).createResourceInNamespace(name, namespace, contents);
   }
@@ -446,6 +460,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    apply {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.applyResource(dataRepository);
+      }
+    },
     deleteCollection {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -801,6 +821,20 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    // Approximates a server-side apply by merging the applied fields into the current resource, if any.
+    T applyResource(String name, String namespace, T body) {
+      if (!data.containsKey(name)) {
+        return createResource(namespace, withOptionalCreationTimeStamp(body));
+      }
+
+      JsonMergePatch patch = Json.createMergePatch(toJsonStructure(body));
+      T resource = fromJsonStructure((JsonStructure) patch.apply(toJsonStructure(data.get(name))));
+      optionallyCopyStatusSubresource(data.get(name), resource);
+      data.put(name, resource);
+      onUpdateActions.forEach(a -> a.accept(resource));
+      return resource;
+    }
+
     @SuppressWarnings("unchecked")
     T fromJsonStructure(JsonStructure jsonStructure) {
       final GsonBuilder builder =
@@ -940,6 +974,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    T applyResource(String name, String namespace, T body) {
+      return inNamespace(namespace).applyResource(name, namespace, body);
+    }
+
     @Override
     Object listResources(String namespace, String fieldSelector, String... labelSelectors) {
       return listFactory.apply(inNamespace(namespace).getResources(fieldSelector, labelSelectors));
@@ -1039,6 +1078,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
               requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T applyResource(DataRepository<T> dataRepository) {
+      return dataRepository.applyResource(requestParams.name, requestParams.namespace, (T) requestParams.body);
+    }
+
     private <T> Object listResources(DataRepository<T> dataRepository) {
       return dataRepository.listResources(requestParams.namespace, fieldSelector, labelSelector);
     }
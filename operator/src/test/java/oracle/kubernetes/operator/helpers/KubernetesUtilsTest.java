@@ -9,7 +9,10 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import org.joda.time.DateTime;
 import org.junit.Test;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class KubernetesUtilsTest {
@@ -89,4 +92,35 @@ public class KubernetesUtilsTest {
     BigInteger bigInteger = KubernetesUtils.getResourceVersion(resVersion);
     assertThat(bigInteger, is(BigInteger.ZERO));
   }
+
+  @Test
+  public void whenResourceVersionsHaveDifferentLengths_longerIsGreater() {
+    assertThat(KubernetesUtils.compareResourceVersions("2733280673000", "2733280673"), greaterThan(0));
+    assertThat(KubernetesUtils.compareResourceVersions("99", "100"), lessThan(0));
+  }
+
+  @Test
+  public void whenResourceVersionsHaveSameLength_compareDigits() {
+    assertThat(KubernetesUtils.compareResourceVersions("1235", "1234"), greaterThan(0));
+    assertThat(KubernetesUtils.compareResourceVersions("1234", "1234"), equalTo(0));
+  }
+
+  @Test
+  public void whenResourceVersionsHaveLeadingZeros_ignoreThem() {
+    assertThat(KubernetesUtils.compareResourceVersions("0012", "12"), equalTo(0));
+    assertThat(KubernetesUtils.compareResourceVersions("000", null), equalTo(0));
+  }
+
+  @Test
+  public void whenResourceVersionIsNotANumber_treatAsZero() {
+    assertThat(KubernetesUtils.compareResourceVersions("123NotANumber456", "0"), equalTo(0));
+    assertThat(KubernetesUtils.compareResourceVersions("1", "ThisIsNotANumber"), greaterThan(0));
+  }
+
+  @Test
+  public void incrementResourceVersion_carriesDigits() {
+    assertThat(KubernetesUtils.incrementResourceVersion("41"), equalTo("42"));
+    assertThat(KubernetesUtils.incrementResourceVersion("1999"), equalTo("2000"));
+    assertThat(KubernetesUtils.incrementResourceVersion("999"), equalTo("1000"));
+  }
 }
@@ -14,6 +14,8 @@ import org.junit.Test;
 
 import static oracle.kubernetes.operator.helpers.LegalNames.DNS_1123_FIELDS_PARAM;
 import static oracle.kubernetes.operator.helpers.LegalNames.toClusterServiceName;
+import static oracle.kubernetes.operator.helpers.LegalNames.toClusteredServerAddress;
+import static oracle.kubernetes.operator.helpers.LegalNames.toHeadlessClusterServiceName;
 import static oracle.kubernetes.operator.helpers.LegalNames.toServerServiceName;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -54,6 +56,16 @@ public class LegalNamesTest {
     assertThat(toClusterServiceName("Abc", "cls_1"), equalTo("abc-cluster-cls-1"));
   }
 
+  @Test
+  public void createValidHeadlessClusterServiceNames() {
+    assertThat(toHeadlessClusterServiceName("Abc", "cls_1"), equalTo("abc-cluster-cls-1-headless"));
+  }
+
+  @Test
+  public void createValidClusteredServerAddresses() {
+    assertThat(toClusteredServerAddress("Abc", "ms_1", "cls_1"), equalTo("abc-ms-1.abc-cluster-cls-1-headless"));
+  }
+
   @Test
   public void verify_requiresDns1123Names_returnsTrue_for_names_in_defaultList() {
     assertThat(LegalNames.isDns1123Required("ClaimName"), is(true));
@@ -20,6 +20,7 @@ import io.kubernetes.client.openapi.models.V1PodAffinityTerm;
 import io.kubernetes.client.openapi.models.V1PodAntiAffinity;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
+import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.work.FiberTestSupport;
@@ -46,11 +47,13 @@ import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class ManagedPodHelperTest extends PodHelperTestBase {
@@ -191,6 +194,38 @@ public class ManagedPodHelperTest extends PodHelperTestBase {
     );
   }
 
+  @Test
+  public void whenHeadlessClusterServicesIntrospected_createClusteredPodWithHostnameAndSubdomain() {
+    testSupport.addToPacket(ProcessingConstants.CLUSTER_NAME, CLUSTER_NAME);
+    testSupport.addToPacket(IntrospectorConfigMapKeys.HEADLESS_CLUSTER_SERVICES, "true");
+
+    V1Pod pod = getCreatedPod();
+
+    assertThat(pod.getSpec().getHostname(), equalTo(LegalNames.toPodName(UID, SERVER_NAME)));
+    assertThat(pod.getSpec().getSubdomain(), equalTo(LegalNames.toHeadlessClusterServiceName(UID, CLUSTER_NAME)));
+  }
+
+  @Test
+  public void whenHeadlessClusterServicesIntrospected_clusteredPodServiceNameIsAddressInSubdomain() {
+    testSupport.addToPacket(ProcessingConstants.CLUSTER_NAME, CLUSTER_NAME);
+    testSupport.addToPacket(IntrospectorConfigMapKeys.HEADLESS_CLUSTER_SERVICES, "true");
+
+    assertThat(
+        getCreatedPodSpecContainer().getEnv(),
+        hasEnvVar("SERVICE_NAME", LegalNames.toClusteredServerAddress(UID, SERVER_NAME, CLUSTER_NAME)));
+  }
+
+  @Test
+  public void whenHeadlessClusterServicesNotIntrospected_createClusteredPodWithoutSubdomain() {
+    testSupport.addToPacket(ProcessingConstants.CLUSTER_NAME, CLUSTER_NAME);
+
+    V1Pod pod = getCreatedPod();
+
+    assertThat(pod.getSpec().getSubdomain(), nullValue());
+    assertThat(getCreatedPodSpecContainer().getEnv(),
+        hasEnvVar("SERVICE_NAME", LegalNames.toServerServiceName(UID, SERVER_NAME)));
+  }
+
   @Test
   public void whenClusterHasAdditionalVolumesWithVariables_createManagedPodWithSubstitutions() {
     testSupport.addToPacket(ProcessingConstants.CLUSTER_NAME, CLUSTER_NAME);
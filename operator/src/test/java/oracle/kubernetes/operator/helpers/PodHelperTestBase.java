@@ -41,6 +41,7 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Probe;
 import io.kubernetes.client.openapi.models.V1SecretKeySelector;
 import io.kubernetes.client.openapi.models.V1SecretReference;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
 import io.kubernetes.client.openapi.models.V1SecurityContext;
 import io.kubernetes.client.openapi.models.V1Toleration;
 import io.kubernetes.client.openapi.models.V1Volume;
@@ -54,10 +55,13 @@ import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.OverrideDistributionStrategy;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.ServerLaunchMode;
+import oracle.kubernetes.operator.ShutdownMethod;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
+import oracle.kubernetes.operator.wlsconfig.TopologyDiff;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.FiberTestSupport;
@@ -83,6 +87,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.CONTAINER_NAME;
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_IMAGE;
 import static oracle.kubernetes.operator.KubernetesConstants.IFNOTPRESENT_IMAGEPULLPOLICY;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_DIFF;
 import static oracle.kubernetes.operator.ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
 import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
@@ -99,6 +104,8 @@ import static oracle.kubernetes.operator.helpers.Matchers.hasVolume;
 import static oracle.kubernetes.operator.helpers.Matchers.hasVolumeMount;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.RUNTIME_ENCRYPTION_SECRET_MOUNT_PATH;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.RUNTIME_ENCRYPTION_SECRET_VOLUME;
+import static oracle.kubernetes.operator.helpers.StepContextConstants.SECRETS_MOUNT_PATH;
+import static oracle.kubernetes.operator.helpers.StepContextConstants.SECRETS_VOLUME;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.SIT_CONFIG_MAP_VOLUME;
 import static oracle.kubernetes.operator.helpers.TuningParametersStub.LIVENESS_INITIAL_DELAY;
 import static oracle.kubernetes.operator.helpers.TuningParametersStub.LIVENESS_PERIOD;
@@ -458,6 +465,43 @@ public abstract class PodHelperTestBase {
     assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar("DYNAMIC_CONFIG_OVERRIDE"));
   }
 
+  @Test
+  public void whenPodCreatedWithDefaultLaunchMode_dontAddLaunchModeEnvVar() {
+    assertThat(getCreatedPodSpecContainer().getEnv(), not(hasEnvVar("SERVER_LAUNCH_MODE")));
+  }
+
+  @Test
+  public void whenPodCreatedWithDirectLaunchMode_addLaunchModeEnvVar() {
+    configureDomain().withLaunchMode(ServerLaunchMode.Direct.name());
+
+    assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar("SERVER_LAUNCH_MODE", "Direct"));
+  }
+
+  @Test
+  public void whenPodCreatedWithDefaultShutdownMethod_dontAddShutdownMethodEnvVar() {
+    assertThat(getCreatedPodSpecContainer().getEnv(), not(hasEnvVar("SHUTDOWN_METHOD")));
+  }
+
+  @Test
+  public void whenPodCreatedWithRestShutdownMethod_addShutdownMethodEnvVar() {
+    configureDomain().withShutdownMethod(ShutdownMethod.Rest.name());
+
+    assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar("SHUTDOWN_METHOD", "Rest"));
+  }
+
+  @Test
+  public void whenPodCreatedWithRestShutdownMethod_containerMountsCredentialsSecret() {
+    configureDomain().withShutdownMethod(ShutdownMethod.Rest.name());
+
+    assertThat(
+        getCreatedPodSpecContainer().getVolumeMounts(),
+        hasItem(readOnlyVolumeMount(SECRETS_VOLUME, SECRETS_MOUNT_PATH)));
+    assertThat(
+        getCreatedPod().getSpec().getVolumes(),
+        hasItem(new V1Volume().name(SECRETS_VOLUME)
+            .secret(new V1SecretVolumeSource().secretName(CREDENTIALS_SECRET_NAME).defaultMode(420))));
+  }
+
   @Test
   public void whenDistributionStrategyModified_dontReplacePod() {
     configureDomain().withConfigOverrideDistributionStrategy(OverrideDistributionStrategy.DYNAMIC);
@@ -745,6 +789,19 @@ public abstract class PodHelperTestBase {
     assertThat(patchedPod.getMetadata().getLabels().get("customer.label"), equalTo("value"));
   }
 
+  @Test
+  public void whenServerSideApplyEnabledAndPodLacksExpectedCustomerLabel_applyIt() {
+    TuningParametersStub.namedParameters.put(CallBuilder.SERVER_SIDE_APPLY_PARAM, "true");
+    initializeExistingPod();
+    configurator.withPodLabel("customer.label", "value");
+
+    V1Pod patchedPod = getPatchedPod();
+
+    assertThat(patchedPod.getMetadata().getLabels(), hasEntry("customer.label", "value"));
+    assertThat(patchedPod.getMetadata().getLabels(), hasEntry(LabelConstants.DOMAINUID_LABEL, UID));
+    assertThat(patchedPod.getSpec(), notNullValue());
+  }
+
   @Test
   public void whenPodCustomerAnnotationHasBadValue_replaceIt() {
     configurator.withPodAnnotation("customer.annotation", "value");
@@ -764,6 +821,33 @@ public abstract class PodHelperTestBase {
     verifyPodReplaced();
   }
 
+  @Test
+  public void whenVerifiedPodUnaffectedByTopologyChanges_dontCompareWithRecipe() {
+    domain.getMetadata().setGeneration(1L);
+    initializeExistingPod();
+    verifyPodNotReplaced();
+    logRecords.clear();
+
+    testSupport.addToPacket(DOMAIN_TOPOLOGY_DIFF, TopologyDiff.between(domainTopology, domainTopology));
+    configurator.withPodLabel("expected.label", "value");
+
+    verifyPodNotReplaced();
+  }
+
+  @Test
+  public void whenVerifiedPodAffectedByDomainChange_compareWithRecipe() {
+    domain.getMetadata().setGeneration(1L);
+    initializeExistingPod();
+    verifyPodNotReplaced();
+    logRecords.clear();
+
+    testSupport.addToPacket(DOMAIN_TOPOLOGY_DIFF, TopologyDiff.between(domainTopology, domainTopology));
+    configurator.withPodLabel("expected.label", "value");
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(getPatchedPod().getMetadata().getLabels(), hasEntry("expected.label", "value"));
+  }
+
   void initializeExistingPod() {
     initializeExistingPod(createPodModel());
   }
@@ -22,6 +22,7 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
+import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.calls.FailureStatusSourceException;
@@ -110,6 +111,8 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
   private static final String OLD_ANNOTATION = "annotation";
   private static final ClusterServiceTestFacade CLUSTER_SERVICE_TEST_FACADE =
       new ClusterServiceTestFacade();
+  private static final HeadlessClusterServiceTestFacade HEADLESS_CLUSTER_SERVICE_TEST_FACADE =
+      new HeadlessClusterServiceTestFacade();
   private static final ManagedServerTestFacade MANAGED_SERVER_TEST_FACADE =
       new ManagedServerTestFacade();
   private static final AdminServerTestFacade ADMIN_SERVER_TEST_FACADE = new AdminServerTestFacade();
@@ -140,6 +143,7 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
     return Arrays.asList(
         new Object[][] {
           {"cluster", CLUSTER_SERVICE_TEST_FACADE},
+          {"headless cluster", HEADLESS_CLUSTER_SERVICE_TEST_FACADE},
           {"managed server", MANAGED_SERVER_TEST_FACADE},
           {"admin server", ADMIN_SERVER_TEST_FACADE},
           {"external", EXTERNAL_SERVICE_TEST_FACADE}
@@ -166,6 +170,7 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
                 .ignoringLoggedExceptions(ApiException.class));
     mementos.add(testSupport.install());
     mementos.add(UnitTestHash.install());
+    mementos.add(TuningParametersStub.install());
 
     WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(DOMAIN_NAME);
     configSupport
@@ -187,6 +192,7 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
         .addToPacket(DOMAIN_TOPOLOGY, domainConfig)
         .addToPacket(SERVER_SCAN, serverConfig)
         .addDomainPresenceInfo(domainPresenceInfo);
+    testFacade.configurePacket(testSupport.getPacket());
     testFacade.configureService(configureDomain()).withServiceLabel(OLD_LABEL, "value");
     testFacade.configureService(configureDomain()).withServiceAnnotation(OLD_ANNOTATION, "value");
   }
@@ -307,6 +313,21 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
         is(serviceWithName(testFacade.getServiceName())));
   }
 
+  @Test
+  public void whenServerSideApplyEnabledAndUnrecordedServiceExists_applyAndRecordItWithSingleCall() {
+    consoleHandlerMemento.ignoreMessage(testFacade.getServiceCreateLogMessage());
+    TuningParametersStub.namedParameters.put(CallBuilder.SERVER_SIDE_APPLY_PARAM, "true");
+    testSupport.defineResources(testFacade.createServiceModel(testSupport.getPacket()));
+    testSupport.clearNumCalls();
+
+    runServiceHelper();
+
+    assertThat(
+        testFacade.getRecordedService(domainPresenceInfo),
+        is(serviceWithName(testFacade.getServiceName())));
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
   @Test
   public void afterRun_createdServiceHasNoDuplicatePorts() {
     consoleHandlerMemento.ignoreMessage(testFacade.getServiceCreateLogMessage());
@@ -538,6 +559,9 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
 
     abstract Integer getExpectedListenPort();
 
+    void configurePacket(Packet packet) {
+    }
+
     ServiceType getExpectedServiceType() {
       return ServiceType.ClusterIP;
     }
@@ -648,6 +672,44 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
     }
   }
 
+  static class HeadlessClusterServiceTestFacade extends ClusterServiceTestFacade {
+
+    @Override
+    OperatorServiceType getType() {
+      return OperatorServiceType.HEADLESS_CLUSTER;
+    }
+
+    @Override
+    void configurePacket(Packet packet) {
+      packet.put(IntrospectorConfigMapKeys.HEADLESS_CLUSTER_SERVICES, "true");
+    }
+
+    @Override
+    public String getServiceName() {
+      return LegalNames.toHeadlessClusterServiceName(UID, TEST_CLUSTER);
+    }
+
+    @Override
+    public Step createSteps(Step next) {
+      return ServiceHelper.createForHeadlessClusterStep(next);
+    }
+
+    @Override
+    public V1Service createServiceModel(Packet packet) {
+      return ServiceHelper.createHeadlessClusterServiceModel(packet);
+    }
+
+    @Override
+    public V1Service getRecordedService(DomainPresenceInfo info) {
+      return info.getHeadlessClusterService(TEST_CLUSTER);
+    }
+
+    @Override
+    public void recordService(DomainPresenceInfo info, V1Service service) {
+      info.setHeadlessClusterService(TEST_CLUSTER, service);
+    }
+  }
+
   abstract static class ServerTestFacade extends TestFacade {
 
     @Override
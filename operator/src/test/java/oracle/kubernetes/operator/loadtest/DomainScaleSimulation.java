@@ -0,0 +1,168 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.google.gson.JsonObject;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.ServerStatusReader;
+
+/**
+ * Runs the operator's real engine against simulated domains, to show how it behaves with large numbers of domains and
+ * servers. The fake API server is extended with a {@link FakeKubelet}, which marks server pods ready after a delay,
+ * and a {@link FakeWebLogicEndpoint}, which answers the operator's health and state requests. The simulation runs
+ * through four phases, and reports the reconcile latency, fibers, GC pauses and API requests of each:
+ * <ul>
+ *   <li>startup: the operator starts and brings up the admin server and initial managed servers of every domain</li>
+ *   <li>scale-up: the replica count of every cluster is increased</li>
+ *   <li>rolling restart: the restart version of every domain is changed, so that every server is restarted</li>
+ *   <li>steady state: nothing changes, and the operator only monitors the servers</li>
+ * </ul>
+ *
+ * <p>In addition to the properties supported by {@link OperatorLoadDriver}, the simulation is configured with:
+ * <ul>
+ *   <li>loadtest.scaleUpServers: the number of managed servers per domain after scale-up (default twice
+ *       loadtest.servers)</li>
+ *   <li>loadtest.podReadyMillis: the time after a pod is created before it is ready (default 1000)</li>
+ *   <li>loadtest.steadySeconds: the length of the steady state phase (default 30)</li>
+ * </ul>
+ * A reconcile latency is the time from the start of a phase until a domain has a ready pod for each expected
+ * server, with the expected restart version. The timeout set by loadtest.timeoutSeconds applies to each phase.
+ */
+public class DomainScaleSimulation extends OperatorLoadDriver {
+
+  private static final String RESTART_VERSION = "2";
+
+  private final int scaleUpServerCount = Integer.getInteger("loadtest.scaleUpServers", 2 * serverCount);
+  private final long podReadyMillis = Long.getLong("loadtest.podReadyMillis", 1000);
+  private final int steadySeconds = Integer.getInteger("loadtest.steadySeconds", 30);
+
+  private final FakeKubelet kubelet;
+  private final FakeWebLogicEndpoint endpoint;
+  private final ReconcileTracker tracker;
+
+  DomainScaleSimulation() throws IOException {
+    kubelet = new FakeKubelet(podReadyMillis);
+    endpoint = new FakeWebLogicEndpoint(kubelet);
+    tracker = new ReconcileTracker(getDomainKeys());
+  }
+
+  /**
+   * Runs the simulation.
+   * @param args ignored
+   * @throws Exception if unable to run the simulation
+   */
+  public static void main(String[] args) throws Exception {
+    new DomainScaleSimulation().run(System.out);
+    System.exit(0);
+  }
+
+  @Override
+  void run(PrintStream out) throws Exception {
+    out.printf("Domain scale simulation: %d namespaces x %d domains x %d managed servers (%d after scale-up), "
+            + "pods ready after %d ms, latency %d ms, error rate %.3f%n",
+        namespaceCount, domainCount, serverCount, scaleUpServerCount, podReadyMillis, latencyMillis, errorRate);
+    endpoint.start();
+    StaticStubSupport.install(ServerStatusReader.class, "EXEC_FACTORY", endpoint);
+    PhaseRecorder recorder = new PhaseRecorder(server, endpoint);
+
+    runPhase(out, recorder, "startup", getServerNames(serverCount), null, this::startOperatorUnchecked);
+    runPhase(out, recorder, "scale-up", getServerNames(scaleUpServerCount), null,
+        () -> updateDomains(this::scaleUp));
+    runPhase(out, recorder, "rolling restart", getServerNames(scaleUpServerCount), RESTART_VERSION,
+        () -> updateDomains(this::restart));
+
+    recorder.begin("steady state");
+    Thread.sleep(TimeUnit.SECONDS.toMillis(steadySeconds));
+    recorder.end(null).print(out);
+
+    recorder.stop();
+    kubelet.stop();
+    endpoint.stop();
+    stop();
+  }
+
+  private void runPhase(PrintStream out, PhaseRecorder recorder, String phase, Set<String> expectedServers,
+                        String restartVersion, Runnable action) throws InterruptedException {
+    recorder.begin(phase);
+    tracker.startPhase(expectedServers, restartVersion);
+    action.run();
+    tracker.awaitReconciled(TimeUnit.SECONDS.toMillis(timeoutSeconds));
+    recorder.end(tracker).print(out);
+  }
+
+  private void startOperatorUnchecked() {
+    try {
+      startOperator();
+    } catch (NoSuchFieldException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  void addControllers() {
+    super.addControllers();
+    server.addController(kubelet);
+    server.addController(tracker);
+  }
+
+  @Override
+  int getClusterSize() {
+    return Math.max(serverCount, scaleUpServerCount);
+  }
+
+  @Override
+  int getAdminServerPort() {
+    return endpoint.getPort();
+  }
+
+  @Override
+  Integer getManagedServerPort() {
+    return endpoint.getPort();
+  }
+
+  private List<String> getDomainKeys() {
+    List<String> keys = new ArrayList<>();
+    for (String namespace : namespaces) {
+      for (int i = 1; i <= domainCount; i++) {
+        keys.add(ReconcileTracker.toDomainKey(namespace, getDomainUid(namespace, i)));
+      }
+    }
+    return keys;
+  }
+
+  private Set<String> getServerNames(int managedServerCount) {
+    Set<String> names = new HashSet<>();
+    names.add(ADMIN_SERVER);
+    for (int i = 1; i <= managedServerCount; i++) {
+      names.add(MANAGED_SERVER_PREFIX + i);
+    }
+    return names;
+  }
+
+  private void updateDomains(Consumer<JsonObject> update) {
+    for (String namespace : namespaces) {
+      for (int i = 1; i <= domainCount; i++) {
+        server.updateResource("domains", namespace, getDomainUid(namespace, i), update);
+      }
+    }
+  }
+
+  private void scaleUp(JsonObject domain) {
+    JsonObject spec = domain.getAsJsonObject("spec");
+    spec.getAsJsonArray("clusters").get(0).getAsJsonObject().addProperty("replicas", scaleUpServerCount);
+  }
+
+  private void restart(JsonObject domain) {
+    domain.getAsJsonObject("spec").addProperty("restartVersion", RESTART_VERSION);
+  }
+}
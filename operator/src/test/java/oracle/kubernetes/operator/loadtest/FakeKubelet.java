@@ -0,0 +1,197 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.LabelConstants;
+
+import static oracle.kubernetes.operator.loadtest.FakeKubernetesApiServer.ADDED;
+import static oracle.kubernetes.operator.loadtest.FakeKubernetesApiServer.DELETED;
+
+/**
+ * Simulates the scheduler and kubelet for WebLogic server pods. When the operator creates a server pod, this
+ * controller immediately binds it to a node and assigns it a unique loopback address as its pod IP, then, after
+ * a configurable delay, marks it Running and Ready. The address lets a {@link FakeWebLogicEndpoint} listening on all
+ * interfaces tell which server a request is meant for.
+ */
+public class FakeKubelet implements FakeKubernetesApiServer.ResourceController {
+
+  private static final String PODS = "pods";
+  private static final String NODE_NAME = "fake-node";
+  private static final int ADDRESSES_PER_OCTET = 254;
+
+  private final long readyDelayMillis;
+  private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, this::createDaemonThread);
+  private final AtomicInteger nextAddress = new AtomicInteger();
+  private final Map<String, ServerPod> podsByAddress = new ConcurrentHashMap<>();
+  private final Map<String, ServerPod> podsByName = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a kubelet.
+   * @param readyDelayMillis the time after a pod is created before it becomes ready
+   */
+  public FakeKubelet(long readyDelayMillis) {
+    this.readyDelayMillis = readyDelayMillis;
+  }
+
+  private Thread createDaemonThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "fake-kubelet");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /** Stops scheduling pod readiness. */
+  public void stop() {
+    scheduler.shutdownNow();
+  }
+
+  @Override
+  public void resourceChanged(FakeKubernetesApiServer server, String plural, String type, JsonObject resource) {
+    String serverName = getServerName(resource);
+    if (!PODS.equals(plural) || serverName == null) {
+      return;
+    }
+
+    String key = toKey(FakeKubernetesApiServer.getNamespace(resource), FakeKubernetesApiServer.getName(resource));
+    if (ADDED.equals(type)) {
+      ServerPod pod = new ServerPod(resource, serverName, allocateAddress());
+      podsByName.put(key, pod);
+      podsByAddress.put(pod.address, pod);
+      bindToNode(server, pod);
+      scheduler.schedule(() -> markReady(server, pod), readyDelayMillis, TimeUnit.MILLISECONDS);
+    } else if (DELETED.equals(type)) {
+      ServerPod pod = podsByName.remove(key);
+      if (pod != null) {
+        podsByAddress.remove(pod.address);
+      }
+    }
+  }
+
+  private String allocateAddress() {
+    int index = nextAddress.getAndIncrement();
+    int lowOctet = index % ADDRESSES_PER_OCTET + 1;
+    int middleOctet = (index / ADDRESSES_PER_OCTET) % 256;
+    int highOctet = 1 + index / (ADDRESSES_PER_OCTET * 256);
+    return "127." + highOctet + "." + middleOctet + "." + lowOctet;
+  }
+
+  private void bindToNode(FakeKubernetesApiServer server, ServerPod pod) {
+    server.updateResource(PODS, pod.namespace, pod.name, resource -> {
+      if (pod.uid.equals(getUid(resource)) && resource.has("spec")) {
+        resource.getAsJsonObject("spec").addProperty("nodeName", NODE_NAME);
+      }
+    });
+  }
+
+  // The pod is marked ready before the update is published, so that watchers of the update find it ready.
+  private void markReady(FakeKubernetesApiServer server, ServerPod pod) {
+    JsonObject updated = server.updateResource(PODS, pod.namespace, pod.name, resource -> {
+      if (pod.uid.equals(getUid(resource))) {
+        pod.ready = true;
+        resource.add("status", createReadyStatus(pod.address));
+      }
+    });
+    if (updated == null) {
+      pod.ready = false;
+    }
+  }
+
+  private JsonObject createReadyStatus(String podIp) {
+    JsonArray conditions = new JsonArray();
+    conditions.add(createCondition("Ready"));
+    conditions.add(createCondition("ContainersReady"));
+    JsonObject containerStatus = new JsonObject();
+    containerStatus.addProperty("name", KubernetesConstants.CONTAINER_NAME);
+    containerStatus.addProperty("ready", true);
+    containerStatus.addProperty("restartCount", 0);
+    JsonArray containerStatuses = new JsonArray();
+    containerStatuses.add(containerStatus);
+    JsonObject status = new JsonObject();
+    status.addProperty("phase", "Running");
+    status.addProperty("podIP", podIp);
+    status.add("conditions", conditions);
+    status.add("containerStatuses", containerStatuses);
+    return status;
+  }
+
+  private JsonObject createCondition(String type) {
+    JsonObject condition = new JsonObject();
+    condition.addProperty("type", type);
+    condition.addProperty("status", "True");
+    return condition;
+  }
+
+  /**
+   * Returns the name of the WebLogic server whose pod has the specified address.
+   * @param address a pod IP assigned by this kubelet
+   * @return the server name, or null if no current pod has the address
+   */
+  public String getServerNameForAddress(String address) {
+    ServerPod pod = podsByAddress.get(address);
+    return pod == null ? null : pod.serverName;
+  }
+
+  /**
+   * Returns true if the pod with the specified address is ready.
+   * @param address a pod IP assigned by this kubelet
+   * @return true if a current pod has the address and is ready
+   */
+  public boolean isReadyAtAddress(String address) {
+    ServerPod pod = podsByAddress.get(address);
+    return pod != null && pod.ready;
+  }
+
+  /**
+   * Returns true if the specified pod is ready.
+   * @param namespace the namespace of the pod
+   * @param name the name of the pod
+   * @return true if the pod exists and is ready
+   */
+  public boolean isReady(String namespace, String name) {
+    ServerPod pod = podsByName.get(toKey(namespace, name));
+    return pod != null && pod.ready;
+  }
+
+  private String toKey(String namespace, String name) {
+    return namespace + "/" + name;
+  }
+
+  private static String getServerName(JsonObject pod) {
+    JsonObject metadata = pod.getAsJsonObject("metadata");
+    JsonObject labels = metadata == null ? null : metadata.getAsJsonObject("labels");
+    return labels == null || !labels.has(LabelConstants.SERVERNAME_LABEL)
+        ? null : labels.get(LabelConstants.SERVERNAME_LABEL).getAsString();
+  }
+
+  private static String getUid(JsonObject resource) {
+    JsonObject metadata = resource.getAsJsonObject("metadata");
+    return metadata == null || !metadata.has("uid") ? null : metadata.get("uid").getAsString();
+  }
+
+  private static class ServerPod {
+    private final String namespace;
+    private final String name;
+    private final String uid;
+    private final String serverName;
+    private final String address;
+    private volatile boolean ready;
+
+    ServerPod(JsonObject pod, String serverName, String address) {
+      this.namespace = FakeKubernetesApiServer.getNamespace(pod);
+      this.name = FakeKubernetesApiServer.getName(pod);
+      this.uid = getUid(pod);
+      this.serverName = serverName;
+      this.address = address;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import com.google.gson.JsonObject;
+import oracle.kubernetes.operator.LabelConstants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FakeKubeletTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+  private static final String POD_NAME = "uid1-admin";
+  private static final long TIMEOUT_MILLIS = 5000;
+
+  private final FakeKubernetesApiServer server;
+  private final FakeKubelet kubelet = new FakeKubelet(0);
+  private final ReconcileTracker tracker
+      = new ReconcileTracker(Collections.singletonList(ReconcileTracker.toDomainKey(NS, UID)));
+
+  public FakeKubeletTest() throws IOException {
+    server = new FakeKubernetesApiServer();
+  }
+
+  @Before
+  public void setUp() {
+    server.start();
+    server.addController(kubelet);
+    server.addController(tracker);
+  }
+
+  @After
+  public void tearDown() {
+    kubelet.stop();
+    server.stop();
+  }
+
+  @Test
+  public void afterServerPodCreated_podIsBoundToNode() throws InterruptedException {
+    server.createResource("pods", NS, createServerPod("admin", null));
+    server.awaitControllers();
+
+    assertThat(getPod().getAsJsonObject("spec").get("nodeName").getAsString(), equalTo("fake-node"));
+  }
+
+  @Test
+  public void afterServerPodCreated_podBecomesReadyWithLoopbackAddress() throws InterruptedException {
+    tracker.startPhase(Collections.singleton("admin"), null);
+    server.createResource("pods", NS, createServerPod("admin", null));
+
+    assertThat(tracker.awaitReconciled(TIMEOUT_MILLIS), is(true));
+    String podIp = getPod().getAsJsonObject("status").get("podIP").getAsString();
+    assertThat(kubelet.getServerNameForAddress(podIp), equalTo("admin"));
+    assertThat(kubelet.isReadyAtAddress(podIp), is(true));
+  }
+
+  @Test
+  public void whenPodHasWrongRestartVersion_domainIsNotReconciled() throws InterruptedException {
+    tracker.startPhase(Collections.singleton("admin"), "2");
+    server.createResource("pods", NS, createServerPod("admin", "1"));
+
+    assertThat(tracker.awaitReconciled(500), is(false));
+    assertThat(tracker.getReconcileMillis(), hasSize(0));
+  }
+
+  private JsonObject getPod() {
+    return server.getResource("pods", NS, POD_NAME);
+  }
+
+  private JsonObject createServerPod(String serverName, String restartVersion) {
+    JsonObject labels = new JsonObject();
+    labels.addProperty(LabelConstants.DOMAINUID_LABEL, UID);
+    labels.addProperty(LabelConstants.SERVERNAME_LABEL, serverName);
+    if (restartVersion != null) {
+      labels.addProperty(LabelConstants.DOMAINRESTARTVERSION_LABEL, restartVersion);
+    }
+    JsonObject metadata = new JsonObject();
+    metadata.addProperty("name", POD_NAME);
+    metadata.add("labels", labels);
+    JsonObject pod = new JsonObject();
+    pod.add("metadata", metadata);
+    pod.add("spec", new JsonObject());
+    return pod;
+  }
+}
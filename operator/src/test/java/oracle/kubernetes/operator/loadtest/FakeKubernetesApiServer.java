@@ -0,0 +1,1137 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.JSON;
+
+/**
+ * An in-JVM HTTP/1.1 server which emulates enough of the Kubernetes API for the operator to run against it
+ * through its real client stack: the client pool, OkHttp, JSON serialization, watches and asynchronous requests.
+ * It supports get, list, watch, create, replace, patch and delete of the resources used by the operator, with
+ * resource version semantics: each change is assigned the next resource version, watches replay the changes after
+ * the version they request, and a watch which requests a version older than the retained history receives an
+ * ERROR event with a 410 (Gone) status. Watch bookmarks are sent when requested. Latency and errors may be injected
+ * into requests, and the number of requests of each type is recorded.
+ */
+public class FakeKubernetesApiServer {
+
+  public static final String ADDED = "ADDED";
+  public static final String MODIFIED = "MODIFIED";
+  public static final String DELETED = "DELETED";
+
+  private static final Gson GSON = new JSON().getGson();
+  private static final String JSON_PATCH = "application/json-patch+json";
+  private static final int DEFAULT_HISTORY_SIZE = 10_000;
+  private static final long DEFAULT_BOOKMARK_INTERVAL_MILLIS = 1_000;
+  private static final Map<String, ResourceType> RESOURCE_TYPES = new HashMap<>();
+
+  static {
+    defineType("pods", "Pod", true);
+    defineType("services", "Service", true);
+    defineType("configmaps", "ConfigMap", true);
+    defineType("secrets", "Secret", true);
+    defineType("events", "Event", true);
+    defineType("jobs", "Job", true);
+    defineType("domains", "Domain", true);
+    defineType("namespaces", "Namespace", false);
+    defineType("customresourcedefinitions", "CustomResourceDefinition", false);
+  }
+
+  private final HttpServer httpServer;
+  private final ExecutorService requestExecutor = Executors.newCachedThreadPool(this::createDaemonThread);
+  private final ExecutorService controllerExecutor = Executors.newSingleThreadExecutor(this::createDaemonThread);
+  private final Object lock = new Object();
+  private final Map<String, Map<String, JsonObject>> resources = new HashMap<>();
+  private final Deque<Change> history = new ArrayDeque<>();
+  private final List<WatchStream> watches = new CopyOnWriteArrayList<>();
+  private final List<ResourceController> controllers = new CopyOnWriteArrayList<>();
+  private final Map<String, String> podLogs = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+  private final Random random = new Random();
+  private long resourceVersion = 1;
+  private long compactedVersion = 0;
+  private int historySize = DEFAULT_HISTORY_SIZE;
+  private long bookmarkIntervalMillis = DEFAULT_BOOKMARK_INTERVAL_MILLIS;
+  private volatile long latencyMillis;
+  private volatile double errorRate;
+  private volatile boolean stopped;
+
+  /**
+   * Creates a server listening on an ephemeral port of the loopback interface.
+   * @throws IOException if the server cannot be created
+   */
+  public FakeKubernetesApiServer() throws IOException {
+    httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    httpServer.createContext("/", this::handle);
+    httpServer.setExecutor(requestExecutor);
+  }
+
+  private static void defineType(String plural, String kind, boolean namespaced) {
+    RESOURCE_TYPES.put(plural, new ResourceType(kind, namespaced));
+  }
+
+  private Thread createDaemonThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "fake-k8s-api");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  public FakeKubernetesApiServer start() {
+    httpServer.start();
+    return this;
+  }
+
+  /** Stops the server, ending any active watches. */
+  public void stop() {
+    stopped = true;
+    watches.forEach(WatchStream::close);
+    httpServer.stop(0);
+    requestExecutor.shutdownNow();
+    controllerExecutor.shutdownNow();
+  }
+
+  public String getUrl() {
+    return "http://127.0.0.1:" + httpServer.getAddress().getPort();
+  }
+
+  /**
+   * Sets the number of changes retained for watches. A watch which requests a resource version older than
+   * the retained changes fails with a 410 (Gone) status.
+   * @param historySize the number of changes to retain
+   */
+  public void setHistorySize(int historySize) {
+    synchronized (lock) {
+      this.historySize = historySize;
+      trimHistory();
+    }
+  }
+
+  public void setBookmarkIntervalMillis(long bookmarkIntervalMillis) {
+    this.bookmarkIntervalMillis = bookmarkIntervalMillis;
+  }
+
+  /**
+   * Sets the delay added to every request before it is processed.
+   * @param latencyMillis the delay, in milliseconds
+   */
+  public void setLatencyMillis(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+  }
+
+  /**
+   * Sets the fraction of requests, other than watches, which fail with a 500 (Internal Server Error) status.
+   * @param errorRate a number from 0 to 1
+   */
+  public void setErrorRate(double errorRate) {
+    this.errorRate = errorRate;
+  }
+
+  public void addController(ResourceController controller) {
+    controllers.add(controller);
+  }
+
+  /**
+   * Waits until the controllers have handled all changes made so far.
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void awaitControllers() throws InterruptedException {
+    try {
+      controllerExecutor.submit(() -> { }).get();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Defines the log returned for the specified pod.
+   * @param namespace the namespace of the pod
+   * @param name the name of the pod
+   * @param log the log contents
+   */
+  public void setPodLog(String namespace, String name, String log) {
+    podLogs.put(toKey(namespace, name), log);
+  }
+
+  /**
+   * Returns the number of requests received, by type: get, list, watch, create, replace, patch and delete.
+   * @return a map of request types to counts
+   */
+  public Map<String, Long> getRequestCounts() {
+    Map<String, Long> counts = new TreeMap<>();
+    requestCounts.forEach((type, count) -> counts.put(type, count.sum()));
+    return counts;
+  }
+
+  public long getRequestCount() {
+    return requestCounts.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  /**
+   * Returns the number of requests which changed a resource.
+   * @return a count of create, replace, patch and delete requests
+   */
+  public long getWriteRequestCount() {
+    Map<String, Long> counts = getRequestCounts();
+    return counts.getOrDefault("create", 0L) + counts.getOrDefault("replace", 0L)
+        + counts.getOrDefault("patch", 0L) + counts.getOrDefault("delete", 0L);
+  }
+
+  public int getActiveWatchCount() {
+    return watches.size();
+  }
+
+  /**
+   * Returns the current resource version of the server.
+   * @return the version assigned to the most recent change
+   */
+  public long getResourceVersion() {
+    synchronized (lock) {
+      return resourceVersion;
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------------------------------
+  // Direct access, used to seed resources and by controllers which simulate the work of the cluster
+  // ---------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates a resource, bypassing the HTTP interface.
+   * @param plural the plural name of the resource type, such as "pods"
+   * @param namespace the namespace of the resource, or null for a cluster-scoped resource
+   * @param resource a Kubernetes model object or JSON object
+   * @return the created resource
+   */
+  public JsonObject createResource(String plural, String namespace, Object resource) {
+    synchronized (lock) {
+      return doCreate(plural, namespace, toJsonObject(resource));
+    }
+  }
+
+  /**
+   * Replaces a resource, bypassing the HTTP interface and without a resource version check.
+   * @param plural the plural name of the resource type
+   * @param namespace the namespace of the resource, or null for a cluster-scoped resource
+   * @param resource a Kubernetes model object or JSON object
+   * @return the replaced resource, or null if it does not exist
+   */
+  public JsonObject replaceResource(String plural, String namespace, Object resource) {
+    JsonObject json = toJsonObject(resource);
+    synchronized (lock) {
+      JsonObject existing = getStore(plural).get(toKey(namespace, getName(json)));
+      return existing == null ? null : doReplace(plural, namespace, existing, json);
+    }
+  }
+
+  /**
+   * Updates a resource atomically, bypassing the HTTP interface.
+   * @param plural the plural name of the resource type
+   * @param namespace the namespace of the resource, or null for a cluster-scoped resource
+   * @param name the name of the resource
+   * @param update a function which modifies a copy of the resource
+   * @return the updated resource, or null if it does not exist
+   */
+  public JsonObject updateResource(String plural, String namespace, String name, Consumer<JsonObject> update) {
+    synchronized (lock) {
+      JsonObject existing = getStore(plural).get(toKey(namespace, name));
+      if (existing == null) {
+        return null;
+      }
+      JsonObject updated = copy(existing);
+      update.accept(updated);
+      return doReplace(plural, namespace, existing, updated);
+    }
+  }
+
+  /**
+   * Returns a copy of the specified resource.
+   * @param plural the plural name of the resource type
+   * @param namespace the namespace of the resource, or null for a cluster-scoped resource
+   * @param name the name of the resource
+   * @return the resource, or null if it does not exist
+   */
+  public JsonObject getResource(String plural, String namespace, String name) {
+    synchronized (lock) {
+      return copy(getStore(plural).get(toKey(namespace, name)));
+    }
+  }
+
+  /**
+   * Returns copies of the resources of the specified type.
+   * @param plural the plural name of the resource type
+   * @param namespace the namespace of the resources, or null for all namespaces
+   * @return a list of resources
+   */
+  public List<JsonObject> getResources(String plural, String namespace) {
+    List<JsonObject> result = new ArrayList<>();
+    synchronized (lock) {
+      for (JsonObject resource : getStore(plural).values()) {
+        if (namespace == null || namespace.equals(getNamespace(resource))) {
+          result.add(copy(resource));
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Deletes a resource, bypassing the HTTP interface.
+   * @param plural the plural name of the resource type
+   * @param namespace the namespace of the resource, or null for a cluster-scoped resource
+   * @param name the name of the resource
+   * @return true if the resource existed
+   */
+  public boolean deleteResource(String plural, String namespace, String name) {
+    synchronized (lock) {
+      return doDelete(plural, namespace, name) != null;
+    }
+  }
+
+  private JsonObject toJsonObject(Object resource) {
+    return resource instanceof JsonObject ? (JsonObject) resource : GSON.toJsonTree(resource).getAsJsonObject();
+  }
+
+  // ---------------------------------------------------------------------------------------------------------------
+  // Resource storage. All of these methods must be called while holding the lock.
+  // ---------------------------------------------------------------------------------------------------------------
+
+  private Map<String, JsonObject> getStore(String plural) {
+    return resources.computeIfAbsent(plural, p -> new TreeMap<>());
+  }
+
+  private JsonObject doCreate(String plural, String namespace, JsonObject resource) {
+    JsonObject metadata = getOrCreateObject(resource, "metadata");
+    if (!metadata.has("name") && metadata.has("generateName")) {
+      metadata.addProperty("name", metadata.get("generateName").getAsString() + randomSuffix());
+    }
+    if (namespace != null) {
+      metadata.addProperty("namespace", namespace);
+    }
+    String key = toKey(namespace, getName(resource));
+    if (getStore(plural).containsKey(key)) {
+      return null;
+    }
+
+    metadata.addProperty("uid", UUID.randomUUID().toString());
+    metadata.addProperty("creationTimestamp", Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
+    metadata.addProperty("generation", 1);
+    return store(plural, key, resource, ADDED);
+  }
+
+  private JsonObject doReplace(String plural, String namespace, JsonObject existing, JsonObject resource) {
+    JsonObject metadata = getOrCreateObject(resource, "metadata");
+    JsonObject existingMetadata = existing.getAsJsonObject("metadata");
+    for (String field : new String[] {"uid", "creationTimestamp", "namespace", "name"}) {
+      if (existingMetadata.has(field)) {
+        metadata.add(field, existingMetadata.get(field));
+      }
+    }
+    long generation = existingMetadata.has("generation") ? existingMetadata.get("generation").getAsLong() : 1;
+    if (!Objects.equals(existing.get("spec"), resource.get("spec"))) {
+      generation++;
+    }
+    metadata.addProperty("generation", generation);
+    return store(plural, toKey(namespace, getName(existing)), resource, MODIFIED);
+  }
+
+  private JsonObject doDelete(String plural, String namespace, String name) {
+    JsonObject removed = getStore(plural).remove(toKey(namespace, name));
+    if (removed != null) {
+      removed.getAsJsonObject("metadata").addProperty("resourceVersion", Long.toString(++resourceVersion));
+      recordChange(plural, DELETED, removed);
+    }
+    return removed;
+  }
+
+  private JsonObject store(String plural, String key, JsonObject resource, String type) {
+    resource.getAsJsonObject("metadata").addProperty("resourceVersion", Long.toString(++resourceVersion));
+    getStore(plural).put(key, resource);
+    recordChange(plural, type, resource);
+    return copy(resource);
+  }
+
+  private void recordChange(String plural, String type, JsonObject resource) {
+    Change change = new Change(resourceVersion, plural, type, copy(resource));
+    history.addLast(change);
+    trimHistory();
+    for (WatchStream watch : watches) {
+      watch.offer(change);
+    }
+
+    for (ResourceController controller : controllers) {
+      controllerExecutor.execute(() -> controller.resourceChanged(this, plural, type, copy(change.resource)));
+    }
+  }
+
+  private void trimHistory() {
+    while (history.size() > historySize) {
+      compactedVersion = history.removeFirst().resourceVersion;
+    }
+  }
+
+  private String randomSuffix() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 5; i++) {
+      sb.append((char) ('a' + random.nextInt(26)));
+    }
+    return sb.toString();
+  }
+
+  // ---------------------------------------------------------------------------------------------------------------
+  // HTTP handling
+  // ---------------------------------------------------------------------------------------------------------------
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      Request request = new Request(exchange);
+      delay(latencyMillis);
+      countRequest(request.getRequestType());
+      if (!request.isWatch() && errorRate > 0 && random.nextDouble() < errorRate) {
+        sendStatus(exchange, 500, "InternalError", "injected failure");
+      } else {
+        dispatch(exchange, request);
+      }
+    } catch (RuntimeException e) {
+      sendStatus(exchange, 500, "InternalError", String.valueOf(e));
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void delay(long millis) {
+    if (millis > 0) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void countRequest(String type) {
+    requestCounts.computeIfAbsent(type, t -> new LongAdder()).increment();
+  }
+
+  private void dispatch(HttpExchange exchange, Request request) throws IOException {
+    if (request.isVersionRequest()) {
+      sendJson(exchange, 200, createVersionInfo());
+    } else if (request.plural == null) {
+      sendStatus(exchange, 404, "NotFound", "unknown path " + request.path);
+    } else if (request.isReview()) {
+      sendJson(exchange, 201, createReviewResponse(readBody(exchange)));
+    } else if (request.isWatch()) {
+      watch(exchange, request);
+    } else {
+      switch (request.method) {
+        case "GET":
+          get(exchange, request);
+          break;
+        case "POST":
+          create(exchange, request);
+          break;
+        case "PUT":
+          replace(exchange, request);
+          break;
+        case "PATCH":
+          patch(exchange, request);
+          break;
+        case "DELETE":
+          delete(exchange, request);
+          break;
+        default:
+          sendStatus(exchange, 405, "MethodNotAllowed", request.method);
+      }
+    }
+  }
+
+  private JsonObject createVersionInfo() {
+    JsonObject info = new JsonObject();
+    info.addProperty("major", "1");
+    info.addProperty("minor", "16");
+    info.addProperty("gitVersion", "v1.16.0");
+    info.addProperty("platform", "linux/amd64");
+    return info;
+  }
+
+  // Access reviews are answered with unrestricted access, so that the operator's health checks succeed.
+  private JsonObject createReviewResponse(JsonObject review) {
+    JsonObject status = new JsonObject();
+    status.addProperty("allowed", true);
+    JsonObject rule = new JsonObject();
+    rule.add("verbs", toJsonArray("*"));
+    rule.add("apiGroups", toJsonArray("", "*"));
+    rule.add("resources", toJsonArray("*"));
+    JsonArray rules = new JsonArray();
+    rules.add(rule);
+    status.add("resourceRules", rules);
+    status.add("nonResourceRules", new JsonArray());
+    status.addProperty("incomplete", false);
+    review.add("status", status);
+    return review;
+  }
+
+  private JsonArray toJsonArray(String... values) {
+    JsonArray array = new JsonArray();
+    for (String value : values) {
+      array.add(new JsonPrimitive(value));
+    }
+    return array;
+  }
+
+  private void get(HttpExchange exchange, Request request) throws IOException {
+    if (request.name == null) {
+      list(exchange, request);
+    } else if ("log".equals(request.subresource)) {
+      String log = podLogs.get(toKey(request.namespace, request.name));
+      if (log == null) {
+        sendStatus(exchange, 404, "NotFound", "no log for pod " + request.name);
+      } else {
+        sendText(exchange, log);
+      }
+    } else {
+      JsonObject resource = getResource(request.plural, request.namespace, request.name);
+      if (resource == null) {
+        sendNotFound(exchange, request);
+      } else {
+        sendJson(exchange, 200, withTypeInfo(resource, request));
+      }
+    }
+  }
+
+  private void list(HttpExchange exchange, Request request) throws IOException {
+    Selector selector = new Selector(request.getParameter("labelSelector"), request.getParameter("fieldSelector"));
+    String start = request.getParameter("continue");
+    int limit = request.getIntParameter("limit", 0);
+    JsonArray items = new JsonArray();
+    boolean more = false;
+    long listVersion;
+    synchronized (lock) {
+      listVersion = resourceVersion;
+      for (Map.Entry<String, JsonObject> entry : getStore(request.plural).entrySet()) {
+        if (start != null && entry.getKey().compareTo(start) <= 0) {
+          continue;
+        }
+        if (request.includes(entry.getValue()) && selector.matches(entry.getValue())) {
+          if (limit > 0 && items.size() == limit) {
+            more = true;
+            break;
+          }
+          items.add(copy(entry.getValue()));
+        }
+      }
+    }
+
+    JsonObject listMetadata = new JsonObject();
+    listMetadata.addProperty("resourceVersion", Long.toString(listVersion));
+    if (more) {
+      JsonObject last = items.get(items.size() - 1).getAsJsonObject();
+      listMetadata.addProperty("continue", toKey(getNamespace(last), getName(last)));
+    }
+    JsonObject list = new JsonObject();
+    list.addProperty("apiVersion", request.apiVersion);
+    list.addProperty("kind", request.getKind() + "List");
+    list.add("metadata", listMetadata);
+    list.add("items", items);
+    sendJson(exchange, 200, list);
+  }
+
+  private void create(HttpExchange exchange, Request request) throws IOException {
+    JsonObject body = readBody(exchange);
+    JsonObject created;
+    synchronized (lock) {
+      created = doCreate(request.plural, request.namespace, body);
+    }
+    if (created == null) {
+      sendStatus(exchange, 409, "AlreadyExists", request.plural + " \"" + getName(body) + "\" already exists");
+    } else {
+      sendJson(exchange, 201, withTypeInfo(created, request));
+    }
+  }
+
+  private void replace(HttpExchange exchange, Request request) throws IOException {
+    JsonObject body = readBody(exchange);
+    JsonObject replaced;
+    synchronized (lock) {
+      JsonObject existing = getStore(request.plural).get(toKey(request.namespace, request.name));
+      if (existing == null) {
+        replaced = null;
+      } else if (isConflict(existing, body)) {
+        sendStatus(exchange, 409, "Conflict", "the object has been modified");
+        return;
+      } else {
+        if ("status".equals(request.subresource)) {
+          JsonObject updated = copy(existing);
+          updated.add("status", body.get("status"));
+          body = updated;
+        }
+        replaced = doReplace(request.plural, request.namespace, existing, body);
+      }
+    }
+    if (replaced == null) {
+      sendNotFound(exchange, request);
+    } else {
+      sendJson(exchange, 200, withTypeInfo(replaced, request));
+    }
+  }
+
+  private boolean isConflict(JsonObject existing, JsonObject update) {
+    String requestedVersion = getObjectVersion(update);
+    return requestedVersion != null && !requestedVersion.equals(getObjectVersion(existing));
+  }
+
+  private void patch(HttpExchange exchange, Request request) throws IOException {
+    String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+    JsonElement patch = GSON.fromJson(readBodyText(exchange), JsonElement.class);
+    JsonObject patched;
+    synchronized (lock) {
+      JsonObject existing = getStore(request.plural).get(toKey(request.namespace, request.name));
+      if (existing == null) {
+        patched = null;
+      } else {
+        JsonObject updated = copy(existing);
+        try {
+          if (contentType != null && contentType.startsWith(JSON_PATCH)) {
+            JsonPatch.apply(updated, patch.getAsJsonArray());
+          } else {
+            JsonPatch.merge(updated, patch.getAsJsonObject());
+          }
+        } catch (IllegalArgumentException e) {
+          sendStatus(exchange, 422, "Invalid", e.getMessage());
+          return;
+        }
+        patched = doReplace(request.plural, request.namespace, existing, updated);
+      }
+    }
+    if (patched == null) {
+      sendNotFound(exchange, request);
+    } else {
+      sendJson(exchange, 200, withTypeInfo(patched, request));
+    }
+  }
+
+  private void delete(HttpExchange exchange, Request request) throws IOException {
+    if (request.name == null) {
+      deleteCollection(exchange, request);
+      return;
+    }
+
+    JsonObject deleted;
+    synchronized (lock) {
+      deleted = doDelete(request.plural, request.namespace, request.name);
+    }
+    if (deleted == null) {
+      sendNotFound(exchange, request);
+    } else {
+      sendJson(exchange, 200, createStatus(200, "Success", null, null));
+    }
+  }
+
+  private void deleteCollection(HttpExchange exchange, Request request) throws IOException {
+    Selector selector = new Selector(request.getParameter("labelSelector"), request.getParameter("fieldSelector"));
+    synchronized (lock) {
+      for (JsonObject resource : new ArrayList<>(getStore(request.plural).values())) {
+        if (request.includes(resource) && selector.matches(resource)) {
+          doDelete(request.plural, getNamespace(resource), getName(resource));
+        }
+      }
+    }
+    sendJson(exchange, 200, createStatus(200, "Success", null, null));
+  }
+
+  private void watch(HttpExchange exchange, Request request) throws IOException {
+    long requestedVersion = parseVersion(request.getParameter("resourceVersion"));
+    int timeoutSeconds = request.getIntParameter("timeoutSeconds", 0);
+    boolean bookmarks = Boolean.parseBoolean(request.getParameter("allowWatchBookmarks"));
+    Selector selector = new Selector(request.getParameter("labelSelector"), request.getParameter("fieldSelector"));
+    WatchStream watch = new WatchStream(request, selector);
+
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, 0);
+    try (OutputStream out = exchange.getResponseBody()) {
+      synchronized (lock) {
+        if (requestedVersion > 0 && requestedVersion < compactedVersion) {
+          watch.writeGone(out, requestedVersion);
+          return;
+        }
+        watch.queueInitialEvents(requestedVersion);
+        watches.add(watch);
+      }
+      watch.stream(out, timeoutSeconds, bookmarks);
+    } catch (IOException e) {
+      // the client closed the watch
+    } finally {
+      watches.remove(watch);
+    }
+  }
+
+  private long parseVersion(String version) {
+    try {
+      return version == null ? 0 : Long.parseLong(version);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private JsonObject withTypeInfo(JsonObject resource, Request request) {
+    resource.addProperty("apiVersion", request.apiVersion);
+    resource.addProperty("kind", request.getKind());
+    return resource;
+  }
+
+  private JsonObject readBody(HttpExchange exchange) throws IOException {
+    return GSON.fromJson(readBodyText(exchange), JsonObject.class);
+  }
+
+  private String readBodyText(HttpExchange exchange) throws IOException {
+    try (InputStream in = exchange.getRequestBody()) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private void sendNotFound(HttpExchange exchange, Request request) throws IOException {
+    sendStatus(exchange, 404, "NotFound", request.plural + " \"" + request.name + "\" not found");
+  }
+
+  private void sendStatus(HttpExchange exchange, int code, String reason, String message) throws IOException {
+    sendJson(exchange, code, createStatus(code, "Failure", reason, message));
+  }
+
+  private static JsonObject createStatus(int code, String status, String reason, String message) {
+    JsonObject result = new JsonObject();
+    result.addProperty("apiVersion", "v1");
+    result.addProperty("kind", "Status");
+    result.addProperty("status", status);
+    result.addProperty("code", code);
+    if (reason != null) {
+      result.addProperty("reason", reason);
+    }
+    if (message != null) {
+      result.addProperty("message", message);
+    }
+    return result;
+  }
+
+  private void sendJson(HttpExchange exchange, int code, JsonElement body) throws IOException {
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    send(exchange, code, GSON.toJson(body));
+  }
+
+  private void sendText(HttpExchange exchange, String body) throws IOException {
+    exchange.getResponseHeaders().add("Content-Type", "text/plain");
+    send(exchange, 200, body);
+  }
+
+  private void send(HttpExchange exchange, int code, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  // ---------------------------------------------------------------------------------------------------------------
+  // JSON helpers
+  // ---------------------------------------------------------------------------------------------------------------
+
+  private static String toKey(String namespace, String name) {
+    return namespace == null ? name : namespace + "/" + name;
+  }
+
+  private static JsonObject copy(JsonObject object) {
+    return object == null ? null : (JsonObject) JsonPatch.copy(object);
+  }
+
+  private static JsonObject getOrCreateObject(JsonObject parent, String name) {
+    if (!parent.has(name) || !parent.get(name).isJsonObject()) {
+      parent.add(name, new JsonObject());
+    }
+    return parent.getAsJsonObject(name);
+  }
+
+  static String getName(JsonObject resource) {
+    return getMetadataField(resource, "name");
+  }
+
+  static String getNamespace(JsonObject resource) {
+    return getMetadataField(resource, "namespace");
+  }
+
+  static String getObjectVersion(JsonObject resource) {
+    return getMetadataField(resource, "resourceVersion");
+  }
+
+  private static String getMetadataField(JsonObject resource, String field) {
+    JsonElement metadata = resource.get("metadata");
+    if (metadata == null || !metadata.isJsonObject()) {
+      return null;
+    }
+    JsonElement value = metadata.getAsJsonObject().get(field);
+    return value == null || value.isJsonNull() ? null : value.getAsString();
+  }
+
+  /**
+   * An extension which reacts to changes in the resources held by the server, in order to simulate the work done by
+   * Kubernetes controllers, such as running jobs. Controllers are invoked in order on a single thread, after the
+   * change has been made.
+   */
+  public interface ResourceController {
+
+    /**
+     * Called after a resource has been changed.
+     * @param server the server holding the resource
+     * @param plural the plural name of the resource type
+     * @param type the type of the change: ADDED, MODIFIED or DELETED
+     * @param resource a copy of the resource after the change
+     */
+    void resourceChanged(FakeKubernetesApiServer server, String plural, String type, JsonObject resource);
+  }
+
+  private static class ResourceType {
+    private final String kind;
+    private final boolean namespaced;
+
+    ResourceType(String kind, boolean namespaced) {
+      this.kind = kind;
+      this.namespaced = namespaced;
+    }
+  }
+
+  private static class Change {
+    private final long resourceVersion;
+    private final String plural;
+    private final String type;
+    private final JsonObject resource;
+
+    Change(long resourceVersion, String plural, String type, JsonObject resource) {
+      this.resourceVersion = resourceVersion;
+      this.plural = plural;
+      this.type = type;
+      this.resource = resource;
+    }
+  }
+
+  /**
+   * A parsed request. Paths have the forms /api/v1/{plural}, /api/v1/namespaces/{ns}/{plural}/{name}/{subresource}
+   * and /apis/{group}/{version}/namespaces/{ns}/{plural}/{name}/{subresource}, with trailing segments optional.
+   */
+  private static class Request {
+    private final String method;
+    private final String path;
+    private final Map<String, String> parameters = new HashMap<>();
+    private String apiVersion;
+    private String namespace;
+    private String plural;
+    private String name;
+    private String subresource;
+
+    Request(HttpExchange exchange) {
+      method = exchange.getRequestMethod();
+      path = exchange.getRequestURI().getPath();
+      parseQuery(exchange.getRequestURI().getRawQuery());
+      parsePath(path.split("/"));
+    }
+
+    private void parseQuery(String query) {
+      if (query == null) {
+        return;
+      }
+      for (String parameter : query.split("&")) {
+        int index = parameter.indexOf('=');
+        if (index > 0) {
+          parameters.put(decode(parameter.substring(0, index)), decode(parameter.substring(index + 1)));
+        }
+      }
+    }
+
+    private String decode(String value) {
+      return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private void parsePath(String[] segments) {
+      int index;
+      if (segments.length >= 3 && segments[1].equals("api")) {
+        apiVersion = segments[2];
+        index = 3;
+      } else if (segments.length >= 4 && segments[1].equals("apis")) {
+        apiVersion = segments[2] + "/" + segments[3];
+        index = 4;
+      } else {
+        return;
+      }
+
+      List<String> rest = new ArrayList<>();
+      for (int i = index; i < segments.length; i++) {
+        rest.add(segments[i]);
+      }
+      if (rest.size() >= 3 && rest.get(0).equals("namespaces")) {
+        namespace = rest.get(1);
+        rest = rest.subList(2, rest.size());
+      }
+      if (!rest.isEmpty()) {
+        plural = rest.get(0);
+        name = rest.size() > 1 ? rest.get(1) : null;
+        subresource = rest.size() > 2 ? rest.get(2) : null;
+      }
+    }
+
+    boolean isVersionRequest() {
+      return path.equals("/version") || path.equals("/version/");
+    }
+
+    boolean isReview() {
+      return plural != null && plural.endsWith("reviews");
+    }
+
+    boolean isWatch() {
+      return "true".equals(parameters.get("watch"));
+    }
+
+    String getRequestType() {
+      switch (method) {
+        case "GET":
+          return isWatch() ? "watch" : name == null ? "list" : "get";
+        case "POST":
+          return "create";
+        case "PUT":
+          return "replace";
+        case "PATCH":
+          return "patch";
+        case "DELETE":
+          return "delete";
+        default:
+          return method.toLowerCase();
+      }
+    }
+
+    String getKind() {
+      ResourceType type = RESOURCE_TYPES.get(plural);
+      return type != null ? type.kind : plural;
+    }
+
+    String getParameter(String name) {
+      return parameters.get(name);
+    }
+
+    int getIntParameter(String name, int defaultValue) {
+      String value = parameters.get(name);
+      return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    boolean includes(JsonObject resource) {
+      ResourceType type = RESOURCE_TYPES.get(plural);
+      return namespace == null || type == null || !type.namespaced || namespace.equals(getNamespace(resource));
+    }
+  }
+
+  /**
+   * A label and field selector. Label selectors may contain equality, inequality and existence requirements;
+   * field selectors may contain equality and inequality requirements on dotted paths.
+   */
+  private static class Selector {
+    private final List<String[]> labelRequirements = new ArrayList<>();
+    private final List<String[]> fieldRequirements = new ArrayList<>();
+
+    Selector(String labelSelector, String fieldSelector) {
+      parse(labelSelector, labelRequirements);
+      parse(fieldSelector, fieldRequirements);
+    }
+
+    private void parse(String selector, List<String[]> requirements) {
+      if (selector == null || selector.isEmpty()) {
+        return;
+      }
+      for (String requirement : selector.split(",")) {
+        requirements.add(parseRequirement(requirement.trim()));
+      }
+    }
+
+    private String[] parseRequirement(String requirement) {
+      if (requirement.contains("!=")) {
+        String[] parts = requirement.split("!=", 2);
+        return new String[] {parts[0], "!=", parts[1]};
+      } else if (requirement.contains("=")) {
+        String[] parts = requirement.split("==?", 2);
+        return new String[] {parts[0], "=", parts[1]};
+      } else if (requirement.startsWith("!")) {
+        return new String[] {requirement.substring(1), "!", null};
+      } else {
+        return new String[] {requirement, "exists", null};
+      }
+    }
+
+    boolean matches(JsonObject resource) {
+      JsonObject labels = getLabels(resource);
+      for (String[] requirement : labelRequirements) {
+        if (!matches(requirement, getString(labels, requirement[0]))) {
+          return false;
+        }
+      }
+      for (String[] requirement : fieldRequirements) {
+        if (!matches(requirement, getField(resource, requirement[0]))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean matches(String[] requirement, String value) {
+      switch (requirement[1]) {
+        case "=":
+          return requirement[2].equals(value);
+        case "!=":
+          return !requirement[2].equals(value);
+        case "!":
+          return value == null;
+        default:
+          return value != null;
+      }
+    }
+
+    private JsonObject getLabels(JsonObject resource) {
+      JsonElement metadata = resource.get("metadata");
+      JsonElement labels
+          = metadata != null && metadata.isJsonObject() ? metadata.getAsJsonObject().get("labels") : null;
+      return labels != null && labels.isJsonObject() ? labels.getAsJsonObject() : new JsonObject();
+    }
+
+    private String getField(JsonObject resource, String path) {
+      JsonElement element = resource;
+      for (String segment : path.split("\\.")) {
+        if (element == null || !element.isJsonObject()) {
+          return null;
+        }
+        element = element.getAsJsonObject().get(segment);
+      }
+      return element instanceof JsonPrimitive ? element.getAsString() : null;
+    }
+
+    private String getString(JsonObject object, String name) {
+      JsonElement value = object.get(name);
+      return value instanceof JsonPrimitive ? value.getAsString() : null;
+    }
+  }
+
+  /** The state of a single watch request. */
+  private class WatchStream {
+    private final Request request;
+    private final Selector selector;
+    private final BlockingQueue<Change> queue = new LinkedBlockingQueue<>();
+    private volatile boolean closed;
+
+    WatchStream(Request request, Selector selector) {
+      this.request = request;
+      this.selector = selector;
+    }
+
+    // Called while holding the lock. A watch without a resource version starts with the current resources.
+    void queueInitialEvents(long requestedVersion) {
+      if (requestedVersion == 0) {
+        for (JsonObject resource : getStore(request.plural).values()) {
+          offer(new Change(resourceVersion, request.plural, ADDED, copy(resource)));
+        }
+      } else {
+        for (Change change : history) {
+          if (change.resourceVersion > requestedVersion) {
+            offer(change);
+          }
+        }
+      }
+    }
+
+    void offer(Change change) {
+      if (change.plural.equals(request.plural) && request.includes(change.resource)
+          && selector.matches(change.resource)) {
+        queue.offer(change);
+      }
+    }
+
+    void close() {
+      closed = true;
+    }
+
+    void stream(OutputStream out, int timeoutSeconds, boolean bookmarks) throws IOException {
+      long deadline = timeoutSeconds > 0 ? System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds)
+                                         : Long.MAX_VALUE;
+      long lastSent = System.currentTimeMillis();
+      while (!closed && !stopped && System.currentTimeMillis() < deadline) {
+        Change change = poll(Math.min(bookmarkIntervalMillis, Math.max(1, deadline - System.currentTimeMillis())));
+        if (change != null) {
+          write(out, change.type, withTypeInfo(copy(change.resource), request));
+          lastSent = System.currentTimeMillis();
+        } else if (bookmarks && System.currentTimeMillis() - lastSent >= bookmarkIntervalMillis) {
+          write(out, "BOOKMARK", createBookmark());
+          lastSent = System.currentTimeMillis();
+        }
+      }
+    }
+
+    private Change poll(long millis) {
+      try {
+        return queue.poll(millis, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        closed = true;
+        return null;
+      }
+    }
+
+    private JsonObject createBookmark() {
+      JsonObject metadata = new JsonObject();
+      metadata.addProperty("resourceVersion", Long.toString(getResourceVersion()));
+      JsonObject bookmark = new JsonObject();
+      bookmark.addProperty("apiVersion", request.apiVersion);
+      bookmark.addProperty("kind", request.getKind());
+      bookmark.add("metadata", metadata);
+      return bookmark;
+    }
+
+    void writeGone(OutputStream out, long requestedVersion) throws IOException {
+      String message = String.format("too old resource version: %d (%d)", requestedVersion, compactedVersion);
+      write(out, "ERROR", createStatus(410, "Failure", "Expired", message));
+    }
+
+    private void write(OutputStream out, String type, JsonObject object) throws IOException {
+      JsonObject event = new JsonObject();
+      event.addProperty("type", type);
+      event.add("object", object);
+      out.write((GSON.toJson(event) + "\n").getBytes(StandardCharsets.UTF_8));
+      out.flush();
+    }
+  }
+}
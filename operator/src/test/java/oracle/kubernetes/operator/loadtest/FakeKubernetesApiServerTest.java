@@ -0,0 +1,263 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.ClientBuilder;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class FakeKubernetesApiServerTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+
+  private final FakeKubernetesApiServer server;
+  private CoreV1Api api;
+
+  public FakeKubernetesApiServerTest() throws IOException {
+    server = new FakeKubernetesApiServer();
+  }
+
+  @Before
+  public void setUp() throws IOException {
+    server.start();
+    ApiClient client = new ClientBuilder()
+        .setBasePath(server.getUrl())
+        .setOverridePatchFormat(V1Patch.PATCH_FORMAT_JSON_PATCH)
+        .build();
+    api = new CoreV1Api(client);
+  }
+
+  @After
+  public void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  public void afterCreateConfigMap_canReadIt() throws ApiException {
+    api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null);
+
+    V1ConfigMap configMap = api.readNamespacedConfigMap("cm1", NS, null, null, null);
+
+    assertThat(configMap.getData(), hasEntry("key", "value"));
+    assertThat(configMap.getMetadata().getUid(), notNullValue());
+  }
+
+  @Test
+  public void whenConfigMapAlreadyExists_createFailsWithConflict() throws ApiException {
+    api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null);
+
+    assertThat(getStatusCode(() -> api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null)),
+        equalTo(409));
+  }
+
+  @Test
+  public void listConfigMaps_returnsOnlyThoseMatchingLabelSelector() throws ApiException {
+    api.createNamespacedConfigMap(NS, createConfigMap("cm1").metadata(createMetadata("cm1", "a")), null, null, null);
+    api.createNamespacedConfigMap(NS, createConfigMap("cm2").metadata(createMetadata("cm2", "b")), null, null, null);
+
+    V1ConfigMapList list = api.listNamespacedConfigMap(NS, null, null, null, null, "group=b", null, null, null, null);
+
+    assertThat(getNames(list), contains("cm2"));
+    assertThat(list.getMetadata().getResourceVersion(), equalTo(Long.toString(server.getResourceVersion())));
+  }
+
+  @Test
+  public void whenResourceVersionIsStale_replaceFailsWithConflict() throws ApiException {
+    V1ConfigMap created = api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null);
+    api.replaceNamespacedConfigMap("cm1", NS, createConfigMap("cm1"), null, null, null);
+
+    assertThat(getStatusCode(() -> api.replaceNamespacedConfigMap("cm1", NS, created, null, null, null)),
+        equalTo(409));
+  }
+
+  @Test
+  public void afterJsonPatch_configMapHasNewLabel() throws ApiException {
+    api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null);
+
+    V1ConfigMap patched = api.patchNamespacedConfigMap("cm1", NS,
+        new V1Patch("[{\"op\":\"add\",\"path\":\"/metadata/labels\",\"value\":{\"color\":\"blue\"}}]"),
+        null, null, null, null);
+
+    assertThat(patched.getMetadata().getLabels(), hasEntry("color", "blue"));
+  }
+
+  @Test
+  public void whenErrorRateIsOne_requestsFail() {
+    server.setErrorRate(1.0);
+
+    assertThat(getStatusCode(() -> api.readNamespacedConfigMap("cm1", NS, null, null, null)), equalTo(500));
+  }
+
+  @Test
+  public void watchFromResourceVersion_receivesLaterChanges() throws Exception {
+    V1ConfigMap created = api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null);
+    api.replaceNamespacedConfigMap("cm1", NS, createConfigMap("cm1"), null, null, null);
+    api.createNamespacedConfigMap(NS, createConfigMap("cm2"), null, null, null);
+
+    List<String> events = readWatchEvents(created.getMetadata().getResourceVersion(), false, 1);
+
+    assertThat(events, contains("MODIFIED cm1", "ADDED cm2"));
+  }
+
+  @Test
+  public void whenResourceVersionHasBeenCompacted_watchReceivesGone() throws Exception {
+    server.setHistorySize(1);
+    V1ConfigMap created = api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null);
+    api.createNamespacedConfigMap(NS, createConfigMap("cm2"), null, null, null);
+    api.createNamespacedConfigMap(NS, createConfigMap("cm3"), null, null, null);
+
+    List<String> events = readWatchEvents(created.getMetadata().getResourceVersion(), false, 1);
+
+    assertThat(events, contains("ERROR 410"));
+  }
+
+  @Test
+  public void whenBookmarksRequested_watchReceivesBookmark() throws Exception {
+    server.setBookmarkIntervalMillis(100);
+    api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null);
+    String resourceVersion = Long.toString(server.getResourceVersion());
+
+    List<String> events = readWatchEvents(resourceVersion, true, 1);
+
+    assertThat(events.isEmpty() ? null : events.get(0), equalTo("BOOKMARK " + resourceVersion));
+  }
+
+  @Test
+  public void whenIntrospectorJobCreated_controllerCompletesJobAndCreatesPod() throws InterruptedException {
+    server.addController(new IntrospectorJobController(
+        uid -> new WlsDomainConfigSupport(uid).withAdminServerName("admin").createDomainConfig()));
+
+    server.createResource("jobs", NS, createIntrospectorJob());
+    server.awaitControllers();
+
+    JsonObject job = server.getResource("jobs", NS, LegalNames.toJobIntrospectorName(UID));
+    assertThat(job.getAsJsonObject("status").get("succeeded").getAsInt(), equalTo(1));
+    assertThat(server.getResource("pods", NS, LegalNames.toJobIntrospectorName(UID) + "-pod"), notNullValue());
+  }
+
+  @Test
+  public void afterIntrospectorJobDeleted_podIsDeleted() throws InterruptedException {
+    server.addController(new IntrospectorJobController(
+        uid -> new WlsDomainConfigSupport(uid).withAdminServerName("admin").createDomainConfig()));
+    server.createResource("jobs", NS, createIntrospectorJob());
+    server.awaitControllers();
+
+    server.deleteResource("jobs", NS, LegalNames.toJobIntrospectorName(UID));
+    server.awaitControllers();
+
+    assertThat(server.getResource("pods", NS, LegalNames.toJobIntrospectorName(UID) + "-pod"), nullValue());
+  }
+
+  @Test
+  public void requestsAreCountedByType() throws ApiException {
+    api.createNamespacedConfigMap(NS, createConfigMap("cm1"), null, null, null);
+    api.readNamespacedConfigMap("cm1", NS, null, null, null);
+    api.readNamespacedConfigMap("cm1", NS, null, null, null);
+
+    assertThat(server.getRequestCounts(), hasEntry("get", 2L));
+    assertThat(server.getWriteRequestCount(), equalTo(1L));
+  }
+
+  @Test
+  public void readPodLog_returnsDefinedLog() throws ApiException {
+    server.setPodLog(NS, "pod1", "the log");
+
+    assertThat(api.readNamespacedPodLog("pod1", NS, null, null, null, null, null, null, null, null),
+        containsString("the log"));
+  }
+
+  private V1ConfigMap createConfigMap(String name) {
+    return new V1ConfigMap().metadata(new V1ObjectMeta().name(name)).data(Collections.singletonMap("key", "value"));
+  }
+
+  private V1ObjectMeta createMetadata(String name, String group) {
+    return new V1ObjectMeta().name(name).putLabelsItem("group", group);
+  }
+
+  private JsonObject createIntrospectorJob() {
+    JsonObject labels = new JsonObject();
+    labels.addProperty(LabelConstants.DOMAINUID_LABEL, UID);
+    JsonObject metadata = new JsonObject();
+    metadata.addProperty("name", LegalNames.toJobIntrospectorName(UID));
+    metadata.add("labels", labels);
+    JsonObject job = new JsonObject();
+    job.add("metadata", metadata);
+    return job;
+  }
+
+  private List<String> getNames(V1ConfigMapList list) {
+    List<String> names = new ArrayList<>();
+    for (V1ConfigMap item : list.getItems()) {
+      names.add(item.getMetadata().getName());
+    }
+    return names;
+  }
+
+  private List<String> readWatchEvents(String resourceVersion, boolean bookmarks, int timeoutSeconds)
+      throws Exception {
+    List<String> events = new ArrayList<>();
+    try (Watch<V1ConfigMap> watch = Watch.createWatch(api.getApiClient(),
+          api.listNamespacedConfigMapCall(NS, null, bookmarks, null, null, null, null, resourceVersion,
+              timeoutSeconds, true, null),
+          new TypeToken<Watch.Response<V1ConfigMap>>() {}.getType())) {
+      while (watch.hasNext()) {
+        events.add(describe(watch.next()));
+      }
+    }
+    return events;
+  }
+
+  private String describe(Watch.Response<V1ConfigMap> response) {
+    if (response.status != null) {
+      return response.type + " " + response.status.getCode();
+    } else if ("BOOKMARK".equals(response.type)) {
+      return response.type + " " + response.object.getMetadata().getResourceVersion();
+    } else {
+      return response.type + " " + response.object.getMetadata().getName();
+    }
+  }
+
+  private int getStatusCode(ApiCall call) {
+    try {
+      call.run();
+      fail("call did not fail");
+      return 0;
+    } catch (ApiException e) {
+      return e.getCode();
+    }
+  }
+
+  interface ApiCall {
+    void run() throws ApiException;
+  }
+}
@@ -0,0 +1,168 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.utils.KubernetesExec;
+import oracle.kubernetes.operator.utils.KubernetesExecFactory;
+
+/**
+ * Simulates the WebLogic servers of the domains run by the operator. The endpoint listens on a single port of all
+ * interfaces, and identifies the server for which a request is meant by the pod IP to which it was sent, as assigned
+ * by a {@link FakeKubelet}. It answers the health searches sent by the ReadHealthStep for servers whose pods are
+ * ready, and acts as the exec factory used to run readState.sh in server pods.
+ */
+public class FakeWebLogicEndpoint implements KubernetesExecFactory {
+
+  private static final String HEALTH_SEARCH_PATH = "/management/weblogic/latest/serverRuntime/search";
+
+  private final FakeKubelet kubelet;
+  private final HttpServer httpServer;
+  private final ExecutorService executor = Executors.newCachedThreadPool(this::createDaemonThread);
+  private final long activationTime = System.currentTimeMillis();
+  private final LongAdder healthRequests = new LongAdder();
+  private final LongAdder readStateRequests = new LongAdder();
+
+  /**
+   * Creates an endpoint listening on an ephemeral port of all interfaces.
+   * @param kubelet the kubelet which assigns the pod IPs
+   * @throws IOException if the server cannot be created
+   */
+  public FakeWebLogicEndpoint(FakeKubelet kubelet) throws IOException {
+    this.kubelet = kubelet;
+    httpServer = HttpServer.create(new InetSocketAddress(0), 0);
+    httpServer.createContext(HEALTH_SEARCH_PATH, this::handleHealthSearch);
+    httpServer.setExecutor(executor);
+  }
+
+  private Thread createDaemonThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "fake-weblogic");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  public FakeWebLogicEndpoint start() {
+    httpServer.start();
+    return this;
+  }
+
+  public void stop() {
+    httpServer.stop(0);
+    executor.shutdownNow();
+  }
+
+  /**
+   * Returns the port on which the endpoint listens. All simulated servers must be configured with this listen port.
+   * @return a port number
+   */
+  public int getPort() {
+    return httpServer.getAddress().getPort();
+  }
+
+  public long getHealthRequestCount() {
+    return healthRequests.sum();
+  }
+
+  public long getReadStateRequestCount() {
+    return readStateRequests.sum();
+  }
+
+  private void handleHealthSearch(HttpExchange exchange) throws IOException {
+    healthRequests.increment();
+    try (InputStream in = exchange.getRequestBody()) {
+      in.readAllBytes();
+    }
+
+    String address = exchange.getLocalAddress().getAddress().getHostAddress();
+    if (!kubelet.isReadyAtAddress(address)) {
+      exchange.sendResponseHeaders(503, -1);
+    } else {
+      byte[] body = createHealthResponse(kubelet.getServerNameForAddress(address)).getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    }
+    exchange.close();
+  }
+
+  private String createHealthResponse(String serverName) {
+    return "{\"name\": \"" + serverName + "\", "
+        + "\"overallHealthState\": {\"state\": \"ok\", \"subsystemName\": null, \"symptoms\": []}, "
+        + "\"state\": \"" + WebLogicConstants.RUNNING_STATE + "\", "
+        + "\"activationTime\": " + activationTime + "}";
+  }
+
+  @Override
+  public KubernetesExec create(ApiClient client, V1Pod pod, String containerName) {
+    return new KubernetesExec() {
+      @Override
+      public Process exec(String... command) {
+        readStateRequests.increment();
+        boolean ready = kubelet.isReady(pod.getMetadata().getNamespace(), pod.getMetadata().getName());
+        return new CompletedProcess(ready ? WebLogicConstants.RUNNING_STATE : WebLogicConstants.STARTING_STATE);
+      }
+    };
+  }
+
+  /** A process which has already written its output and exited normally. */
+  private static class CompletedProcess extends Process {
+    private final byte[] output;
+
+    CompletedProcess(String output) {
+      this.output = output.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return new ByteArrayOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return new ByteArrayInputStream(output);
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public int waitFor() {
+      return 0;
+    }
+
+    @Override
+    public boolean waitFor(long timeout, TimeUnit unit) {
+      return true;
+    }
+
+    @Override
+    public int exitValue() {
+      return 0;
+    }
+
+    @Override
+    public void destroy() {
+    }
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+
+import static oracle.kubernetes.operator.loadtest.FakeKubernetesApiServer.ADDED;
+import static oracle.kubernetes.operator.loadtest.FakeKubernetesApiServer.DELETED;
+
+/**
+ * Simulates the domain introspector. When the operator creates an introspector job, this controller creates the job's
+ * pod, defines a pod log containing the topology of the domain, and marks the job complete. The pod is deleted with
+ * the job.
+ */
+public class IntrospectorJobController implements FakeKubernetesApiServer.ResourceController {
+
+  private static final String JOBS = "jobs";
+  private static final String PODS = "pods";
+
+  private final Function<String, WlsDomainConfig> topologySupplier;
+
+  /**
+   * Creates a controller.
+   * @param topologySupplier a function which returns the WebLogic topology for a domain UID
+   */
+  public IntrospectorJobController(Function<String, WlsDomainConfig> topologySupplier) {
+    this.topologySupplier = topologySupplier;
+  }
+
+  @Override
+  public void resourceChanged(FakeKubernetesApiServer server, String plural, String type, JsonObject resource) {
+    if (!JOBS.equals(plural) || getDomainUid(resource) == null) {
+      return;
+    }
+
+    if (ADDED.equals(type)) {
+      runJob(server, resource);
+    } else if (DELETED.equals(type)) {
+      server.deleteResource(PODS, FakeKubernetesApiServer.getNamespace(resource), getPodName(resource));
+    }
+  }
+
+  private void runJob(FakeKubernetesApiServer server, JsonObject job) {
+    String namespace = FakeKubernetesApiServer.getNamespace(job);
+    String domainUid = getDomainUid(job);
+    if (!LegalNames.toJobIntrospectorName(domainUid).equals(FakeKubernetesApiServer.getName(job))) {
+      return;
+    }
+
+    server.createResource(PODS, namespace, createJobPod(job));
+    server.setPodLog(namespace, getPodName(job), createIntrospectorLog(domainUid));
+    job.add("status", createCompletedStatus());
+    server.replaceResource(JOBS, namespace, job);
+  }
+
+  private JsonObject createJobPod(JsonObject job) {
+    JsonObject labels = new JsonObject();
+    labels.addProperty(LabelConstants.JOBNAME_LABEL, FakeKubernetesApiServer.getName(job));
+    labels.addProperty(LabelConstants.DOMAINUID_LABEL, getDomainUid(job));
+    JsonObject metadata = new JsonObject();
+    metadata.addProperty("name", getPodName(job));
+    metadata.add("labels", labels);
+    JsonObject status = new JsonObject();
+    status.addProperty("phase", "Succeeded");
+    JsonObject pod = new JsonObject();
+    pod.add("metadata", metadata);
+    pod.add("status", status);
+    return pod;
+  }
+
+  private String createIntrospectorLog(String domainUid) {
+    try {
+      String topologyFile = "/u01/introspect/" + domainUid + "/topology.yaml";
+      return ">>>  " + topologyFile + "\n"
+          + DomainProcessorTestSetup.createTopologyYaml(topologySupplier.apply(domainUid))
+          + "\n>>> EOF\n";
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private JsonObject createCompletedStatus() {
+    JsonObject condition = new JsonObject();
+    condition.addProperty("type", "Complete");
+    condition.addProperty("status", "True");
+    JsonArray conditions = new JsonArray();
+    conditions.add(condition);
+    JsonObject status = new JsonObject();
+    status.addProperty("succeeded", 1);
+    status.add("conditions", conditions);
+    return status;
+  }
+
+  private String getPodName(JsonObject job) {
+    return FakeKubernetesApiServer.getName(job) + "-pod";
+  }
+
+  private String getDomainUid(JsonObject resource) {
+    JsonObject metadata = resource.getAsJsonObject("metadata");
+    JsonObject labels = metadata == null ? null : metadata.getAsJsonObject("labels");
+    return labels == null || !labels.has(LabelConstants.DOMAINUID_LABEL)
+        ? null : labels.get(LabelConstants.DOMAINUID_LABEL).getAsString();
+  }
+}
@@ -0,0 +1,168 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Applies JSON patches (RFC 6902) and JSON merge patches (RFC 7386) to JSON objects, for the fake API server.
+ * Strategic merge patches are treated as merge patches.
+ */
+class JsonPatch {
+
+  private JsonPatch() {
+  }
+
+  /**
+   * Applies a JSON patch to the specified object.
+   * @param target the object to patch
+   * @param operations the patch operations
+   * @throws IllegalArgumentException if an operation cannot be applied
+   */
+  static void apply(JsonObject target, JsonArray operations) {
+    for (JsonElement element : operations) {
+      JsonObject operation = element.getAsJsonObject();
+      String op = operation.get("op").getAsString();
+      String path = operation.get("path").getAsString();
+      switch (op) {
+        case "add":
+          add(target, path, operation.get("value"));
+          break;
+        case "replace":
+          remove(target, path);
+          add(target, path, operation.get("value"));
+          break;
+        case "remove":
+          remove(target, path);
+          break;
+        case "test":
+          if (!operation.get("value").equals(get(target, path))) {
+            throw new IllegalArgumentException("test failed for " + path);
+          }
+          break;
+        default:
+          throw new IllegalArgumentException("unsupported operation " + op);
+      }
+    }
+  }
+
+  /**
+   * Applies a JSON merge patch to the specified object.
+   * @param target the object to patch
+   * @param patch the merge patch
+   */
+  static void merge(JsonObject target, JsonObject patch) {
+    for (Map.Entry<String, JsonElement> entry : patch.entrySet()) {
+      JsonElement value = entry.getValue();
+      JsonElement existing = target.get(entry.getKey());
+      if (value.isJsonNull()) {
+        target.remove(entry.getKey());
+      } else if (value.isJsonObject() && existing != null && existing.isJsonObject()) {
+        merge(existing.getAsJsonObject(), value.getAsJsonObject());
+      } else {
+        target.add(entry.getKey(), copy(value));
+      }
+    }
+  }
+
+  /**
+   * Returns a deep copy of the specified element.
+   * @param element a JSON element
+   * @return the copy
+   */
+  static JsonElement copy(JsonElement element) {
+    if (element.isJsonObject()) {
+      JsonObject result = new JsonObject();
+      for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+        result.add(entry.getKey(), copy(entry.getValue()));
+      }
+      return result;
+    } else if (element.isJsonArray()) {
+      JsonArray result = new JsonArray();
+      for (JsonElement item : element.getAsJsonArray()) {
+        result.add(copy(item));
+      }
+      return result;
+    } else {
+      return element;
+    }
+  }
+
+  private static JsonElement get(JsonObject target, String path) {
+    String[] tokens = parse(path);
+    JsonElement parent = getParent(target, tokens);
+    String last = tokens[tokens.length - 1];
+    return parent.isJsonArray() ? parent.getAsJsonArray().get(Integer.parseInt(last))
+                                : parent.getAsJsonObject().get(last);
+  }
+
+  private static void add(JsonObject target, String path, JsonElement value) {
+    String[] tokens = parse(path);
+    JsonElement parent = getParent(target, tokens);
+    String last = tokens[tokens.length - 1];
+    if (parent.isJsonObject()) {
+      parent.getAsJsonObject().add(last, copy(value));
+    } else if (last.equals("-")) {
+      parent.getAsJsonArray().add(copy(value));
+    } else {
+      insert(parent.getAsJsonArray(), toIndex(parent.getAsJsonArray(), last, 1), copy(value));
+    }
+  }
+
+  private static void insert(JsonArray array, int index, JsonElement value) {
+    array.add(value);
+    for (int i = array.size() - 1; i > index; i--) {
+      array.set(i, array.get(i - 1));
+    }
+    array.set(index, value);
+  }
+
+  private static void remove(JsonObject target, String path) {
+    String[] tokens = parse(path);
+    JsonElement parent = getParent(target, tokens);
+    String last = tokens[tokens.length - 1];
+    if (parent.isJsonArray()) {
+      parent.getAsJsonArray().remove(toIndex(parent.getAsJsonArray(), last, 0));
+    } else if (parent.getAsJsonObject().remove(last) == null) {
+      throw new IllegalArgumentException("no value at " + path);
+    }
+  }
+
+  private static JsonElement getParent(JsonObject target, String[] tokens) {
+    JsonElement current = target;
+    for (int i = 0; i < tokens.length - 1; i++) {
+      if (current.isJsonArray()) {
+        current = current.getAsJsonArray().get(toIndex(current.getAsJsonArray(), tokens[i], 0));
+      } else if (current.isJsonObject() && current.getAsJsonObject().has(tokens[i])) {
+        current = current.getAsJsonObject().get(tokens[i]);
+      } else {
+        throw new IllegalArgumentException("no value at /" + String.join("/", tokens));
+      }
+    }
+    return current;
+  }
+
+  private static int toIndex(JsonArray array, String token, int extra) {
+    int index = Integer.parseInt(token);
+    if (index < 0 || index >= array.size() + extra) {
+      throw new IllegalArgumentException("index out of bounds: " + token);
+    }
+    return index;
+  }
+
+  private static String[] parse(String path) {
+    if (!path.startsWith("/")) {
+      throw new IllegalArgumentException("invalid path " + path);
+    }
+    String[] tokens = path.substring(1).split("/", -1);
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = tokens[i].replace("~1", "/").replace("~0", "~");
+    }
+    return tokens;
+  }
+}
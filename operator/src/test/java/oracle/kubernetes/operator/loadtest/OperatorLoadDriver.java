@@ -0,0 +1,317 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.Configuration;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import io.kubernetes.client.util.ClientBuilder;
+import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.Main;
+import oracle.kubernetes.operator.helpers.ClientFactory;
+import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.weblogic.domain.model.Cluster;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+
+/**
+ * Runs the operator against a {@link FakeKubernetesApiServer} loaded with N namespaces of M domains, each with
+ * a cluster of K managed servers, and reports the time until the operator reaches a steady state, the API requests
+ * it made, and its CPU and heap use. The operator is considered steady once it has made no changes for a quiet period.
+ *
+ * <p>The load is configured with system properties:
+ * <ul>
+ *   <li>loadtest.namespaces: the number of domain namespaces (default 2)</li>
+ *   <li>loadtest.domains: the number of domains per namespace (default 2)</li>
+ *   <li>loadtest.servers: the number of managed servers per domain (default 3)</li>
+ *   <li>loadtest.latencyMillis: the latency injected into each API request (default 0)</li>
+ *   <li>loadtest.errorRate: the fraction of API requests which fail (default 0)</li>
+ *   <li>loadtest.quietSeconds: the quiet period which indicates a steady state (default 10)</li>
+ *   <li>loadtest.timeoutSeconds: the time after which the test gives up (default 300)</li>
+ *   <li>loadtest.logLevel: the operator log level (default WARNING)</li>
+ * </ul>
+ *
+ * <p>The CPU time reported is that of the whole process, which includes the fake API server.
+ */
+public class OperatorLoadDriver {
+
+  static final String ADMIN_SERVER = "admin-server";
+  static final String CLUSTER = "cluster-1";
+  static final String MANAGED_SERVER_PREFIX = "managed-server";
+  static final int ADMIN_SERVER_PORT = 7001;
+
+  final int namespaceCount = Integer.getInteger("loadtest.namespaces", 2);
+  final int domainCount = Integer.getInteger("loadtest.domains", 2);
+  final int serverCount = Integer.getInteger("loadtest.servers", 3);
+  final long latencyMillis = Long.getLong("loadtest.latencyMillis", 0);
+  final double errorRate = Double.parseDouble(System.getProperty("loadtest.errorRate", "0"));
+  final int quietSeconds = Integer.getInteger("loadtest.quietSeconds", 10);
+  final int timeoutSeconds = Integer.getInteger("loadtest.timeoutSeconds", 300);
+  private final String logLevel = System.getProperty("loadtest.logLevel", "WARNING");
+
+  final FakeKubernetesApiServer server;
+  final List<String> namespaces = new ArrayList<>();
+
+  OperatorLoadDriver() throws IOException {
+    server = new FakeKubernetesApiServer();
+    for (int i = 1; i <= namespaceCount; i++) {
+      namespaces.add("load-ns" + i);
+    }
+  }
+
+  /**
+   * Runs the load test.
+   * @param args ignored
+   * @throws Exception if unable to run the test
+   */
+  public static void main(String[] args) throws Exception {
+    new OperatorLoadDriver().run(System.out);
+    System.exit(0);
+  }
+
+  void run(PrintStream out) throws Exception {
+    startOperator();
+    report(out, new LoadMonitor(server, quietSeconds, timeoutSeconds).awaitSteadyState());
+    stop();
+  }
+
+  void startOperator() throws NoSuchFieldException {
+    Logger.getLogger("Operator").setLevel(Level.parse(logLevel));
+    server.start();
+    addControllers();
+    seedResources();
+    server.setLatencyMillis(latencyMillis);
+    server.setErrorRate(errorRate);
+
+    StaticStubSupport.install(ClientPool.class, "FACTORY", (ClientFactory) this::createClient);
+    StaticStubSupport.install(Main.class, "getHelmVariable", (Function<String, String>) this::getHelmVariable);
+    startOperatorThread();
+  }
+
+  void addControllers() {
+    server.addController(new IntrospectorJobController(this::createTopology));
+  }
+
+  void stop() {
+    Logger.getLogger("Operator").setLevel(Level.OFF);
+    server.stop();
+  }
+
+  private void startOperatorThread() {
+    Thread operator = new Thread(() -> Main.main(new String[0]), "operator-main");
+    operator.setDaemon(true);
+    operator.start();
+  }
+
+  private ApiClient createClient() {
+    try {
+      ApiClient client = new ClientBuilder()
+          .setBasePath(server.getUrl())
+          .setOverridePatchFormat(V1Patch.PATCH_FORMAT_JSON_PATCH)
+          .build();
+      Configuration.setDefaultApiClient(client);
+      return client;
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String getHelmVariable(String name) {
+    return "OPERATOR_TARGET_NAMESPACES".equals(name) ? String.join(",", namespaces) : System.getenv(name);
+  }
+
+  private void seedResources() {
+    server.createResource("namespaces", null, createNamespace("default"));
+    for (String namespace : namespaces) {
+      server.createResource("namespaces", null, createNamespace(namespace));
+      for (int i = 1; i <= domainCount; i++) {
+        String domainUid = getDomainUid(namespace, i);
+        server.createResource("secrets", namespace, createCredentialsSecret(domainUid));
+        server.createResource("domains", namespace, createDomain(namespace, domainUid));
+      }
+    }
+  }
+
+  private V1Namespace createNamespace(String name) {
+    return new V1Namespace().metadata(new V1ObjectMeta().name(name));
+  }
+
+  private V1Secret createCredentialsSecret(String domainUid) {
+    return new V1Secret().metadata(new V1ObjectMeta().name(getCredentialsSecretName(domainUid)))
+        .putDataItem("username", "weblogic".getBytes(StandardCharsets.UTF_8))
+        .putDataItem("password", "welcome1".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String getCredentialsSecretName(String domainUid) {
+    return domainUid + "-weblogic-credentials";
+  }
+
+  String getDomainUid(String namespace, int index) {
+    return namespace + "-domain" + index;
+  }
+
+  private Domain createDomain(String namespace, String domainUid) {
+    Cluster cluster = new Cluster();
+    cluster.setClusterName(CLUSTER);
+    cluster.setReplicas(serverCount);
+    return new Domain()
+        .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
+        .withKind(KubernetesConstants.DOMAIN)
+        .withMetadata(new V1ObjectMeta().name(domainUid).namespace(namespace))
+        .withSpec(new DomainSpec()
+            .withDomainUid(domainUid)
+            .withImage("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+            .withDomainHomeInImage(true)
+            .withWebLogicCredentialsSecret(new V1SecretReference().name(getCredentialsSecretName(domainUid)))
+            .withCluster(cluster));
+  }
+
+  WlsDomainConfig createTopology(String domainUid) {
+    String[] managedServers = new String[getClusterSize()];
+    for (int i = 0; i < managedServers.length; i++) {
+      managedServers[i] = MANAGED_SERVER_PREFIX + (i + 1);
+    }
+    WlsDomainConfigSupport support = new WlsDomainConfigSupport(domainUid)
+        .withAdminServerName(ADMIN_SERVER)
+        .withWlsServer(ADMIN_SERVER, getAdminServerPort());
+    support.addWlsCluster(CLUSTER, getManagedServerPort(), managedServers);
+    return support.createDomainConfig();
+  }
+
+  int getClusterSize() {
+    return serverCount;
+  }
+
+  int getAdminServerPort() {
+    return ADMIN_SERVER_PORT;
+  }
+
+  Integer getManagedServerPort() {
+    return null;
+  }
+
+  private void report(PrintStream out, LoadMonitor.Result result) {
+    out.printf("Operator load test: %d namespaces x %d domains x %d managed servers, latency %d ms, error rate %.3f%n",
+        namespaceCount, domainCount, serverCount, latencyMillis, errorRate);
+    out.printf("  time to steady state:  %s%n",
+        result.isSteady() ? String.format("%.1f s", result.getSteadyStateMillis() / 1000.0) : "not reached");
+    out.printf("  API requests:          %d (%.1f per second)%n",
+        result.getRequestCount(), result.getRequestsPerSecond());
+    for (Map.Entry<String, Long> entry : result.getRequestCounts().entrySet()) {
+      out.printf("    %-8s %d%n", entry.getKey(), entry.getValue());
+    }
+    out.printf("  active watches:        %d%n", server.getActiveWatchCount());
+    out.printf("  process CPU time:      %.1f s%n", result.getCpuNanos() / 1e9);
+    out.printf("  peak heap used:        %d MB%n", result.getPeakHeapBytes() / (1024 * 1024));
+  }
+
+  /** Samples the API server and the JVM until the operator has made no changes for the quiet period. */
+  static class LoadMonitor {
+    private final FakeKubernetesApiServer server;
+    private final long quietMillis;
+    private final long timeoutMillis;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    LoadMonitor(FakeKubernetesApiServer server, int quietSeconds, int timeoutSeconds) {
+      this.server = server;
+      this.quietMillis = TimeUnit.SECONDS.toMillis(quietSeconds);
+      this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+    }
+
+    Result awaitSteadyState() throws InterruptedException {
+      long start = System.currentTimeMillis();
+      long cpuStart = getProcessCpuNanos();
+      long lastWrites = 0;
+      long lastChange = start;
+      long peakHeap = 0;
+      boolean steady = false;
+      while (!steady && System.currentTimeMillis() - start < timeoutMillis) {
+        Thread.sleep(100);
+        peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+        long writes = server.getWriteRequestCount();
+        if (writes != lastWrites) {
+          lastWrites = writes;
+          lastChange = System.currentTimeMillis();
+        }
+        steady = lastWrites > 0 && System.currentTimeMillis() - lastChange >= quietMillis;
+      }
+
+      long elapsed = (steady ? lastChange : System.currentTimeMillis()) - start;
+      return new Result(steady, elapsed, server.getRequestCounts(), getProcessCpuNanos() - cpuStart, peakHeap);
+    }
+
+    private long getProcessCpuNanos() {
+      java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+      return os instanceof com.sun.management.OperatingSystemMXBean
+          ? ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime() : 0;
+    }
+
+    static class Result {
+      private final boolean steady;
+      private final long steadyStateMillis;
+      private final Map<String, Long> requestCounts;
+      private final long cpuNanos;
+      private final long peakHeapBytes;
+
+      Result(boolean steady, long steadyStateMillis, Map<String, Long> requestCounts, long cpuNanos,
+             long peakHeapBytes) {
+        this.steady = steady;
+        this.steadyStateMillis = steadyStateMillis;
+        this.requestCounts = requestCounts;
+        this.cpuNanos = cpuNanos;
+        this.peakHeapBytes = peakHeapBytes;
+      }
+
+      boolean isSteady() {
+        return steady;
+      }
+
+      long getSteadyStateMillis() {
+        return steadyStateMillis;
+      }
+
+      Map<String, Long> getRequestCounts() {
+        return requestCounts;
+      }
+
+      long getRequestCount() {
+        return requestCounts.values().stream().mapToLong(Long::longValue).sum();
+      }
+
+      double getRequestsPerSecond() {
+        return steadyStateMillis == 0 ? 0 : getRequestCount() * 1000.0 / steadyStateMillis;
+      }
+
+      long getCpuNanos() {
+        return cpuNanos;
+      }
+
+      long getPeakHeapBytes() {
+        return peakHeapBytes;
+      }
+    }
+  }
+}
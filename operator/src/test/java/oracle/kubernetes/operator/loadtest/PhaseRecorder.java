@@ -0,0 +1,214 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+
+/**
+ * Records the behavior of the operator during each phase of a simulation: how long each domain took to reconcile,
+ * the fibers started and in flight, garbage collection pauses, and the requests made to the fake API server and
+ * the simulated WebLogic servers.
+ *
+ * <p>The fiber counts are read from the operator's private state, since the engine does not otherwise expose them.
+ * The fibers started are the top-level fibers created by the engine; the fibers in flight are the make-right and
+ * status fibers currently held by the domain processor's fiber gates.
+ */
+class PhaseRecorder {
+
+  private static final long SAMPLE_MILLIS = 100;
+
+  private final FakeKubernetesApiServer server;
+  private final FakeWebLogicEndpoint endpoint;
+  private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+  private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(this::createDaemonThread);
+  private final AtomicLong gcPauses = new AtomicLong();
+  private final AtomicLong gcPauseMillis = new AtomicLong();
+  private final AtomicLong maxGcPauseMillis = new AtomicLong();
+  private final AtomicInteger peakFibersInFlight = new AtomicInteger();
+  private final AtomicLong peakHeapBytes = new AtomicLong();
+
+  private String phase;
+  private long startNanos;
+  private Map<String, Long> startRequestCounts;
+  private int startFibers;
+  private long startHealthRequests;
+  private long startReadStateRequests;
+
+  PhaseRecorder(FakeKubernetesApiServer server, FakeWebLogicEndpoint endpoint) {
+    this.server = server;
+    this.endpoint = endpoint;
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (collector instanceof NotificationEmitter) {
+        ((NotificationEmitter) collector).addNotificationListener((n, h) -> recordGc(n), null, null);
+      }
+    }
+    sampler.scheduleAtFixedRate(this::sample, SAMPLE_MILLIS, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  private Thread createDaemonThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "phase-recorder");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private void recordGc(Notification notification) {
+    if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+      return;
+    }
+    GarbageCollectionNotificationInfo info
+        = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+    if (info.getGcAction().contains("concurrent")) {
+      return;
+    }
+    long duration = info.getGcInfo().getDuration();
+    gcPauses.incrementAndGet();
+    gcPauseMillis.addAndGet(duration);
+    maxGcPauseMillis.accumulateAndGet(duration, Math::max);
+  }
+
+  private void sample() {
+    peakFibersInFlight.accumulateAndGet(getFibersInFlight(), Math::max);
+    peakHeapBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+  }
+
+  void stop() {
+    sampler.shutdownNow();
+  }
+
+  /**
+   * Starts recording a new phase.
+   * @param phase the name of the phase
+   */
+  synchronized void begin(String phase) {
+    this.phase = phase;
+    startNanos = System.nanoTime();
+    startRequestCounts = server.getRequestCounts();
+    startFibers = getFibersStarted();
+    startHealthRequests = endpoint.getHealthRequestCount();
+    startReadStateRequests = endpoint.getReadStateRequestCount();
+    gcPauses.set(0);
+    gcPauseMillis.set(0);
+    maxGcPauseMillis.set(0);
+    peakFibersInFlight.set(getFibersInFlight());
+    peakHeapBytes.set(memory.getHeapMemoryUsage().getUsed());
+  }
+
+  /**
+   * Ends the current phase and returns its report.
+   * @param tracker the tracker holding the reconcile times of the domains during the phase
+   * @return the report
+   */
+  synchronized Report end(ReconcileTracker tracker) {
+    Map<String, Long> requestCounts = new TreeMap<>();
+    for (Map.Entry<String, Long> entry : server.getRequestCounts().entrySet()) {
+      long count = entry.getValue() - startRequestCounts.getOrDefault(entry.getKey(), 0L);
+      if (count > 0) {
+        requestCounts.put(entry.getKey(), count);
+      }
+    }
+    Report report = new Report();
+    report.phase = phase;
+    report.durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    report.reconcileMillis = tracker == null ? null : tracker.getReconcileMillis();
+    report.domainCount = tracker == null ? 0 : tracker.getDomainCount();
+    report.fibersStarted = getFibersStarted() - startFibers;
+    report.peakFibersInFlight = peakFibersInFlight.get();
+    report.gcPauses = gcPauses.get();
+    report.gcPauseMillis = gcPauseMillis.get();
+    report.maxGcPauseMillis = maxGcPauseMillis.get();
+    report.peakHeapBytes = peakHeapBytes.get();
+    report.requestCounts = requestCounts;
+    report.healthRequests = endpoint.getHealthRequestCount() - startHealthRequests;
+    report.readStateRequests = endpoint.getReadStateRequestCount() - startReadStateRequests;
+    return report;
+  }
+
+  private static int getFibersStarted() {
+    return ((AtomicInteger) readStaticField(Fiber.class, "iotaGen")).get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int getFibersInFlight() {
+    int count = 0;
+    for (String gates : new String[] {"makeRightFiberGates", "statusFiberGates"}) {
+      for (FiberGate gate : ((Map<String, FiberGate>) readStaticField(DomainProcessorImpl.class, gates)).values()) {
+        count += gate.getCurrentFibers().size();
+      }
+    }
+    return count;
+  }
+
+  private static Object readStaticField(Class<?> type, String name) {
+    try {
+      Field field = type.getDeclaredField(name);
+      field.setAccessible(true);
+      return field.get(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** The measurements made during a single phase. */
+  static class Report {
+    private String phase;
+    private long durationMillis;
+    private List<Long> reconcileMillis;
+    private int domainCount;
+    private int fibersStarted;
+    private int peakFibersInFlight;
+    private long gcPauses;
+    private long gcPauseMillis;
+    private long maxGcPauseMillis;
+    private long peakHeapBytes;
+    private Map<String, Long> requestCounts;
+    private long healthRequests;
+    private long readStateRequests;
+
+    void print(PrintStream out) {
+      out.printf("Phase %s: %.1f s%n", phase, durationMillis / 1000.0);
+      if (reconcileMillis != null) {
+        out.printf("  domains reconciled:    %d of %d%n", reconcileMillis.size(), domainCount);
+        if (!reconcileMillis.isEmpty()) {
+          out.printf("  reconcile latency:     p50 %d ms, p90 %d ms, p99 %d ms, max %d ms%n",
+              percentile(50), percentile(90), percentile(99), reconcileMillis.get(reconcileMillis.size() - 1));
+        }
+      }
+      out.printf("  fibers:                %d started, peak %d in flight%n", fibersStarted, peakFibersInFlight);
+      out.printf("  GC pauses:             %d, total %d ms, max %d ms%n", gcPauses, gcPauseMillis, maxGcPauseMillis);
+      out.printf("  peak heap used:        %d MB%n", peakHeapBytes / (1024 * 1024));
+      long total = requestCounts.values().stream().mapToLong(Long::longValue).sum();
+      out.printf("  API requests:          %d (%.1f per second)%n", total,
+          durationMillis == 0 ? 0 : total * 1000.0 / durationMillis);
+      for (Map.Entry<String, Long> entry : requestCounts.entrySet()) {
+        out.printf("    %-8s %d%n", entry.getKey(), entry.getValue());
+      }
+      out.printf("  WebLogic requests:     %d health, %d readState%n", healthRequests, readStateRequests);
+    }
+
+    long percentile(int percent) {
+      int index = (int) Math.ceil(percent / 100.0 * reconcileMillis.size()) - 1;
+      return reconcileMillis.get(Math.max(0, index));
+    }
+  }
+}
@@ -0,0 +1,162 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import oracle.kubernetes.operator.LabelConstants;
+
+import static oracle.kubernetes.operator.loadtest.FakeKubernetesApiServer.DELETED;
+
+/**
+ * Tracks the server pods of each domain, and records how long after the start of a phase each domain reaches the
+ * state expected for that phase: a ready pod for each expected server, labeled with the expected restart version.
+ */
+public class ReconcileTracker implements FakeKubernetesApiServer.ResourceController {
+
+  private static final String PODS = "pods";
+
+  private final Map<String, Map<String, ServerPod>> podsByDomain = new HashMap<>();
+  private final Map<String, Long> reconcileTimes = new HashMap<>();
+  private final Set<String> domainKeys = new HashSet<>();
+  private Set<String> expectedServers = Collections.emptySet();
+  private String expectedRestartVersion;
+  private long phaseStart;
+
+  /**
+   * Creates a tracker for the specified domains.
+   * @param domainKeys the domains to track, each identified as namespace/domainUID
+   */
+  public ReconcileTracker(Collection<String> domainKeys) {
+    this.domainKeys.addAll(domainKeys);
+  }
+
+  static String toDomainKey(String namespace, String domainUid) {
+    return namespace + "/" + domainUid;
+  }
+
+  /**
+   * Starts a new phase, after which each domain is expected to run the specified servers.
+   * @param expectedServers the names of the servers which should be running
+   * @param expectedRestartVersion the restart version which the server pods should have, or null
+   */
+  public synchronized void startPhase(Set<String> expectedServers, String expectedRestartVersion) {
+    this.expectedServers = new HashSet<>(expectedServers);
+    this.expectedRestartVersion = expectedRestartVersion;
+    this.phaseStart = System.nanoTime();
+    reconcileTimes.clear();
+    domainKeys.forEach(this::checkReconciled);
+  }
+
+  /**
+   * Waits until every domain has reached the expected state, or the timeout expires.
+   * @param timeoutMillis the maximum time to wait
+   * @return true if every domain reached the expected state
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public synchronized boolean awaitReconciled(long timeoutMillis) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    while (reconcileTimes.size() < domainKeys.size()) {
+      long remaining = deadline - System.currentTimeMillis();
+      if (remaining <= 0) {
+        return false;
+      }
+      wait(remaining);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the times, in milliseconds after the start of the phase, at which the domains reached the expected state.
+   * @return a sorted list with an entry for each domain which has reached the expected state
+   */
+  public synchronized List<Long> getReconcileMillis() {
+    List<Long> result = new ArrayList<>(reconcileTimes.values());
+    Collections.sort(result);
+    return result;
+  }
+
+  public synchronized int getDomainCount() {
+    return domainKeys.size();
+  }
+
+  @Override
+  public synchronized void resourceChanged(
+      FakeKubernetesApiServer server, String plural, String type, JsonObject resource) {
+    String domainUid = getLabel(resource, LabelConstants.DOMAINUID_LABEL);
+    String serverName = getLabel(resource, LabelConstants.SERVERNAME_LABEL);
+    if (!PODS.equals(plural) || domainUid == null || serverName == null) {
+      return;
+    }
+
+    String domainKey = toDomainKey(FakeKubernetesApiServer.getNamespace(resource), domainUid);
+    Map<String, ServerPod> pods = podsByDomain.computeIfAbsent(domainKey, k -> new HashMap<>());
+    if (DELETED.equals(type)) {
+      pods.remove(serverName);
+    } else {
+      pods.put(serverName, new ServerPod(isReady(resource),
+          getLabel(resource, LabelConstants.DOMAINRESTARTVERSION_LABEL)));
+    }
+    checkReconciled(domainKey);
+  }
+
+  private void checkReconciled(String domainKey) {
+    if (domainKeys.contains(domainKey) && !reconcileTimes.containsKey(domainKey) && isReconciled(domainKey)) {
+      reconcileTimes.put(domainKey, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart));
+      notifyAll();
+    }
+  }
+
+  private boolean isReconciled(String domainKey) {
+    Map<String, ServerPod> pods = podsByDomain.getOrDefault(domainKey, Collections.emptyMap());
+    for (String serverName : expectedServers) {
+      ServerPod pod = pods.get(serverName);
+      if (pod == null || !pod.ready || !Objects.equals(expectedRestartVersion, pod.restartVersion)) {
+        return false;
+      }
+    }
+    return !expectedServers.isEmpty();
+  }
+
+  private static String getLabel(JsonObject resource, String name) {
+    JsonObject metadata = resource.getAsJsonObject("metadata");
+    JsonObject labels = metadata == null ? null : metadata.getAsJsonObject("labels");
+    return labels == null || !labels.has(name) ? null : labels.get(name).getAsString();
+  }
+
+  private static boolean isReady(JsonObject pod) {
+    JsonObject status = pod.getAsJsonObject("status");
+    if (status == null || !status.has("conditions")) {
+      return false;
+    }
+    for (JsonElement condition : status.getAsJsonArray("conditions")) {
+      JsonObject object = condition.getAsJsonObject();
+      if ("Ready".equals(object.get("type").getAsString()) && "True".equals(object.get("status").getAsString())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class ServerPod {
+    private final boolean ready;
+    private final String restartVersion;
+
+    ServerPod(boolean ready, String restartVersion) {
+      this.ready = ready;
+      this.restartVersion = restartVersion;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+public class AsyncLoggingHandlerTest {
+  private static final int CAPACITY = 8;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private AsyncLoggingHandler handler = createHandler(CAPACITY, Level.WARNING);
+
+  private AsyncLoggingHandler createHandler(int capacity, Level blockLevel) {
+    AsyncLoggingHandler handler = new AsyncLoggingHandler(out, UTF_8, capacity, Level.FINE, blockLevel);
+    handler.setLevel(Level.ALL);
+    handler.setFormatter(new MessageFormatter());
+    return handler;
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void afterClose_allRecordsWrittenInOrder() {
+    handler.start();
+    publish(Level.INFO, "one", "two", "three");
+
+    handler.close();
+
+    assertThat(getLines(), contains("one", "two", "three"));
+  }
+
+  @Test
+  public void recordsBelowHandlerLevel_areNotWritten() {
+    handler.setLevel(Level.INFO);
+    publish(Level.FINE, "fine");
+    publish(Level.INFO, "info");
+
+    handler.close();
+
+    assertThat(getLines(), contains("info"));
+  }
+
+  @Test
+  public void whenBufferThreeQuartersFull_dropFineRecords() {
+    publish(Level.INFO, "1", "2", "3", "4", "5", "6");
+    publish(Level.FINE, "fine");
+
+    handler.close();
+
+    assertThat(getLines(), not(hasItem("fine")));
+    assertThat(getLines(), hasItem(MessageKeys.LOG_RECORDS_DROPPED + " [1, FINE=1]"));
+  }
+
+  @Test
+  public void whenBufferFull_dropInfoRecords() {
+    publish(Level.INFO, "1", "2", "3", "4", "5", "6", "7", "8", "9");
+
+    handler.close();
+
+    assertThat(getLines(), not(hasItem("9")));
+    assertThat(getLines(), hasItem(MessageKeys.LOG_RECORDS_DROPPED + " [1, INFO=1]"));
+  }
+
+  @Test
+  public void afterRecordsDropped_reportCount() {
+    publish(Level.INFO, "1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+    handler.close();
+
+    assertThat(getLines().get(8), containsString(MessageKeys.LOG_RECORDS_DROPPED));
+  }
+
+  @Test
+  public void whenRecordsDroppedAtSeveralLevels_reportCountForEachLevel() {
+    publish(Level.INFO, "1", "2", "3", "4", "5", "6");
+    publish(Level.FINE, "fine1", "fine2");
+    publish(Level.INFO, "7", "8", "9");
+
+    handler.close();
+
+    assertThat(getLines(), hasItem(MessageKeys.LOG_RECORDS_DROPPED + " [3, FINE=2, INFO=1]"));
+  }
+
+  @Test
+  public void whenBufferFull_warningWaitsForRoom() throws Exception {
+    publish(Level.INFO, "1", "2", "3", "4", "5", "6", "7", "8");
+    Future<?> warning = executor.submit(() -> publish(Level.WARNING, "warning"));
+
+    Thread.sleep(100);
+    assertThat(warning.isDone(), equalTo(false));
+
+    handler.start();
+    warning.get(5, TimeUnit.SECONDS);
+    handler.close();
+
+    assertThat(getLines(), hasItem("warning"));
+    assertThat(getLines(), not(hasItem(startsWith(MessageKeys.LOG_RECORDS_DROPPED))));
+  }
+
+  @Test
+  public void whenManyThreadsLog_writeAllRecords() throws Exception {
+    handler = createHandler(64, Level.INFO);
+    handler.start();
+    ExecutorService loggers = Executors.newFixedThreadPool(4);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int thread = 0; thread < 4; thread++) {
+      String prefix = "thread" + thread + "-";
+      futures.add(loggers.submit(() -> {
+        for (int i = 0; i < 1000; i++) {
+          publish(Level.INFO, prefix + i);
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    loggers.shutdown();
+    handler.close();
+
+    assertThat(getLines(), hasSize(4000));
+    assertThat(getLines().stream().filter(line -> line.startsWith("thread2-")).collect(Collectors.toList()).get(999),
+        equalTo("thread2-999"));
+  }
+
+  @Test
+  public void afterClose_writeRecordsDirectly() {
+    handler.close();
+
+    publish(Level.INFO, "late");
+
+    assertThat(getLines(), contains("late"));
+  }
+
+  private void publish(Level level, String... messages) {
+    for (String message : messages) {
+      handler.publish(new LogRecord(level, message));
+    }
+  }
+
+  private List<String> getLines() {
+    String output = out.toString(UTF_8);
+    return output.isEmpty() ? new ArrayList<>() : Arrays.asList(output.split("\n"));
+  }
+
+  static class MessageFormatter extends Formatter {
+    @Override
+    public String format(LogRecord record) {
+      return Optional.ofNullable(record.getParameters())
+          .map(parameters -> record.getMessage() + " " + Arrays.toString(parameters))
+          .orElse(record.getMessage()) + "\n";
+    }
+  }
+}
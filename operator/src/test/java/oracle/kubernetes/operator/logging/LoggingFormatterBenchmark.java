@@ -0,0 +1,198 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+import io.swagger.annotations.ApiModel;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.work.Fiber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of formatting log records by building a map of the fields and serializing it with a new
+ * object mapper, against the streaming formatter used by the operator.
+ *
+ * <p>Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.operator.logging.LoggingFormatterBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingFormatterBenchmark {
+
+  @Param({"message", "apiException"})
+  private String recordType;
+
+  private final Formatter mapperFormatter = new MapperFormatter();
+  private final Formatter streamingFormatter = new LoggingFormatter();
+  private LogRecord record;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(LoggingFormatterBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * Creates a log record like those written during a rolling restart.
+   */
+  @Setup
+  public void setUp() {
+    record = new LogRecord(Level.FINE, "Pod {0} in namespace {1} is not ready:\n{2}");
+    record.setSourceClassName("oracle.kubernetes.operator.helpers.PodHelper");
+    record.setSourceMethodName("isReady");
+    record.setParameters(new Object[] {"domain1-managed-server3", "domain1-ns", "\"Ready\" condition is False"});
+    if (recordType.equals("apiException")) {
+      record.setThrown(new ApiException(409, Map.of("Content-Type", List.of("application/json")),
+          "{\"kind\":\"Status\",\"reason\":\"Conflict\"}"));
+    }
+  }
+
+  @Benchmark
+  public String formatWithObjectMapper() {
+    return mapperFormatter.format(record);
+  }
+
+  @Benchmark
+  public String formatStreaming() {
+    return streamingFormatter.format(record);
+  }
+
+  /** The original formatter, which builds a map of the fields and serializes it with a new object mapper. */
+  static class MapperFormatter extends Formatter {
+    private static final Map<String, List<String>> PLACEHOLDER = new HashMap<>();
+
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("MM-dd-yyyy'T'HH:mm:ss.SSSZZ");
+
+    @Override
+    public String format(LogRecord record) {
+      String sourceClassName = "";
+      String sourceMethodName = "";
+      if (record.getSourceClassName() != null) {
+        sourceClassName = record.getSourceClassName();
+        if (record.getSourceMethodName() != null) {
+          sourceMethodName = record.getSourceMethodName();
+        }
+      } else {
+        sourceClassName = record.getLoggerName();
+      }
+
+      JSON j = LoggingFactory.getJson();
+      if (j != null) {
+        Object[] parameters = record.getParameters();
+        if (parameters != null) {
+          for (int i = 0; i < parameters.length; i++) {
+            Object pi = parameters[i];
+            if (pi != null) {
+              if (pi.getClass().getAnnotation(ApiModel.class) != null
+                  || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
+                parameters[i] = j.serialize(pi);
+              }
+            }
+          }
+        }
+      }
+
+      final String message = formatMessage(record);
+      String code = "";
+      Map<String, List<String>> headers = PLACEHOLDER;
+      String body = "";
+      String throwable = "";
+      if (record.getThrown() != null) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        pw.println();
+        record.getThrown().printStackTrace(pw);
+        pw.close();
+        throwable = sw.toString();
+        if (record.getThrown() instanceof ApiException) {
+          ApiException ae = (ApiException) record.getThrown();
+          code = String.valueOf(ae.getCode());
+          if (ae.getResponseHeaders() != null) {
+            headers = ae.getResponseHeaders();
+          }
+          String rb = ae.getResponseBody();
+          if (rb != null) {
+            body = rb;
+          }
+        }
+      }
+      Map<String, Object> map = new LinkedHashMap<>();
+      long rawTime = record.getMillis();
+      Fiber fiber = Fiber.getCurrentIfSet();
+
+      map.put("timestamp", dateFormat.format(new Date(rawTime)));
+      map.put("thread", Thread.currentThread().getId());
+      map.put("fiber", fiber != null ? fiber.toString() : "");
+      map.put("namespace", getNamespace(fiber));
+      map.put("domainUID", getDomainUid(fiber));
+      map.put("level", record.getLevel().getLocalizedName());
+      map.put("class", sourceClassName);
+      map.put("method", sourceMethodName);
+      map.put("timeInMillis", rawTime);
+      map.put("message", message != null ? message.replaceAll("\n", "\\\n") : "");
+      map.put("exception", throwable.replaceAll("\n", "\\\n"));
+      map.put("code", code);
+      map.put("headers", headers);
+      map.put("body", body.replaceAll("\n", "\\\n"));
+      try {
+        return new ObjectMapper().writeValueAsString(map) + "\n";
+      } catch (JsonProcessingException e) {
+        throw new AssertionError(e);
+      }
+    }
+
+    private String getDomainUid(Fiber fiber) {
+      return Optional.ofNullable(fiber)
+            .map(Fiber::getPacket)
+            .map(p -> p.getSpi(DomainPresenceInfo.class))
+            .map(DomainPresenceInfo::getDomainUid)
+            .orElse(LoggingContext.optionalContext().map(LoggingContext::domainUid).orElse(""));
+    }
+
+    private String getNamespace(Fiber fiber) {
+      return Optional.ofNullable(fiber)
+            .map(Fiber::getPacket)
+            .map(p -> p.getSpi(DomainPresenceInfo.class))
+            .map(DomainPresenceInfo::getNamespace)
+            .orElse(Optional.ofNullable(fiber)
+                .map(Fiber::getPacket)
+                .map(p -> p.getSpi(LoggingContext.class))
+                .or(LoggingContext::optionalContext)
+                .map(LoggingContext::namespace)
+                .orElse(""));
+    }
+  }
+}
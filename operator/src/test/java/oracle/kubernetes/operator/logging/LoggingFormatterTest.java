@@ -4,13 +4,17 @@
 package oracle.kubernetes.operator.logging;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
@@ -145,12 +149,100 @@ public class LoggingFormatterTest {
     }
   }
 
+  @Test
+  public void formatSimpleRecordAsObjectMapperDid() {
+    assertFormattedAsObjectMapperDid();
+  }
+
+  @Test
+  public void formatCharactersRequiringEscapesAsObjectMapperDid() {
+    logRecord.setMessage(
+        "line1\nline2\r\n\t\"quoted\" back\\slash " + (char) 0x01
+        + " caf" + (char) 0xe9 + " " + (char) 0x2603 + " {0}");
+    logRecord.setParameters(new Object[]{"a\nparameter"});
+
+    assertFormattedAsObjectMapperDid();
+  }
+
+  @Test
+  public void formatTimestampsAsObjectMapperDid() {
+    for (long millis : new long[] {0L, 1583020799999L, 1604210400123L, 4102444800000L}) {
+      logRecord.setMillis(millis);
+
+      assertFormattedAsObjectMapperDid();
+    }
+  }
+
+  @Test
+  public void formatModelParametersAsObjectMapperDid() {
+    logRecord.setMessage("Metadata {0}");
+    logRecord.setParameters(new Object[]{new V1ObjectMeta().name("pod1").namespace("ns1")});
+
+    assertFormattedAsObjectMapperDid();
+  }
+
+  @Test
+  public void formatApiExceptionAsObjectMapperDid() {
+    Map<String, List<String>> headers = new LinkedHashMap<>();
+    headers.put("Content-Type", List.of("application/json"));
+    headers.put("Warning", List.of("first", "second \"quoted\""));
+    logRecord.setThrown(new ApiException(409, headers, "{\"kind\":\"Status\",\n\"reason\":\"Conflict\"}"));
+
+    assertFormattedAsObjectMapperDid();
+  }
+
+  @Test
+  public void afterFormattingLargeRecord_formatNextRecordAsObjectMapperDid() {
+    logRecord.setMessage("x".repeat(100_000));
+    formatter.format(logRecord);
+
+    logRecord.setMessage("A simple one");
+    assertFormattedAsObjectMapperDid();
+  }
+
+  @Test
+  public void whenInFiberWithDomainPresence_formatAsObjectMapperDid() {
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo("test-ns", "test-uid"));
+    final Packet packet = testSupport.runSteps(new ComparisonStep());
+
+    assertThat(packet.get("MESSAGE"), equalTo(packet.get("EXPECTED")));
+  }
+
+  private void assertFormattedAsObjectMapperDid() {
+    assertThat(formatter.format(copyOf(logRecord)), equalTo(formatWithObjectMapper(logRecord)));
+  }
+
+  private String formatWithObjectMapper(LogRecord record) {
+    return new LoggingFormatterBenchmark.MapperFormatter().format(copyOf(record));
+  }
+
+  // Model parameters are replaced when a record is formatted, so each formatter is given its own copy.
+  private LogRecord copyOf(LogRecord record) {
+    LogRecord copy = new LogRecord(record.getLevel(), record.getMessage());
+    copy.setMillis(record.getMillis());
+    copy.setSourceClassName(record.getSourceClassName());
+    copy.setSourceMethodName(record.getSourceMethodName());
+    copy.setThrown(record.getThrown());
+    Optional.ofNullable(record.getParameters()).map(Object[]::clone).ifPresent(copy::setParameters);
+    return copy;
+  }
+
   @SuppressWarnings("unchecked")
   private Map<String, String> getFormattedMessageInFiber() {
     final Packet packet = testSupport.runSteps(new LoggingStep());
     return (Map<String, String>) packet.get("MESSAGE");
   }
 
+  class ComparisonStep extends Step {
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put("MESSAGE", formatter.format(copyOf(logRecord)));
+      packet.put("EXPECTED", formatWithObjectMapper(logRecord));
+      return doNext(packet);
+    }
+  }
+
   class LoggingStep extends Step {
 
     @Override
@@ -10,19 +10,27 @@ import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.ws.rs.WebApplicationException;
 
+import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainChange;
+import oracle.kubernetes.operator.DomainProcessor;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.MakeRightPlan;
+import oracle.kubernetes.operator.rest.RestBackendImpl.DomainPresenceInfoRetriever;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainActionType;
+import oracle.kubernetes.operator.rest.model.MakeRightPlanModel;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.utils.TestUtils;
@@ -36,15 +44,18 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import static com.meterware.simplestub.Stub.createStub;
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -65,6 +76,8 @@ public class RestBackendImplTest {
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private DomainPresenceInfo cachedInfo;
+  private final DomainProcessorStub processor = createStub(DomainProcessorStub.class);
 
   private static Domain createDomain(String namespace, String name) {
     return new Domain()
@@ -82,13 +95,15 @@ public class RestBackendImplTest {
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(
+        StaticStubSupport.install(RestBackendImpl.class, "PRESENCE_INFO", new DomainPresenceInfoRetrieverStub()));
 
     testSupport.defineResources(domain, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
     testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (Domain) d);
     configSupport.addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5", "ms6");
-    restBackend = new RestBackendImpl("", "", Collections.singletonList(NS));
+    restBackend = new RestBackendImpl("", "", Collections.singletonList(NS), processor);
 
     setupScanCache();
   }
@@ -326,6 +341,59 @@ public class RestBackendImplTest {
     assertThat(wlsDomainConfig, notNullValue());
   }
 
+  @Test(expected = WebApplicationException.class)
+  public void whenUnknownDomain_previewThrowsException() {
+    restBackend.previewMakeRight("no_such_uid", domain.getSpec());
+  }
+
+  @Test
+  public void whenDomainNotCached_previewUsesNewPresenceInfo() {
+    restBackend.previewMakeRight(NAME1, createProposedSpec(4));
+
+    assertThat(processor.previewedInfo.getDomain(), sameInstance(domain));
+    assertThat(processor.previewedInfo.getServerNames(), empty());
+  }
+
+  @Test
+  public void whenDomainCached_previewUsesCachedPresenceInfo() {
+    cachedInfo = new DomainPresenceInfo(domain);
+
+    restBackend.previewMakeRight(NAME1, createProposedSpec(4));
+
+    assertThat(processor.previewedInfo, sameInstance(cachedInfo));
+  }
+
+  @Test
+  public void previewPassesProposedSpecToProcessor() {
+    restBackend.previewMakeRight(NAME1, createProposedSpec(4));
+
+    assertThat(new Domain().withSpec(processor.previewedSpec).getReplicaCount("cluster1"), equalTo(4));
+  }
+
+  @Test
+  public void previewReturnsChangeTypeOfProcessorPlan() {
+    MakeRightPlanModel plan = restBackend.previewMakeRight(NAME1, createProposedSpec(4));
+
+    assertThat(plan.getChangeType(), equalTo("SCALING"));
+  }
+
+  @Test
+  public void afterPreview_domainIsNotUpdated() {
+    configureDomain().configureCluster("cluster1").withReplicas(2);
+
+    restBackend.previewMakeRight(NAME1, createProposedSpec(4));
+
+    assertThat(getUpdatedDomain(), nullValue());
+    assertThat(domain.getReplicaCount("cluster1"), equalTo(2));
+  }
+
+  private DomainSpec createProposedSpec(int replicas) {
+    Gson gson = new JSON().getGson();
+    Domain proposed = new Domain().withSpec(gson.fromJson(gson.toJson(domain.getSpec()), DomainSpec.class));
+    DomainConfiguratorFactory.forDomain(proposed).configureCluster("cluster1").withReplicas(replicas);
+    return proposed.getSpec();
+  }
+
   private DomainConfigurator configureDomain() {
     return configurator;
   }
@@ -334,6 +402,25 @@ public class RestBackendImplTest {
     config = configSupport.createDomainConfig();
   }
 
+  private class DomainPresenceInfoRetrieverStub implements DomainPresenceInfoRetriever {
+    @Override
+    public Optional<DomainPresenceInfo> getDomainPresenceInfo(String ns, String domainUid) {
+      return Optional.ofNullable(cachedInfo);
+    }
+  }
+
+  abstract static class DomainProcessorStub implements DomainProcessor {
+    private DomainPresenceInfo previewedInfo;
+    private DomainSpec previewedSpec;
+
+    @Override
+    public MakeRightPlan previewMakeRight(DomainPresenceInfo info, DomainSpec proposedSpec) {
+      previewedInfo = info;
+      previewedSpec = proposedSpec;
+      return MakeRightPlan.fromRecording(DomainChange.Type.SCALING, null);
+    }
+  }
+
   private class TopologyRetrieverStub implements TopologyRetriever {
     @Override
     public WlsDomainConfig getWlsDomainConfig(String ns, String domainUid) {
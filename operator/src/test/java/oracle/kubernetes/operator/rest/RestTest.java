@@ -24,8 +24,11 @@ import javax.ws.rs.core.Response;
 import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.MakeRightPlanModel;
+import oracle.kubernetes.operator.rest.model.PlannedActionModel;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
 import org.glassfish.jersey.test.spi.TestContainerException;
@@ -59,6 +62,7 @@ public class RestTest extends JerseyTest {
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
+  private static final String DOMAIN1_PLAN_HREF = DOMAIN1_HREF + "/plan";
   private static final String ACCESS_TOKEN = "dummy token";
 
   private List<Memento> mementos = new ArrayList<>();
@@ -209,6 +213,9 @@ public class RestTest extends JerseyTest {
     assertThat(
         result,
         hasJsonPath("$.links[?(@.rel=='clusters')].href", withValues(DOMAIN1_CLUSTERS_HREF)));
+    assertThat(
+        result,
+        hasJsonPath("$.links[?(@.rel=='plan')].href", withValues(DOMAIN1_PLAN_HREF)));
   }
 
   @Test
@@ -295,6 +302,41 @@ public class RestTest extends JerseyTest {
         sendScaleRequest("cluster1", 3).getStatus(), equalTo(HttpURLConnection.HTTP_BAD_REQUEST));
   }
 
+  @Test
+  public void planEndPoint_passesProposedSpecToBackend() {
+    defineClusters("uid1", "cluster1");
+
+    sendPlanRequest("{'spec':{'clusters':[{'clusterName':'cluster1','replicas':3}]}}");
+
+    assertThat(restBackend.getProposedSpec().getClusters().get(0).getReplicas(), equalTo(3));
+  }
+
+  @Test
+  public void planEndPoint_returnsPlannedActions() {
+    defineClusters("uid1", "cluster1");
+
+    Map result = new Gson().fromJson(
+        sendPlanRequest("{'spec':{'clusters':[{'clusterName':'cluster1','replicas':3}]}}").readEntity(String.class),
+        Map.class);
+
+    assertThat(result, hasJsonPath("$.changeType", equalTo("SCALING")));
+    assertThat(result, hasJsonPath("$.actions[0].action", equalTo("START_SERVERS")));
+    assertThat(result, hasJsonPath("$.actions[0].count", equalTo(2.0)));
+    assertThat(result, hasJsonPath("$.actions[0].waves", equalTo(2.0)));
+  }
+
+  @Test
+  public void whenProposedDomainMalformed_planIsRejected() {
+    defineClusters("uid1", "cluster1");
+
+    assertThat(sendPlanRequest("{'spec':").getStatus(), equalTo(HttpURLConnection.HTTP_BAD_REQUEST));
+  }
+
+  private Response sendPlanRequest(String proposedDomain) {
+    return createRequest(DOMAIN1_PLAN_HREF)
+        .post(Entity.entity(proposedDomain.replaceAll("'", "\""), MediaType.APPLICATION_JSON));
+  }
+
   private void excludeRequestedByHeader() {
     includeRequestedByHeader = false;
   }
@@ -386,6 +428,7 @@ public class RestTest extends JerseyTest {
 
   abstract static class RestBackendStub implements RestBackend {
     private Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private DomainSpec proposedSpec;
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -421,6 +464,24 @@ public class RestTest extends JerseyTest {
       return getClusters(domainUid).contains(cluster);
     }
 
+    DomainSpec getProposedSpec() {
+      return proposedSpec;
+    }
+
+    @Override
+    public MakeRightPlanModel previewMakeRight(String domainUid, DomainSpec proposedSpec) {
+      this.proposedSpec = proposedSpec;
+      PlannedActionModel action = new PlannedActionModel();
+      action.setAction("START_SERVERS");
+      action.setCluster("cluster1");
+      action.setTargets(Arrays.asList("ms2", "ms3"));
+      action.setParallelism(1);
+      action.setWaves(2);
+      MakeRightPlanModel plan = new MakeRightPlanModel("SCALING");
+      plan.addAction(action);
+      return plan;
+    }
+
     @Override
     public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
@@ -177,10 +177,12 @@ public class ManagedServerUpIteratorStepTest {
     domainPresenceInfo.getServerPod(serverName).status(new V1PodStatus().phase("Running"));
     Objects.requireNonNull(domainPresenceInfo.getServerPod(serverName).getStatus())
             .addConditionsItem(new V1PodCondition().status("True").type("Ready"));
+    domainPresenceInfo.setServerPod(serverName, domainPresenceInfo.getServerPod(serverName));
   }
 
   private void schedulePod(String serverName, String nodeName) {
     Objects.requireNonNull(domainPresenceInfo.getServerPod(serverName).getSpec()).setNodeName(nodeName);
+    domainPresenceInfo.setServerPod(serverName, domainPresenceInfo.getServerPod(serverName));
   }
 
   @Test
@@ -0,0 +1,128 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares substituting the macros of every dynamic server in a large cluster by re-scanning the
+ * template strings for each server, against compiling the templates once.
+ *
+ * <p>Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.operator.wlsconfig.MacroSubstitutorBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MacroSubstitutorBenchmark {
+
+  private static final String DOMAIN_NAME = "base_domain";
+  private static final String CLUSTER_NAME = "cluster-1";
+  private static final String SERVER_NAME_PREFIX = "managed-server";
+
+  @Param({"1000"})
+  private int clusterSize;
+
+  private WlsServerConfig serverTemplate;
+  private WlsDynamicServerConfig.CompiledServerTemplate compiledTemplate;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(MacroSubstitutorBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * Creates a server template with macros in its listen address and machine name.
+   */
+  @Setup
+  public void setUp() {
+    serverTemplate =
+        new WlsServerConfig(
+            "template1",
+            "${domainName}-${clusterName}-${serverName}",
+            "machine-${id}",
+            7001,
+            7002,
+            null,
+            null);
+    compiledTemplate = new WlsDynamicServerConfig.CompiledServerTemplate(serverTemplate);
+  }
+
+  /**
+   * Substitutes by scanning each template string once per server.
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void substituteByScanning(Blackhole blackhole) {
+    for (int id = 1; id <= clusterSize; id++) {
+      MacroSubstitutor substitutor = createSubstitutor(id);
+      blackhole.consume(substitutor.substituteMacro(serverTemplate.getListenAddress()));
+      blackhole.consume(substitutor.substituteMacro(serverTemplate.getMachineName()));
+    }
+  }
+
+  /**
+   * Substitutes using templates compiled once for the whole cluster.
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void substituteCompiled(Blackhole blackhole) {
+    MacroSubstitutor.CompiledTemplate listenAddress = MacroSubstitutor.compile(serverTemplate.getListenAddress());
+    MacroSubstitutor.CompiledTemplate machineName = MacroSubstitutor.compile(serverTemplate.getMachineName());
+    for (int id = 1; id <= clusterSize; id++) {
+      MacroSubstitutor substitutor = createSubstitutor(id);
+      blackhole.consume(listenAddress.substitute(substitutor));
+      blackhole.consume(machineName.substitute(substitutor));
+    }
+  }
+
+  /**
+   * Creates every dynamic server configuration, re-scanning the template for each server.
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void createServersByScanning(Blackhole blackhole) {
+    for (int id = 1; id <= clusterSize; id++) {
+      blackhole.consume(
+          WlsDynamicServerConfig.create(
+              SERVER_NAME_PREFIX + id, id, CLUSTER_NAME, DOMAIN_NAME, true, serverTemplate));
+    }
+  }
+
+  /**
+   * Creates every dynamic server configuration from a template compiled once for the cluster.
+   * @param blackhole sink for the results
+   */
+  @Benchmark
+  public void createServersCompiled(Blackhole blackhole) {
+    for (int id = 1; id <= clusterSize; id++) {
+      blackhole.consume(
+          WlsDynamicServerConfig.create(
+              SERVER_NAME_PREFIX + id, id, CLUSTER_NAME, DOMAIN_NAME, true, compiledTemplate));
+    }
+  }
+
+  private MacroSubstitutor createSubstitutor(int id) {
+    return new MacroSubstitutor(
+        id, SERVER_NAME_PREFIX + id, CLUSTER_NAME, DOMAIN_NAME, serverTemplate.getMachineName());
+  }
+}
@@ -8,6 +8,7 @@ import java.util.Properties;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class MacroSubstitutorTest {
 
@@ -79,4 +80,31 @@ public class MacroSubstitutorTest {
     assertEquals(
         "string without complete macro", "test${", macroSubstitutor.substituteMacro("test${"));
   }
+
+  @Test
+  public void compiledTemplate_substitutesValuesForEachSubstitutor() {
+    MacroSubstitutor.CompiledTemplate template = MacroSubstitutor.compile("${domainName}-${serverName}:${id}${");
+
+    assertEquals(
+        "base_domain-ms-1:1${",
+        template.substitute(new MacroSubstitutor(1, "ms-1", "cluster-1", "base_domain", null)));
+    assertEquals(
+        "base_domain-ms-2:2${",
+        template.substitute(new MacroSubstitutor(2, "ms-2", "cluster-1", "base_domain", null)));
+  }
+
+  @Test
+  public void compiledTemplateWithoutMacros_returnsOriginalString() {
+    final String literal = "abcdefg 1";
+
+    assertSame(literal, MacroSubstitutor.compile(literal).substitute(new MacroSubstitutor(1, "", "", "", "")));
+  }
+
+  @Test
+  public void compiledTemplate_matchesScanningSubstitution() {
+    final String input = "${domainName}-${clusterName}-${}${serverName}:${id}/${machineName}${";
+    MacroSubstitutor macroSubstitutor = new MacroSubstitutor(3, "ms-3", "cluster-1", "base_domain", "machine-3");
+
+    assertEquals(macroSubstitutor.substituteMacro(input), MacroSubstitutor.compile(input).substitute(macroSubstitutor));
+  }
 }
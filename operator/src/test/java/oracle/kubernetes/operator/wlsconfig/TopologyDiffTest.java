@@ -0,0 +1,129 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class TopologyDiffTest {
+  private static final String DOMAIN_NAME = "base_domain";
+  private static final String ADMIN_SERVER = "admin";
+
+  private WlsDomainConfigSupport oldConfig = createBaseConfig();
+  private WlsDomainConfigSupport newConfig = createBaseConfig();
+
+  private WlsDomainConfigSupport createBaseConfig() {
+    return new WlsDomainConfigSupport(DOMAIN_NAME)
+          .withAdminServerName(ADMIN_SERVER)
+          .withWlsServer(ADMIN_SERVER, 7001)
+          .withWlsServer("standalone", 8001)
+          .withWlsCluster("cluster1", "ms1", "ms2")
+          .withDynamicWlsCluster("dynamic1", "dyn1", "dyn2");
+  }
+
+  private TopologyDiff getDiff() {
+    return TopologyDiff.between(oldConfig.createDomainConfig(), newConfig.createDomainConfig());
+  }
+
+  @Test
+  public void whenConfigurationsSame_diffIsEmpty() {
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.isEmpty(), equalTo(true));
+    assertThat(diff.isServerAffected("ms1", "cluster1"), equalTo(false));
+    assertThat(diff.isServerAffected("dyn1", "dynamic1"), equalTo(false));
+    assertThat(diff.isClusterAffected("cluster1"), equalTo(false));
+  }
+
+  @Test
+  public void whenServerAdded_reportIt() {
+    newConfig.addWlsServer("standalone2", 8002);
+
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.getAddedServers(), contains("standalone2"));
+    assertThat(diff.isServerAffected("standalone2", null), equalTo(true));
+    assertThat(diff.isServerAffected("standalone", null), equalTo(false));
+  }
+
+  @Test
+  public void whenServerRemoved_reportIt() {
+    oldConfig.addWlsServer("standalone2", 8002);
+
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.getRemovedServers(), contains("standalone2"));
+    assertThat(diff.getAddedServers(), empty());
+  }
+
+  @Test
+  public void whenServerPortChanged_reportServerChanged() {
+    newConfig.addWlsServer("standalone", 9001);
+
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.getChangedServers(), contains("standalone"));
+    assertThat(diff.isServerAffected("standalone", null), equalTo(true));
+    assertThat(diff.isServerAffected(ADMIN_SERVER, null), equalTo(false));
+  }
+
+  @Test
+  public void whenClusteredServerPortChanged_reportClusterChanged() {
+    newConfig.addWlsCluster("cluster1", 9001, "ms1", "ms2");
+
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.getChangedServers(), contains("ms1", "ms2"));
+    assertThat(diff.isClusterAffected("cluster1"), equalTo(true));
+    assertThat(diff.isClusterAffected("dynamic1"), equalTo(false));
+  }
+
+  @Test
+  public void whenServerAddedToCluster_otherMembersAreUnaffected() {
+    newConfig.addWlsCluster("cluster1", "ms1", "ms2", "ms3");
+
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.getAddedServers(), contains("ms3"));
+    assertThat(diff.isClusterAffected("cluster1"), equalTo(true));
+    assertThat(diff.isServerAffected("ms1", "cluster1"), equalTo(false));
+  }
+
+  @Test
+  public void whenDynamicClusterChanged_allItsServersAreAffected() {
+    newConfig.addDynamicWlsCluster("dynamic1", "dyn1", "dyn2", "dyn3");
+
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.getChangedClusters(), contains("dynamic1"));
+    assertThat(diff.isServerAffected("dyn1", "dynamic1"), equalTo(true));
+    assertThat(diff.isServerAffected("ms1", "cluster1"), equalTo(false));
+  }
+
+  @Test
+  public void whenClusterAdded_reportClusterChanged() {
+    newConfig.addWlsCluster("cluster2", "ms3");
+
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.getChangedClusters(), contains("cluster2"));
+    assertThat(diff.isServerAffected("ms3", "cluster2"), equalTo(true));
+  }
+
+  @Test
+  public void whenAdminServerChanged_allServersAreAffected() {
+    newConfig.setAdminServerName("standalone");
+
+    TopologyDiff diff = getDiff();
+
+    assertThat(diff.isEmpty(), equalTo(false));
+    assertThat(diff.isServerAffected("ms1", "cluster1"), equalTo(true));
+    assertThat(diff.isClusterAffected("cluster1"), equalTo(true));
+  }
+}
@@ -12,16 +12,23 @@ import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.steps.ManagedServersUpStep;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.ConfigurationConstants;
+import oracle.kubernetes.weblogic.domain.model.Domain;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.NO_WLS_SERVER_IN_CLUSTER;
 import static oracle.kubernetes.operator.logging.MessageKeys.REPLICA_MORE_THAN_WLS_SERVERS;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -218,6 +225,142 @@ public class WlsClusterConfigTest {
     assertTrue(containsServer(wlsClusterConfig, "static-1"));
   }
 
+  @Test
+  public void whenDynamicServerConfigsGenerated_noServerIsMaterializedUntilRequested() {
+    WlsDynamicServersConfig dynamicServersConfig = createGeneratedDynamicServersConfig(1000);
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", dynamicServersConfig);
+
+    assertThat(wlsClusterConfig.getServerConfigs().size(), equalTo(1000));
+    assertThat(getMaterializedCount(dynamicServersConfig), equalTo(0));
+  }
+
+  @Test
+  public void whenDynamicServerRequestedByName_onlyThatServerIsMaterialized() {
+    WlsDynamicServersConfig dynamicServersConfig = createGeneratedDynamicServersConfig(1000);
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", dynamicServersConfig);
+
+    WlsServerConfig serverConfig = wlsClusterConfig.getServerConfig("ms-20");
+
+    assertThat(serverConfig.getName(), equalTo("ms-20"));
+    assertThat(serverConfig.getListenPort(), equalTo(7020));
+    assertThat(getMaterializedCount(dynamicServersConfig), equalTo(1));
+  }
+
+  @Test
+  public void whenServerNameOutsideDynamicCluster_hasNamedServerReturnsFalse() {
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", createGeneratedDynamicServersConfig(3));
+
+    assertTrue(wlsClusterConfig.hasNamedServer("ms-3"));
+    assertFalse(wlsClusterConfig.hasNamedServer("ms-4"));
+    assertFalse(wlsClusterConfig.hasNamedServer("ms-03"));
+    assertFalse(wlsClusterConfig.hasNamedServer("ms-x"));
+    assertNull(wlsClusterConfig.getServerConfig("ms-0"));
+  }
+
+  @Test
+  public void generatedDynamicServerConfigs_areReturnedInNumericOrder() {
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", createGeneratedDynamicServersConfig(12));
+
+    List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
+
+    assertThat(serverConfigs.get(1).getName(), equalTo("ms-2"));
+    assertThat(serverConfigs.get(11).getName(), equalTo("ms-12"));
+  }
+
+  @Test
+  public void generatedDynamicServerConfigs_equalEagerlyCreatedConfigs() {
+    WlsClusterConfig lazyCluster = new WlsClusterConfig("cluster1", createGeneratedDynamicServersConfig(3));
+
+    List<WlsServerConfig> expected = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      expected.add(WlsDynamicServerConfig.create("ms-" + i, i, "cluster1", "base-domain", true, createTemplate()));
+    }
+
+    assertThat(new ArrayList<>(lazyCluster.getServerConfigs()), equalTo(expected));
+  }
+
+  @Test
+  public void whenClusterHashedComparedOrPrinted_noServerIsMaterialized() {
+    WlsDynamicServersConfig dynamicServersConfig = createGeneratedDynamicServersConfig(1000);
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", dynamicServersConfig);
+
+    wlsClusterConfig.hashCode();
+    wlsClusterConfig.toString();
+    assertTrue(wlsClusterConfig.equals(new WlsClusterConfig("cluster1", createGeneratedDynamicServersConfig(1000))));
+
+    assertThat(getMaterializedCount(dynamicServersConfig), equalTo(0));
+  }
+
+  @Test
+  public void whenDynamicClusterSizesDiffer_clustersAreNotEqual() {
+    assertFalse(new WlsClusterConfig("cluster1", createGeneratedDynamicServersConfig(3))
+        .equals(new WlsClusterConfig("cluster1", createGeneratedDynamicServersConfig(4))));
+  }
+
+  @Test
+  public void whenClusterHasStaticAndDynamicServers_mergedServersAreSortedWithoutMaterializing() {
+    WlsDynamicServersConfig dynamicServersConfig = createGeneratedDynamicServersConfig(12);
+    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1", dynamicServersConfig);
+    wlsClusterConfig.addServerConfig(new WlsServerConfig("ms-10a", "host", 8001));
+
+    List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
+
+    assertThat(serverConfigs.size(), equalTo(13));
+    assertThat(wlsClusterConfig.getServerConfigCount(), equalTo(13));
+    assertThat(getMaterializedCount(dynamicServersConfig), equalTo(0));
+    assertThat(serverConfigs.get(1).getName(), equalTo("ms-2"));
+    assertThat(serverConfigs.get(10).getName(), equalTo("ms-10a"));
+    assertThat(serverConfigs.get(12).getName(), equalTo("ms-12"));
+  }
+
+  @Test
+  public void whenServersToStartSelected_onlyServersUpToReplicaCountAreMaterialized() {
+    WlsDynamicServersConfig dynamicServersConfig = createGeneratedDynamicServersConfig(1000);
+    WlsDomainConfig domainConfig = new WlsDomainConfig("base-domain");
+    domainConfig.getConfiguredClusters().add(new WlsClusterConfig("cluster1", dynamicServersConfig));
+    Domain domain = DomainProcessorTestSetup.createTestDomain();
+    DomainConfiguratorFactory.forDomain(domain).configureCluster("cluster1").withReplicas(2);
+
+    List<String> serversToStart = ManagedServersUpStep.getServersToStart(domainConfig, domain);
+
+    assertThat(serversToStart, contains("ms-1", "ms-2"));
+    assertThat(getMaterializedCount(dynamicServersConfig), equalTo(3));
+  }
+
+  @Test
+  public void whenServerBeyondReplicaCountAlwaysStarted_onlyThatServerIsAlsoMaterialized() {
+    WlsDynamicServersConfig dynamicServersConfig = createGeneratedDynamicServersConfig(1000);
+    WlsDomainConfig domainConfig = new WlsDomainConfig("base-domain");
+    domainConfig.getConfiguredClusters().add(new WlsClusterConfig("cluster1", dynamicServersConfig));
+    Domain domain = DomainProcessorTestSetup.createTestDomain();
+    DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
+    configurator.configureCluster("cluster1").withReplicas(2);
+    configurator.configureServer("ms-500").withServerStartPolicy(ConfigurationConstants.START_ALWAYS);
+
+    List<String> serversToStart = ManagedServersUpStep.getServersToStart(domainConfig, domain);
+
+    assertThat(serversToStart, contains("ms-1", "ms-2", "ms-500"));
+    assertThat(getMaterializedCount(dynamicServersConfig), equalTo(4));
+  }
+
+  private WlsDynamicServersConfig createGeneratedDynamicServersConfig(int clusterSize) {
+    WlsDynamicServersConfig dynamicServersConfig = new WlsDynamicServersConfig();
+    dynamicServersConfig.setDynamicClusterSize(clusterSize);
+    dynamicServersConfig.setMaxDynamicClusterSize(clusterSize);
+    dynamicServersConfig.setServerNamePrefix("ms-");
+    dynamicServersConfig.setCalculatedListenPorts(true);
+    dynamicServersConfig.generateDynamicServerConfigs(createTemplate(), "cluster1", "base-domain");
+    return dynamicServersConfig;
+  }
+
+  private WlsServerConfig createTemplate() {
+    return new WlsServerConfig("serverTemplate1", "${domainName}-${serverName}", null, 7000, null, null, null);
+  }
+
+  private int getMaterializedCount(WlsDynamicServersConfig dynamicServersConfig) {
+    return ((LazyDynamicServerConfigs) dynamicServersConfig.getServerConfigs()).getMaterializedCount();
+  }
+
   private boolean containsServer(WlsClusterConfig wlsClusterConfig, String serverName) {
     List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
     for (WlsServerConfig serverConfig : serverConfigs) {
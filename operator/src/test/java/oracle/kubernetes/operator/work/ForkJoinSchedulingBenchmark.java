@@ -0,0 +1,125 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the time for a fiber running on the engine's executor to fork a large number of child fibers and join
+ * them, with the children run on the executor and with them run on the work-stealing pool.
+ *
+ * <p>Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.operator.work.ForkJoinSchedulingBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForkJoinSchedulingBenchmark {
+
+  @Param({"false", "true"})
+  private boolean forkJoinScheduling;
+
+  @Param({"500"})
+  private int childCount;
+
+  private Engine engine;
+  private final AtomicLong sink = new AtomicLong();
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ForkJoinSchedulingBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * Creates the engine, with or without fork-join scheduling.
+   */
+  @Setup
+  public void setUp() {
+    Container container = ContainerResolver.getDefault().getContainer();
+    engine = new Engine(Engine.wrappedExecutorService("benchmark", container));
+    if (forkJoinScheduling) {
+      engine.enableForkJoinScheduling("benchmark", container);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  /**
+   * Runs a fiber which forks the child fibers and waits for them to complete.
+   * @throws InterruptedException if interrupted while waiting
+   */
+  @Benchmark
+  public void forkAndJoinChildren() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    engine.createFiber().start(new ForkStep(), new Packet(), new CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        done.countDown();
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        done.countDown();
+      }
+    });
+    done.await();
+  }
+
+  private class ForkStep extends Step {
+    ForkStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      List<StepAndPacket> startDetails = new ArrayList<>();
+      for (int i = 0; i < childCount; i++) {
+        startDetails.add(new StepAndPacket(new ChildStep(i), packet.clone()));
+      }
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+
+  // A small amount of work, standing in for building a request for one server.
+  private class ChildStep extends Step {
+    private final int index;
+
+    ChildStep(int index) {
+      super(null);
+      this.index = index;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      sink.addAndGet(("managed-server" + index).hashCode());
+      return doNext(packet);
+    }
+  }
+}
@@ -10,6 +10,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
@@ -457,6 +459,101 @@ public class StepTest {
     assertTrue(throwables.isEmpty());
   }
 
+  @Test
+  public void whenForkJoinSchedulingEnabled_forkedFibersRunOnWorkStealingPool() throws InterruptedException {
+    engine.enableForkJoinScheduling("StepTest", getDefaultContainer());
+    Queue<String> threadNames = new ConcurrentLinkedQueue<>();
+
+    String joinedThreadName = runForkJoin(threadNames);
+
+    assertEquals(12, threadNames.size());
+    assertTrue(threadNames.stream().allMatch(name -> name.contains("-fork-join-thread-")));
+    assertFalse(joinedThreadName.contains("-fork-join-thread-"));
+  }
+
+  @Test
+  public void whenForkJoinSchedulingNotEnabled_forkedFibersRunOnExecutor() throws InterruptedException {
+    Queue<String> threadNames = new ConcurrentLinkedQueue<>();
+
+    runForkJoin(threadNames);
+
+    assertEquals(12, threadNames.size());
+    assertTrue(threadNames.stream().noneMatch(name -> name.contains("-fork-join-thread-")));
+  }
+
+  // Forks three fibers, each of which forks three more, and returns the name of the thread which resumes after the join
+  private String runForkJoin(Queue<String> threadNames) throws InterruptedException {
+    Semaphore signal = new Semaphore(0);
+    Packet p = new Packet();
+
+    engine.createFiber().start(new ForkStep(threadNames, 2, new RecordThreadStep()), p, new CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        signal.release();
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        signal.release();
+      }
+    });
+
+    assertTrue(signal.tryAcquire(5, TimeUnit.SECONDS));
+    return (String) p.get(MARK);
+  }
+
+  private static class ForkStep extends Step {
+    private final Queue<String> threadNames;
+    private final int depth;
+
+    ForkStep(Queue<String> threadNames, int depth, Step next) {
+      super(next);
+      this.threadNames = threadNames;
+      this.depth = depth;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      List<StepAndPacket> startDetails = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        startDetails.add(new StepAndPacket(createChildStep(), packet.clone()));
+      }
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+
+    private Step createChildStep() {
+      RecordNameStep recordStep = new RecordNameStep(threadNames);
+      return depth > 1 ? new ForkStep(threadNames, depth - 1, recordStep) : recordStep;
+    }
+  }
+
+  private static class RecordNameStep extends Step {
+    private final Queue<String> threadNames;
+
+    RecordNameStep(Queue<String> threadNames) {
+      super(null);
+      this.threadNames = threadNames;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      threadNames.add(Thread.currentThread().getName());
+      return doNext(packet);
+    }
+  }
+
+  private static class RecordThreadStep extends Step {
+    RecordThreadStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(MARK, Thread.currentThread().getName());
+      return doNext(packet);
+    }
+  }
+
   private abstract static class BaseStep extends Step {
     public BaseStep(Step next) {
       super(next);